@@ -0,0 +1,103 @@
+package org.balanceus.topping.application.service;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Deterministic stand-ins for what store owners upload. Generated rather than checked in so the
+ * corpus stays out of the repository and is identical on every machine.
+ */
+public enum ImageFixtures {
+    /** 12MP phone photo: smooth gradients with sensor-like noise, the common case. */
+    PHOTO_JPEG("jpg", 4032, 3024, false),
+    /** Landscape banner already close to the detail size. */
+    BANNER_JPEG("jpg", 2400, 1200, false),
+    /** Menu board or logo exported as PNG: flat colours, text and hard edges, with transparency. */
+    GRAPHIC_PNG("png", 2000, 2000, true);
+
+    private final String format;
+    private final int width;
+    private final int height;
+    private final boolean graphic;
+
+    ImageFixtures(String format, int width, int height, boolean graphic) {
+        this.format = format;
+        this.width = width;
+        this.height = height;
+        this.graphic = graphic;
+    }
+
+    String format() {
+        return format;
+    }
+
+    Path writeTo(Path directory) throws IOException {
+        Path file = directory.resolve(name().toLowerCase() + "." + format);
+        if (!Files.exists(file)) {
+            BufferedImage image = graphic ? graphic() : photo();
+            if (!ImageIO.write(image, format, file.toFile())) {
+                throw new IOException("No image writer for format: " + format);
+            }
+        }
+        return file;
+    }
+
+    private BufferedImage photo() {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setPaint(new GradientPaint(0, 0, new Color(214, 170, 120), width, height, new Color(60, 90, 140)));
+        g2d.fillRect(0, 0, width, height);
+        Random random = new Random(ordinal());
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        for (int i = 0; i < 400; i++) {
+            g2d.setColor(new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256), 90));
+            int size = 40 + random.nextInt(width / 6);
+            g2d.fillOval(random.nextInt(width), random.nextInt(height), size, size);
+        }
+        g2d.dispose();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(17) - 8;
+                int rgb = image.getRGB(x, y);
+                int r = clamp(((rgb >> 16) & 0xFF) + noise);
+                int g = clamp(((rgb >> 8) & 0xFF) + noise);
+                int b = clamp((rgb & 0xFF) + noise);
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        return image;
+    }
+
+    private BufferedImage graphic() {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g2d.setColor(new Color(255, 248, 235));
+        g2d.fillRoundRect(100, 100, width - 200, height - 200, 120, 120);
+        g2d.setColor(new Color(200, 60, 40));
+        g2d.setStroke(new BasicStroke(24));
+        g2d.drawRoundRect(100, 100, width - 200, height - 200, 120, 120);
+        g2d.setFont(new Font(Font.SANS_SERIF, Font.BOLD, 96));
+        for (int line = 0; line < 12; line++) {
+            g2d.drawString("Topping menu item " + line + "  KRW " + (4500 + line * 500), 220, 340 + line * 130);
+        }
+        g2d.dispose();
+        return image;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+}
@@ -0,0 +1,92 @@
+package org.balanceus.topping.application.service;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.balanceus.topping.domain.model.ImageVariant;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Decode + downscale cost of each {@link ResizeStrategy} per fixture and target rendition, with and
+ * without the encoder stage. Run with {@code ./gradlew jmh}; the gc profiler is enabled in the build,
+ * so {@code gc.alloc.rate.norm} gives bytes allocated per operation. {@code resizeAndEncode} also
+ * reports the encoded size as the {@code encodedBytes} secondary result, since sharper strategies also
+ * cost bytes on the wire.
+ * Narrow the matrix with e.g. {@code -Pjmh.includes=resize$ -Pjmh.params=strategy=BILINEAR}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class ImageResizeBenchmark {
+
+    @Param
+    public ImageFixtures fixture;
+
+    @Param
+    public ResizeStrategy strategy;
+
+    @Param({"DETAIL", "CARD"})
+    public ImageVariant variant;
+
+    private Path workDir;
+    private Path source;
+    private Path output;
+    private ImageProcessor imageProcessor;
+    private ImageEncoder imageEncoder;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("image-bench");
+        source = fixture.writeTo(workDir);
+        output = workDir.resolve("out." + fixture.format());
+        // Same settings as production, minus WebP, which is native code and measured separately
+        imageEncoder = new ImageEncoder(0.82f, true, false, 0.8f);
+        imageProcessor = new ImageProcessor(imageEncoder);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(workDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public BufferedImage resize() throws IOException {
+        return strategy.resize(imageProcessor, source, variant.getMaxWidth(), variant.getMaxHeight());
+    }
+
+    @Benchmark
+    public long resizeAndEncode(OutputSize outputSize) throws IOException {
+        imageEncoder.write(resize(), fixture.format(), output);
+        outputSize.encodedBytes = Files.size(output);
+        return outputSize.encodedBytes;
+    }
+
+    /**
+     * Size of the last encoded output, reported next to the throughput score.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class OutputSize {
+
+        public long encodedBytes;
+    }
+}
@@ -0,0 +1,83 @@
+package org.balanceus.topping.application.service;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Decode-and-downscale approaches compared by {@link ImageResizeBenchmark}. {@link #SUBSAMPLED_BILINEAR}
+ * is what {@link ImageProcessor} does today; the others are candidates.
+ */
+public enum ResizeStrategy {
+    /** Full decode, then one bilinear {@code drawImage} to the target box (the original implementation). */
+    BILINEAR {
+        @Override
+        BufferedImage resize(ImageProcessor processor, Path source, int maxWidth, int maxHeight) throws IOException {
+            return processor.resizeImage(ImageIO.read(source.toFile()), maxWidth, maxHeight);
+        }
+    },
+    /** Full decode, then one bicubic {@code drawImage}. */
+    BICUBIC {
+        @Override
+        BufferedImage resize(ImageProcessor processor, Path source, int maxWidth, int maxHeight) throws IOException {
+            return draw(ImageIO.read(source.toFile()), maxWidth, maxHeight, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        }
+    },
+    /** Full decode, then repeated bilinear halving until within 2x of the target, then a final step. */
+    PROGRESSIVE_BILINEAR {
+        @Override
+        BufferedImage resize(ImageProcessor processor, Path source, int maxWidth, int maxHeight) throws IOException {
+            BufferedImage image = ImageIO.read(source.toFile());
+            while (image.getWidth() / 2 >= maxWidth && image.getHeight() / 2 >= maxHeight) {
+                image = draw(image, image.getWidth() / 2, image.getHeight() / 2,
+                        RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            }
+            return processor.resizeImage(image, maxWidth, maxHeight);
+        }
+    },
+    /** Full decode, then AWT's area-averaging filter: the smoothest and historically the slowest. */
+    AREA_AVERAGING {
+        @Override
+        BufferedImage resize(ImageProcessor processor, Path source, int maxWidth, int maxHeight) throws IOException {
+            BufferedImage image = ImageIO.read(source.toFile());
+            double scale = Math.min(1.0, Math.min((double) maxWidth / image.getWidth(),
+                    (double) maxHeight / image.getHeight()));
+            int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D g2d = scaled.createGraphics();
+            g2d.drawImage(image.getScaledInstance(width, height, Image.SCALE_AREA_AVERAGING), 0, 0, null);
+            g2d.dispose();
+            return scaled;
+        }
+    },
+    /** Subsampled decode from the file header, then one bilinear step ({@link ImageProcessor#decode}). */
+    SUBSAMPLED_BILINEAR {
+        @Override
+        BufferedImage resize(ImageProcessor processor, Path source, int maxWidth, int maxHeight) throws IOException {
+            return processor.resizeImage(processor.decode(source, maxWidth, maxHeight), maxWidth, maxHeight);
+        }
+    };
+
+    abstract BufferedImage resize(ImageProcessor processor, Path source, int maxWidth, int maxHeight)
+            throws IOException;
+
+    private static BufferedImage draw(BufferedImage image, int maxWidth, int maxHeight, Object interpolation) {
+        double scale = Math.min(1.0, Math.min((double) maxWidth / image.getWidth(),
+                (double) maxHeight / image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = scaled.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.drawImage(image, 0, 0, width, height, null);
+        g2d.dispose();
+        return scaled;
+    }
+}
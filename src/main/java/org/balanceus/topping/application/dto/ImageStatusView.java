@@ -0,0 +1,8 @@
+package org.balanceus.topping.application.dto;
+
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.ImageProcessingStatus;
+
+public record ImageStatusView(UUID imageId, String imagePath, ImageProcessingStatus status) {
+}
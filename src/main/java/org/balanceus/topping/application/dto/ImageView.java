@@ -0,0 +1,29 @@
+package org.balanceus.topping.application.dto;
+
+import org.balanceus.topping.domain.model.ProductImage;
+import org.balanceus.topping.domain.model.StoreImage;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Paths of a processed store or product image, detached from the entity.
+ */
+@Getter
+@AllArgsConstructor
+public class ImageView {
+    private final String imagePath;
+    private final String thumbPath;
+    private final String cardPath;
+    private final String displayName;
+
+    public static ImageView of(StoreImage image) {
+        return image == null ? null : new ImageView(image.getImagePath(), image.getThumbPath(),
+            image.getCardPath(), image.getImageType().getDisplayName());
+    }
+
+    public static ImageView of(ProductImage image) {
+        return image == null ? null : new ImageView(image.getImagePath(), image.getThumbPath(),
+            image.getCardPath(), image.getImageType().getDisplayName());
+    }
+}
@@ -0,0 +1,51 @@
+package org.balanceus.topping.application.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * View model of the MyPage landing tab. Every field is plain data, so the template never
+ * touches a lazy association of an entity loaded on another thread.
+ */
+@Getter
+@Builder
+public class MyPageDashboard {
+
+    private final StoreSummary userStore;
+
+    private final long proposalCount;
+    private final long applicationCount;
+    private final long ongoingCollaborationCount;
+    private final long pendingApplicationCount;
+    private final long receivedApplicationCount;
+    private final long pendingActionsCount;
+    private final long productCount;
+    private final long wishlistCount;
+    private final long storeWishlistCount;
+    private final long chatRoomCount;
+
+    private final List<ActivityItem> pendingApplications;
+    private final List<ActivityItem> ongoingCollaborations;
+    private final List<ActivityItem> receivedApplications;
+
+    // Wall time per section in milliseconds; sections that fell back are missing
+    private final Map<String, Long> sectionMillis;
+
+    public record ActivityItem(UUID collaborationId, String productName, String counterpartName, Instant createdAt) {
+    }
+
+    public record StoreSummary(UUID uuid, String name, StoreCategory category) {
+
+        public static StoreSummary of(Store store) {
+            return store == null ? null : new StoreSummary(store.getUuid(), store.getName(), store.getCategory());
+        }
+    }
+}
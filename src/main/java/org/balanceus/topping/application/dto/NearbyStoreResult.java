@@ -0,0 +1,6 @@
+package org.balanceus.topping.application.dto;
+
+import org.balanceus.topping.domain.model.Store;
+
+public record NearbyStoreResult(Store store, double distanceKm) {
+}
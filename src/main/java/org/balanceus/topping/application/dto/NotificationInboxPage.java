@@ -0,0 +1,11 @@
+package org.balanceus.topping.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of a user's notifications, newest first. {@code nextCursor} is opaque; pass it back as
+ * {@code cursor} to read the following page. It is {@code null} on the last page.
+ */
+public record NotificationInboxPage(List<NotificationView> items, String nextCursor, boolean hasNext,
+                                    long unreadCount) {
+}
@@ -0,0 +1,16 @@
+package org.balanceus.topping.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Notification;
+
+public record NotificationView(UUID uuid, Notification.NotificationType type, String title, String message,
+                               String relatedEntityId, boolean read, LocalDateTime createdAt) {
+
+    public static NotificationView of(Notification notification) {
+        return new NotificationView(notification.getUuid(), notification.getType(), notification.getTitle(),
+                notification.getMessage(), notification.getRelatedEntityId(),
+                Boolean.TRUE.equals(notification.getIsRead()), notification.getCreatedAt());
+    }
+}
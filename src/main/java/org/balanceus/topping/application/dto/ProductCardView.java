@@ -0,0 +1,38 @@
+package org.balanceus.topping.application.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * What a product card renders, detached from the entity.
+ */
+@Getter
+@Builder
+public class ProductCardView {
+    private final UUID uuid;
+    private final String name;
+    private final String description;
+    private final BigDecimal price;
+    private final String thumbnailPath;
+    private final String imageUrl;
+    private final Integer reviewCount;
+    private final ImageView mainImage;
+
+    public static ProductCardView of(Product product) {
+        return ProductCardView.builder()
+            .uuid(product.getUuid())
+            .name(product.getName())
+            .description(product.getDescription())
+            .price(product.getPrice())
+            .thumbnailPath(product.getThumbnailPath())
+            .imageUrl(product.getImageUrl())
+            .reviewCount(product.getReviewCount())
+            .mainImage(ImageView.of(product.getMainImage()))
+            .build();
+    }
+}
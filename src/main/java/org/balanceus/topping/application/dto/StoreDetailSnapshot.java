@@ -0,0 +1,48 @@
+package org.balanceus.topping.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.StoreCategory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Requester-independent part of {@link StoreDetailView}. Holds only values copied out of the
+ * entities, so it is safe to share between requests. Like and wishlist counts change far more
+ * often than the rest and are cached separately as {@link StoreEngagementCounts}.
+ */
+@Getter
+@Builder
+public class StoreDetailSnapshot {
+    private final UUID uuid;
+    private final UUID ownerUuid;
+    private final String name;
+    private final StoreCategory category;
+    private final String address;
+    private final String snsOrWebsiteLink;
+    private final String mainImageUrl;
+    private final ImageView mainImage;
+    private final List<ImageView> readyImages;
+    private final List<String> hashtags;
+    private final List<ProductCardView> popularMenus;
+    private final List<ProductCardView> signatureMenus;
+    private final long reviewCount;
+    private final double rating;
+    private final long collaborationProductCount;
+    private final List<Partner> collaboratingStores;
+
+    public boolean references(UUID storeId) {
+        return uuid.equals(storeId)
+            || collaboratingStores.stream().anyMatch(partner -> partner.getUuid().equals(storeId));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Partner {
+        private final UUID uuid;
+        private final String name;
+    }
+}
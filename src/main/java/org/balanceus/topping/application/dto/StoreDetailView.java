@@ -2,19 +2,16 @@ package org.balanceus.topping.application.dto;
 
 import java.util.List;
 
-import org.balanceus.topping.domain.model.Product;
-import org.balanceus.topping.domain.model.Store;
-
 import lombok.Builder;
 import lombok.Getter;
 
 @Getter
 @Builder
 public class StoreDetailView {
-    private final Store store;
+    private final StoreDetailSnapshot store;
     private final boolean owner;
-    private final List<Product> popularMenus;
-    private final List<Product> signatureMenus;
+    private final List<ProductCardView> popularMenus;
+    private final List<ProductCardView> signatureMenus;
     private final long likeCount;
     private final long wishlistCount;
     private final boolean liked;
@@ -22,5 +19,5 @@ public class StoreDetailView {
     private final long reviewCount;
     private final double rating;
     private final long collaborationProductCount;
-    private final List<Store> collaboratingStores;
+    private final List<StoreDetailSnapshot.Partner> collaboratingStores;
 }
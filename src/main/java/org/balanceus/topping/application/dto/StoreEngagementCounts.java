@@ -0,0 +1,4 @@
+package org.balanceus.topping.application.dto;
+
+public record StoreEngagementCounts(long likeCount, long wishlistCount) {
+}
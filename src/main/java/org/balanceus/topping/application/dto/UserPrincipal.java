@@ -0,0 +1,17 @@
+package org.balanceus.topping.application.dto;
+
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.model.User;
+
+/**
+ * Identity of a signed-in user: enough to authorize and to look up the user's data, and safe to
+ * share between requests because it holds no entity state.
+ */
+public record UserPrincipal(UUID uuid, String email, Role role) {
+
+    public static UserPrincipal of(User user) {
+        return new UserPrincipal(user.getUuid(), user.getEmail(), user.getRole());
+    }
+}
@@ -0,0 +1,13 @@
+package org.balanceus.topping.application.event;
+
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+
+/**
+ * Published when a collaboration moves to a new status. Either store id is {@code null}
+ * when that side is not set.
+ */
+public record CollaborationStatusChangedEvent(UUID collaborationId, UUID initiatorStoreId,
+                                              UUID partnerStoreId, CollaborationStatus status) {
+}
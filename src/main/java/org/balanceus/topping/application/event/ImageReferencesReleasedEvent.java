@@ -0,0 +1,10 @@
+package org.balanceus.topping.application.event;
+
+import java.util.List;
+
+/**
+ * Published when image rows referencing content-addressed blobs are deleted; blobs whose
+ * reference count drops to zero are removed after commit.
+ */
+public record ImageReferencesReleasedEvent(List<String> contentHashes) {
+}
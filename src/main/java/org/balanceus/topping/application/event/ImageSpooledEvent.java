@@ -0,0 +1,10 @@
+package org.balanceus.topping.application.event;
+
+import java.nio.file.Path;
+
+/**
+ * Published once the raw bytes of a new {@code ImageBlob} are spooled; processing starts after
+ * the surrounding transaction commits.
+ */
+public record ImageSpooledEvent(String contentHash, Path spoolFile, Path outputFile, String format) {
+}
@@ -0,0 +1,18 @@
+package org.balanceus.topping.application.event;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.application.dto.NotificationView;
+
+/**
+ * Published when notifications were stored; delivered to online recipients after commit.
+ */
+public record NotificationsCreatedEvent(List<Delivery> deliveries) {
+
+    /**
+     * {@code recipientEmail} is the recipient's STOMP user name.
+     */
+    public record Delivery(UUID recipientId, String recipientEmail, NotificationView notification) {
+    }
+}
@@ -0,0 +1,10 @@
+package org.balanceus.topping.application.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a user marked notifications read; {@code count} of them, or every one when
+ * {@code all} is set. The cached unread count follows after commit.
+ */
+public record NotificationsReadEvent(UUID userId, int count, boolean all) {
+}
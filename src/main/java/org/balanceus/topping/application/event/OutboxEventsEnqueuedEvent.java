@@ -0,0 +1,8 @@
+package org.balanceus.topping.application.event;
+
+/**
+ * Published when outbox events are written; the dispatcher starts delivering them once the
+ * surrounding transaction commits instead of waiting for its next poll.
+ */
+public record OutboxEventsEnqueuedEvent() {
+}
@@ -0,0 +1,11 @@
+package org.balanceus.topping.application.event;
+
+import java.util.UUID;
+
+/**
+ * Published whenever data rendered on a store detail page changes
+ * (store profile, images, products, reviews or collaborations). Likes and wishlists publish
+ * {@link StoreEngagementChangedEvent} instead.
+ */
+public record StoreContentChangedEvent(UUID storeId) {
+}
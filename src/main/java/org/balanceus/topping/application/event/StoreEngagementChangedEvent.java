@@ -0,0 +1,10 @@
+package org.balanceus.topping.application.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a store is liked, unliked, wishlisted or removed from a wishlist. Kept apart
+ * from {@link StoreContentChangedEvent} so these frequent toggles do not evict store pages.
+ */
+public record StoreEngagementChangedEvent(UUID storeId) {
+}
@@ -0,0 +1,11 @@
+package org.balanceus.topping.application.event;
+
+import java.util.UUID;
+
+/**
+ * Published when a store is registered or its own profile (address, category, collaboration
+ * openness and the like) is saved. Narrower than {@link StoreContentChangedEvent}, which also
+ * fires for products, images, reviews and collaborations.
+ */
+public record StoreProfileChangedEvent(UUID storeId) {
+}
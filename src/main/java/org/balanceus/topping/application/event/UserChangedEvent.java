@@ -0,0 +1,10 @@
+package org.balanceus.topping.application.event;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a user's account data changes (profile, password, role, linked
+ * accounts or owned store) or the user is deleted.
+ */
+public record UserChangedEvent(UUID userId) {
+}
@@ -6,6 +6,7 @@ package org.balanceus.topping.application.exception;
 public enum ApplicationErrorCode {
     NOT_FOUND,
     ALREADY_EXISTS,
+    CONFLICT,
     FORBIDDEN,
     VALIDATION_ERROR,
     UNEXPECTED_ERROR;
@@ -1,25 +1,40 @@
 package org.balanceus.topping.application.service;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.balanceus.topping.application.exception.ApplicationErrorCode;
+import org.balanceus.topping.application.exception.ApplicationException;
 import org.balanceus.topping.domain.model.Collaboration;
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
 import org.balanceus.topping.domain.model.CollaborationProposal;
 import org.balanceus.topping.domain.model.Product;
+import org.balanceus.topping.domain.model.Product.ProductCategory;
+import org.balanceus.topping.domain.model.Product.ProductType;
 import org.balanceus.topping.domain.model.ProposalSource;
+import org.balanceus.topping.domain.model.Role;
 import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
 import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.CollaborationCardRow;
 import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
 import org.balanceus.topping.domain.repository.CollaborationRepository;
 import org.balanceus.topping.domain.repository.ProductRepository;
+import org.balanceus.topping.domain.repository.StoreRecommendationRow;
 import org.balanceus.topping.domain.repository.StoreRepository;
 import org.balanceus.topping.domain.repository.UserRepository;
 import org.balanceus.topping.presentation.dto.collaboration.CollaborationApplyViewModel;
+import org.balanceus.topping.presentation.dto.collaboration.CollaborationCardPage;
 import org.balanceus.topping.presentation.dto.collaboration.CollaborationCardView;
 import org.balanceus.topping.presentation.dto.collaboration.CollaborationProposalForm;
 import org.balanceus.topping.presentation.dto.collaboration.ProductCategoryView;
@@ -31,9 +46,6 @@ import org.balanceus.topping.presentation.dto.collaboration.UserSummaryView;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,6 +55,9 @@ import lombok.extern.slf4j.Slf4j;
 public class CollaborationApplicationService {
 
     private static final int STORE_PAGE_SIZE = 100;
+    private static final int RECOMMENDED_STORE_COUNT = 10;
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+    private static final String CURSOR_SEPARATOR = "|";
 
     private final CollaborationRepository collaborationRepository;
     private final CollaborationProposalRepository collaborationProposalRepository;
@@ -52,13 +67,25 @@ public class CollaborationApplicationService {
     private final ProductService productService;
     private final CollaborationService collaborationService;
     private final ChatService chatService;
-    private final ObjectMapper objectMapper;
+    private final CollaborationFeedCache collaborationFeedCache;
+    private final StoreCatalogCache storeCatalogCache;
+    private final StoreRecommendationService storeRecommendationService;
+
+    /**
+     * One page of the card feed, newest first. The first page of each filter is served from
+     * {@link CollaborationFeedCache}; later pages continue from {@code cursor}. Not transactional:
+     * a single projection query needs no persistence context, and cache hits need no connection.
+     */
+    public CollaborationCardPage getCollaborationCards(CollaborationStatus status, StoreCategory category,
+                                                       String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+        if (cursor == null || cursor.isBlank()) {
+            return collaborationFeedCache.getFirstPage(status, category, pageSize,
+                    () -> loadCardPage(status, category, null, null, pageSize));
+        }
 
-    @Transactional(readOnly = true)
-    public List<CollaborationCardView> getCollaborationCards() {
-        return collaborationRepository.findAll().stream()
-                .map(this::mapCollaboration)
-                .toList();
+        FeedCursor after = decodeCursor(cursor);
+        return loadCardPage(status, category, after.createdAt(), after.uuid(), pageSize);
     }
 
     @Transactional(readOnly = true)
@@ -105,15 +132,22 @@ public class CollaborationApplicationService {
                 .map(this::mapProductOption)
                 .toList();
 
+        // Precomputed partner suggestions lead the picker; the plain store page follows without them
+        List<StoreOptionView> recommendedStores = userStoreOpt
+                .map(store -> storeRecommendationService.recommend(store.getUuid(), RECOMMENDED_STORE_COUNT))
+                .orElse(List.of())
+                .stream()
+                .map(this::mapRecommendedStore)
+                .toList();
+        Set<UUID> recommendedIds = recommendedStores.stream().map(StoreOptionView::getUuid).collect(Collectors.toSet());
+
         List<Store> allStoresRaw = storeRepository.findAll(org.springframework.data.domain.PageRequest.of(0, STORE_PAGE_SIZE));
-        List<Store> allStores = allStoresRaw;
-        if (isBusinessOwner && userStoreOpt.isPresent()) {
-            UUID userStoreId = userStoreOpt.get().getUuid();
-            allStores = allStoresRaw.stream()
-                    .filter(store -> !store.getUuid().equals(userStoreId))
-                    .toList();
-        }
-        List<Product> allProducts = productRepository.findAll();
+        UUID userStoreId = isBusinessOwner ? userStoreOpt.map(Store::getUuid).orElse(null) : null;
+        List<Store> allStores = allStoresRaw.stream()
+                .filter(store -> !store.getUuid().equals(userStoreId) && !recommendedIds.contains(store.getUuid()))
+                .toList();
+        List<UUID> catalogStoreIds = Stream.concat(recommendedStores.stream().map(StoreOptionView::getUuid), allStores.stream().map(Store::getUuid))
+                .toList();
 
         StoreOptionView targetStore = storeId
                 .flatMap(storeRepository::findById)
@@ -130,11 +164,11 @@ public class CollaborationApplicationService {
                 .businessOwner(isBusinessOwner)
                 .userStore(userStoreView)
                 .userProducts(userProducts)
+                .recommendedStores(recommendedStores)
                 .allStores(allStores.stream().map(this::mapStoreOption).toList())
-                .allProducts(allProducts.stream().map(this::mapProductOption).toList())
                 .targetStore(targetStore)
                 .targetProduct(targetProduct)
-                .storeDataJson(buildStoreDataJson(allStores))
+                .storeDataJson(storeCatalogCache.catalogJson(catalogStoreIds))
                 .build();
 
         return viewModel;
@@ -270,7 +304,18 @@ public class CollaborationApplicationService {
                     "Collaboration is already processed");
         }
 
-        collaborationService.acceptCollaboration(collaborationId);
+        try {
+            collaborationService.acceptCollaboration(collaborationId);
+        } catch (ApplicationException e) {
+            if (e.getErrorCode() != ApplicationErrorCode.CONFLICT) {
+                throw e;
+            }
+            // Another request decided it between the check above and the conditional update
+            throw new CollaborationApplicationException(
+                    "already_processed",
+                    "redirect:/mypage/received?error=already_processed",
+                    e.getMessage());
+        }
     }
 
     @Transactional
@@ -291,7 +336,18 @@ public class CollaborationApplicationService {
                     "Collaboration is already processed");
         }
 
-        collaborationService.rejectCollaboration(collaborationId);
+        try {
+            collaborationService.rejectCollaboration(collaborationId);
+        } catch (ApplicationException e) {
+            if (e.getErrorCode() != ApplicationErrorCode.CONFLICT) {
+                throw e;
+            }
+            // Another request decided it between the check above and the conditional update
+            throw new CollaborationApplicationException(
+                    "already_processed",
+                    "redirect:/mypage/received?error=already_processed",
+                    e.getMessage());
+        }
     }
 
     private void validateMandatoryFields(CollaborationProposalForm form) {
@@ -343,6 +399,101 @@ public class CollaborationApplicationService {
         }
     }
 
+    private CollaborationCardPage loadCardPage(CollaborationStatus status, StoreCategory category,
+                                               Instant afterCreatedAt, UUID afterId, int pageSize) {
+        // One extra row tells whether another page exists without a count query
+        List<CollaborationCardRow> rows = collaborationRepository.findCardPage(
+                status, category, afterCreatedAt, afterId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<CollaborationCardRow> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            CollaborationCardRow last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.createdAt(), last.uuid());
+        }
+        return CollaborationCardPage.builder()
+                .items(page.stream().map(this::mapCard).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static String encodeCursor(Instant createdAt, UUID uuid) {
+        String raw = createdAt + CURSOR_SEPARATOR + uuid;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private record FeedCursor(Instant createdAt, UUID uuid) {
+    }
+
+    /**
+     * Only decoding is covered here, so query failures surface as themselves rather than as a bad cursor.
+     */
+    private static FeedCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            if (separator > 0) {
+                return new FeedCursor(Instant.parse(raw.substring(0, separator)),
+                        UUID.fromString(raw.substring(separator + 1)));
+            }
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            // fall through to the common error below
+        }
+        throw new CollaborationApplicationException("invalid_cursor", null, "Malformed feed cursor: " + cursor);
+    }
+
+    private CollaborationCardView mapCard(CollaborationCardRow row) {
+        StoreSummaryView initiatorStore = storeSummary(row.initiatorStoreId(), row.initiatorStoreName(),
+                row.initiatorStoreDescription(), row.initiatorStoreCategory(),
+                userSummary(row.initiatorOwnerId(), row.initiatorOwnerName(), row.initiatorOwnerEmail(),
+                        row.initiatorOwnerRole()));
+        StoreSummaryView partnerStore = storeSummary(row.partnerStoreId(), row.partnerStoreName(),
+                row.partnerStoreDescription(), row.partnerStoreCategory(),
+                userSummary(row.partnerOwnerId(), row.partnerOwnerName(), row.partnerOwnerEmail(),
+                        row.partnerOwnerRole()));
+
+        return CollaborationCardView.builder()
+                .uuid(row.uuid())
+                .status(row.status())
+                .description(row.description())
+                .createdAt(row.createdAt())
+                .initiatorProduct(productSummary(row.initiatorProductId(), row.initiatorProductName(),
+                        row.initiatorProductType(), row.initiatorProductCategory(), row.initiatorProductPrice(),
+                        row.initiatorProductAvailable(),
+                        userSummary(row.initiatorProductCreatorId(), row.initiatorProductCreatorName(),
+                                row.initiatorProductCreatorEmail(), row.initiatorProductCreatorRole()),
+                        productStore(row.initiatorProductStoreId(), initiatorStore, partnerStore)))
+                .partnerProduct(productSummary(row.partnerProductId(), row.partnerProductName(),
+                        row.partnerProductType(), row.partnerProductCategory(), row.partnerProductPrice(),
+                        row.partnerProductAvailable(),
+                        userSummary(row.partnerProductCreatorId(), row.partnerProductCreatorName(),
+                                row.partnerProductCreatorEmail(), row.partnerProductCreatorRole()),
+                        productStore(row.partnerProductStoreId(), initiatorStore, partnerStore)))
+                .initiatorStore(initiatorStore)
+                .partnerStore(partnerStore)
+                .build();
+    }
+
+    /**
+     * A card's products belong to one of its two stores, so their summaries are reused rather than
+     * joined again.
+     */
+    private static StoreSummaryView productStore(UUID storeId, StoreSummaryView initiatorStore,
+                                                 StoreSummaryView partnerStore) {
+        if (storeId == null) {
+            return null;
+        }
+        if (initiatorStore != null && storeId.equals(initiatorStore.getUuid())) {
+            return initiatorStore;
+        }
+        if (partnerStore != null && storeId.equals(partnerStore.getUuid())) {
+            return partnerStore;
+        }
+        return StoreSummaryView.builder().uuid(storeId).build();
+    }
+
     private CollaborationCardView mapCollaboration(Collaboration collaboration) {
         return CollaborationCardView.builder()
                 .uuid(collaboration.getUuid())
@@ -361,26 +512,36 @@ public class CollaborationApplicationService {
             return null;
         }
 
+        return productSummary(product.getUuid(), product.getName(), product.getProductType(), product.getCategory(),
+                product.getPrice(), product.getIsAvailable(), mapUser(product.getCreator()),
+                mapStore(product.getStore()));
+    }
+
+    private ProductSummaryView productSummary(UUID uuid, String name, ProductType productType,
+                                              ProductCategory category, BigDecimal price, Boolean available,
+                                              UserSummaryView creator, StoreSummaryView store) {
+        if (uuid == null) {
+            return null;
+        }
+
         ProductCategoryView categoryView = null;
-        if (product.getCategory() != null) {
+        if (category != null) {
             categoryView = ProductCategoryView.builder()
-                    .name(product.getCategory().name())
-                    .displayName(product.getCategory().getDisplayName())
+                    .name(category.name())
+                    .displayName(category.getDisplayName())
                     .build();
         }
 
-        String productTypeDisplay = product.getProductType() != null ? product.getProductType().getDisplayName() : null;
-
         return ProductSummaryView.builder()
-                .uuid(product.getUuid())
-                .name(product.getName())
-                .productType(product.getProductType() != null ? product.getProductType().name() : null)
-                .productTypeDisplayName(productTypeDisplay)
+                .uuid(uuid)
+                .name(name)
+                .productType(productType != null ? productType.name() : null)
+                .productTypeDisplayName(productType != null ? productType.getDisplayName() : null)
                 .category(categoryView)
-                .price(product.getPrice())
-                .available(product.getIsAvailable())
-                .creator(mapUser(product.getCreator()))
-                .store(mapStore(product.getStore()))
+                .price(price)
+                .available(available)
+                .creator(creator)
+                .store(store)
                 .build();
     }
 
@@ -389,12 +550,22 @@ public class CollaborationApplicationService {
             return null;
         }
 
+        return storeSummary(store.getUuid(), store.getName(), store.getDescription(), store.getCategory(),
+                mapUser(store.getUser()));
+    }
+
+    private StoreSummaryView storeSummary(UUID uuid, String name, String description, StoreCategory category,
+                                          UserSummaryView owner) {
+        if (uuid == null) {
+            return null;
+        }
+
         return StoreSummaryView.builder()
-                .uuid(store.getUuid())
-                .name(store.getName())
-                .description(store.getDescription())
-                .category(store.getCategory() != null ? store.getCategory().name() : null)
-                .user(mapUser(store.getUser()))
+                .uuid(uuid)
+                .name(name)
+                .description(description)
+                .category(category != null ? category.name() : null)
+                .user(owner)
                 .build();
     }
 
@@ -419,16 +590,33 @@ public class CollaborationApplicationService {
                 .build();
     }
 
+    private StoreOptionView mapRecommendedStore(StoreRecommendationRow row) {
+        return StoreOptionView.builder()
+                .uuid(row.storeId())
+                .name(row.storeName())
+                .category(row.storeCategory() != null ? row.storeCategory().name() : null)
+                .description(row.description())
+                .build();
+    }
+
     private UserSummaryView mapUser(User user) {
         if (user == null) {
             return null;
         }
 
+        return userSummary(user.getUuid(), user.getUsername(), user.getEmail(), user.getRole());
+    }
+
+    private UserSummaryView userSummary(UUID uuid, String username, String email, Role role) {
+        if (uuid == null) {
+            return null;
+        }
+
         return UserSummaryView.builder()
-                .uuid(user.getUuid())
-                .username(user.getUsername())
-                .email(user.getEmail())
-                .role(user.getRole() != null ? user.getRole().name() : null)
+                .uuid(uuid)
+                .username(username)
+                .email(email)
+                .role(role != null ? role.name() : null)
                 .build();
     }
 
@@ -439,38 +627,4 @@ public class CollaborationApplicationService {
                         "redirect:/login?error=user_not_found",
                         "Authenticated user not found: " + email));
     }
-
-    private String buildStoreDataJson(List<Store> stores) {
-        Map<String, Object> storeData = new HashMap<>();
-        for (Store store : stores) {
-            Map<String, Object> storePayload = new HashMap<>();
-            storePayload.put("uuid", store.getUuid().toString());
-            storePayload.put("name", store.getName());
-            storePayload.put("category", store.getCategory() != null ? store.getCategory().name() : "");
-
-            List<Map<String, Object>> productPayloads = new ArrayList<>();
-            for (Product product : productRepository.findByStore(store)) {
-                if (!Boolean.TRUE.equals(product.getIsAvailable())) {
-                    continue;
-                }
-                Map<String, Object> productPayload = new HashMap<>();
-                productPayload.put("uuid", product.getUuid().toString());
-                productPayload.put("name", product.getName());
-                productPayload.put("category", product.getCategory() != null ? product.getCategory().name() : "");
-                productPayload.put("productType", product.getProductType() != null ? product.getProductType().name() : "");
-                productPayload.put("isAvailable", product.getIsAvailable());
-                productPayload.put("price", product.getPrice());
-                productPayloads.add(productPayload);
-            }
-            storePayload.put("products", productPayloads);
-            storeData.put(store.getUuid().toString(), storePayload);
-        }
-
-        try {
-            return objectMapper.writeValueAsString(storeData);
-        } catch (JsonProcessingException e) {
-            log.warn("Failed to serialize store data: {}", e.getMessage());
-            return "{}";
-        }
-    }
 }
@@ -0,0 +1,74 @@
+package org.balanceus.topping.application.service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.balanceus.topping.presentation.dto.collaboration.CollaborationCardPage;
+import org.balanceus.topping.presentation.dto.collaboration.StoreSummaryView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Short-lived cache of the first page of the collaboration card feed, per filter and page size.
+ * Almost every browse request starts there; later pages are cheap keyset reads and are not cached.
+ * Status changes show up once the entry expires; a store edit drops only the pages that show one
+ * of its collaborations.
+ */
+@Component
+public class CollaborationFeedCache {
+
+    record Key(CollaborationStatus status, StoreCategory category, int size) {
+    }
+
+    private final Cache<Key, CollaborationCardPage> cache;
+
+    public CollaborationFeedCache(
+            @Value("${app.cache.collaboration-feed.maximum-size:200}") long maximumSize,
+            @Value("${app.cache.collaboration-feed.expire-after-write:PT30S}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "collaborationFeed");
+    }
+
+    public CollaborationCardPage getFirstPage(CollaborationStatus status, StoreCategory category, int size,
+                                              Supplier<CollaborationCardPage> loader) {
+        return cache.get(new Key(status, category, size), key -> loader.get());
+    }
+
+    public void clear() {
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreContentChanged(StoreContentChangedEvent event) {
+        if (event.storeId() == null) {
+            return;
+        }
+        // Cards embed the names and descriptions of both stores and of their products
+        cache.asMap().values().removeIf(page -> references(page, event.storeId()));
+    }
+
+    private static boolean references(CollaborationCardPage page, UUID storeId) {
+        return page.getItems() != null && page.getItems().stream().anyMatch(card ->
+            isStore(card.getInitiatorStore(), storeId) || isStore(card.getPartnerStore(), storeId));
+    }
+
+    private static boolean isStore(StoreSummaryView store, UUID storeId) {
+        return store != null && storeId.equals(store.getUuid());
+    }
+}
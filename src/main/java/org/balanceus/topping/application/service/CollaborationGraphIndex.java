@@ -0,0 +1,150 @@
+package org.balanceus.topping.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.balanceus.topping.domain.repository.CollaborationEdge;
+
+/**
+ * In-memory adjacency list of stores joined by an active collaboration. Each collaboration is one
+ * undirected edge; a pair of stores with several collaborations stays a single neighbor entry with
+ * a multiplicity. Reads are lock-free; writers are serialized.
+ * <p>
+ * A rebuild loads its snapshot without holding the lock, so changes applied between
+ * {@link #beginRebuild()} and {@link #rebuild(Collection)} are recorded and replayed on top of the
+ * snapshot instead of being wiped by it. Replaying a change the snapshot already contains is a no-op.
+ * The rebuilt graph is assembled off to the side and published in one swap, so readers see either
+ * the old graph or the new one, never a partly filled one.
+ */
+public class CollaborationGraphIndex {
+
+    private volatile Graph graph = new Graph();
+    // Changes seen while a rebuild loads its snapshot; null when no rebuild is in progress
+    private List<Consumer<Graph>> pendingChanges;
+
+    private record Edge(UUID a, UUID b) {
+    }
+
+    /**
+     * Start recording changes; call before reading the snapshot passed to {@link #rebuild(Collection)}.
+     */
+    public synchronized void beginRebuild() {
+        pendingChanges = new ArrayList<>();
+    }
+
+    /**
+     * Stop recording changes for a rebuild whose snapshot could not be loaded; the index is left as it is.
+     */
+    public synchronized void cancelRebuild() {
+        pendingChanges = null;
+    }
+
+    public synchronized void rebuild(Collection<CollaborationEdge> snapshot) {
+        List<Consumer<Graph>> missed = pendingChanges != null ? pendingChanges : List.of();
+        pendingChanges = null;
+        Graph rebuilt = new Graph();
+        snapshot.forEach(edge -> rebuilt.upsert(edge.collaborationId(), edge.initiatorStoreId(), edge.partnerStoreId()));
+        missed.forEach(change -> change.accept(rebuilt));
+        graph = rebuilt;
+    }
+
+    /**
+     * Add the edge of an active collaboration. Repeating it for the same collaboration is a no-op;
+     * collaborations without two distinct stores have no edge.
+     */
+    public synchronized void upsert(UUID collaborationId, UUID storeId, UUID partnerStoreId) {
+        apply(current -> current.upsert(collaborationId, storeId, partnerStoreId));
+    }
+
+    public synchronized void remove(UUID collaborationId) {
+        apply(current -> current.drop(collaborationId));
+    }
+
+    /**
+     * Distinct stores the given store currently collaborates with.
+     */
+    public Set<UUID> neighbors(UUID storeId) {
+        Map<UUID, Integer> neighbors = graph.adjacency().get(storeId);
+        return neighbors != null ? Set.copyOf(neighbors.keySet()) : Set.of();
+    }
+
+    /**
+     * Active collaborations the given store takes part in, counting repeat partners once per collaboration.
+     */
+    public int collaborationCount(UUID storeId) {
+        return graph.degrees().getOrDefault(storeId, 0);
+    }
+
+    public int size() {
+        return graph.edges().size();
+    }
+
+    private void apply(Consumer<Graph> change) {
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+        change.accept(graph);
+    }
+
+    /**
+     * One generation of the index. Only the writer holding the index lock mutates it; a rebuild
+     * replaces the whole generation.
+     */
+    private record Graph(Map<UUID, Edge> edges, Map<UUID, Map<UUID, Integer>> adjacency, Map<UUID, Integer> degrees) {
+
+        Graph() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        void upsert(UUID collaborationId, UUID storeId, UUID partnerStoreId) {
+            if (storeId == null || partnerStoreId == null || storeId.equals(partnerStoreId)) {
+                drop(collaborationId);
+                return;
+            }
+            Edge edge = new Edge(storeId, partnerStoreId);
+            Edge previous = edges.put(collaborationId, edge);
+            if (edge.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                unlink(previous);
+            }
+            link(edge.a(), edge.b());
+            link(edge.b(), edge.a());
+        }
+
+        void drop(UUID collaborationId) {
+            Edge previous = edges.remove(collaborationId);
+            if (previous != null) {
+                unlink(previous);
+            }
+        }
+
+        private void unlink(Edge edge) {
+            unlink(edge.a(), edge.b());
+            unlink(edge.b(), edge.a());
+        }
+
+        private void link(UUID from, UUID to) {
+            adjacency.computeIfAbsent(from, key -> new ConcurrentHashMap<>()).merge(to, 1, Integer::sum);
+            degrees.merge(from, 1, Integer::sum);
+        }
+
+        private void unlink(UUID from, UUID to) {
+            Map<UUID, Integer> neighbors = adjacency.get(from);
+            if (neighbors != null) {
+                neighbors.computeIfPresent(to, (key, count) -> count > 1 ? count - 1 : null);
+                if (neighbors.isEmpty()) {
+                    adjacency.remove(from);
+                }
+            }
+            degrees.computeIfPresent(from, (key, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+}
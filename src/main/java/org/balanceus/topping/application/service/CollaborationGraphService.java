@@ -0,0 +1,118 @@
+package org.balanceus.topping.application.service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.balanceus.topping.application.event.CollaborationStatusChangedEvent;
+import org.balanceus.topping.application.exception.ApplicationErrorCode;
+import org.balanceus.topping.application.exception.ApplicationException;
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.repository.CollaborationEdge;
+import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.balanceus.topping.domain.repository.StoreRepository;
+import org.hibernate.Hibernate;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Answers "which stores does this store collaborate with" from an in-memory
+ * {@link CollaborationGraphIndex} of accepted collaborations.
+ */
+@Service
+@Slf4j
+public class CollaborationGraphService {
+
+    private final CollaborationRepository collaborationRepository;
+    private final StoreRepository storeRepository;
+    private final CollaborationGraphIndex index;
+
+    public CollaborationGraphService(CollaborationRepository collaborationRepository,
+                                     StoreRepository storeRepository) {
+        this.collaborationRepository = collaborationRepository;
+        this.storeRepository = storeRepository;
+        this.index = new CollaborationGraphIndex();
+    }
+
+    /**
+     * Stores with an accepted collaboration with the given store, ordered by name.
+     */
+    @Transactional(readOnly = true)
+    public List<Store> findCollaboratingStores(UUID storeId) {
+        Set<UUID> neighbors = index.neighbors(storeId);
+        if (neighbors.isEmpty()) {
+            return List.of();
+        }
+        List<Store> stores = storeRepository.findAllById(neighbors).stream()
+            .sorted(Comparator.comparing(Store::getName, Comparator.nullsLast(Comparator.naturalOrder())))
+            .toList();
+        // Callers render the main image after this transaction ends
+        stores.forEach(store -> Hibernate.initialize(store.getImages()));
+        return stores;
+    }
+
+    public int countCollaborations(UUID storeId) {
+        return index.collaborationCount(storeId);
+    }
+
+    public int countCollaboratingStores(UUID storeId) {
+        return index.neighbors(storeId).size();
+    }
+
+    /**
+     * Like {@link #findCollaboratingStores(UUID)}, but fails with NOT_FOUND for unknown stores
+     * instead of returning an empty list.
+     */
+    @Transactional(readOnly = true)
+    public List<Store> getCollaboratingStores(UUID storeId) {
+        requireStore(storeId);
+        return findCollaboratingStores(storeId);
+    }
+
+    public void requireStore(UUID storeId) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new ApplicationException(ApplicationErrorCode.NOT_FOUND, "Store not found");
+        }
+    }
+
+    /**
+     * Load the index after startup, and reload it periodically so it converges with the database
+     * even if a change event was lost (e.g. a listener failure or a write from another instance).
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.collaboration.graph.resync-cron:0 30 4 * * *}")
+    @Transactional(readOnly = true)
+    public synchronized void buildIndex() {
+        index.beginRebuild();
+        List<CollaborationEdge> snapshot;
+        try {
+            snapshot = collaborationRepository.findEdgesByStatus(CollaborationStatus.ACCEPTED);
+        } catch (RuntimeException e) {
+            index.cancelRebuild();
+            throw e;
+        }
+        index.rebuild(snapshot);
+        log.info("Built collaboration graph index with {} collaborations", index.size());
+    }
+
+    /**
+     * Runs before the store detail cache is evicted for the same commit, because the event is
+     * published ahead of the matching {@code StoreContentChangedEvent}s.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCollaborationStatusChanged(CollaborationStatusChangedEvent event) {
+        if (event.status() == CollaborationStatus.ACCEPTED) {
+            index.upsert(event.collaborationId(), event.initiatorStoreId(), event.partnerStoreId());
+        } else {
+            index.remove(event.collaborationId());
+        }
+    }
+}
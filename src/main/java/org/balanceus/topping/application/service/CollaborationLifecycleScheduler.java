@@ -0,0 +1,207 @@
+package org.balanceus.topping.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+import org.balanceus.topping.application.event.CollaborationStatusChangedEvent;
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.repository.CollaborationEdge;
+import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.balanceus.topping.domain.repository.CollaborationScheduleRow;
+import org.balanceus.topping.domain.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves accepted collaborations through their period. A collaboration starts at the beginning of
+ * its start date and ends at the beginning of the day after its end date, in
+ * {@code app.collaboration.lifecycle.zone}. Transitions due within
+ * the next {@code app.collaboration.lifecycle.window} are loaded into a priority queue ordered by
+ * due time; each tick pops what is due and applies it in batches. Ending moves the collaboration
+ * to ENDED and takes its COLLABORATION products off sale with bulk updates; starting changes no
+ * stored state and only notifies listeners. Overdue ends are always reloaded, so missed ticks and
+ * restarts catch up; ends are conditional updates, so several instances can run this safely.
+ */
+@Service
+@Slf4j
+public class CollaborationLifecycleScheduler {
+
+    enum Kind { START, END }
+
+    record Transition(Instant dueAt, UUID collaborationId, Kind kind) {
+    }
+
+    private final CollaborationRepository collaborationRepository;
+    private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration window;
+    private final int batchSize;
+    private final ZoneId zone;
+    private final PriorityQueue<Transition> queue = new PriorityQueue<>(Comparator.comparing(Transition::dueAt));
+
+    private Instant loadedUntil;
+    private Instant startsFiredThrough;
+    private volatile boolean reloadRequested;
+
+    public CollaborationLifecycleScheduler(CollaborationRepository collaborationRepository,
+                                           ProductRepository productRepository,
+                                           ApplicationEventPublisher eventPublisher,
+                                           PlatformTransactionManager transactionManager,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${app.collaboration.lifecycle.window:PT6H}") Duration window,
+                                           @Value("${app.collaboration.lifecycle.batch-size:200}") int batchSize,
+                                           @Value("${app.collaboration.lifecycle.zone:Asia/Seoul}") ZoneId zone) {
+        this.collaborationRepository = collaborationRepository;
+        this.productRepository = productRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.batchSize = Math.max(1, batchSize);
+        this.zone = zone;
+    }
+
+    @Scheduled(fixedDelayString = "${app.collaboration.lifecycle.tick-interval:PT1M}")
+    public void tick() {
+        try {
+            advance(Instant.now());
+        } catch (RuntimeException e) {
+            log.error("Collaboration lifecycle tick failed; due transitions are retried on the next tick", e);
+            reloadRequested = true;
+        }
+    }
+
+    /**
+     * A newly accepted collaboration may already fall inside the loaded window.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCollaborationStatusChanged(CollaborationStatusChangedEvent event) {
+        if (event.status() == CollaborationStatus.ACCEPTED) {
+            reloadRequested = true;
+        }
+    }
+
+    synchronized void advance(Instant now) {
+        if (loadedUntil == null || reloadRequested || !now.isBefore(loadedUntil)) {
+            load(now);
+        }
+
+        List<UUID> starting = new ArrayList<>();
+        List<UUID> ending = new ArrayList<>();
+        while (!queue.isEmpty() && !queue.peek().dueAt().isAfter(now)) {
+            Transition due = queue.poll();
+            (due.kind() == Kind.START ? starting : ending).add(due.collaborationId());
+        }
+
+        try {
+            for (int from = 0; from < ending.size(); from += batchSize) {
+                end(ending.subList(from, Math.min(from + batchSize, ending.size())));
+            }
+            for (int from = 0; from < starting.size(); from += batchSize) {
+                start(starting.subList(from, Math.min(from + batchSize, starting.size())));
+            }
+        } catch (RuntimeException e) {
+            // The popped transitions are gone from the queue; reload them, starts included, on the next tick
+            reloadRequested = true;
+            throw e;
+        }
+        startsFiredThrough = now;
+    }
+
+    int pending() {
+        return queue.size();
+    }
+
+    private void load(Instant now) {
+        reloadRequested = false;
+        Instant until = now.plus(window);
+        LocalDate lastDay = LocalDate.ofInstant(until, zone);
+        if (startsFiredThrough == null) {
+            // Starts that passed before this instance came up have already happened
+            startsFiredThrough = now;
+        }
+
+        queue.clear();
+        // Any collaboration due to end by the end of the window, plus overdue ones
+        for (CollaborationScheduleRow row : collaborationRepository.findSchedulesEndingBefore(
+                CollaborationStatus.ACCEPTED, lastDay)) {
+            queue.add(new Transition(startOfDay(row.endDate().plusDays(1)), row.collaborationId(), Kind.END));
+        }
+        for (CollaborationScheduleRow row : collaborationRepository.findSchedulesStartingBetween(
+                CollaborationStatus.ACCEPTED, LocalDate.ofInstant(startsFiredThrough, zone), lastDay)) {
+            Instant dueAt = startOfDay(row.startDate());
+            if (dueAt.isAfter(startsFiredThrough) && !dueAt.isAfter(until)) {
+                queue.add(new Transition(dueAt, row.collaborationId(), Kind.START));
+            }
+        }
+        loadedUntil = until;
+        log.debug("Loaded {} collaboration transitions due before {}", queue.size(), until);
+    }
+
+    private void end(List<UUID> ids) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<CollaborationEdge> edges =
+                    collaborationRepository.findEdgesByIdsAndStatus(ids, CollaborationStatus.ACCEPTED);
+            if (edges.isEmpty()) {
+                return;
+            }
+            List<UUID> endingIds = edges.stream().map(CollaborationEdge::collaborationId).toList();
+            int ended = collaborationRepository.transitionStatus(endingIds, CollaborationStatus.ACCEPTED,
+                    CollaborationStatus.ENDED);
+            int products = productRepository.markCollaborationProductsUnavailable(endingIds);
+
+            edges.forEach(edge -> eventPublisher.publishEvent(new CollaborationStatusChangedEvent(
+                    edge.collaborationId(), edge.initiatorStoreId(), edge.partnerStoreId(), CollaborationStatus.ENDED)));
+            publishStoresChanged(edges);
+            meterRegistry.counter("collaboration.lifecycle.transitions", "kind", "end").increment(ended);
+            log.info("Ended {} collaborations and took {} collaboration products off sale", ended, products);
+        });
+    }
+
+    private void start(List<UUID> ids) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<CollaborationEdge> edges =
+                    collaborationRepository.findEdgesByIdsAndStatus(ids, CollaborationStatus.ACCEPTED);
+            publishStoresChanged(edges);
+            meterRegistry.counter("collaboration.lifecycle.transitions", "kind", "start").increment(edges.size());
+            log.info("Started {} collaborations", edges.size());
+        });
+    }
+
+    private void publishStoresChanged(List<CollaborationEdge> edges) {
+        Set<UUID> stores = new LinkedHashSet<>();
+        for (CollaborationEdge edge : edges) {
+            if (edge.initiatorStoreId() != null) {
+                stores.add(edge.initiatorStoreId());
+            }
+            if (edge.partnerStoreId() != null) {
+                stores.add(edge.partnerStoreId());
+            }
+        }
+        stores.forEach(storeId -> eventPublisher.publishEvent(new StoreContentChangedEvent(storeId)));
+    }
+
+    private Instant startOfDay(LocalDate date) {
+        return date.atStartOfDay(zone).toInstant();
+    }
+}
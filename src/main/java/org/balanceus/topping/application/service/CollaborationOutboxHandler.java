@@ -0,0 +1,151 @@
+package org.balanceus.topping.application.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.ChatMessage;
+import org.balanceus.topping.domain.model.ChatRoom;
+import org.balanceus.topping.domain.model.Collaboration;
+import org.balanceus.topping.domain.model.CollaborationProposal;
+import org.balanceus.topping.domain.model.OutboxEvent;
+import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.ChatRoomRepository;
+import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
+import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.balanceus.topping.infrastructure.service.NotificationService;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Performs the chat, WebSocket and notification side effects of collaboration decisions. Runs in
+ * the dispatcher's delivery transaction, so chat room and message writes commit together with the
+ * event being marked delivered; any exception rolls them back and schedules a retry.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CollaborationOutboxHandler {
+
+    private static final String PROPOSAL_TOPIC = "/topic/proposal/";
+    private static final TypeReference<Map<String, String>> PAYLOAD_TYPE = new TypeReference<>() {
+    };
+
+    private final CollaborationProposalRepository collaborationProposalRepository;
+    private final CollaborationRepository collaborationRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatService chatService;
+    private final NotificationService notificationService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void deliver(OutboxEvent event) {
+        Map<String, String> payload = payload(event);
+        switch (event.getType()) {
+            case PROPOSAL_ACCEPTED -> proposalAccepted(proposal(event), UUID.fromString(payload.get("collaborationId")));
+            case PROPOSAL_REJECTED -> proposalRejected(proposal(event));
+            case PROPOSAL_MODIFIED -> proposalModified(proposal(event), payload.get("updatedBy"));
+            case PROPOSAL_CREATED -> notificationService.notifyBusinessOwnersOfNewProposal(proposal(event));
+            case COLLABORATION_ACCEPTED -> {
+                ChatRoom chatRoom = chatService.createChatRoomForCollaboration(event.getAggregateId());
+                log.info("Chat room {} ready for accepted collaboration: {}", chatRoom.getUuid(), event.getAggregateId());
+            }
+        }
+    }
+
+    private void proposalAccepted(CollaborationProposal proposal, UUID collaborationId) {
+        Collaboration collaboration = collaborationRepository.findById(collaborationId)
+                .orElseThrow(() -> new IllegalStateException("Collaboration not found with id: " + collaborationId));
+
+        // Reuse the proposal's chat room when there is one; otherwise create a collaboration room
+        ChatRoom chatRoom;
+        Optional<ChatRoom> existingRoom = chatService.findChatRoomByProposal(proposal);
+        if (existingRoom.isPresent()) {
+            chatRoom = existingRoom.get();
+            chatRoom.setCollaboration(collaboration);
+            chatRoom = chatRoomRepository.save(chatRoom);
+            log.info("Reusing existing proposal chat room {} for approved collaboration: {}",
+                    chatRoom.getUuid(), collaborationId);
+        } else {
+            chatRoom = chatService.createChatRoomForCollaboration(collaborationId);
+            log.info("Created new chat room {} for approved collaboration: {}", chatRoom.getUuid(), collaborationId);
+        }
+
+        User actionUser = determineActionUser(proposal);
+        chatService.sendProposalStatusMessage(chatRoom, ChatMessage.MessageType.PROPOSAL_ACCEPTED,
+                String.format("🎉 %s님이 제안서를 수락했습니다!", actionUser.getUsername()), proposal, actionUser);
+        broadcastProposalStatusUpdate(chatRoom.getUuid(), "PROPOSAL_ACCEPTED", actionUser.getUsername());
+    }
+
+    private void proposalRejected(CollaborationProposal proposal) {
+        Optional<ChatRoom> chatRoom = chatService.findChatRoomByProposal(proposal);
+        if (chatRoom.isPresent()) {
+            User actionUser = determineActionUser(proposal);
+            chatService.sendProposalStatusMessage(chatRoom.get(), ChatMessage.MessageType.PROPOSAL_REJECTED,
+                    String.format("❌ %s님이 제안서를 거절했습니다.", actionUser.getUsername()), proposal, actionUser);
+            broadcastProposalStatusUpdate(chatRoom.get().getUuid(), "PROPOSAL_REJECTED", actionUser.getUsername());
+        }
+        notificationService.notifyProposalRejected(proposal);
+    }
+
+    private void proposalModified(CollaborationProposal proposal, String updatedBy) {
+        chatService.findChatRoomByProposal(proposal)
+                .ifPresent(chatRoom -> broadcastProposalStatusUpdate(chatRoom.getUuid(), "PROPOSAL_MODIFIED", updatedBy));
+    }
+
+    private CollaborationProposal proposal(OutboxEvent event) {
+        return collaborationProposalRepository.findById(event.getAggregateId())
+                .orElseThrow(() -> new IllegalStateException(
+                        "Collaboration proposal not found with id: " + event.getAggregateId()));
+    }
+
+    private Map<String, String> payload(OutboxEvent event) {
+        if (event.getPayload() == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable payload for outbox event " + event.getUuid(), e);
+        }
+    }
+
+    /**
+     * The target store owner decides proposals; fall back to the proposer for malformed proposals.
+     */
+    private User determineActionUser(CollaborationProposal proposal) {
+        if (proposal.getTargetStore() != null && proposal.getTargetStore().getUser() != null) {
+            return proposal.getTargetStore().getUser();
+        }
+        if (proposal.getProposerUser() != null) {
+            return proposal.getProposerUser();
+        }
+        if (proposal.getProposerStore() != null && proposal.getProposerStore().getUser() != null) {
+            return proposal.getProposerStore().getUser();
+        }
+        throw new IllegalStateException("Cannot determine action user for proposal: " + proposal.getUuid());
+    }
+
+    /**
+     * Broadcast real-time proposal status updates to the room's proposal channel
+     */
+    private void broadcastProposalStatusUpdate(UUID roomId, String updateType, String updatedBy) {
+        Map<String, Object> updateData = new HashMap<>();
+        updateData.put("roomId", roomId);
+        updateData.put("updateType", updateType);
+        updateData.put("updatedBy", updatedBy);
+        updateData.put("timestamp", LocalDateTime.now());
+
+        messagingTemplate.convertAndSend(PROPOSAL_TOPIC + roomId, updateData);
+        log.info("Broadcasted proposal status update {} for room {} by {}", updateType, roomId, updatedBy);
+    }
+}
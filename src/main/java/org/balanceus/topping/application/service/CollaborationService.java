@@ -2,27 +2,28 @@ package org.balanceus.topping.application.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.balanceus.topping.application.event.CollaborationStatusChangedEvent;
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.application.exception.ApplicationErrorCode;
+import org.balanceus.topping.application.exception.ApplicationException;
 import org.balanceus.topping.domain.model.Collaboration;
 import org.balanceus.topping.domain.model.CollaborationProposal;
-import org.balanceus.topping.domain.model.ChatRoom;
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.model.ProposalSource;
+import org.balanceus.topping.domain.model.OutboxEvent;
 import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
 import org.balanceus.topping.domain.repository.CollaborationRepository;
 import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
 import org.balanceus.topping.domain.repository.ProductRepository;
 import org.balanceus.topping.domain.repository.StoreRepository;
-import org.balanceus.topping.domain.repository.ChatRoomRepository;
-import org.balanceus.topping.infrastructure.service.NotificationService;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -38,10 +39,8 @@ public class CollaborationService {
     private final CollaborationProposalRepository collaborationProposalRepository;
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
-    private final ChatRoomRepository chatRoomRepository;
-    private final ChatService chatService;
-    private final NotificationService notificationService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new collaboration proposal
@@ -80,22 +79,26 @@ public class CollaborationService {
         return savedProposal;
     }
 
+    /**
+     * Save a customer suggestion and, in the same transaction, enqueue the notification to business
+     * owners, so they are told about it if and only if the proposal is stored.
+     */
+    public CollaborationProposal submitSuggestion(CollaborationProposal proposal) {
+        CollaborationProposal saved = collaborationProposalRepository.save(proposal);
+        // 사업자들에게 새 제안 알림 전송 (outbox dispatcher가 비동기로 전달)
+        outboxService.enqueue(OutboxEvent.Type.PROPOSAL_CREATED, saved.getUuid(),
+                "PROPOSAL_CREATED:" + saved.getUuid(), Map.of());
+        return saved;
+    }
+
     /**
      * Approve a collaboration proposal and create a Collaboration entity
      */
     public Collaboration approve(UUID proposalId) {
-        Optional<CollaborationProposal> proposalOpt = collaborationProposalRepository.findById(proposalId);
-        if (proposalOpt.isEmpty()) {
-            throw new RuntimeException("Collaboration proposal not found with id: " + proposalId);
-        }
+        // Claim the proposal first: of two concurrent accepts only one UPDATE still matches PENDING
+        CollaborationProposal proposal = claimProposal(proposalId, CollaborationProposal.CollaborationStatus.ACCEPTED);
 
-        CollaborationProposal proposal = proposalOpt.get();
-        
-        if (proposal.getStatus() != org.balanceus.topping.domain.model.CollaborationProposal.CollaborationStatus.PENDING) {
-            throw new RuntimeException("Proposal is not in pending status");
-        }
-
-        // Check for existing active collaborations to prevent duplicates
+        // Cheap early exit; the partial unique index on active pairs is what makes this race-free
         Optional<Collaboration> existingCollaboration = collaborationRepository
             .findActiveCollaborationBetweenStoresAndProducts(
                 proposal.getProposerStore() != null ? proposal.getProposerStore() : proposal.getTargetStore(),
@@ -105,7 +108,8 @@ public class CollaborationService {
             );
             
         if (existingCollaboration.isPresent()) {
-            throw new RuntimeException("Active collaboration already exists between these stores and products");
+            throw new ApplicationException(ApplicationErrorCode.CONFLICT,
+                    "Active collaboration already exists between these stores and products");
         }
 
         // Create new Collaboration from proposal
@@ -139,120 +143,60 @@ public class CollaborationService {
         } else {
             log.warn("⚠️ No target product in proposal {} to copy to collaboration", proposal.getUuid());
         }
-        collaboration.setStartDate(proposal.getProposedStart());
-        collaboration.setEndDate(proposal.getProposedEnd());
+        // The lifecycle scheduler starts and ends the collaboration on these dates
+        collaboration.setStartDate(proposal.getProposedStart() != null
+                ? proposal.getProposedStart() : proposal.getCollaborationStartDate());
+        collaboration.setEndDate(proposal.getProposedEnd() != null
+                ? proposal.getProposedEnd() : proposal.getCollaborationEndDate());
         collaboration.setTitle(proposal.getTitle());
         collaboration.setDescription(proposal.getDescription());
         collaboration.setStatus(CollaborationStatus.ACCEPTED);
 
-        Collaboration savedCollaboration = collaborationRepository.save(collaboration);
+        Collaboration savedCollaboration;
+        try {
+            savedCollaboration = collaborationRepository.saveAndFlush(collaboration);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent approval created the same active pair first; the claim above rolls back with us
+            throw new ApplicationException(ApplicationErrorCode.CONFLICT,
+                    "Active collaboration already exists between these stores and products", e);
+        }
+        publishCollaborationChanged(savedCollaboration);
 
-        // Update proposal status and link to collaboration
-        proposal.setStatus(org.balanceus.topping.domain.model.CollaborationProposal.CollaborationStatus.ACCEPTED);
+        // The claim already moved the proposal to ACCEPTED; link it to the collaboration
         proposal.setCollaboration(savedCollaboration);
         collaborationProposalRepository.save(proposal);
 
-        try {
-            // 🎯 NEW: First try to find existing chat room for the proposal
-            ChatRoom chatRoom = null;
-            Optional<ChatRoom> existingRoom = chatService.findChatRoomByProposal(proposal);
-            
-            if (existingRoom.isPresent()) {
-                // Reuse existing proposal chat room and link it to the collaboration
-                chatRoom = existingRoom.get();
-                chatRoom.setCollaboration(savedCollaboration);
-                // The collaborationProposal link should already be set
-                // Save the updated chat room with collaboration link
-                chatRoom = chatRoomRepository.save(chatRoom);
-                log.info("Reusing existing proposal chat room {} for approved collaboration: {}", 
-                        chatRoom.getUuid(), savedCollaboration.getUuid());
-            } else {
-                // Fallback: create new chat room (this preserves existing behavior)
-                chatRoom = chatService.createChatRoomForCollaboration(savedCollaboration.getUuid());
-                log.info("Created new chat room {} for approved collaboration: {}", 
-                        chatRoom.getUuid(), savedCollaboration.getUuid());
-            }
-                    
-            // Send system message about proposal acceptance
-            User actionUser = determineActionUser(proposal);
-            String statusMessage = String.format("🎉 %s님이 제안서를 수락했습니다!", actionUser.getUsername());
-            chatService.sendProposalStatusMessage(
-                chatRoom, 
-                org.balanceus.topping.domain.model.ChatMessage.MessageType.PROPOSAL_ACCEPTED,
-                statusMessage,
-                proposal,
-                actionUser
-            );
-            
-            // Broadcast real-time proposal status update
-            broadcastProposalStatusUpdate(chatRoom.getUuid(), "PROPOSAL_ACCEPTED", actionUser.getUsername());
-            
-        } catch (Exception e) {
-            log.error("Failed to handle chat room for collaboration: {}", savedCollaboration.getUuid(), e);
-        }
+        // Chat room, status message and broadcast are delivered by the outbox dispatcher after commit
+        outboxService.enqueue(OutboxEvent.Type.PROPOSAL_ACCEPTED, proposal.getUuid(),
+                "PROPOSAL_ACCEPTED:" + proposal.getUuid(),
+                Map.of("collaborationId", savedCollaboration.getUuid().toString()));
 
         log.info("Collaboration proposal approved and collaboration created: {}", savedCollaboration.getUuid());
         return savedCollaboration;
     }
 
     /**
-     * Reject a collaboration proposal
+     * Reject a pending collaboration proposal
      */
-    public void reject(UUID proposalId) {
-        Optional<CollaborationProposal> proposalOpt = collaborationProposalRepository.findById(proposalId);
-        if (proposalOpt.isEmpty()) {
-            throw new RuntimeException("Collaboration proposal not found with id: " + proposalId);
-        }
-
-        CollaborationProposal proposal = proposalOpt.get();
-        proposal.setStatus(org.balanceus.topping.domain.model.CollaborationProposal.CollaborationStatus.REJECTED);
-        collaborationProposalRepository.save(proposal);
+    public CollaborationProposal reject(UUID proposalId) {
+        CollaborationProposal proposal = claimProposal(proposalId, CollaborationProposal.CollaborationStatus.REJECTED);
 
-        // Send system message about proposal rejection if there's an existing chat room
-        try {
-            Optional<org.balanceus.topping.domain.model.ChatRoom> chatRoomOpt = 
-                chatService.findChatRoomByProposal(proposal);
-            if (chatRoomOpt.isPresent()) {
-                User actionUser = determineActionUser(proposal);
-                String statusMessage = String.format("❌ %s님이 제안서를 거절했습니다.", actionUser.getUsername());
-                chatService.sendProposalStatusMessage(
-                    chatRoomOpt.get(),
-                    org.balanceus.topping.domain.model.ChatMessage.MessageType.PROPOSAL_REJECTED,
-                    statusMessage,
-                    proposal,
-                    actionUser
-                );
-                
-                // Broadcast real-time proposal status update
-                broadcastProposalStatusUpdate(chatRoomOpt.get().getUuid(), "PROPOSAL_REJECTED", actionUser.getUsername());
-            }
-        } catch (Exception e) {
-            log.warn("Failed to send rejection message for proposal: {}", proposalId, e);
-        }
+        // Status message, broadcast and the proposer's notification are delivered after commit
+        outboxService.enqueue(OutboxEvent.Type.PROPOSAL_REJECTED, proposal.getUuid(),
+                "PROPOSAL_REJECTED:" + proposal.getUuid(), Map.of());
 
         log.info("Collaboration proposal rejected: {}", proposalId);
+        return proposal;
     }
 
     /**
      * Legacy method for accepting collaborations (maintained for compatibility)
      */
     public void acceptCollaboration(UUID collaborationId) {
-        Optional<Collaboration> collaborationOpt = collaborationRepository.findById(collaborationId);
-        if (collaborationOpt.isEmpty()) {
-            throw new RuntimeException("Collaboration not found with id: " + collaborationId);
-        }
-
-        Collaboration collaboration = collaborationOpt.get();
-        collaboration.setStatus(CollaborationStatus.ACCEPTED);
-        collaborationRepository.save(collaboration);
-
-        try {
-            ChatRoom chatRoom = chatService.createChatRoomForCollaboration(collaborationId);
-            log.info("Created chat room {} for accepted collaboration: {}", 
-                    chatRoom.getUuid(), collaborationId);
-        } catch (Exception e) {
-            log.error("Failed to create chat room for collaboration: {}", collaborationId, e);
-        }
+        Collaboration collaboration = claimCollaboration(collaborationId, CollaborationStatus.ACCEPTED);
+        publishCollaborationChanged(collaboration);
+        outboxService.enqueue(OutboxEvent.Type.COLLABORATION_ACCEPTED, collaborationId,
+                "COLLABORATION_ACCEPTED:" + collaborationId, Map.of());
 
         log.info("Collaboration accepted: {}", collaborationId);
     }
@@ -261,21 +205,12 @@ public class CollaborationService {
      * Legacy method for rejecting collaborations (maintained for compatibility)
      */
     public void rejectCollaboration(UUID collaborationId) {
-        Optional<Collaboration> collaborationOpt = collaborationRepository.findById(collaborationId);
-        if (collaborationOpt.isEmpty()) {
-            throw new RuntimeException("Collaboration not found with id: " + collaborationId);
-        }
-
-        Collaboration collaboration = collaborationOpt.get();
-        collaboration.setStatus(CollaborationStatus.REJECTED);
-        collaborationRepository.save(collaboration);
+        Collaboration collaboration = claimCollaboration(collaborationId, CollaborationStatus.REJECTED);
+        publishCollaborationChanged(collaboration);
 
         log.info("Collaboration rejected: {}", collaborationId);
     }
     
-    /**
-     * Helper method to determine who is taking the action on a proposal
-     */
     /**
      * Update an existing collaboration proposal
      */
@@ -326,15 +261,9 @@ public class CollaborationService {
         // Save updated proposal
         CollaborationProposal updatedProposal = collaborationProposalRepository.save(proposal);
         
-        // Find associated chat room and broadcast update
-        try {
-            Optional<ChatRoom> chatRoomOpt = chatService.findChatRoomByProposal(proposal);
-            if (chatRoomOpt.isPresent()) {
-                broadcastProposalStatusUpdate(chatRoomOpt.get().getUuid(), "PROPOSAL_MODIFIED", currentUser.getUsername());
-            }
-        } catch (Exception e) {
-            log.warn("Failed to broadcast proposal modification for proposal: {}", proposalId, e);
-        }
+        // Every edit is broadcast, so there is no dedup key
+        outboxService.enqueue(OutboxEvent.Type.PROPOSAL_MODIFIED, proposalId, null,
+                Map.of("updatedBy", currentUser.getUsername()));
         
         log.info("Collaboration proposal updated: {} by user: {}", proposalId, currentUser.getUsername());
         return updatedProposal;
@@ -357,42 +286,48 @@ public class CollaborationService {
         return false;
     }
 
-    private User determineActionUser(CollaborationProposal proposal) {
-        // For acceptance/rejection, the target store owner is typically the one taking action
-        if (proposal.getTargetStore() != null && proposal.getTargetStore().getUser() != null) {
-            return proposal.getTargetStore().getUser();
-        }
-        
-        // Fallback to proposer if target is not available
-        if (proposal.getProposerUser() != null) {
-            return proposal.getProposerUser();
+    /**
+     * Decide a pending proposal with a conditional update and return it reloaded in its new state.
+     * Losing a race to another request surfaces as a CONFLICT instead of a second decision.
+     */
+    private CollaborationProposal claimProposal(UUID proposalId, CollaborationProposal.CollaborationStatus decision) {
+        boolean claimed = collaborationProposalRepository.transitionStatus(
+                proposalId, CollaborationProposal.CollaborationStatus.PENDING, decision);
+        CollaborationProposal proposal = collaborationProposalRepository.findById(proposalId)
+                .orElseThrow(() -> new ApplicationException(ApplicationErrorCode.NOT_FOUND,
+                        "Collaboration proposal not found with id: " + proposalId));
+        if (!claimed) {
+            throw new ApplicationException(ApplicationErrorCode.CONFLICT,
+                    "Proposal is not in pending status: " + proposal.getStatus());
         }
-        
-        if (proposal.getProposerStore() != null && proposal.getProposerStore().getUser() != null) {
-            return proposal.getProposerStore().getUser();
+        return proposal;
+    }
+
+    private Collaboration claimCollaboration(UUID collaborationId, CollaborationStatus decision) {
+        boolean claimed = collaborationRepository.transitionStatus(collaborationId, CollaborationStatus.PENDING, decision);
+        Collaboration collaboration = collaborationRepository.findById(collaborationId)
+                .orElseThrow(() -> new ApplicationException(ApplicationErrorCode.NOT_FOUND,
+                        "Collaboration not found with id: " + collaborationId));
+        if (!claimed) {
+            throw new ApplicationException(ApplicationErrorCode.CONFLICT,
+                    "Collaboration is not in pending status: " + collaboration.getStatus());
         }
-        
-        // This should not happen in a well-formed proposal
-        throw new IllegalStateException("Cannot determine action user for proposal: " + proposal.getUuid());
+        return collaboration;
     }
-    
+
     /**
-     * Broadcast real-time proposal status updates via WebSocket
+     * Evict cached store detail views of both participating stores and update the collaboration graph
      */
-    private void broadcastProposalStatusUpdate(UUID roomId, String updateType, String updatedBy) {
-        try {
-            Map<String, Object> updateData = new HashMap<>();
-            updateData.put("roomId", roomId);
-            updateData.put("updateType", updateType);
-            updateData.put("updatedBy", updatedBy);
-            updateData.put("timestamp", LocalDateTime.now());
-            
-            // Broadcast to the specific room's proposal update channel
-            messagingTemplate.convertAndSend("/topic/proposal/" + roomId, updateData);
-            log.info("Broadcasted proposal status update {} for room {} by {}", updateType, roomId, updatedBy);
-            
-        } catch (Exception e) {
-            log.error("Failed to broadcast proposal status update for room {}: {}", roomId, e.getMessage(), e);
+    private void publishCollaborationChanged(Collaboration collaboration) {
+        eventPublisher.publishEvent(new CollaborationStatusChangedEvent(collaboration.getUuid(),
+                collaboration.getInitiatorStore() != null ? collaboration.getInitiatorStore().getUuid() : null,
+                collaboration.getPartnerStore() != null ? collaboration.getPartnerStore().getUuid() : null,
+                collaboration.getStatus()));
+        if (collaboration.getInitiatorStore() != null) {
+            eventPublisher.publishEvent(new StoreContentChangedEvent(collaboration.getInitiatorStore().getUuid()));
+        }
+        if (collaboration.getPartnerStore() != null) {
+            eventPublisher.publishEvent(new StoreContentChangedEvent(collaboration.getPartnerStore().getUuid()));
         }
     }
 
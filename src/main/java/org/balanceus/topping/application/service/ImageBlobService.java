@@ -0,0 +1,184 @@
+package org.balanceus.topping.application.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.balanceus.topping.application.event.ImageReferencesReleasedEvent;
+import org.balanceus.topping.application.event.ImageSpooledEvent;
+import org.balanceus.topping.domain.model.ImageBlob;
+import org.balanceus.topping.domain.model.ImageProcessingStatus;
+import org.balanceus.topping.domain.model.ImageVariant;
+import org.balanceus.topping.domain.repository.ImageBlobRepository;
+import org.balanceus.topping.domain.storage.ImageStorage;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Content-addressed image storage. Uploads are hashed while spooled; a hash that is already
+ * known only gains a reference and skips processing, a new one becomes a PENDING blob handed to
+ * the {@link ImageProcessingPipeline}. A known blob whose processing FAILED is queued again with
+ * the new upload's bytes. Blob paths never change, so they can be cached forever.
+ */
+@Service
+@Slf4j
+public class ImageBlobService {
+
+    private static final String BLOB_ROOT = "/image/blobs/";
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageProcessingPipeline imageProcessingPipeline;
+    private final ImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter dedupHits;
+    private final Counter blobsCreated;
+
+    public ImageBlobService(ImageBlobRepository imageBlobRepository,
+                            ImageProcessingPipeline imageProcessingPipeline,
+                            ImageStorage imageStorage,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry) {
+        this.imageBlobRepository = imageBlobRepository;
+        this.imageProcessingPipeline = imageProcessingPipeline;
+        this.imageStorage = imageStorage;
+        this.eventPublisher = eventPublisher;
+        this.dedupHits = Counter.builder("image.blob.dedup.hits")
+                .description("Uploads that matched an existing image blob")
+                .register(meterRegistry);
+        this.blobsCreated = Counter.builder("image.blob.created")
+                .description("New image blobs queued for processing")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Store an upload and return the blob it now references (one reference added).
+     */
+    public ImageBlob store(MultipartFile file, String extension) throws IOException {
+        Path spoolFile = imageProcessingPipeline.spoolFileFor(UUID.randomUUID() + ".upload");
+        boolean handedOver = false;
+        try {
+            file.transferTo(spoolFile);
+            String contentHash = sha256(spoolFile);
+
+            Optional<ImageBlob> existing = imageBlobRepository.reference(contentHash);
+            if (existing.isPresent()) {
+                dedupHits.increment();
+                if (existing.get().getProcessingStatus() != ImageProcessingStatus.FAILED) {
+                    return existing.get();
+                }
+                Optional<ImageBlob> retried = imageBlobRepository.retryIfFailed(contentHash);
+                if (retried.isEmpty()) {
+                    // Another upload of the same bytes already queued it again
+                    return imageBlobRepository.findById(contentHash).orElse(existing.get());
+                }
+                queue(retried.get(), spoolFile);
+                handedOver = true;
+                return retried.get();
+            }
+
+            ImageBlob blob = new ImageBlob();
+            blob.setContentHash(contentHash);
+            blob.setImagePath(BLOB_ROOT + contentHash.substring(0, 2) + "/" + contentHash + "." + extension);
+            blob.setContentType(file.getContentType());
+            blob.setFileSize(file.getSize());
+            blob.setProcessingStatus(ImageProcessingStatus.PENDING);
+            blob.setRefCount(1);
+
+            ImageBlob created;
+            try {
+                created = imageBlobRepository.create(blob);
+            } catch (DataIntegrityViolationException e) {
+                // A concurrent upload of the same bytes won the insert
+                dedupHits.increment();
+                return imageBlobRepository.reference(contentHash)
+                        .orElseThrow(() -> new IOException("Image blob disappeared while referencing: " + contentHash));
+            }
+
+            queue(created, spoolFile);
+            handedOver = true;
+            blobsCreated.increment();
+            return created;
+        } finally {
+            if (!handedOver) {
+                Files.deleteIfExists(spoolFile);
+            }
+        }
+    }
+
+    /**
+     * Move the spooled upload to the blob's spool name and publish it for processing.
+     */
+    private void queue(ImageBlob blob, Path spoolFile) throws IOException {
+        String imagePath = blob.getImagePath();
+        String format = imagePath.substring(imagePath.lastIndexOf('.') + 1);
+        Path namedSpoolFile = Files.move(spoolFile,
+                imageProcessingPipeline.spoolFileFor(blob.getContentHash() + "." + format),
+                StandardCopyOption.REPLACE_EXISTING);
+        eventPublisher.publishEvent(new ImageSpooledEvent(blob.getContentHash(), namedSpoolFile,
+                imageProcessingPipeline.resolveOutput(imagePath), format));
+    }
+
+    public Optional<ImageBlob> findBlob(String contentHash) {
+        return imageBlobRepository.findById(contentHash);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageReferencesReleased(ImageReferencesReleasedEvent event) {
+        for (String contentHash : event.contentHashes()) {
+            try {
+                imageBlobRepository.release(contentHash).ifPresent(this::deleteFiles);
+            } catch (Exception e) {
+                log.error("Failed to release image blob {}", contentHash, e);
+            }
+        }
+    }
+
+    private void deleteFiles(ImageBlob blob) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            String path = variant.pathFor(blob.getImagePath());
+            for (String key : List.of(ImageStorage.keyOf(path), ImageStorage.keyOf(ImageVariant.webpPathFor(path)))) {
+                if (imageBlobRepository.findById(blob.getContentHash()).isPresent()) {
+                    // The same bytes were uploaded again after the row was dropped; the files are theirs now
+                    log.info("Image blob {} was re-created, keeping its files", blob.getContentHash());
+                    return;
+                }
+                try {
+                    imageStorage.delete(key);
+                } catch (IOException e) {
+                    log.warn("Failed to delete image blob file {}", key, e);
+                }
+            }
+        }
+        log.info("Removed unreferenced image blob {}", blob.getContentHash());
+    }
+
+    static String sha256(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
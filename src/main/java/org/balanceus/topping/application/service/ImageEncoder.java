@@ -0,0 +1,174 @@
+package org.balanceus.topping.application.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.balanceus.topping.domain.model.ImageVariant;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Encoder stage of the image pipeline. JPEG is written at a configurable quality, optionally
+ * progressive; PNG at maximum deflate compression. No source metadata (EXIF, ICC profiles,
+ * thumbnails) is carried over. When a WebP writer is on the classpath, a {@code .webp} sibling
+ * ({@code abc-card.jpg.webp}) is written next to each rendition and served to browsers that
+ * accept it.
+ */
+@Component
+@Slf4j
+public class ImageEncoder {
+
+    private static final String WEBP_MIME_TYPE = "image/webp";
+
+    private final float jpegQuality;
+    private final boolean progressive;
+    private final float webpQuality;
+    private final boolean webpEnabled;
+
+    public ImageEncoder(@Value("${app.image.encoder.jpeg-quality:0.82}") float jpegQuality,
+                        @Value("${app.image.encoder.progressive:true}") boolean progressive,
+                        @Value("${app.image.encoder.webp.enabled:true}") boolean webpEnabled,
+                        @Value("${app.image.encoder.webp.quality:0.8}") float webpQuality) {
+        this.jpegQuality = jpegQuality;
+        this.progressive = progressive;
+        this.webpQuality = webpQuality;
+        this.webpEnabled = webpEnabled && webpWriterAvailable();
+        if (webpEnabled && !this.webpEnabled) {
+            log.warn("WebP output is enabled but no WebP ImageIO writer is available; serving originals only");
+        }
+    }
+
+    public boolean isWebpEnabled() {
+        return webpEnabled;
+    }
+
+    /**
+     * Write {@code image} to {@code target} in {@code format}, plus the WebP sibling when enabled
+     * and smaller. Each file only appears once fully written.
+     */
+    public void write(BufferedImage image, String format, Path target) throws IOException {
+        String normalized = format.toLowerCase(Locale.ROOT);
+        if (normalized.equals("png")) {
+            ImageWriter writer = writerFor("png");
+            encode(image, writer, pngParam(writer), target);
+        } else {
+            ImageWriter writer = writerFor("jpeg");
+            encode(withoutAlpha(image), writer, jpegParam(writer), target);
+        }
+
+        if (webpEnabled) {
+            Path webp = target.resolveSibling(ImageVariant.webpPathFor(target.getFileName().toString()));
+            try {
+                ImageWriter writer = ImageIO.getImageWritersByMIMEType(WEBP_MIME_TYPE).next();
+                encode(image, writer, webpParam(writer), webp);
+                // Flat graphics can come out larger as lossy WebP; then the original is the better answer
+                if (Files.size(webp) >= Files.size(target)) {
+                    Files.delete(webp);
+                }
+            } catch (IOException | LinkageError e) {
+                // The original is complete, so a missing WebP sibling only costs bytes
+                log.warn("Failed to write WebP rendition {}", webp, e);
+                Files.deleteIfExists(webp);
+            }
+        }
+    }
+
+    private ImageWriteParam jpegParam(ImageWriter writer) {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+        if (progressive && param.canWriteProgressive()) {
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+        }
+        return param;
+    }
+
+    private ImageWriteParam pngParam(ImageWriter writer) {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed()) {
+            // PNG is lossless; quality 0 only selects the strongest deflate level
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.0f);
+        }
+        return param;
+    }
+
+    private ImageWriteParam webpParam(ImageWriter writer) {
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        if (param.canWriteCompressed()) {
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            for (String type : param.getCompressionTypes()) {
+                if (type.toLowerCase(Locale.ROOT).startsWith("lossy")) {
+                    param.setCompressionType(type);
+                }
+            }
+            param.setCompressionQuality(webpQuality);
+        }
+        return param;
+    }
+
+    private static void encode(BufferedImage image, ImageWriter writer, ImageWriteParam param, Path target)
+            throws IOException {
+        Path partial = target.resolveSibling(target.getFileName() + ".part");
+        try {
+            Files.deleteIfExists(partial);
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(partial.toFile())) {
+                writer.setOutput(out);
+                // No stream or image metadata: nothing from the upload is copied into the output
+                writer.write(null, new IIOImage(image, null, null), param);
+            } finally {
+                writer.dispose();
+            }
+            Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    private static ImageWriter writerFor(String formatName) throws IOException {
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(formatName);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for format: " + formatName);
+        }
+        return writers.next();
+    }
+
+    /**
+     * JPEG has no alpha channel; transparent PNG pixels are flattened onto white.
+     */
+    private static BufferedImage withoutAlpha(BufferedImage image) {
+        if (!image.getColorModel().hasAlpha()) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = rgb.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, image.getWidth(), image.getHeight());
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return rgb;
+    }
+
+    private static boolean webpWriterAvailable() {
+        try {
+            return ImageIO.getImageWritersByMIMEType(WEBP_MIME_TYPE).hasNext();
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+}
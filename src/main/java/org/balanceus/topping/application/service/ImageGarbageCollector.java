@@ -0,0 +1,350 @@
+package org.balanceus.topping.application.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.balanceus.topping.domain.model.ImageBlob;
+import org.balanceus.topping.domain.model.ImageVariant;
+import org.balanceus.topping.domain.repository.ImageBlobRepository;
+import org.balanceus.topping.domain.repository.ImageReferenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reconciles the upload tree with the database. Uploaded files that no row references
+ * are moved to a quarantine directory first and only deleted once they have sat there for the
+ * retention period without becoming referenced again, so a bad run can be undone by moving files
+ * back. Blobs whose reference count leaked (e.g. an upload transaction rolled back after the blob
+ * was referenced) are repaired, or dropped when no row has pointed at them for two runs.
+ * All filesystem and database work is paced by {@code app.image.gc.max-operations-per-second}.
+ * <p>
+ * Only the local upload tree is swept. With {@code app.storage.type=s3} the files live in the bucket,
+ * so the file sweeps are skipped and only blob reference counts are reconciled; orphaned objects
+ * there are left to a bucket lifecycle rule.
+ */
+@Service
+@Slf4j
+public class ImageGarbageCollector {
+
+    private final ImageReferenceRepository imageReferenceRepository;
+    private final ImageBlobRepository imageBlobRepository;
+    private final Path uploadRoot;
+    private final boolean localStorage;
+    private final List<Path> scanRoots;
+    private final Path quarantineRoot;
+    private final int chunkSize;
+    private final Duration minAge;
+    private final Duration retention;
+    private final long nanosPerOperation;
+    private final Counter quarantined;
+    private final Counter restored;
+    private final Counter deleted;
+    private final Counter reclaimedBytes;
+    private final Counter blobsRepaired;
+    private final Timer runDuration;
+    private final AtomicLong quarantinedBytes = new AtomicLong();
+
+    /** Blobs with no referencing rows in the previous run, with the reference count seen then. */
+    private Map<String, Integer> unreferencedBlobs = new HashMap<>();
+    private long nextOperationAt;
+
+    public ImageGarbageCollector(ImageReferenceRepository imageReferenceRepository,
+                                 ImageBlobRepository imageBlobRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.upload.path}") String uploadPath,
+                                 @Value("${app.storage.type:local}") String storageType,
+                                 @Value("${app.image.gc.roots:image/stores,image/products,image/blobs}") List<String> roots,
+                                 @Value("${app.image.gc.quarantine-path:${app.upload.path}/quarantine}") String quarantinePath,
+                                 @Value("${app.image.gc.chunk-size:500}") int chunkSize,
+                                 @Value("${app.image.gc.min-age:PT6H}") Duration minAge,
+                                 @Value("${app.image.gc.retention:P7D}") Duration retention,
+                                 @Value("${app.image.gc.max-operations-per-second:200}") int maxOperationsPerSecond) {
+        this.imageReferenceRepository = imageReferenceRepository;
+        this.imageBlobRepository = imageBlobRepository;
+        this.uploadRoot = Paths.get(uploadPath).toAbsolutePath().normalize();
+        this.localStorage = "local".equalsIgnoreCase(storageType);
+        if (!localStorage) {
+            log.info("Image storage is '{}': garbage collection reconciles blobs only, stored objects are not swept",
+                    storageType);
+        }
+        this.scanRoots = roots.stream().map(root -> uploadRoot.resolve(root).normalize()).toList();
+        this.quarantineRoot = Paths.get(quarantinePath).toAbsolutePath().normalize();
+        this.chunkSize = Math.max(1, chunkSize);
+        this.minAge = minAge;
+        this.retention = retention;
+        this.nanosPerOperation = TimeUnit.SECONDS.toNanos(1) / Math.max(1, maxOperationsPerSecond);
+
+        this.quarantined = Counter.builder("image.gc.quarantined")
+                .description("Unreferenced image files moved to quarantine")
+                .register(meterRegistry);
+        this.restored = Counter.builder("image.gc.restored")
+                .description("Quarantined image files referenced again and moved back")
+                .register(meterRegistry);
+        this.deleted = Counter.builder("image.gc.deleted")
+                .description("Quarantined image files deleted after the retention period")
+                .register(meterRegistry);
+        this.reclaimedBytes = Counter.builder("image.gc.reclaimed")
+                .baseUnit("bytes")
+                .description("Disk space reclaimed by deleting orphaned image files")
+                .register(meterRegistry);
+        this.blobsRepaired = Counter.builder("image.gc.blobs.repaired")
+                .description("Image blobs whose reference count was corrected or that were dropped")
+                .register(meterRegistry);
+        this.runDuration = Timer.builder("image.gc.duration")
+                .description("Time per garbage collection run")
+                .register(meterRegistry);
+        Gauge.builder("image.gc.quarantine.size", quarantinedBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .description("Bytes currently held in quarantine")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.image.gc.cron:0 45 3 * * *}")
+    public synchronized void run() {
+        runDuration.record(() -> {
+            try {
+                reconcileBlobs();
+                if (localStorage) {
+                    quarantineOrphans();
+                    purgeQuarantine();
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("Image garbage collection failed", e);
+            }
+        });
+    }
+
+    void reconcileBlobs() {
+        Map<String, Integer> unreferenced = new HashMap<>();
+        String after = "";
+        List<ImageBlob> page;
+        do {
+            pace();
+            page = imageBlobRepository.findPageAfter(after, chunkSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            Map<String, Long> rows = imageReferenceRepository.countRowsByContentHash(
+                    page.stream().map(ImageBlob::getContentHash).toList());
+            LocalDateTime settledBefore = LocalDateTime.now().minus(minAge);
+            for (ImageBlob blob : page) {
+                if (blob.getCreatedAt() != null && blob.getCreatedAt().isAfter(settledBefore)) {
+                    continue;
+                }
+                int rowCount = rows.getOrDefault(blob.getContentHash(), 0L).intValue();
+                if (rowCount > blob.getRefCount()) {
+                    // Too low a count would delete files that rows still show; raising is always safe
+                    pace();
+                    imageBlobRepository.raiseRefCount(blob.getContentHash(), rowCount);
+                    blobsRepaired.increment();
+                } else if (rowCount == 0) {
+                    Integer previous = unreferencedBlobs.get(blob.getContentHash());
+                    if (previous != null && previous.equals(blob.getRefCount())) {
+                        pace();
+                        imageBlobRepository.deleteIfRefCount(blob.getContentHash(), previous)
+                                .ifPresent(dropped -> blobsRepaired.increment());
+                    } else {
+                        unreferenced.put(blob.getContentHash(), blob.getRefCount());
+                    }
+                }
+            }
+            after = page.get(page.size() - 1).getContentHash();
+        } while (page.size() == chunkSize);
+        unreferencedBlobs = unreferenced;
+    }
+
+    void quarantineOrphans() throws IOException {
+        for (Path root : scanRoots) {
+            if (Files.isDirectory(root)) {
+                quarantineOrphans(root);
+            }
+        }
+    }
+
+    private void quarantineOrphans(Path root) throws IOException {
+        FileTime cutoff = FileTime.from(Instant.now().minus(minAge));
+        List<Path> chunk = new ArrayList<>(chunkSize);
+        Files.walkFileTree(root, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile() && attrs.lastModifiedTime().compareTo(cutoff) < 0
+                        && !file.getFileName().toString().endsWith(".part")) {
+                    chunk.add(file);
+                    if (chunk.size() >= chunkSize) {
+                        quarantineUnreferenced(chunk);
+                        chunk.clear();
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                log.warn("Skipping unreadable upload path {}", file, e);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        quarantineUnreferenced(chunk);
+    }
+
+    void purgeQuarantine() throws IOException {
+        if (!Files.isDirectory(quarantineRoot)) {
+            quarantinedBytes.set(0);
+            return;
+        }
+        FileTime expiry = FileTime.from(Instant.now().minus(retention));
+        List<Path> chunk = new ArrayList<>(chunkSize);
+        AtomicLong remaining = new AtomicLong();
+        Files.walkFileTree(quarantineRoot, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (!attrs.isRegularFile()) {
+                    return FileVisitResult.CONTINUE;
+                }
+                if (attrs.lastModifiedTime().compareTo(expiry) >= 0) {
+                    remaining.addAndGet(attrs.size());
+                    return FileVisitResult.CONTINUE;
+                }
+                chunk.add(file);
+                if (chunk.size() >= chunkSize) {
+                    deleteOrRestore(chunk);
+                    chunk.clear();
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) {
+                if (!dir.equals(quarantineRoot)) {
+                    try {
+                        Files.deleteIfExists(dir);
+                    } catch (IOException notEmpty) {
+                        // Still holds files inside the retention period
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        deleteOrRestore(chunk);
+        quarantinedBytes.set(remaining.get());
+    }
+
+    private void quarantineUnreferenced(List<Path> files) {
+        Set<Path> orphans = unreferenced(files, uploadRoot);
+        for (Path file : orphans) {
+            pace();
+            Path target = quarantineRoot.resolve(uploadRoot.relativize(file));
+            try {
+                long size = Files.size(file);
+                Files.createDirectories(target.getParent());
+                Files.move(file, target, StandardCopyOption.REPLACE_EXISTING);
+                // Retention counts from the moment the file entered quarantine
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                quarantined.increment();
+                quarantinedBytes.addAndGet(size);
+                log.info("Quarantined unreferenced image file {}", file);
+            } catch (IOException e) {
+                log.warn("Failed to quarantine {}", file, e);
+            }
+        }
+    }
+
+    private void deleteOrRestore(List<Path> files) {
+        Set<Path> orphans = unreferenced(files, quarantineRoot);
+        for (Path file : files) {
+            pace();
+            try {
+                if (orphans.contains(file)) {
+                    long size = Files.size(file);
+                    Files.delete(file);
+                    deleted.increment();
+                    reclaimedBytes.increment(size);
+                } else {
+                    Path original = uploadRoot.resolve(quarantineRoot.relativize(file));
+                    Files.createDirectories(original.getParent());
+                    Files.move(file, original, StandardCopyOption.REPLACE_EXISTING);
+                    restored.increment();
+                    log.warn("Restored quarantined image file {} that is referenced again", original);
+                }
+            } catch (IOException e) {
+                log.warn("Failed to purge quarantined file {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * Files in {@code files} (all below {@code root}) whose web path, or the original path for a
+     * variant such as {@code abc-card.jpg}, is not referenced by any row.
+     */
+    private Set<Path> unreferenced(List<Path> files, Path root) {
+        if (files.isEmpty()) {
+            return Set.of();
+        }
+        Map<Path, String> referencePaths = new HashMap<>();
+        Set<String> lookup = new HashSet<>();
+        for (Path file : files) {
+            String webPath = "/" + root.relativize(file).toString().replace(File.separatorChar, '/');
+            String rendition = webPath.endsWith(ImageVariant.WEBP_SUFFIX)
+                    ? webPath.substring(0, webPath.length() - ImageVariant.WEBP_SUFFIX.length())
+                    : webPath;
+            String original = ImageVariant.originalPathOf(rendition);
+            String referencePath = original != null ? original : rendition;
+            referencePaths.put(file, referencePath);
+            lookup.add(webPath);
+            lookup.add(referencePath);
+        }
+        pace();
+        Set<String> referenced = imageReferenceRepository.findReferencedPaths(lookup);
+        Set<Path> orphans = new HashSet<>();
+        referencePaths.forEach((file, referencePath) -> {
+            String webPath = "/" + root.relativize(file).toString().replace(File.separatorChar, '/');
+            if (!referenced.contains(referencePath) && !referenced.contains(webPath)) {
+                orphans.add(file);
+            }
+        });
+        return orphans;
+    }
+
+    /**
+     * Blocks until the next operation is allowed under the configured rate.
+     */
+    private void pace() {
+        long now = System.nanoTime();
+        long wait = nextOperationAt - now;
+        if (wait > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Image garbage collection interrupted", e);
+            }
+        }
+        nextOperationAt = Math.max(now, nextOperationAt) + nanosPerOperation;
+    }
+}
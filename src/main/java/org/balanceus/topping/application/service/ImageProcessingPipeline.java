@@ -0,0 +1,343 @@
+package org.balanceus.topping.application.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.balanceus.topping.application.dto.ImageStatusView;
+import org.balanceus.topping.application.event.ImageSpooledEvent;
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.domain.model.ImageBlob;
+import org.balanceus.topping.domain.model.ImageProcessingStatus;
+import org.balanceus.topping.domain.model.ImageVariant;
+import org.balanceus.topping.domain.model.ProductImage;
+import org.balanceus.topping.domain.model.StoreImage;
+import org.balanceus.topping.domain.repository.ImageBlobRepository;
+import org.balanceus.topping.domain.repository.ProductImageRepository;
+import org.balanceus.topping.domain.repository.StoreImageRepository;
+import org.balanceus.topping.domain.storage.ImageStorage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background stage of the upload pipeline: takes spooled blobs off the request thread, processes
+ * them on the bounded image worker pool and flips the blob and every image row referencing it to
+ * READY or FAILED. Completion is pushed to {@code /topic/images/{imageId}} and can be polled via
+ * {@link #getStatus}.
+ * <p>
+ * A full worker queue rejects new jobs instead of processing them on the submitting thread. The
+ * blob stays PENDING with its spool file in place and is resubmitted by the next
+ * {@link #resubmitRejected} sweep.
+ */
+@Service
+@Slf4j
+public class ImageProcessingPipeline {
+
+    private static final String STATUS_TOPIC = "/topic/images/";
+
+    private final ImageProcessor imageProcessor;
+    private final ImageStorage imageStorage;
+    private final ImageBlobRepository imageBlobRepository;
+    private final StoreImageRepository storeImageRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWait;
+    private final Counter rejections;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean rejected = new AtomicBoolean();
+    private final Path uploadRoot;
+    private final Path spoolDirectory;
+
+    public ImageProcessingPipeline(ImageProcessor imageProcessor,
+                                   ImageStorage imageStorage,
+                                   ImageBlobRepository imageBlobRepository,
+                                   StoreImageRepository storeImageRepository,
+                                   ProductImageRepository productImageRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   SimpMessagingTemplate messagingTemplate,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("imageProcessingExecutor") ThreadPoolTaskExecutor executor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.upload.path}") String uploadPath,
+                                   @Value("${app.image.spool-path:${app.upload.path}/spool}") String spoolPath) {
+        this.imageProcessor = imageProcessor;
+        this.imageStorage = imageStorage;
+        this.imageBlobRepository = imageBlobRepository;
+        this.storeImageRepository = storeImageRepository;
+        this.productImageRepository = productImageRepository;
+        this.eventPublisher = eventPublisher;
+        this.messagingTemplate = messagingTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.uploadRoot = Paths.get(uploadPath).normalize();
+        this.spoolDirectory = Paths.get(spoolPath).normalize();
+        this.queueWait = Timer.builder("image.processing.queue.wait")
+                .description("Time spooled uploads wait for an image worker")
+                .register(meterRegistry);
+        this.rejections = Counter.builder("image.processing.rejected")
+                .description("Spooled uploads left pending because the image worker queue was full")
+                .register(meterRegistry);
+
+        Gauge.builder("image.processing.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Spooled uploads waiting for an image worker")
+                .register(meterRegistry);
+        Gauge.builder("image.processing.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Image workers currently processing")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserve a spool file for an upload; the caller streams the raw bytes into it.
+     */
+    public Path spoolFileFor(String filename) throws IOException {
+        Files.createDirectories(spoolDirectory);
+        return spoolDirectory.resolve(filename);
+    }
+
+    /**
+     * Local working location for a web path such as {@code /image/blobs/ab/{hash}.jpg}; processed
+     * files are written here and then handed to {@link ImageStorage}.
+     */
+    public Path resolveOutput(String webPath) {
+        return uploadRoot.resolve(webPath.substring(1)).normalize();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onImageSpooled(ImageSpooledEvent event) {
+        submit(event);
+    }
+
+    public Optional<ImageStatusView> getStatus(UUID imageId) {
+        Optional<ImageStatusView> storeImage = storeImageRepository.findByUuid(imageId)
+                .map(image -> new ImageStatusView(image.getUuid(), image.getImagePath(), statusOf(image.getProcessingStatus())));
+        if (storeImage.isPresent()) {
+            return storeImage;
+        }
+        return productImageRepository.findByUuid(imageId)
+                .map(image -> new ImageStatusView(image.getUuid(), image.getImagePath(), statusOf(image.getProcessingStatus())));
+    }
+
+    /**
+     * Resume blobs whose spool file survived a restart.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumePending() {
+        int resumed = 0;
+        for (ImageBlob blob : imageBlobRepository.findByProcessingStatus(ImageProcessingStatus.PENDING)) {
+            ImageSpooledEvent job = pendingJob(blob);
+            if (Files.exists(job.spoolFile())) {
+                if (!submit(job)) {
+                    break;
+                }
+                resumed++;
+            } else {
+                log.warn("Spool file missing for pending image blob {}, marking as failed", blob.getContentHash());
+                complete(job, ImageProcessingStatus.FAILED, Set.of());
+            }
+        }
+        if (resumed > 0) {
+            log.info("Resumed {} pending image jobs", resumed);
+        }
+    }
+
+    /**
+     * Resubmit blobs whose job was rejected by a full worker queue. Only spool files that still
+     * exist and are not in flight are picked up; a finished job has already deleted its spool file.
+     */
+    @Scheduled(fixedDelayString = "${app.image.processing.resubmit-interval:PT1M}")
+    public void resubmitRejected() {
+        if (!rejected.getAndSet(false)) {
+            return;
+        }
+        int resubmitted = 0;
+        for (ImageBlob blob : imageBlobRepository.findByProcessingStatus(ImageProcessingStatus.PENDING)) {
+            ImageSpooledEvent job = pendingJob(blob);
+            if (inFlight.contains(job.contentHash()) || !Files.exists(job.spoolFile())) {
+                continue;
+            }
+            if (!submit(job)) {
+                break;
+            }
+            resubmitted++;
+        }
+        if (resubmitted > 0) {
+            log.info("Resubmitted {} rejected image jobs", resubmitted);
+        }
+    }
+
+    private ImageSpooledEvent pendingJob(ImageBlob blob) {
+        String imagePath = blob.getImagePath();
+        String format = imagePath.substring(imagePath.lastIndexOf('.') + 1);
+        Path spoolFile = spoolDirectory.resolve(blob.getContentHash() + "." + format);
+        return new ImageSpooledEvent(blob.getContentHash(), spoolFile, resolveOutput(imagePath), format);
+    }
+
+    /**
+     * Hand a job to the worker pool. Returns false when the queue is full; the blob then stays
+     * PENDING for the next sweep.
+     */
+    private boolean submit(ImageSpooledEvent job) {
+        if (!inFlight.add(job.contentHash())) {
+            return true;
+        }
+        long enqueuedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                try {
+                    queueWait.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                    process(job);
+                } finally {
+                    inFlight.remove(job.contentHash());
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(job.contentHash());
+            rejected.set(true);
+            rejections.increment();
+            log.warn("Image worker queue full, leaving blob {} pending", job.contentHash());
+            return false;
+        }
+    }
+
+    private void process(ImageSpooledEvent job) {
+        if (!Files.exists(job.spoolFile())) {
+            // Already processed by an earlier submission of the same blob
+            log.debug("Spool file for blob {} is gone, skipping", job.contentHash());
+            return;
+        }
+        Timer.Sample sample = Timer.start(meterRegistry);
+        ImageProcessingStatus outcome;
+        Set<ImageVariant> variants = Set.of();
+        try {
+            variants = imageProcessor.process(job.spoolFile(), job.outputFile(), job.format());
+            String contentType = "png".equalsIgnoreCase(job.format()) ? "image/png" : "image/jpeg";
+            for (ImageVariant variant : variants) {
+                Path file = variantFile(job.outputFile(), variant);
+                imageStorage.put(storageKey(file), file, contentType);
+                Path webp = webpFile(file);
+                if (Files.exists(webp)) {
+                    imageStorage.put(storageKey(webp), webp, "image/webp");
+                }
+            }
+            outcome = ImageProcessingStatus.READY;
+        } catch (Exception e) {
+            log.error("Image processing failed for blob {}", job.contentHash(), e);
+            outcome = ImageProcessingStatus.FAILED;
+        } finally {
+            deleteQuietly(job.spoolFile());
+        }
+        sample.stop(Timer.builder("image.processing.duration")
+                .description("Decode, resize and encode time per upload")
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry));
+
+        complete(job, outcome, variants);
+    }
+
+    /**
+     * Record the outcome on the blob and on every image row referencing it, then notify.
+     */
+    private void complete(ImageSpooledEvent job, ImageProcessingStatus outcome, Set<ImageVariant> variants) {
+        List<ImageStatusView> updates = new ArrayList<>();
+        Set<UUID> storeIds = new LinkedHashSet<>();
+        Boolean found = transactionTemplate.execute(status -> {
+            Optional<ImageBlob> blob = imageBlobRepository.findByIdForUpdate(job.contentHash());
+            if (blob.isEmpty()) {
+                return false;
+            }
+            blob.get().setProcessingStatus(outcome);
+            blob.get().setVariants(variants);
+
+            for (StoreImage image : storeImageRepository.findByContentHash(job.contentHash())) {
+                image.setProcessingStatus(outcome);
+                image.setVariants(variants);
+                updates.add(new ImageStatusView(image.getUuid(), image.getImagePath(), outcome));
+                storeIds.add(image.getStore().getUuid());
+            }
+            for (ProductImage image : productImageRepository.findByContentHash(job.contentHash())) {
+                image.setProcessingStatus(outcome);
+                image.setVariants(variants);
+                updates.add(new ImageStatusView(image.getUuid(), image.getImagePath(), outcome));
+                if (image.getProduct().getStore() != null) {
+                    storeIds.add(image.getProduct().getStore().getUuid());
+                }
+            }
+            return true;
+        });
+
+        if (!Boolean.TRUE.equals(found)) {
+            // Every reference was deleted while the blob was being processed
+            for (ImageVariant variant : variants) {
+                Path file = variantFile(job.outputFile(), variant);
+                for (String key : List.of(storageKey(file), storageKey(webpFile(file)))) {
+                    try {
+                        imageStorage.delete(key);
+                    } catch (IOException e) {
+                        log.warn("Failed to delete {}", key, e);
+                    }
+                }
+            }
+            return;
+        }
+
+        storeIds.forEach(storeId -> eventPublisher.publishEvent(new StoreContentChangedEvent(storeId)));
+        updates.forEach(update -> messagingTemplate.convertAndSend(STATUS_TOPIC + update.imageId(), update));
+    }
+
+    private String storageKey(Path file) {
+        return uploadRoot.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+
+    private static Path variantFile(Path outputFile, ImageVariant variant) {
+        return outputFile.resolveSibling(variant.pathFor(outputFile.getFileName().toString()));
+    }
+
+    private static Path webpFile(Path file) {
+        return file.resolveSibling(ImageVariant.webpPathFor(file.getFileName().toString()));
+    }
+
+    private static ImageProcessingStatus statusOf(ImageProcessingStatus status) {
+        return status != null ? status : ImageProcessingStatus.READY;
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete {}", path, e);
+        }
+    }
+}
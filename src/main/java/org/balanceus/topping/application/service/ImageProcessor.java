@@ -0,0 +1,129 @@
+package org.balanceus.topping.application.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.balanceus.topping.domain.model.ImageVariant;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Decode, downscale and re-encode a spooled upload into its {@link ImageVariant}s.
+ * Runs on the image worker pool.
+ */
+@Component
+@Slf4j
+public class ImageProcessor {
+
+    private final ImageEncoder imageEncoder;
+
+    // Header-declared size limit, checked before any pixel is decoded (roughly 200MB as ARGB)
+    static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+    public ImageProcessor(ImageEncoder imageEncoder) {
+        this.imageEncoder = imageEncoder;
+    }
+
+    /**
+     * Process {@code source} into {@code target} (the detail rendition) plus the smaller variants
+     * next to it. Each file only appears once fully written. Variants that would not be smaller
+     * than the next larger one are skipped and served from that one instead.
+     */
+    public Set<ImageVariant> process(Path source, Path target, String format) throws IOException {
+        BufferedImage image = decode(source, ImageVariant.DETAIL.getMaxWidth(), ImageVariant.DETAIL.getMaxHeight());
+
+        Files.createDirectories(target.getParent());
+        Set<ImageVariant> written = EnumSet.noneOf(ImageVariant.class);
+        List<ImageVariant> largestFirst = List.of(ImageVariant.DETAIL, ImageVariant.CARD, ImageVariant.THUMB);
+        for (ImageVariant variant : largestFirst) {
+            boolean oversized = image.getWidth() > variant.getMaxWidth() || image.getHeight() > variant.getMaxHeight();
+            if (variant != ImageVariant.DETAIL && !oversized) {
+                continue;
+            }
+            // Each step downscales the previous rendition, which is both cheaper and smoother
+            if (oversized) {
+                image = resizeImage(image, variant.getMaxWidth(), variant.getMaxHeight());
+            }
+            imageEncoder.write(image, format, target.resolveSibling(variant.pathFor(target.getFileName().toString())));
+            written.add(variant);
+        }
+        return written;
+    }
+
+    /**
+     * Decode straight from the spooled file, reading the dimensions from the header first and
+     * letting the reader skip source pixels so that a 6000x4000 photo is materialized at roughly
+     * 2000x1333 instead of full resolution. The subsampled image never drops below the requested
+     * box, so the final resize still does the smoothing.
+     */
+    BufferedImage decode(Path source, int maxWidth, int maxHeight) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) {
+                throw new IOException("이미지 파일을 읽을 수 없습니다.");
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new IOException("이미지 파일을 읽을 수 없습니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IOException("이미지 해상도가 너무 큽니다: " + width + "x" + height);
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = subsamplingFactor(width, height, maxWidth, maxHeight);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    static int subsamplingFactor(int width, int height, int maxWidth, int maxHeight) {
+        return Math.max(1, Math.min(width / maxWidth, height / maxHeight));
+    }
+
+    BufferedImage resizeImage(BufferedImage originalImage, int maxWidth, int maxHeight) {
+        int originalWidth = originalImage.getWidth();
+        int originalHeight = originalImage.getHeight();
+        
+        // Fit inside the bounding box while maintaining aspect ratio
+        double scale = Math.min(1.0, Math.min((double) maxWidth / originalWidth, (double) maxHeight / originalHeight));
+        int newWidth = Math.max(1, (int) Math.round(originalWidth * scale));
+        int newHeight = Math.max(1, (int) Math.round(originalHeight * scale));
+        
+        BufferedImage resizedImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = resizedImage.createGraphics();
+        
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        
+        g2d.drawImage(originalImage, 0, 0, newWidth, newHeight, null);
+        g2d.dispose();
+        
+        return resizedImage;
+    }
+}
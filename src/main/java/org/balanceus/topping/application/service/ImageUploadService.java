@@ -1,83 +1,179 @@
 package org.balanceus.topping.application.service;
 
-import java.awt.Graphics2D;
-import java.awt.RenderingHints;
-import java.awt.image.BufferedImage;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-
-import javax.imageio.ImageIO;
-
-import org.balanceus.topping.domain.model.CollaborationProposal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import org.balanceus.topping.application.event.ImageReferencesReleasedEvent;
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.domain.model.ImageBlob;
+import org.balanceus.topping.domain.model.ImageProcessingStatus;
+import org.balanceus.topping.domain.model.ImageVariant;
 import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.ProductImage;
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.StoreImage;
 import org.balanceus.topping.domain.repository.ProductImageRepository;
 import org.balanceus.topping.domain.repository.StoreImageRepository;
+import org.balanceus.topping.domain.storage.ImageStorage;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class ImageUploadService {
 
     private final StoreImageRepository storeImageRepository;
     private final ProductImageRepository productImageRepository;
-
-    @Value("${app.upload.path}")
-    private String uploadPath;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageBlobService imageBlobService;
+    private final ImageStorage imageStorage;
+    private final Executor imageUploadExecutor;
+    private final int perRequestConcurrency;
+
+    public ImageUploadService(StoreImageRepository storeImageRepository,
+                              ProductImageRepository productImageRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              ImageBlobService imageBlobService,
+                              ImageStorage imageStorage,
+                              @Qualifier("imageUploadExecutor") Executor imageUploadExecutor,
+                              @Value("${app.image.upload.per-request-concurrency:3}") int perRequestConcurrency) {
+        this.storeImageRepository = storeImageRepository;
+        this.productImageRepository = productImageRepository;
+        this.eventPublisher = eventPublisher;
+        this.imageBlobService = imageBlobService;
+        this.imageStorage = imageStorage;
+        this.imageUploadExecutor = imageUploadExecutor;
+        this.perRequestConcurrency = Math.max(1, perRequestConcurrency);
+    }
 
     private static final Set<String> ALLOWED_CONTENT_TYPES = Set.of(
             "image/jpeg", "image/jpg", "image/png"
     );
 
     private static final long MAX_FILE_SIZE = 10L * 1024 * 1024; // 10MB
-    private static final int MAX_WIDTH = 1920;
-    private static final int MAX_HEIGHT = 1080;
 
-    public List<String> uploadStoreImages(Store store, MultipartFile[] files, StoreImage.ImageType imageType) {
-        List<String> uploadedPaths = new ArrayList<>();
-        
-        for (MultipartFile file : files) {
-            try {
+    /**
+     * Spools and hashes the files of one request in parallel (at most {@code perRequestConcurrency}
+     * at a time on the shared upload pool), then inserts all rows in a single batch. Either every
+     * file is stored or none is.
+     */
+    public List<StoreImage> uploadStoreImages(Store store, MultipartFile[] files, StoreImage.ImageType imageType) {
+        List<ImageBlob> blobs = List.of();
+        try {
+            for (MultipartFile file : files) {
                 validateImageFile(file);
-                String imagePath = saveImageFile(file, "stores", store.getUuid().toString());
-                
+            }
+            blobs = storeBlobs(files);
+
+            int displayOrder = storeImageRepository.findMaxDisplayOrderByStore(store) + 1;
+            List<StoreImage> storeImages = new ArrayList<>(files.length);
+            for (int i = 0; i < files.length; i++) {
+                MultipartFile file = files[i];
+                ImageBlob blob = blobs.get(i);
+
                 StoreImage storeImage = new StoreImage();
                 storeImage.setStore(store);
-                storeImage.setImagePath(imagePath);
+                storeImage.setImagePath(blob.getImagePath());
+                storeImage.setContentHash(blob.getContentHash());
                 storeImage.setOriginalFilename(file.getOriginalFilename());
                 storeImage.setImageType(imageType);
                 storeImage.setFileSize(file.getSize());
                 storeImage.setContentType(file.getContentType());
-                storeImage.setDisplayOrder(getNextDisplayOrder(store));
-                
-                storeImageRepository.save(storeImage);
-                uploadedPaths.add(imagePath);
-                
-                log.info("Successfully uploaded store image: {} for store: {}", imagePath, store.getUuid());
-                
-            } catch (Exception e) {
-                log.error("Failed to upload image for store: {}", store.getUuid(), e);
-                throw new RuntimeException("이미지 업로드에 실패했습니다. 파일 크기와 형식을 확인한 후 다시 시도해주세요.");
+                storeImage.setDisplayOrder(displayOrder++);
+                storeImage.setProcessingStatus(blob.getProcessingStatus());
+                storeImage.setVariants(blob.getVariants());
+                storeImages.add(storeImage);
             }
+
+            List<StoreImage> uploadedImages = storeImageRepository.saveAll(storeImages);
+            blobs = List.of();
+
+            List<StoreImage> caughtUp = uploadedImages.stream()
+                    .filter(saved -> saved.getProcessingStatus() == ImageProcessingStatus.PENDING)
+                    .filter(saved -> catchUpWithBlob(saved.getContentHash(), saved::setProcessingStatus, saved::setVariants))
+                    .toList();
+            if (!caughtUp.isEmpty()) {
+                storeImageRepository.saveAll(caughtUp);
+            }
+
+            log.info("Stored {} store images for store: {}", uploadedImages.size(), store.getUuid());
+            eventPublisher.publishEvent(new StoreContentChangedEvent(store.getUuid()));
+            return uploadedImages;
+
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            releaseUnsaved(blobs);
+            log.error("Failed to upload images for store: {}", store.getUuid(), e);
+            throw new RuntimeException("이미지 업로드에 실패했습니다. 파일 크기와 형식을 확인한 후 다시 시도해주세요.");
+        }
+    }
+
+    /**
+     * Returns the blobs in file order. On failure every blob already stored for this request is
+     * released before the error is rethrown; no further files are started once one has failed.
+     */
+    private List<ImageBlob> storeBlobs(MultipartFile[] files) throws InterruptedException {
+        Semaphore permits = new Semaphore(perRequestConcurrency);
+        List<CompletableFuture<ImageBlob>> futures = new ArrayList<>(files.length);
+        InterruptedException interrupted = null;
+        for (MultipartFile file : files) {
+            if (futures.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                break;
+            }
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                interrupted = e;
+                break;
+            }
+            futures.add(CompletableFuture
+                    .supplyAsync(() -> storeBlob(file), imageUploadExecutor)
+                    .whenComplete((blob, error) -> permits.release()));
+        }
+
+        List<ImageBlob> blobs = new ArrayList<>(futures.size());
+        Throwable failure = null;
+        for (CompletableFuture<ImageBlob> future : futures) {
+            try {
+                blobs.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                }
+            }
+        }
+        if (failure == null && interrupted == null) {
+            return blobs;
+        }
+        releaseUnsaved(blobs);
+        if (interrupted != null) {
+            throw interrupted;
+        }
+        throw new IllegalStateException("Image upload failed", failure);
+    }
+
+    private ImageBlob storeBlob(MultipartFile file) {
+        try {
+            return imageBlobService.store(file, getFileExtension(file.getOriginalFilename()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        
-        return uploadedPaths;
     }
 
 
@@ -95,75 +191,33 @@ public class ImageUploadService {
         }
     }
 
-    private String saveImageFile(MultipartFile file, String category, String entityId) throws IOException {
-        // Create directory structure: /image/{category}/{entityId}/
-        Path directoryPath = Paths.get(uploadPath, "image", category, entityId);
-        
-        // Create directories if they don't exist
-        Files.createDirectories(directoryPath);
-        
-        // Generate unique filename
-        String originalFilename = file.getOriginalFilename();
-        String extension = getFileExtension(originalFilename);
-        String uniqueFilename = UUID.randomUUID().toString() + "." + extension;
-        
-        // Full file path on filesystem
-        Path filePath = directoryPath.resolve(uniqueFilename);
-        
-        // Web path for serving via resource handler (/image/{category}/{entityId}/{filename})
-        String webPath = String.format("/image/%s/%s/%s", category, entityId, uniqueFilename);
-        
-        // Process and save image
-        BufferedImage processedImage = processImage(file);
-        ImageIO.write(processedImage, extension, filePath.toFile());
-        
-        log.info("Saved image file: {} -> {}", filePath, webPath);
-        
-        return webPath;
+    /**
+     * A blob still PENDING when the row was built may have finished before the row was saved,
+     * in which case the pipeline could not update it. Returns {@code true} if the row changed.
+     */
+    private boolean catchUpWithBlob(String contentHash, Consumer<ImageProcessingStatus> status,
+                                    Consumer<Set<ImageVariant>> variants) {
+        return imageBlobService.findBlob(contentHash)
+                .filter(blob -> blob.getProcessingStatus() != ImageProcessingStatus.PENDING)
+                .map(blob -> {
+                    status.accept(blob.getProcessingStatus());
+                    variants.accept(blob.getVariants());
+                    return true;
+                })
+                .orElse(false);
     }
 
-    private BufferedImage processImage(MultipartFile file) throws IOException {
-        BufferedImage originalImage = ImageIO.read(file.getInputStream());
-        
-        if (originalImage == null) {
-            throw new IOException("이미지 파일을 읽을 수 없습니다.");
-        }
-        
-        // Resize if necessary
-        if (originalImage.getWidth() > MAX_WIDTH || originalImage.getHeight() > MAX_HEIGHT) {
-            return resizeImage(originalImage, MAX_WIDTH, MAX_HEIGHT);
+    private void releaseUnsaved(ImageBlob blob) {
+        if (blob != null) {
+            eventPublisher.publishEvent(new ImageReferencesReleasedEvent(List.of(blob.getContentHash())));
         }
-        
-        return originalImage;
     }
 
-    private BufferedImage resizeImage(BufferedImage originalImage, int maxWidth, int maxHeight) {
-        int originalWidth = originalImage.getWidth();
-        int originalHeight = originalImage.getHeight();
-        
-        // Calculate new dimensions maintaining aspect ratio
-        double aspectRatio = (double) originalWidth / originalHeight;
-        int newWidth, newHeight;
-        
-        if (originalWidth > originalHeight) {
-            newWidth = Math.min(maxWidth, originalWidth);
-            newHeight = (int) (newWidth / aspectRatio);
-        } else {
-            newHeight = Math.min(maxHeight, originalHeight);
-            newWidth = (int) (newHeight * aspectRatio);
+    private void releaseUnsaved(List<ImageBlob> blobs) {
+        if (!blobs.isEmpty()) {
+            eventPublisher.publishEvent(new ImageReferencesReleasedEvent(
+                    blobs.stream().map(ImageBlob::getContentHash).toList()));
         }
-        
-        BufferedImage resizedImage = new BufferedImage(newWidth, newHeight, BufferedImage.TYPE_INT_RGB);
-        Graphics2D g2d = resizedImage.createGraphics();
-        
-        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
-        g2d.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        
-        g2d.drawImage(originalImage, 0, 0, newWidth, newHeight, null);
-        g2d.dispose();
-        
-        return resizedImage;
     }
 
     private String getFileExtension(String filename) {
@@ -173,10 +227,6 @@ public class ImageUploadService {
         return filename.substring(filename.lastIndexOf('.') + 1).toLowerCase();
     }
 
-    private int getNextDisplayOrder(Store store) {
-        return (int) storeImageRepository.countByStore(store);
-    }
-
 
     public void deleteStoreImage(UUID imageId) {
         try {
@@ -184,12 +234,23 @@ public class ImageUploadService {
             StoreImage storeImage = storeImageRepository.findByUuid(imageId)
                     .orElseThrow(() -> new RuntimeException("이미지를 찾을 수 없습니다."));
             
-            // Delete the physical file
-            deletePhysicalFile(storeImage.getImagePath());
-            
             // Delete the database record
             storeImageRepository.deleteByUuid(imageId);
             
+            if (storeImage.getContentHash() != null) {
+                // Shared blob: files go away once the last reference is released
+                eventPublisher.publishEvent(new ImageReferencesReleasedEvent(List.of(storeImage.getContentHash())));
+            } else {
+                // Images stored before content addressing own their files
+                deletePhysicalFile(storeImage.getImagePath());
+                for (ImageVariant variant : storeImage.getVariants()) {
+                    if (variant != ImageVariant.DETAIL) {
+                        deletePhysicalFile(variant.pathFor(storeImage.getImagePath()));
+                    }
+                }
+            }
+            eventPublisher.publishEvent(new StoreContentChangedEvent(storeImage.getStore().getUuid()));
+            
             log.info("Successfully deleted store image: {} (path: {})", imageId, storeImage.getImagePath());
         } catch (Exception e) {
             log.error("Failed to delete store image: {}", imageId, e);
@@ -199,7 +260,7 @@ public class ImageUploadService {
 
 
     /**
-     * Delete physical file from filesystem
+     * Delete an image file from storage
      */
     private void deletePhysicalFile(String imagePath) {
         try {
@@ -215,23 +276,9 @@ public class ImageUploadService {
                 throw new SecurityException("Invalid image path");
             }
 
-            // Convert web path to filesystem path 
-            Path fileToDelete = Paths.get(uploadPath, imagePath).normalize();
-            Path baseUploadPath = Paths.get(uploadPath).normalize();
-
-            // Ensure the file is within the upload directory (additional security check)
-            if (!fileToDelete.startsWith(baseUploadPath)) {
-                log.warn("Path traversal attempt detected: {}", imagePath);
-                throw new SecurityException("Path traversal attempt detected");
-            }
-
-            // Delete the file if it exists
-            if (Files.exists(fileToDelete)) {
-                Files.delete(fileToDelete);
-                log.info("Successfully deleted physical file: {}", fileToDelete);
-            } else {
-                log.warn("Physical file not found for deletion: {}", fileToDelete);
-            }
+            // Storage rejects keys that escape its root (additional security check)
+            imageStorage.delete(ImageStorage.keyOf(imagePath));
+            log.info("Successfully deleted image file: {}", imagePath);
         } catch (SecurityException e) {
             throw e; // Re-throw security exceptions
         } catch (Exception e) {
@@ -250,40 +297,39 @@ public class ImageUploadService {
 
         validateImageFile(file);
 
+        ImageBlob blob = null;
         try {
-            // Create product directory using configurable upload path
-            Path productPath = Paths.get(uploadPath, "image", "products", product.getUuid().toString());
-            Files.createDirectories(productPath);
-
-            // Generate unique filename
             String originalFilename = file.getOriginalFilename();
-            String extension = getFileExtension(originalFilename);
-            String filename = UUID.randomUUID().toString() + "." + extension;
-            
-            // Full file path and web path
-            Path filePath = productPath.resolve(filename);
-            String imagePath = String.format("/image/products/%s/%s", product.getUuid(), filename);
-
-            // Process and save image
-            BufferedImage processedImage = processImage(file);
-            ImageIO.write(processedImage, extension, filePath.toFile());
+            blob = imageBlobService.store(file, getFileExtension(originalFilename));
 
             // Save product image metadata
             ProductImage productImage = new ProductImage();
-            productImage.setImagePath(imagePath);
+            productImage.setImagePath(blob.getImagePath());
+            productImage.setContentHash(blob.getContentHash());
             productImage.setOriginalFilename(originalFilename);
             productImage.setFileSize(file.getSize());
             productImage.setContentType(file.getContentType());
             productImage.setImageType(ProductImage.ImageType.MAIN);
             productImage.setDisplayOrder(getNextDisplayOrder(product));
             productImage.setProduct(product);
+            productImage.setProcessingStatus(blob.getProcessingStatus());
+            productImage.setVariants(blob.getVariants());
+
+            ProductImage saved = productImageRepository.save(productImage);
+            blob = null;
+            if (saved.getProcessingStatus() == ImageProcessingStatus.PENDING
+                    && catchUpWithBlob(saved.getContentHash(), saved::setProcessingStatus, saved::setVariants)) {
+                saved = productImageRepository.save(saved);
+            }
+            if (product.getStore() != null) {
+                eventPublisher.publishEvent(new StoreContentChangedEvent(product.getStore().getUuid()));
+            }
 
-            productImageRepository.save(productImage);
-
-            log.info("Successfully uploaded product image: {} for product: {}", imagePath, product.getUuid());
-            return imagePath;
+            log.info("Stored product image: {} for product: {}", saved.getImagePath(), product.getUuid());
+            return saved.getImagePath();
 
-        } catch (IOException e) {
+        } catch (IOException | RuntimeException e) {
+            releaseUnsaved(blob);
             log.error("Failed to upload product image for product: {}", product.getUuid(), e);
             throw new RuntimeException("이미지 업로드에 실패했습니다. 파일 크기와 형식을 확인한 후 다시 시도해주세요.");
         }
@@ -3,6 +3,7 @@ package org.balanceus.topping.application.service;
 import java.net.URI;
 import java.util.Optional;
 
+import org.balanceus.topping.application.event.UserChangedEvent;
 import org.balanceus.topping.domain.model.KakaoUserInfoDto;
 import org.balanceus.topping.domain.model.SggCode;
 import org.balanceus.topping.domain.model.User;
@@ -11,6 +12,7 @@ import org.balanceus.topping.domain.repository.UserRepository;
 import org.balanceus.topping.domain.model.Role;
 import org.balanceus.topping.infrastructure.security.UserDetailsImpl;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.RequestEntity;
@@ -46,6 +48,7 @@ public class KakaoService {
 	private final UserRepository userRepository;
 	private final SggCodeRepository sggCodeRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final ApplicationEventPublisher eventPublisher;
 
 	private static final String KAKAO_PLACEHOLDER_EMAIL_FORMAT = "kakao_%d@kakao-user.topping";
 
@@ -206,6 +209,7 @@ public class KakaoService {
 			log.debug("기존 이메일 사용자와 카카오 계정을 연결합니다: {}", kakaoUserInfo.getEmail());
 			user.setKakaoId(kakaoUserInfo.getKakaoId());
 			User savedUser = userRepository.save(user);
+			eventPublisher.publishEvent(new UserChangedEvent(savedUser.getUuid()));
 			return new UserResolution(savedUser, false, true);
 		}
 
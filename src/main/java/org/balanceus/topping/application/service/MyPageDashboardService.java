@@ -0,0 +1,212 @@
+package org.balanceus.topping.application.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.balanceus.topping.application.dto.MyPageDashboard;
+import org.balanceus.topping.application.dto.MyPageDashboard.ActivityItem;
+import org.balanceus.topping.application.dto.MyPageDashboard.StoreSummary;
+import org.balanceus.topping.domain.model.Collaboration;
+import org.balanceus.topping.domain.model.CollaborationProposal;
+import org.balanceus.topping.domain.model.Product;
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.ChatRoomRepository;
+import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
+import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.balanceus.topping.domain.repository.ProductRepository;
+import org.balanceus.topping.domain.repository.ProductWishlistRepository;
+import org.balanceus.topping.domain.repository.StoreRepository;
+import org.balanceus.topping.domain.repository.WishlistRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Assembles the MyPage landing tab. The store lookup runs first because most sections depend on
+ * it; the remaining sections are independent and run concurrently on the dashboard pool, each in
+ * its own read-only transaction that maps entities to plain data before it closes. Sections run
+ * count queries and fetch only the few newest items they show. A section that fails, exceeds its
+ * timeout or is rejected by a saturated pool renders with empty values instead of failing the page.
+ */
+@Service
+@Slf4j
+public class MyPageDashboardService {
+
+    private static final int PENDING_ITEMS = 3;
+    private static final int ONGOING_ITEMS = 2;
+    private static final int RECEIVED_ITEMS = 2;
+
+    private final StoreRepository storeRepository;
+    private final CollaborationProposalRepository proposalRepository;
+    private final CollaborationRepository collaborationRepository;
+    private final ProductRepository productRepository;
+    private final ProductWishlistRepository productWishlistRepository;
+    private final WishlistRepository wishlistRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor dashboardExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Duration sectionTimeout;
+
+    public MyPageDashboardService(StoreRepository storeRepository,
+                                  CollaborationProposalRepository proposalRepository,
+                                  CollaborationRepository collaborationRepository,
+                                  ProductRepository productRepository,
+                                  ProductWishlistRepository productWishlistRepository,
+                                  WishlistRepository wishlistRepository,
+                                  ChatRoomRepository chatRoomRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier("dashboardExecutor") Executor dashboardExecutor,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${app.mypage.dashboard.section-timeout:PT3S}") Duration sectionTimeout) {
+        this.storeRepository = storeRepository;
+        this.proposalRepository = proposalRepository;
+        this.collaborationRepository = collaborationRepository;
+        this.productRepository = productRepository;
+        this.productWishlistRepository = productWishlistRepository;
+        this.wishlistRepository = wishlistRepository;
+        this.chatRoomRepository = chatRoomRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.dashboardExecutor = dashboardExecutor;
+        this.meterRegistry = meterRegistry;
+        this.sectionTimeout = sectionTimeout;
+    }
+
+    public MyPageDashboard assemble(User user) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Store store = storeRepository.findByUser(user).orElse(null);
+        Map<String, Long> timings = new ConcurrentHashMap<>();
+
+        CompletableFuture<Long> proposals = section("proposals", timings, () -> store != null
+                ? proposalRepository.countByProposerUserOrProposerStore(user, store)
+                : proposalRepository.countByProposerUser(user), 0L);
+        CompletableFuture<ApplicationsSection> applications = section("applications", timings,
+                () -> store != null ? applications(store) : ApplicationsSection.EMPTY, ApplicationsSection.EMPTY);
+        CompletableFuture<ReceivedSection> received = section("received", timings,
+                () -> store != null ? received(store) : ReceivedSection.EMPTY, ReceivedSection.EMPTY);
+        CompletableFuture<Long> products = section("products", timings,
+                () -> productRepository.countByCreator(user), 0L);
+        CompletableFuture<Long> productWishlist = section("productWishlist", timings,
+                () -> productWishlistRepository.countByUser(user), 0L);
+        CompletableFuture<Long> storeWishlist = section("storeWishlist", timings,
+                () -> wishlistRepository.countByUser(user), 0L);
+        CompletableFuture<Long> chatRooms = section("chatRooms", timings,
+                () -> chatRoomRepository.countActiveByParticipant(user), 0L);
+
+        // Every section completes normally (value, fallback or timeout), so join never throws
+        ApplicationsSection applicationsSection = applications.join();
+        ReceivedSection receivedSection = received.join();
+        MyPageDashboard dashboard = MyPageDashboard.builder()
+                .userStore(StoreSummary.of(store))
+                .proposalCount(proposals.join())
+                .applicationCount(applicationsSection.total())
+                .ongoingCollaborationCount(applicationsSection.ongoingCount())
+                .pendingApplicationCount(applicationsSection.pendingCount())
+                .receivedApplicationCount(applicationsSection.pendingCount() + receivedSection.proposalCount())
+                .pendingActionsCount(applicationsSection.pendingCount() + receivedSection.pendingProposalCount())
+                .productCount(products.join())
+                .wishlistCount(productWishlist.join())
+                .storeWishlistCount(storeWishlist.join())
+                .chatRoomCount(chatRooms.join())
+                .pendingApplications(applicationsSection.pendingItems())
+                .ongoingCollaborations(applicationsSection.ongoingItems())
+                .receivedApplications(receivedSection.items())
+                .sectionMillis(Map.copyOf(timings))
+                .build();
+        sample.stop(meterRegistry.timer("mypage.dashboard.assemble"));
+        return dashboard;
+    }
+
+    private <T> CompletableFuture<T> section(String name, Map<String, Long> timings, Supplier<T> query, T fallback) {
+        Timer timer = Timer.builder("mypage.dashboard.section").tag("section", name).register(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                long start = System.nanoTime();
+                T result = readOnlyTransaction.execute(status -> query.get());
+                long elapsed = System.nanoTime() - start;
+                timer.record(elapsed, TimeUnit.NANOSECONDS);
+                timings.put(name, TimeUnit.NANOSECONDS.toMillis(elapsed));
+                return result;
+            }, dashboardExecutor);
+        } catch (RejectedExecutionException e) {
+            // Running it here instead would block the request thread without any timeout
+            log.warn("MyPage dashboard pool is saturated, rendering section {} without it", name);
+            return CompletableFuture.completedFuture(fallback);
+        }
+        return future
+                .completeOnTimeout(fallback, sectionTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("MyPage dashboard section {} failed, rendering without it", name, e);
+                    return fallback;
+                });
+    }
+
+    private ApplicationsSection applications(Store store) {
+        Map<Collaboration.CollaborationStatus, Long> counts =
+                collaborationRepository.countByStoreParticipationGroupedByStatus(store);
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new ApplicationsSection(total,
+                counts.getOrDefault(Collaboration.CollaborationStatus.PENDING, 0L),
+                counts.getOrDefault(Collaboration.CollaborationStatus.ACCEPTED, 0L),
+                activityItems(newest(store, Collaboration.CollaborationStatus.PENDING, PENDING_ITEMS)),
+                activityItems(newest(store, Collaboration.CollaborationStatus.ACCEPTED, ONGOING_ITEMS)));
+    }
+
+    private ReceivedSection received(Store store) {
+        Map<CollaborationProposal.CollaborationStatus, Long> proposals =
+                proposalRepository.countByTargetStoreGroupedByStatus(store);
+        long proposalCount = proposals.values().stream().mapToLong(Long::longValue).sum();
+        List<ActivityItem> items = newest(store, Collaboration.CollaborationStatus.PENDING, RECEIVED_ITEMS).stream()
+                .map(collaboration -> new ActivityItem(collaboration.getUuid(),
+                        productName(collaboration.getPartnerProduct()),
+                        collaboration.getInitiatorStore() != null
+                                ? collaboration.getInitiatorStore().getUser().getUsername() : null,
+                        collaboration.getCreatedAt()))
+                .toList();
+        return new ReceivedSection(proposalCount,
+                proposals.getOrDefault(CollaborationProposal.CollaborationStatus.PENDING, 0L), items);
+    }
+
+    private List<Collaboration> newest(Store store, Collaboration.CollaborationStatus status, int limit) {
+        return collaborationRepository.findByStoreAndStatus(store, status, PageRequest.of(0, limit)).getContent();
+    }
+
+    private static List<ActivityItem> activityItems(List<Collaboration> collaborations) {
+        return collaborations.stream()
+                .map(collaboration -> new ActivityItem(collaboration.getUuid(),
+                        productName(collaboration.getPartnerProduct() != null
+                                ? collaboration.getPartnerProduct() : collaboration.getInitiatorProduct()),
+                        null, collaboration.getCreatedAt()))
+                .toList();
+    }
+
+    private static String productName(Product product) {
+        return product != null ? product.getName() : null;
+    }
+
+    private record ApplicationsSection(long total, long pendingCount, long ongoingCount,
+                                       List<ActivityItem> pendingItems, List<ActivityItem> ongoingItems) {
+        static final ApplicationsSection EMPTY = new ApplicationsSection(0, 0, 0, List.of(), List.of());
+    }
+
+    private record ReceivedSection(long proposalCount, long pendingProposalCount, List<ActivityItem> items) {
+        static final ReceivedSection EMPTY = new ReceivedSection(0, 0, List.of());
+    }
+}
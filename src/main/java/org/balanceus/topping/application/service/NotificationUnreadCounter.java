@@ -0,0 +1,57 @@
+package org.balanceus.topping.application.service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToLongFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Size-bounded cache of unread notification counts, keyed by user id. A miss is loaded with one
+ * count query; afterwards new and read notifications adjust the cached value instead. Counters
+ * are only adjusted while cached, and expire after write so that any drift (e.g. a count loaded
+ * while an insert was committing) heals on the next load.
+ */
+@Component
+public class NotificationUnreadCounter {
+
+    private final Cache<UUID, AtomicLong> cache;
+
+    public NotificationUnreadCounter(
+            @Value("${app.cache.notification-unread.maximum-size:10000}") long maximumSize,
+            @Value("${app.cache.notification-unread.expire-after-write:PT10M}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "notificationUnread");
+    }
+
+    public long get(UUID userId, ToLongFunction<UUID> loader) {
+        return cache.get(userId, id -> new AtomicLong(loader.applyAsLong(id))).get();
+    }
+
+    public void add(UUID userId, long delta) {
+        AtomicLong counter = cache.getIfPresent(userId);
+        if (counter != null) {
+            counter.updateAndGet(current -> Math.max(0, current + delta));
+        }
+    }
+
+    public void reset(UUID userId) {
+        AtomicLong counter = cache.getIfPresent(userId);
+        if (counter != null) {
+            counter.set(0);
+        }
+    }
+}
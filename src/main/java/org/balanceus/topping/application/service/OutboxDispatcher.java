@@ -0,0 +1,201 @@
+package org.balanceus.topping.application.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.balanceus.topping.application.event.OutboxEventsEnqueuedEvent;
+import org.balanceus.topping.domain.model.OutboxEvent;
+import org.balanceus.topping.domain.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Delivers outbox events outside the transactions that recorded them. A drain starts right after
+ * a recording transaction commits and on a fixed poll as a safety net; it claims due events in
+ * batches with a conditional update, so several instances can dispatch without delivering the
+ * same event concurrently. Each event is delivered in its own transaction together with being
+ * marked DONE. Failures are retried with exponential backoff and marked FAILED after
+ * {@code app.outbox.max-attempts}. Delivery is at-least-once: a claim whose lease runs out is
+ * picked up again. Delivered events are purged after {@code app.outbox.retention}, failed ones after
+ * {@code app.outbox.failed-retention} so they stay around for investigation a while longer.
+ */
+@Service
+@Slf4j
+public class OutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final CollaborationOutboxHandler handler;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor outboxExecutor;
+    private final MeterRegistry meterRegistry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+    private final Duration failedRetention;
+    private final Timer batchDuration;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            CollaborationOutboxHandler handler,
+                            PlatformTransactionManager transactionManager,
+                            @Qualifier("outboxExecutor") Executor outboxExecutor,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.outbox.batch-size:50}") int batchSize,
+                            @Value("${app.outbox.max-attempts:8}") int maxAttempts,
+                            @Value("${app.outbox.initial-backoff:PT2S}") Duration initialBackoff,
+                            @Value("${app.outbox.max-backoff:PT10M}") Duration maxBackoff,
+                            @Value("${app.outbox.lease:PT1M}") Duration lease,
+                            @Value("${app.outbox.retention:P7D}") Duration retention,
+                            @Value("${app.outbox.failed-retention:P30D}") Duration failedRetention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handler = handler;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxExecutor = outboxExecutor;
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.retention = retention;
+        this.failedRetention = failedRetention;
+        this.batchDuration = Timer.builder("outbox.dispatch.batch")
+                .description("Time to deliver one batch of outbox events")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsEnqueued(OutboxEventsEnqueuedEvent event) {
+        outboxExecutor.execute(this::drain);
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT5S}")
+    public void poll() {
+        drain();
+    }
+
+    /**
+     * Delete finished events past their retention, one batch per transaction so the purge never
+     * holds locks on a large range of rows.
+     */
+    @Scheduled(cron = "${app.outbox.purge-cron:0 15 4 * * *}")
+    public void purge() {
+        Instant now = Instant.now();
+        Instant doneBefore = now.minus(retention);
+        Instant failedBefore = now.minus(failedRetention);
+        int purged = 0;
+        int deleted;
+        do {
+            Integer batch = transactionTemplate.execute(status -> outboxEventRepository.deleteByIds(
+                    outboxEventRepository.findFinishedIds(doneBefore, failedBefore, batchSize)));
+            deleted = batch == null ? 0 : batch;
+            purged += deleted;
+        } while (deleted == batchSize);
+        if (purged > 0) {
+            log.info("Purged {} finished outbox events", purged);
+        }
+    }
+
+    /**
+     * Deliver due events batch by batch until a batch comes back short. Concurrent calls coalesce:
+     * a call arriving while a drain runs makes that drain go round once more instead of starting
+     * a second one.
+     */
+    void drain() {
+        drainRequested.set(true);
+        while (drainRequested.get() && draining.compareAndSet(false, true)) {
+            try {
+                drainRequested.set(false);
+                int dispatched;
+                do {
+                    dispatched = dispatchBatch();
+                } while (dispatched == batchSize);
+            } catch (RuntimeException e) {
+                log.error("Outbox dispatch failed; remaining events are retried on the next poll", e);
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    private int dispatchBatch() {
+        List<UUID> due = outboxEventRepository.findDueIds(Instant.now(), batchSize);
+        if (!due.isEmpty()) {
+            batchDuration.record(() -> due.forEach(this::dispatch));
+        }
+        return due.size();
+    }
+
+    private void dispatch(UUID id) {
+        Instant now = Instant.now();
+        Boolean claimed = transactionTemplate.execute(status -> outboxEventRepository.claim(id, now, now.plus(lease)));
+        if (!Boolean.TRUE.equals(claimed)) {
+            // Claimed by another dispatcher in the meantime, or already delivered
+            return;
+        }
+        try {
+            OutboxEvent.Type type = transactionTemplate.execute(status -> {
+                OutboxEvent event = outboxEventRepository.findById(id)
+                        .orElseThrow(() -> new IllegalStateException("Outbox event disappeared: " + id));
+                handler.deliver(event);
+                event.setStatus(OutboxEvent.Status.DONE);
+                event.setProcessedAt(Instant.now());
+                event.setLastError(null);
+                return event.getType();
+            });
+            count(type, "delivered");
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.findById(id).ifPresent(event -> retryOrFail(event, e)));
+        }
+    }
+
+    private void retryOrFail(OutboxEvent event, RuntimeException e) {
+        String error = e.toString();
+        event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        if (event.getAttempts() >= maxAttempts) {
+            event.setStatus(OutboxEvent.Status.FAILED);
+            log.error("Giving up on outbox event {} ({}) after {} attempts",
+                    event.getUuid(), event.getType(), event.getAttempts(), e);
+            count(event.getType(), "failed");
+        } else {
+            Duration delay = backoff(event.getAttempts());
+            event.setStatus(OutboxEvent.Status.PENDING);
+            event.setNextAttemptAt(Instant.now().plus(delay));
+            log.warn("Outbox event {} ({}) failed on attempt {}, retrying in {}",
+                    event.getUuid(), event.getType(), event.getAttempts(), delay, e);
+            count(event.getType(), "retried");
+        }
+    }
+
+    /**
+     * Delay before the next attempt: the initial backoff doubled per attempt made, capped at the maximum.
+     */
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void count(OutboxEvent.Type type, String outcome) {
+        meterRegistry.counter("outbox.dispatch", "type", type.name(), "outcome", outcome).increment();
+    }
+}
@@ -0,0 +1,58 @@
+package org.balanceus.topping.application.service;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import org.balanceus.topping.application.event.OutboxEventsEnqueuedEvent;
+import org.balanceus.topping.domain.model.OutboxEvent;
+import org.balanceus.topping.domain.repository.OutboxEventRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records side effects in the caller's transaction so they are delivered if and only if the
+ * change that caused them commits. Delivery happens in {@link OutboxDispatcher}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Enqueue an event unless one with the same {@code dedupKey} was already recorded.
+     *
+     * @return false when the event was a duplicate
+     */
+    @Transactional
+    public boolean enqueue(OutboxEvent.Type type, UUID aggregateId, String dedupKey, Map<String, String> payload) {
+        if (dedupKey != null && outboxEventRepository.existsByDedupKey(dedupKey)) {
+            log.debug("Skipping duplicate outbox event {}", dedupKey);
+            return false;
+        }
+        OutboxEvent event = new OutboxEvent();
+        event.setType(type);
+        event.setAggregateId(aggregateId);
+        event.setDedupKey(dedupKey);
+        event.setNextAttemptAt(Instant.now());
+        try {
+            event.setPayload(payload.isEmpty() ? null : objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox payload is not serializable: " + payload, e);
+        }
+        outboxEventRepository.save(event);
+        eventPublisher.publishEvent(new OutboxEventsEnqueuedEvent());
+        return true;
+    }
+}
@@ -1,10 +1,12 @@
 package org.balanceus.topping.application.service;
 
 import lombok.RequiredArgsConstructor;
+import org.balanceus.topping.application.event.UserChangedEvent;
 import org.balanceus.topping.domain.model.PasswordRecovery;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.repository.PasswordRecoveryRepository;
 import org.balanceus.topping.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,6 +24,7 @@ public class PasswordRecoveryService {
     private final UserRepository userRepository;
     private final EmailService emailService;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
     
     private static final int CODE_LENGTH = 6;
     private static final int EXPIRY_MINUTES = 15;
@@ -86,6 +89,7 @@ public class PasswordRecoveryService {
         
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUuid()));
         
         // Mark recovery as used
         recovery.setUsed(true);
@@ -2,17 +2,22 @@ package org.balanceus.topping.application.service;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.Optional;
 
 import org.balanceus.topping.application.dto.ProductRequestDto;
 import org.balanceus.topping.application.dto.ProductAdjustmentDto;
+import org.balanceus.topping.application.event.ImageReferencesReleasedEvent;
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
 import org.balanceus.topping.domain.model.Product;
+import org.balanceus.topping.domain.model.ProductImage;
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.repository.ProductRepository;
 import org.balanceus.topping.domain.repository.StoreRepository;
 import org.balanceus.topping.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,6 +35,7 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new product with the authenticated user as creator
@@ -74,6 +80,7 @@ public class ProductService {
         product.setReviewCount(0);
         
         Product savedProduct = productRepository.save(product);
+        publishStoreChanged(savedProduct);
         log.info("Product created successfully: {} by user: {}", savedProduct.getUuid(), userUuid);
         
         return savedProduct;
@@ -117,7 +124,9 @@ public class ProductService {
      * Update an existing product
      */
     public Product updateProduct(Product product) {
-        return productRepository.save(product);
+        Product savedProduct = productRepository.save(product);
+        publishStoreChanged(savedProduct);
+        return savedProduct;
     }
     
     /**
@@ -151,6 +160,7 @@ public class ProductService {
         }
         
         Product updatedProduct = productRepository.save(product);
+        publishStoreChanged(updatedProduct);
         log.info("Product updated successfully: {} by user: {}", updatedProduct.getUuid(), userUuid);
         
         return updatedProduct;
@@ -246,6 +256,16 @@ public class ProductService {
     }
 
     public void deleteProduct(UUID productId) {
+        productRepository.findById(productId).ifPresent(product -> {
+            publishStoreChanged(product);
+            List<String> contentHashes = product.getImages().stream()
+                    .map(ProductImage::getContentHash)
+                    .filter(Objects::nonNull)
+                    .toList();
+            if (!contentHashes.isEmpty()) {
+                eventPublisher.publishEvent(new ImageReferencesReleasedEvent(contentHashes));
+            }
+        });
         productRepository.deleteById(productId);
     }
 
@@ -273,12 +293,19 @@ public class ProductService {
         product.setCategory(adjustmentDto.getCategory());
         
         Product adjustedProduct = productRepository.save(product);
+        publishStoreChanged(adjustedProduct);
         log.info("Product adjusted successfully: {} by user: {}. Reason: {}", 
                 adjustedProduct.getUuid(), userUuid, adjustmentDto.getAdjustmentReason());
         
         return adjustedProduct;
     }
 
+    private void publishStoreChanged(Product product) {
+        if (product.getStore() != null) {
+            eventPublisher.publishEvent(new StoreContentChangedEvent(product.getStore().getUuid()));
+        }
+    }
+
     /**
      * Validate product adjustment data
      */
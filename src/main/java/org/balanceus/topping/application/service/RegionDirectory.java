@@ -0,0 +1,60 @@
+package org.balanceus.topping.application.service;
+
+import org.balanceus.topping.domain.repository.SggCodeRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the current {@link RegionTree}. The {@code sggcode} table is static reference data,
+ * so it is read once and swapped atomically on an explicit {@link #reload()}.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RegionDirectory {
+
+    private final SggCodeRepository sggCodeRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile RegionTree tree;
+
+    public RegionTree current() {
+        RegionTree snapshot = tree;
+        if (snapshot == null) {
+            synchronized (this) {
+                snapshot = tree;
+                if (snapshot == null) {
+                    snapshot = load();
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void warmUp() {
+        current();
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized RegionTree reload() {
+        return load();
+    }
+
+    private RegionTree load() {
+        RegionTree loaded = RegionTree.build(sggCodeRepository.findAll(), objectMapper);
+        tree = loaded;
+        log.info("Loaded region tree with {} regions and {} districts", loaded.regions().size(), loaded.size());
+        return loaded;
+    }
+}
@@ -0,0 +1,186 @@
+package org.balanceus.topping.application.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.balanceus.topping.domain.model.SggCode;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Immutable region → city → district snapshot of the {@code sggcode} table, with the
+ * {@code /api/sggcode} responses serialized up front. Districts are addressed by {@code sggCd5}
+ * through a sorted primitive key array, so lookups neither box nor touch the database.
+ */
+public final class RegionTree {
+
+    public record District(int code, String name, String region, String city) {
+    }
+
+    /**
+     * A city groups districts sharing the first word of {@code sggCdNmCity}
+     * (e.g. "수원시 장안구" and "수원시 팔달구" under "수원시"); most cities hold a single district.
+     */
+    public record City(String name, List<District> districts) {
+    }
+
+    public record Region(String name, List<City> cities) {
+
+        public List<District> districts() {
+            return cities.stream().flatMap(city -> city.districts().stream()).toList();
+        }
+    }
+
+    /**
+     * Pre-serialized JSON body with its strong ETag.
+     */
+    public record Payload(byte[] body, String etag) {
+    }
+
+    private final List<Region> regions;
+    private final int[] codes;
+    private final District[] districtsByCode;
+    private final Map<String, List<District>> districtsByCityName;
+
+    private final Payload regionsPayload;
+    private final Payload allPayload;
+    private final Map<String, Payload> citiesPayloads;
+    private final Payload emptyCitiesPayload;
+
+    private RegionTree(List<SggCode> rows, ObjectMapper objectMapper) {
+        District[] districts = rows.stream()
+                .filter(row -> row.getSggCd5() != null)
+                .map(row -> new District(row.getSggCd5(), row.getSggCdNm(), row.getSggCdNmRegion(), row.getSggCdNmCity()))
+                .sorted(Comparator.comparingInt(District::code))
+                .toArray(District[]::new);
+        this.districtsByCode = districts;
+        this.codes = Arrays.stream(districts).mapToInt(District::code).toArray();
+
+        Map<String, Map<String, List<District>>> grouped = new TreeMap<>();
+        for (District district : districts) {
+            grouped.computeIfAbsent(nullToEmpty(district.region()), key -> new TreeMap<>())
+                    .computeIfAbsent(cityKey(district.city()), key -> new ArrayList<>())
+                    .add(district);
+        }
+        List<Region> regionList = new ArrayList<>();
+        grouped.forEach((regionName, cities) -> regionList.add(new Region(regionName,
+                cities.entrySet().stream()
+                        .map(entry -> new City(entry.getKey(), entry.getValue().stream()
+                                .sorted(Comparator.comparing(d -> nullToEmpty(d.city())))
+                                .toList()))
+                        .toList())));
+        this.regions = List.copyOf(regionList);
+
+        this.districtsByCityName = Arrays.stream(districts)
+                .filter(district -> district.city() != null)
+                .collect(Collectors.groupingBy(District::city, Collectors.toUnmodifiableList()));
+
+        this.regionsPayload = serialize(objectMapper, response("regions",
+                regions.stream().map(Region::name).filter(name -> !name.isEmpty()).toList()));
+        this.allPayload = serialize(objectMapper, response("codes", Arrays.stream(districts)
+                .sorted(Comparator.comparing(d -> nullToEmpty(d.name())))
+                .map(district -> {
+                    Map<String, Object> code = new LinkedHashMap<>();
+                    code.put("code", district.code());
+                    code.put("name", district.name());
+                    code.put("region", district.region());
+                    code.put("city", district.city());
+                    return code;
+                })
+                .toList()));
+        Map<String, Payload> cities = new LinkedHashMap<>();
+        for (Region region : regions) {
+            cities.put(region.name(), serialize(objectMapper, response("cities", region.districts().stream()
+                    .sorted(Comparator.comparing(d -> nullToEmpty(d.city())))
+                    .map(district -> {
+                        Map<String, Object> city = new LinkedHashMap<>();
+                        city.put("code", district.code());
+                        city.put("name", district.city());
+                        city.put("fullName", district.name());
+                        return city;
+                    })
+                    .toList())));
+        }
+        this.citiesPayloads = Map.copyOf(cities);
+        this.emptyCitiesPayload = serialize(objectMapper, response("cities", List.of()));
+    }
+
+    public static RegionTree build(List<SggCode> rows, ObjectMapper objectMapper) {
+        return new RegionTree(rows, objectMapper);
+    }
+
+    public List<Region> regions() {
+        return regions;
+    }
+
+    public int size() {
+        return codes.length;
+    }
+
+    public Optional<District> find(int sggCd5) {
+        int index = Arrays.binarySearch(codes, sggCd5);
+        return index >= 0 ? Optional.of(districtsByCode[index]) : Optional.empty();
+    }
+
+    public List<District> findByCityName(String cityName) {
+        return districtsByCityName.getOrDefault(cityName, List.of());
+    }
+
+    public Payload regionsPayload() {
+        return regionsPayload;
+    }
+
+    public Payload allPayload() {
+        return allPayload;
+    }
+
+    public Payload citiesPayload(String region) {
+        return citiesPayloads.getOrDefault(region, emptyCitiesPayload);
+    }
+
+    private static Map<String, Object> response(String key, Object value) {
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("success", true);
+        response.put(key, value);
+        return response;
+    }
+
+    private static Payload serialize(ObjectMapper objectMapper, Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            return new Payload(body, "\"" + sha256(body) + "\"");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize region payload", e);
+        }
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String cityKey(String city) {
+        String name = nullToEmpty(city).trim();
+        int space = name.indexOf(' ');
+        return space > 0 ? name.substring(0, space) : name;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -4,10 +4,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
 import org.balanceus.topping.domain.model.Review;
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.repository.ReviewRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Review createReview(Store store, User user, Integer rating, String content) {
         // Check if user already reviewed this store
@@ -38,6 +41,7 @@ public class ReviewService {
         review.setIsActive(true);
 
         Review savedReview = reviewRepository.save(review);
+        publishStoreChanged(savedReview);
         log.info("Review created for store {} by user {}", store.getName(), 
                 user != null ? user.getUsername() : "anonymous");
         
@@ -75,7 +79,9 @@ public class ReviewService {
         review.setRating(rating);
         review.setContent(content);
         
-        return reviewRepository.save(review);
+        Review savedReview = reviewRepository.save(review);
+        publishStoreChanged(savedReview);
+        return savedReview;
     }
 
     public void deleteReview(UUID reviewId) {
@@ -87,6 +93,7 @@ public class ReviewService {
         Review review = reviewOptional.get();
         review.setIsActive(false); // Soft delete
         reviewRepository.save(review);
+        publishStoreChanged(review);
         
         log.info("Review {} soft deleted", reviewId);
     }
@@ -95,4 +102,10 @@ public class ReviewService {
     public boolean hasUserReviewed(User user, Store store) {
         return user != null && reviewRepository.existsByUserAndStore(user, store);
     }
+
+    private void publishStoreChanged(Review review) {
+        if (review.getStore() != null) {
+            eventPublisher.publishEvent(new StoreContentChangedEvent(review.getStore().getUuid()));
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package org.balanceus.topping.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.domain.repository.StoreCatalogRow;
+import org.balanceus.topping.domain.repository.StoreRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pre-serialized per-store JSON for the proposal form's store/product picker, keyed by store id.
+ * Missing stores are loaded together in one joined query; the page blob is then assembled by
+ * concatenation. Entries are dropped after commit of any write to the store or its products.
+ */
+@Component
+@Slf4j
+public class StoreCatalogCache {
+
+    private final StoreRepository storeRepository;
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, String> cache;
+
+    public StoreCatalogCache(
+            StoreRepository storeRepository,
+            ObjectMapper objectMapper,
+            @Value("${app.cache.store-catalog.maximum-size:5000}") long maximumSize,
+            @Value("${app.cache.store-catalog.expire-after-write:PT1H}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        this.storeRepository = storeRepository;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "storeCatalog");
+    }
+
+    /**
+     * JSON object mapping each store id to {@code {uuid, name, category, products: [...]}}, listing
+     * only available products. Stores that no longer exist are left out.
+     */
+    public String catalogJson(List<UUID> storeIds) {
+        Map<UUID, String> fragments = cache.getAll(storeIds, this::load);
+        StringBuilder json = new StringBuilder("{");
+        for (UUID storeId : storeIds) {
+            String fragment = fragments.get(storeId);
+            if (fragment == null) {
+                continue;
+            }
+            if (json.length() > 1) {
+                json.append(',');
+            }
+            json.append('"').append(storeId).append("\":").append(fragment);
+        }
+        return json.append('}').toString();
+    }
+
+    public void evict(UUID storeId) {
+        cache.invalidate(storeId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreContentChanged(StoreContentChangedEvent event) {
+        if (event.storeId() == null) {
+            return;
+        }
+        evict(event.storeId());
+    }
+
+    private Map<UUID, String> load(Set<? extends UUID> storeIds) {
+        Map<UUID, Map<String, Object>> payloads = new LinkedHashMap<>();
+        for (StoreCatalogRow row : storeRepository.findCatalogRows(List.copyOf(storeIds))) {
+            Map<String, Object> store = payloads.computeIfAbsent(row.storeId(), id -> storePayload(row));
+            if (row.productId() != null) {
+                @SuppressWarnings("unchecked")
+                List<Map<String, Object>> products = (List<Map<String, Object>>) store.get("products");
+                products.add(productPayload(row));
+            }
+        }
+
+        Map<UUID, String> fragments = new HashMap<>();
+        payloads.forEach((storeId, payload) -> {
+            try {
+                fragments.put(storeId, objectMapper.writeValueAsString(payload));
+            } catch (JsonProcessingException e) {
+                log.warn("Failed to serialize catalog entry for store {}: {}", storeId, e.getMessage());
+            }
+        });
+        return fragments;
+    }
+
+    private static Map<String, Object> storePayload(StoreCatalogRow row) {
+        Map<String, Object> store = new LinkedHashMap<>();
+        store.put("uuid", row.storeId().toString());
+        store.put("name", row.storeName());
+        store.put("category", row.storeCategory() != null ? row.storeCategory().name() : "");
+        store.put("products", new ArrayList<Map<String, Object>>());
+        return store;
+    }
+
+    private static Map<String, Object> productPayload(StoreCatalogRow row) {
+        Map<String, Object> product = new LinkedHashMap<>();
+        product.put("uuid", row.productId().toString());
+        product.put("name", row.productName());
+        product.put("category", row.productCategory() != null ? row.productCategory().name() : "");
+        product.put("productType", row.productType() != null ? row.productType().name() : "");
+        product.put("isAvailable", row.productAvailable());
+        product.put("price", row.productPrice());
+        return product;
+    }
+}
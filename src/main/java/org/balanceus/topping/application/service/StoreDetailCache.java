@@ -0,0 +1,115 @@
+package org.balanceus.topping.application.service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.balanceus.topping.application.dto.StoreDetailSnapshot;
+import org.balanceus.topping.application.dto.StoreEngagementCounts;
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.application.event.StoreEngagementChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Size-bounded (W-TinyLFU) cache of assembled store detail snapshots, keyed by store id, plus a
+ * separate cache of like and wishlist counts. Snapshots are evicted after commit of any write that
+ * changes what the detail page renders; counts only on engagement toggles.
+ * <p>
+ * Evictions bump a generation before removing entries. A load that saw the generation change
+ * while it was reading may predate the write behind the eviction, so its result is returned to
+ * the caller but not cached.
+ */
+@Component
+@Slf4j
+public class StoreDetailCache {
+
+    private final Cache<UUID, StoreDetailSnapshot> cache;
+    private final Cache<UUID, StoreEngagementCounts> engagementCache;
+    private final AtomicLong snapshotGeneration = new AtomicLong();
+    private final AtomicLong engagementGeneration = new AtomicLong();
+
+    public StoreDetailCache(
+            @Value("${app.cache.store-detail.maximum-size:1000}") long maximumSize,
+            @Value("${app.cache.store-detail.expire-after-write:PT10M}") Duration expireAfterWrite,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        this.engagementCache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "storeDetail");
+        CaffeineCacheMetrics.monitor(meterRegistry, engagementCache, "storeEngagement");
+    }
+
+    public StoreDetailSnapshot get(UUID storeId, Function<UUID, StoreDetailSnapshot> loader) {
+        return load(cache, snapshotGeneration, storeId, loader);
+    }
+
+    public StoreEngagementCounts getEngagement(UUID storeId, Function<UUID, StoreEngagementCounts> loader) {
+        return load(engagementCache, engagementGeneration, storeId, loader);
+    }
+
+    public void evict(UUID storeId) {
+        snapshotGeneration.incrementAndGet();
+        // Partner stores render this store's name, so drop their snapshots too
+        cache.asMap().entrySet().removeIf(entry ->
+            entry.getKey().equals(storeId) || entry.getValue().references(storeId));
+    }
+
+    public void evictEngagement(UUID storeId) {
+        engagementGeneration.incrementAndGet();
+        engagementCache.invalidate(storeId);
+    }
+
+    public void clear() {
+        snapshotGeneration.incrementAndGet();
+        engagementGeneration.incrementAndGet();
+        cache.invalidateAll();
+        engagementCache.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreContentChanged(StoreContentChangedEvent event) {
+        if (event.storeId() == null) {
+            return;
+        }
+        evict(event.storeId());
+        log.debug("Evicted store detail snapshot for store {}", event.storeId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreEngagementChanged(StoreEngagementChangedEvent event) {
+        if (event.storeId() == null) {
+            return;
+        }
+        evictEngagement(event.storeId());
+    }
+
+    private static <V> V load(Cache<UUID, V> target, AtomicLong generation, UUID storeId,
+                              Function<UUID, V> loader) {
+        V cached = target.getIfPresent(storeId);
+        if (cached != null) {
+            return cached;
+        }
+        long observed = generation.get();
+        V loaded = loader.apply(storeId);
+        // Checked under the entry's lock, so an eviction either sees this entry or is seen here
+        target.asMap().compute(storeId, (id, current) -> generation.get() == observed ? loaded : current);
+        return loaded;
+    }
+}
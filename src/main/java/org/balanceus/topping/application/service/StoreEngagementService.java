@@ -4,6 +4,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.balanceus.topping.application.dto.StoreEngagementResult;
+import org.balanceus.topping.application.event.StoreEngagementChangedEvent;
 import org.balanceus.topping.application.exception.ApplicationErrorCode;
 import org.balanceus.topping.application.exception.ApplicationException;
 import org.balanceus.topping.domain.model.Store;
@@ -13,6 +14,7 @@ import org.balanceus.topping.domain.model.Wishlist;
 import org.balanceus.topping.domain.repository.StoreLikeRepository;
 import org.balanceus.topping.domain.repository.UserRepository;
 import org.balanceus.topping.domain.repository.WishlistRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,6 +30,7 @@ public class StoreEngagementService {
     private final UserRepository userRepository;
     private final StoreLikeRepository storeLikeRepository;
     private final WishlistRepository wishlistRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public StoreEngagementResult toggleStoreLike(UUID storeId, UUID userUuid) {
@@ -50,6 +53,7 @@ public class StoreEngagementService {
         }
 
         long likeCount = storeLikeRepository.countByStore(store);
+        eventPublisher.publishEvent(new StoreEngagementChangedEvent(store.getUuid()));
         return new StoreEngagementResult(active, likeCount);
     }
 
@@ -74,6 +78,7 @@ public class StoreEngagementService {
         }
 
         long wishlistCount = wishlistRepository.countByStore(store);
+        eventPublisher.publishEvent(new StoreEngagementChangedEvent(store.getUuid()));
         return new StoreEngagementResult(active, wishlistCount);
     }
 
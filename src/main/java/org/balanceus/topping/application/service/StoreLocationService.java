@@ -0,0 +1,177 @@
+package org.balanceus.topping.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.balanceus.topping.application.dto.NearbyStoreResult;
+import org.balanceus.topping.application.event.StoreProfileChangedEvent;
+import org.balanceus.topping.domain.geo.Gazetteer;
+import org.balanceus.topping.domain.geo.GeoPoint;
+import org.balanceus.topping.domain.model.SggCode;
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.balanceus.topping.domain.repository.SggCodeRepository;
+import org.balanceus.topping.domain.repository.StoreRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Geocodes stores through the {@link Gazetteer} and answers nearby-store queries
+ * from an in-memory {@link StoreSpatialIndex}.
+ */
+@Service
+@Slf4j
+public class StoreLocationService {
+
+    private final StoreRepository storeRepository;
+    private final SggCodeRepository sggCodeRepository;
+    private final RegionDirectory regionDirectory;
+    private final Gazetteer gazetteer;
+    private final StoreSpatialIndex index;
+    private final double maxRadiusKm;
+
+    public StoreLocationService(StoreRepository storeRepository,
+                                SggCodeRepository sggCodeRepository,
+                                RegionDirectory regionDirectory,
+                                Gazetteer gazetteer,
+                                @Value("${app.geo.index-cell-degrees:0.02}") double cellDegrees,
+                                @Value("${app.geo.max-radius-km:20}") double maxRadiusKm) {
+        this.storeRepository = storeRepository;
+        this.sggCodeRepository = sggCodeRepository;
+        this.regionDirectory = regionDirectory;
+        this.gazetteer = gazetteer;
+        this.index = new StoreSpatialIndex(cellDegrees);
+        this.maxRadiusKm = maxRadiusKm;
+    }
+
+    /**
+     * Resolve district and coordinates for a store that has none yet.
+     * Returns {@code true} when coordinates were assigned.
+     */
+    public boolean geocode(Store store) {
+        if (store.getLatitude() != null && store.getLongitude() != null) {
+            return false;
+        }
+
+        SggCode district = store.getSggCode() != null ? store.getSggCode() : resolveDistrict(store);
+        if (district == null) {
+            return false;
+        }
+        store.setSggCode(district);
+
+        Optional<GeoPoint> point = gazetteer.locate(district.getSggCd5());
+        point.ifPresent(location -> {
+            store.setLatitude(location.latitude());
+            store.setLongitude(location.longitude());
+        });
+        return point.isPresent();
+    }
+
+    /**
+     * Forget previously resolved location, e.g. after the address changed.
+     */
+    public void clearLocation(Store store) {
+        store.setSggCode(null);
+        store.setLatitude(null);
+        store.setLongitude(null);
+    }
+
+    @Transactional(readOnly = true)
+    public List<NearbyStoreResult> findNearby(GeoPoint center, Double radiusKm, int limit,
+                                              StoreCategory category, boolean collaborationOpenOnly) {
+        StoreSpatialIndex.Filter filter = new StoreSpatialIndex.Filter(category, collaborationOpenOnly);
+        List<StoreSpatialIndex.Hit> hits = radiusKm != null
+            ? index.withinRadius(center, Math.min(radiusKm, maxRadiusKm), filter, limit)
+            : index.nearest(center, limit, filter, maxRadiusKm);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Store> stores = storeRepository.findAllById(hits.stream().map(StoreSpatialIndex.Hit::storeId).toList())
+            .stream()
+            .collect(Collectors.toMap(Store::getUuid, Function.identity()));
+
+        return hits.stream()
+            .filter(hit -> stores.containsKey(hit.storeId()))
+            .map(hit -> new NearbyStoreResult(stores.get(hit.storeId()), Math.round(hit.distanceKm() * 100.0) / 100.0))
+            .toList();
+    }
+
+    /**
+     * One-time geocoding of stores registered before coordinates existed, then index build.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillAndBuildIndex() {
+        List<Store> pending = storeRepository.findByLatitudeIsNull();
+        long geocoded = pending.stream().filter(this::geocode).count();
+        if (!pending.isEmpty()) {
+            log.info("Geocoded {} of {} stores without coordinates", geocoded, pending.size());
+        }
+
+        index.rebuild(storeRepository.findByLatitudeIsNotNull().stream()
+            .map(StoreSpatialIndex.Entry::of)
+            .toList());
+        log.info("Built store spatial index with {} stores", index.size());
+    }
+
+    /**
+     * Index entries carry coordinates, category and collaboration openness, which only change
+     * with the store profile.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreProfileChanged(StoreProfileChangedEvent event) {
+        if (event.storeId() == null) {
+            return;
+        }
+        storeRepository.findById(event.storeId())
+            .filter(store -> store.getLatitude() != null && store.getLongitude() != null)
+            .ifPresentOrElse(
+                store -> index.upsert(StoreSpatialIndex.Entry.of(store)),
+                () -> index.remove(event.storeId()));
+    }
+
+    private SggCode resolveDistrict(Store store) {
+        SggCode fromAddress = matchAddress(store.getAddress());
+        if (fromAddress != null) {
+            return fromAddress;
+        }
+        // Fall back to the owner's registered district
+        return store.getUser() != null ? store.getUser().getSggCode() : null;
+    }
+
+    private SggCode matchAddress(String address) {
+        if (address == null || address.isBlank()) {
+            return null;
+        }
+
+        RegionTree regions = regionDirectory.current();
+        String[] tokens = address.trim().split("\\s+");
+        String regionHint = tokens[0].length() >= 2 ? tokens[0].substring(0, 2) : tokens[0];
+        for (String token : tokens) {
+            if (!(token.endsWith("구") || token.endsWith("군") || token.endsWith("시"))) {
+                continue;
+            }
+            List<RegionTree.District> candidates = regions.findByCityName(token);
+            if (candidates.size() == 1) {
+                return sggCodeRepository.findById(candidates.get(0).code()).orElse(null);
+            }
+            for (RegionTree.District candidate : candidates) {
+                if (candidate.region() != null && candidate.region().startsWith(regionHint)) {
+                    return sggCodeRepository.findById(candidate.code()).orElse(null);
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,166 @@
+package org.balanceus.topping.application.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.balanceus.topping.domain.model.Product.ProductCategory;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.balanceus.topping.domain.repository.StoreMatchFeatures;
+import org.balanceus.topping.domain.repository.StoreMatchFeatures.StoreProfile;
+
+/**
+ * Scores candidate partner stores against one {@link StoreMatchFeatures} snapshot. A score is the
+ * weighted sum of five signals in [0, 1]: how well the store categories complement each other,
+ * overlap of the product categories they sell, district proximity, shared past partners in the
+ * collaboration graph, and the candidate's engagement relative to the most engaged store.
+ * Closed stores and current or past partners are never recommended.
+ */
+public class StoreMatchScorer {
+
+    static final double CATEGORY_WEIGHT = 0.30;
+    static final double REGION_WEIGHT = 0.25;
+    static final double PRODUCT_WEIGHT = 0.15;
+    static final double GRAPH_WEIGHT = 0.15;
+    static final double ENGAGEMENT_WEIGHT = 0.15;
+
+    private static final double SAME_CATEGORY = 0.2;
+    private static final double UNRELATED_CATEGORY = 0.4;
+    private static final Map<StoreCategory, Map<StoreCategory, Double>> COMPLEMENTARITY =
+            new EnumMap<>(StoreCategory.class);
+
+    static {
+        for (StoreCategory category : StoreCategory.values()) {
+            Map<StoreCategory, Double> row = new EnumMap<>(StoreCategory.class);
+            for (StoreCategory other : StoreCategory.values()) {
+                // Two stores of the same kind compete for the same customers
+                row.put(other, category == other ? SAME_CATEGORY : UNRELATED_CATEGORY);
+            }
+            COMPLEMENTARITY.put(category, row);
+        }
+        complement(StoreCategory.CAFE, StoreCategory.BOOKSTORE, 1.0);
+        complement(StoreCategory.CAFE, StoreCategory.RESTAURANT, 0.6);
+        complement(StoreCategory.CAFE, StoreCategory.GYM, 0.6);
+        complement(StoreCategory.RESTAURANT, StoreCategory.BOOKSTORE, 0.5);
+        complement(StoreCategory.RESTAURANT, StoreCategory.GYM, 0.5);
+        complement(StoreCategory.BOOKSTORE, StoreCategory.GYM, 0.3);
+    }
+
+    private final StoreMatchFeatures features;
+    private final Map<UUID, StoreProfile> profiles;
+    private final double maxEngagement;
+
+    public StoreMatchScorer(StoreMatchFeatures features) {
+        this.features = features;
+        this.profiles = features.stores().stream()
+                .collect(Collectors.toMap(StoreProfile::storeId, Function.identity()));
+        this.maxEngagement = Math.log1p(features.engagement().values().stream()
+                .mapToLong(Long::longValue).max().orElse(0));
+    }
+
+    /**
+     * The {@code k} best candidates for a store, best first; empty for a store not in the snapshot.
+     */
+    public List<ScoredCandidate> topK(UUID storeId, int k) {
+        StoreProfile store = profiles.get(storeId);
+        if (store == null || k <= 0) {
+            return List.of();
+        }
+        Set<UUID> partners = features.partners().getOrDefault(storeId, Set.of());
+        Comparator<ScoredCandidate> worstFirst = Comparator.comparingDouble(ScoredCandidate::score)
+                .thenComparing(ScoredCandidate::storeId, Comparator.reverseOrder());
+        PriorityQueue<ScoredCandidate> best = new PriorityQueue<>(k + 1, worstFirst);
+        for (StoreProfile candidate : features.stores()) {
+            if (candidate.storeId().equals(storeId) || !candidate.collaborationOpen()
+                    || partners.contains(candidate.storeId())) {
+                continue;
+            }
+            best.add(new ScoredCandidate(candidate.storeId(), score(store, candidate)));
+            if (best.size() > k) {
+                best.poll();
+            }
+        }
+        List<ScoredCandidate> ranked = new ArrayList<>(best);
+        ranked.sort(worstFirst.reversed());
+        return ranked;
+    }
+
+    double score(StoreProfile store, StoreProfile candidate) {
+        return CATEGORY_WEIGHT * complementarity(store.category(), candidate.category())
+                + REGION_WEIGHT * regionProximity(store.sggCode(), candidate.sggCode())
+                + PRODUCT_WEIGHT * productOverlap(store.storeId(), candidate.storeId())
+                + GRAPH_WEIGHT * graphProximity(store.storeId(), candidate.storeId())
+                + ENGAGEMENT_WEIGHT * engagement(candidate.storeId());
+    }
+
+    static double complementarity(StoreCategory category, StoreCategory other) {
+        if (category == null || other == null) {
+            return UNRELATED_CATEGORY;
+        }
+        return COMPLEMENTARITY.get(category).get(other);
+    }
+
+    /**
+     * 1 within the same district, 0.5 within the same province or metropolitan city.
+     */
+    static double regionProximity(Integer sggCode, Integer otherSggCode) {
+        if (sggCode == null || otherSggCode == null) {
+            return 0;
+        }
+        if (sggCode.equals(otherSggCode)) {
+            return 1;
+        }
+        return sggCode / 1000 == otherSggCode / 1000 ? 0.5 : 0;
+    }
+
+    /**
+     * Jaccard similarity of the product categories both stores sell.
+     */
+    private double productOverlap(UUID storeId, UUID candidateId) {
+        Set<ProductCategory> mine = features.productCategories().getOrDefault(storeId, Set.of());
+        Set<ProductCategory> theirs = features.productCategories().getOrDefault(candidateId, Set.of());
+        if (mine.isEmpty() || theirs.isEmpty()) {
+            return 0;
+        }
+        long shared = mine.stream().filter(theirs::contains).count();
+        return (double) shared / (mine.size() + theirs.size() - shared);
+    }
+
+    /**
+     * Partners of partners are likely fits; two or more shared partners count fully.
+     */
+    private double graphProximity(UUID storeId, UUID candidateId) {
+        Set<UUID> mine = features.partners().getOrDefault(storeId, Set.of());
+        Set<UUID> theirs = features.partners().getOrDefault(candidateId, Set.of());
+        if (mine.isEmpty() || theirs.isEmpty()) {
+            return 0;
+        }
+        long shared = mine.stream().filter(theirs::contains).count();
+        return Math.min(1.0, shared / 2.0);
+    }
+
+    /**
+     * Log-scaled so a handful of very popular stores do not dominate every list.
+     */
+    private double engagement(UUID candidateId) {
+        if (maxEngagement == 0) {
+            return 0;
+        }
+        return Math.log1p(features.engagement().getOrDefault(candidateId, 0L)) / maxEngagement;
+    }
+
+    private static void complement(StoreCategory category, StoreCategory other, double score) {
+        COMPLEMENTARITY.get(category).put(other, score);
+        COMPLEMENTARITY.get(other).put(category, score);
+    }
+
+    public record ScoredCandidate(UUID storeId, double score) {
+    }
+}
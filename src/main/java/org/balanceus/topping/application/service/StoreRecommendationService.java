@@ -0,0 +1,189 @@
+package org.balanceus.topping.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.application.event.StoreEngagementChangedEvent;
+import org.balanceus.topping.application.service.StoreMatchScorer.ScoredCandidate;
+import org.balanceus.topping.domain.model.StoreRecommendation;
+import org.balanceus.topping.domain.repository.StoreMatchFeatures;
+import org.balanceus.topping.domain.repository.StoreMatchFeatures.StoreProfile;
+import org.balanceus.topping.domain.repository.StoreRecommendationRepository;
+import org.balanceus.topping.domain.repository.StoreRecommendationRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves precomputed partner suggestions for the proposal forms and keeps them fresh. Every store
+ * has a top-k list in {@code store_recommendations}, read in one indexed query. Stores whose data
+ * changed are marked dirty by {@link StoreContentChangedEvent} or, since likes and wishlists are
+ * features, {@link StoreEngagementChangedEvent}; a periodic refresh recomputes their
+ * lists and the lists that currently contain them, and a nightly full refresh (also run once after
+ * startup, since the dirty set lives in memory) picks up everything incremental refreshes miss,
+ * such as a store becoming a better fit for lists it is not on yet.
+ * <p>
+ * Scoring a store needs the features of every candidate, so the snapshot of the last refresh is
+ * kept in memory; an incremental refresh reloads only the dirty stores' features and merges them in.
+ */
+@Service
+@Slf4j
+public class StoreRecommendationService {
+
+    private final StoreRecommendationRepository storeRecommendationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int topK;
+    private final int writeChunkSize;
+    private final Timer refreshDuration;
+    private final Counter storesRecomputed;
+    private final Set<UUID> dirtyStores = ConcurrentHashMap.newKeySet();
+    private volatile boolean fullRefreshPending = true;
+    private StoreMatchFeatures snapshot;
+    // Stores in the snapshot; their lists have been computed, even when they came out empty
+    private volatile Set<UUID> knownStores = Set.of();
+
+    public StoreRecommendationService(StoreRecommendationRepository storeRecommendationRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.recommendation.top-k:20}") int topK,
+                                      @Value("${app.recommendation.write-chunk-size:200}") int writeChunkSize) {
+        this.storeRecommendationRepository = storeRecommendationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.topK = Math.max(1, topK);
+        this.writeChunkSize = Math.max(1, writeChunkSize);
+        this.refreshDuration = Timer.builder("store.recommendation.refresh")
+                .description("Time to recompute store recommendation lists")
+                .register(meterRegistry);
+        this.storesRecomputed = Counter.builder("store.recommendation.recomputed")
+                .description("Store recommendation lists recomputed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Best partner suggestions for a store. A store without a list yet (e.g. just registered) gets
+     * an empty result and is computed on the next refresh; a store whose computed list is empty
+     * (e.g. no open candidates) is not recomputed until something changes.
+     */
+    public List<StoreRecommendationRow> recommend(UUID storeId, int limit) {
+        List<StoreRecommendationRow> rows =
+                storeRecommendationRepository.findTopByStore(storeId, Math.max(1, Math.min(limit, topK)));
+        if (rows.isEmpty() && !fullRefreshPending && !knownStores.contains(storeId)) {
+            dirtyStores.add(storeId);
+        }
+        return rows;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreContentChanged(StoreContentChangedEvent event) {
+        if (event.storeId() != null) {
+            dirtyStores.add(event.storeId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreEngagementChanged(StoreEngagementChangedEvent event) {
+        if (event.storeId() != null) {
+            dirtyStores.add(event.storeId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.recommendation.refresh-interval:PT5M}")
+    public synchronized void refreshDirty() {
+        if (fullRefreshPending || snapshot == null) {
+            refreshAll();
+            return;
+        }
+        if (dirtyStores.isEmpty()) {
+            return;
+        }
+        Set<UUID> dirty = new HashSet<>(dirtyStores);
+        dirtyStores.removeAll(dirty);
+        Set<UUID> targets = new HashSet<>(dirty);
+        // Lists that contain a changed store carry its old score and may now rank it wrongly
+        targets.addAll(storeRecommendationRepository.findStoresRecommending(dirty));
+        recompute(dirty, targets);
+    }
+
+    @Scheduled(cron = "${app.recommendation.full-refresh-cron:0 0 5 * * *}")
+    public synchronized void refreshAll() {
+        fullRefreshPending = false;
+        dirtyStores.clear();
+        recompute(null, null);
+    }
+
+    /**
+     * Recompute the lists of {@code targets} after reloading the features of {@code dirty}, or
+     * reload everything and recompute every list when both are null. On failure the work is put
+     * back so the next refresh retries it.
+     */
+    private void recompute(Set<UUID> dirty, Set<UUID> targets) {
+        refreshDuration.record(() -> {
+            try {
+                StoreMatchFeatures features = dirty == null
+                        ? readOnlyTransaction.execute(status -> storeRecommendationRepository.loadFeatures())
+                        : snapshot.merge(dirty, readOnlyTransaction.execute(
+                                status -> storeRecommendationRepository.loadFeatures(dirty)));
+                snapshot = features;
+                knownStores = features.stores().stream().map(StoreProfile::storeId).collect(Collectors.toSet());
+                StoreMatchScorer scorer = new StoreMatchScorer(features);
+                Collection<UUID> storeIds = targets != null ? targets
+                        : features.stores().stream().map(StoreProfile::storeId).toList();
+
+                Map<UUID, List<StoreRecommendation>> chunk = new LinkedHashMap<>();
+                for (UUID storeId : storeIds) {
+                    // Unknown (deleted) stores get an empty list, which clears their rows
+                    chunk.put(storeId, toRows(storeId, scorer.topK(storeId, topK)));
+                    if (chunk.size() == writeChunkSize) {
+                        write(chunk);
+                        chunk = new LinkedHashMap<>();
+                    }
+                }
+                write(chunk);
+                storesRecomputed.increment(storeIds.size());
+                log.info("Recomputed recommendation lists for {} stores", storeIds.size());
+            } catch (RuntimeException e) {
+                log.error("Store recommendation refresh failed; retrying on the next run", e);
+                if (targets != null) {
+                    dirtyStores.addAll(targets);
+                } else {
+                    fullRefreshPending = true;
+                }
+            }
+        });
+    }
+
+    private void write(Map<UUID, List<StoreRecommendation>> chunk) {
+        if (!chunk.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> storeRecommendationRepository.replace(chunk));
+        }
+    }
+
+    private static List<StoreRecommendation> toRows(UUID storeId, List<ScoredCandidate> candidates) {
+        List<StoreRecommendation> rows = new ArrayList<>(candidates.size());
+        for (int ranking = 0; ranking < candidates.size(); ranking++) {
+            ScoredCandidate candidate = candidates.get(ranking);
+            rows.add(new StoreRecommendation(storeId, candidate.storeId(), ranking, candidate.score()));
+        }
+        return rows;
+    }
+}
@@ -1,9 +1,12 @@
 package org.balanceus.topping.application.service;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.application.event.StoreProfileChangedEvent;
 import org.balanceus.topping.application.dto.StoreForm;
 import org.balanceus.topping.application.dto.StoreRegistrationRequest;
 import org.balanceus.topping.domain.model.Store;
@@ -13,6 +16,7 @@ import org.balanceus.topping.application.exception.ApplicationErrorCode;
 import org.balanceus.topping.application.exception.ApplicationException;
 import org.balanceus.topping.domain.repository.StoreRepository;
 import org.balanceus.topping.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +29,8 @@ public class StoreService {
 
     private final StoreRepository storeRepository;
     private final UserRepository userRepository;
+    private final StoreLocationService storeLocationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Store registerStore(StoreRegistrationRequest request, UUID userUuid) {
         StoreForm form = new StoreForm();
@@ -54,7 +60,11 @@ public class StoreService {
         store.setUser(user);
         applyBasicFields(store, form);
         applyAdditionalFields(store, form);
-        return storeRepository.save(store);
+        storeLocationService.geocode(store);
+        Store savedStore = storeRepository.save(store);
+        eventPublisher.publishEvent(new StoreProfileChangedEvent(savedStore.getUuid()));
+        eventPublisher.publishEvent(new StoreContentChangedEvent(savedStore.getUuid()));
+        return savedStore;
     }
 
     @Transactional(readOnly = true)
@@ -90,9 +100,17 @@ public class StoreService {
             throw new ApplicationException(ApplicationErrorCode.ALREADY_EXISTS, "Store name already exists");
         }
 
+        String previousAddress = store.getAddress();
         applyBasicFields(store, form);
         applyAdditionalFields(store, form);
-        return storeRepository.save(store);
+        if (!Objects.equals(store.getAddress(), previousAddress)) {
+            storeLocationService.clearLocation(store);
+            storeLocationService.geocode(store);
+        }
+        Store savedStore = storeRepository.save(store);
+        eventPublisher.publishEvent(new StoreProfileChangedEvent(savedStore.getUuid()));
+        eventPublisher.publishEvent(new StoreContentChangedEvent(savedStore.getUuid()));
+        return savedStore;
     }
 
     @Transactional(readOnly = true)
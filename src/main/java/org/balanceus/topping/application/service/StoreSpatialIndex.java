@@ -0,0 +1,179 @@
+package org.balanceus.topping.application.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.balanceus.topping.domain.geo.GeoPoint;
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
+
+/**
+ * In-memory uniform lat/lng grid over geocoded stores, supporting radius and k-nearest queries.
+ * Reads are lock-free; writers are serialized.
+ */
+public class StoreSpatialIndex {
+
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    private final double cellDegrees;
+    private final Map<Long, Set<Entry>> cells = new ConcurrentHashMap<>();
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    public StoreSpatialIndex(double cellDegrees) {
+        if (cellDegrees <= 0) {
+            throw new IllegalArgumentException("cellDegrees must be positive");
+        }
+        this.cellDegrees = cellDegrees;
+    }
+
+    public record Entry(UUID storeId, double latitude, double longitude,
+                        StoreCategory category, boolean collaborationOpen) {
+
+        public static Entry of(Store store) {
+            return new Entry(store.getUuid(), store.getLatitude(), store.getLongitude(),
+                    store.getCategory(), !Boolean.FALSE.equals(store.getIsCollaborationOpen()));
+        }
+    }
+
+    public record Hit(UUID storeId, double distanceKm) {
+    }
+
+    /**
+     * Optional filters; {@code null} category matches every category.
+     */
+    public record Filter(StoreCategory category, boolean collaborationOpenOnly) {
+
+        public static final Filter NONE = new Filter(null, false);
+
+        boolean matches(Entry entry) {
+            return (category == null || category == entry.category())
+                    && (!collaborationOpenOnly || entry.collaborationOpen());
+        }
+    }
+
+    public synchronized void rebuild(Collection<Entry> snapshot) {
+        cells.clear();
+        entries.clear();
+        snapshot.forEach(this::insert);
+    }
+
+    public synchronized void upsert(Entry entry) {
+        remove(entry.storeId());
+        insert(entry);
+    }
+
+    public synchronized void remove(UUID storeId) {
+        Entry previous = entries.remove(storeId);
+        if (previous != null) {
+            Set<Entry> cell = cells.get(cellKey(previous.latitude(), previous.longitude()));
+            if (cell != null) {
+                cell.remove(previous);
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Stores within {@code radiusKm} of the center, nearest first.
+     */
+    public List<Hit> withinRadius(GeoPoint center, double radiusKm, Filter filter, int limit) {
+        double latSpan = radiusKm / KM_PER_DEGREE_LAT;
+        double lngSpan = radiusKm / (KM_PER_DEGREE_LAT * Math.max(0.01, Math.cos(Math.toRadians(center.latitude()))));
+
+        int minRow = index(center.latitude() - latSpan);
+        int maxRow = index(center.latitude() + latSpan);
+        int minCol = index(center.longitude() - lngSpan);
+        int maxCol = index(center.longitude() + lngSpan);
+
+        List<Hit> hits = new ArrayList<>();
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                collect(cells.get(key(row, col)), center, filter, radiusKm, hits);
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits.size() > limit ? List.copyOf(hits.subList(0, limit)) : hits;
+    }
+
+    /**
+     * The {@code k} nearest stores within {@code maxRadiusKm}, scanning grid rings outward
+     * until no unscanned cell can hold a closer match.
+     */
+    public List<Hit> nearest(GeoPoint center, int k, Filter filter, double maxRadiusKm) {
+        int centerRow = index(center.latitude());
+        int centerCol = index(center.longitude());
+        // Narrowest cell width anywhere in the search area, so the ring bound stays conservative
+        double farthestLatitude = Math.min(89.0, Math.abs(center.latitude()) + maxRadiusKm / KM_PER_DEGREE_LAT);
+        double cellKm = cellDegrees * KM_PER_DEGREE_LAT * Math.max(0.01, Math.cos(Math.toRadians(farthestLatitude)));
+        int maxRing = (int) Math.ceil(maxRadiusKm / cellKm) + 1;
+
+        List<Hit> hits = new ArrayList<>();
+        int scanned = 0;
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int row = centerRow - ring; row <= centerRow + ring; row++) {
+                for (int col = centerCol - ring; col <= centerCol + ring; col++) {
+                    boolean onRing = Math.abs(row - centerRow) == ring || Math.abs(col - centerCol) == ring;
+                    if (onRing) {
+                        scanned += collect(cells.get(key(row, col)), center, filter, maxRadiusKm, hits);
+                    }
+                }
+            }
+            if (hits.size() >= k) {
+                hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+                // Every unscanned cell lies at least ring * cellKm away from the center
+                if (hits.get(k - 1).distanceKm() <= ring * cellKm) {
+                    break;
+                }
+            }
+            if (scanned >= entries.size()) {
+                break;
+            }
+        }
+        hits.sort(Comparator.comparingDouble(Hit::distanceKm));
+        return hits.size() > k ? List.copyOf(hits.subList(0, k)) : hits;
+    }
+
+    private int collect(Set<Entry> cell, GeoPoint center, Filter filter, double radiusKm, List<Hit> hits) {
+        if (cell == null) {
+            return 0;
+        }
+        for (Entry entry : cell) {
+            if (!filter.matches(entry)) {
+                continue;
+            }
+            double distance = GeoPoint.distanceKm(center.latitude(), center.longitude(),
+                    entry.latitude(), entry.longitude());
+            if (distance <= radiusKm) {
+                hits.add(new Hit(entry.storeId(), distance));
+            }
+        }
+        return cell.size();
+    }
+
+    private void insert(Entry entry) {
+        entries.put(entry.storeId(), entry);
+        cells.computeIfAbsent(cellKey(entry.latitude(), entry.longitude()), key -> ConcurrentHashMap.newKeySet())
+                .add(entry);
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        return key(index(latitude), index(longitude));
+    }
+
+    private int index(double degrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+
+    private static long key(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
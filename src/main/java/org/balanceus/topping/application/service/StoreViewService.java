@@ -4,16 +4,17 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.balanceus.topping.application.dto.ImageView;
+import org.balanceus.topping.application.dto.ProductCardView;
+import org.balanceus.topping.application.dto.StoreDetailSnapshot;
 import org.balanceus.topping.application.dto.StoreDetailView;
+import org.balanceus.topping.application.dto.StoreEngagementCounts;
 import org.balanceus.topping.application.exception.ApplicationErrorCode;
 import org.balanceus.topping.application.exception.ApplicationException;
-import org.balanceus.topping.domain.model.Collaboration;
+import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.Store;
-import org.balanceus.topping.domain.model.User;
-import org.balanceus.topping.domain.repository.CollaborationRepository;
 import org.balanceus.topping.domain.repository.ReviewRepository;
 import org.balanceus.topping.domain.repository.StoreLikeRepository;
-import org.balanceus.topping.domain.repository.UserRepository;
 import org.balanceus.topping.domain.repository.WishlistRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,47 +28,64 @@ public class StoreViewService {
 
     private final StoreService storeService;
     private final CollaborationService collaborationService;
-    private final CollaborationRepository collaborationRepository;
+    private final CollaborationGraphService collaborationGraphService;
     private final StoreLikeRepository storeLikeRepository;
     private final WishlistRepository wishlistRepository;
     private final ReviewRepository reviewRepository;
-    private final UserRepository userRepository;
+    private final StoreDetailCache storeDetailCache;
 
     public StoreDetailView getStoreDetail(UUID storeId, UUID requesterUuid) {
-        Store store = loadStore(storeId);
+        StoreDetailSnapshot snapshot = storeDetailCache.get(storeId, this::assembleSnapshot);
+        StoreEngagementCounts engagement = storeDetailCache.getEngagement(storeId, id -> new StoreEngagementCounts(
+            storeLikeRepository.countByStoreUuid(id), wishlistRepository.countByStoreUuid(id)));
+
+        boolean isOwner = requesterUuid != null && snapshot.getOwnerUuid().equals(requesterUuid);
+        boolean isLiked = requesterUuid != null && storeLikeRepository.existsByUserUuidAndStoreUuid(requesterUuid, storeId);
+        boolean isWishlisted = requesterUuid != null
+            && wishlistRepository.existsByUserUuidAndStoreUuid(requesterUuid, storeId);
 
-        boolean isOwner = requesterUuid != null && store.getUser().getUuid().equals(requesterUuid);
-        User requester = loadUser(requesterUuid);
+        return StoreDetailView.builder()
+            .store(snapshot)
+            .owner(isOwner)
+            .popularMenus(snapshot.getPopularMenus())
+            .signatureMenus(snapshot.getSignatureMenus())
+            .likeCount(engagement.likeCount())
+            .wishlistCount(engagement.wishlistCount())
+            .liked(isLiked)
+            .wishlisted(isWishlisted)
+            .reviewCount(snapshot.getReviewCount())
+            .rating(snapshot.getRating())
+            .collaborationProductCount(snapshot.getCollaborationProductCount())
+            .collaboratingStores(snapshot.getCollaboratingStores())
+            .build();
+    }
 
-        List<Collaboration> acceptedCollaborations =
-            collaborationRepository.findByStoreAndStatus(store, Collaboration.CollaborationStatus.ACCEPTED);
-        List<Store> collaboratingStores = acceptedCollaborations.stream()
-            .map(collaboration -> collaboration.getInitiatorProduct() != null
-                ? collaboration.getInitiatorProduct().getStore()
-                : null)
-            .filter(collaboratingStore -> collaboratingStore != null
-                && !collaboratingStore.getUuid().equals(store.getUuid()))
-            .distinct()
-            .toList();
+    private StoreDetailSnapshot assembleSnapshot(UUID storeId) {
+        Store store = loadStore(storeId);
 
-        long likeCount = storeLikeRepository.countByStore(store);
-        long wishlistCount = wishlistRepository.countByStore(store);
-        boolean isLiked = requester != null && storeLikeRepository.existsByUserAndStore(requester, store);
-        boolean isWishlisted = requester != null && wishlistRepository.existsByUserAndStore(requester, store);
+        List<StoreDetailSnapshot.Partner> collaboratingStores =
+            collaborationGraphService.findCollaboratingStores(store.getUuid()).stream()
+                .map(partner -> new StoreDetailSnapshot.Partner(partner.getUuid(), partner.getName()))
+                .toList();
 
         long reviewCount = reviewRepository.countByStoreAndIsActiveTrue(store);
         Double averageRating = reviewRepository.findAverageRatingByStoreAndIsActiveTrue(store);
         double rating = averageRating != null ? Math.round(averageRating * 10.0) / 10.0 : 0.0;
 
-        return StoreDetailView.builder()
-            .store(store)
-            .owner(isOwner)
-            .popularMenus(nonNullList(store.getPopularProducts()))
-            .signatureMenus(nonNullList(store.getSignatureProducts()))
-            .likeCount(likeCount)
-            .wishlistCount(wishlistCount)
-            .liked(isLiked)
-            .wishlisted(isWishlisted)
+        // Copy what the page renders while the persistence context is open; no entity escapes
+        return StoreDetailSnapshot.builder()
+            .uuid(store.getUuid())
+            .ownerUuid(store.getUser().getUuid())
+            .name(store.getName())
+            .category(store.getCategory())
+            .address(store.getAddress())
+            .snsOrWebsiteLink(store.getSnsOrWebsiteLink())
+            .mainImageUrl(store.getMainImageUrl())
+            .mainImage(ImageView.of(store.getMainImage()))
+            .readyImages(store.getReadyImages().stream().map(ImageView::of).toList())
+            .hashtags(List.copyOf(store.getHashtags()))
+            .popularMenus(productCards(store.getPopularProducts()))
+            .signatureMenus(productCards(store.getSignatureProducts()))
             .reviewCount(reviewCount)
             .rating(rating)
             .collaborationProductCount(collaborationService.getCollaborationProductCount(store))
@@ -85,14 +103,7 @@ public class StoreViewService {
             .orElseThrow(() -> new ApplicationException(ApplicationErrorCode.NOT_FOUND, "Store not found"));
     }
 
-    private User loadUser(UUID userUuid) {
-        if (userUuid == null) {
-            return null;
-        }
-        return userRepository.findById(userUuid).orElse(null);
-    }
-
-    private <T> List<T> nonNullList(List<T> source) {
-        return source != null ? source : List.of();
+    private List<ProductCardView> productCards(List<Product> products) {
+        return products != null ? products.stream().map(ProductCardView::of).toList() : List.of();
     }
 }
@@ -0,0 +1,113 @@
+package org.balanceus.topping.application.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.balanceus.topping.application.dto.UserPrincipal;
+import org.balanceus.topping.application.event.UserChangedEvent;
+import org.balanceus.topping.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Short-lived, size-bounded cache of {@link UserPrincipal}s, looked up by email (the login name) or
+ * by id. Principals are held by id; the email index only maps to ids, so one eviction covers both
+ * keys. Entries are evicted after commit of any account write and otherwise expire quickly, which
+ * bounds how long a write that races a load can be served stale.
+ * <p>
+ * Only the immutable identity is cached, never the entity: code that needs the user's data or its
+ * associations loads the user in its own persistence context, and logins check the stored password.
+ */
+@Component
+@Slf4j
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<UUID, UserPrincipal> usersById;
+    private final Cache<String, UUID> idsByEmail;
+
+    public UserCache(UserRepository userRepository,
+                     @Value("${app.cache.user.maximum-size:10000}") long maximumSize,
+                     @Value("${app.cache.user.expire-after-write:PT1M}") Duration expireAfterWrite,
+                     MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.usersById = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        this.idsByEmail = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "user");
+    }
+
+    public Optional<UserPrincipal> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        UUID userId = idsByEmail.getIfPresent(email);
+        if (userId != null) {
+            UserPrincipal cached = usersById.getIfPresent(userId);
+            if (cached != null && email.equals(cached.email())) {
+                return Optional.of(cached);
+            }
+        }
+        // Unknown emails are not remembered, so a user who just signed up is found at once
+        Optional<UserPrincipal> principal = userRepository.findByEmail(email).map(UserPrincipal::of);
+        principal.ifPresent(this::put);
+        return principal;
+    }
+
+    public Optional<UserPrincipal> findById(UUID userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        UserPrincipal cached = usersById.getIfPresent(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UserPrincipal> principal = userRepository.findById(userId).map(UserPrincipal::of);
+        principal.ifPresent(this::put);
+        return principal;
+    }
+
+    public void evict(UUID userId) {
+        UserPrincipal cached = usersById.getIfPresent(userId);
+        if (cached != null && cached.email() != null) {
+            idsByEmail.invalidate(cached.email());
+        }
+        usersById.invalidate(userId);
+    }
+
+    public void clear() {
+        usersById.invalidateAll();
+        idsByEmail.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.userId() == null) {
+            return;
+        }
+        evict(event.userId());
+        log.debug("Evicted cached user {}", event.userId());
+    }
+
+    private void put(UserPrincipal principal) {
+        usersById.put(principal.uuid(), principal);
+        if (principal.email() != null) {
+            idsByEmail.put(principal.email(), principal.uuid());
+        }
+    }
+}
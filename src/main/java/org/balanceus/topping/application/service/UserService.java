@@ -3,8 +3,10 @@ package org.balanceus.topping.application.service;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.balanceus.topping.application.event.UserChangedEvent;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,6 +20,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     public boolean existsByEmail(String email) {
         return userRepository.findByEmail(email).isPresent();
@@ -28,7 +31,9 @@ public class UserService {
     }
 
     public User save(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(saved.getUuid()));
+        return saved;
     }
 
     public Optional<User> findByEmail(String email) {
@@ -41,6 +46,7 @@ public class UserService {
 
     public void deleteById(UUID uuid) {
         userRepository.deleteById(uuid);
+        eventPublisher.publishEvent(new UserChangedEvent(uuid));
     }
 
     public void updateUserProfile(UUID uuid, String username, String phoneNumber) {
@@ -56,6 +62,7 @@ public class UserService {
         }
         
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(uuid));
     }
 
     public void updatePassword(UUID uuid, String currentPassword, String newPassword) {
@@ -68,5 +75,6 @@ public class UserService {
         
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(uuid));
     }
 }
\ No newline at end of file
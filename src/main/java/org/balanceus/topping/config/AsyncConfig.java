@@ -1,7 +1,9 @@
 package org.balanceus.topping.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -12,6 +14,8 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableAsync
 public class AsyncConfig {
 
+    // Stays the default @Async executor now that a second pool exists
+    @Primary
     @Bean(name = "customExecutor")
     public Executor customExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -36,4 +40,89 @@ public class AsyncConfig {
         
         return executor;
     }
+
+    @Bean(name = "imageProcessingExecutor")
+    public ThreadPoolTaskExecutor imageProcessingExecutor(
+            @Value("${app.image.processing.core-pool-size:2}") int corePoolSize,
+            @Value("${app.image.processing.max-pool-size:4}") int maxPoolSize,
+            @Value("${app.image.processing.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        // Decoding and resizing are CPU and heap heavy, so keep the pool small
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-worker-");
+        
+        // Reject when the queue is full; the blob stays PENDING and is resubmitted by a later sweep
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        
+        // Let in-flight jobs finish on shutdown; unfinished ones stay PENDING and are resumed at startup
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        
+        executor.initialize();
+        
+        return executor;
+    }
+
+    @Bean(name = "imageUploadExecutor")
+    public ThreadPoolTaskExecutor imageUploadExecutor(
+            @Value("${app.image.upload.pool-size:4}") int poolSize,
+            @Value("${app.image.upload.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        // Global cap on concurrent spool/hash work across all upload requests
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-upload-");
+        
+        // Request threads wait on their own futures, so overflow simply runs on the caller
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        
+        executor.initialize();
+        
+        return executor;
+    }
+
+    @Bean(name = "dashboardExecutor")
+    public ThreadPoolTaskExecutor dashboardExecutor(
+            @Value("${app.mypage.dashboard.pool-size:4}") int poolSize,
+            @Value("${app.mypage.dashboard.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        // Every running section holds a pooled connection, so this also caps dashboard connections
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        
+        // Reject on overflow; the section renders its fallback rather than running untimed on the request thread
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        
+        executor.initialize();
+        
+        return executor;
+    }
+
+    @Bean(name = "outboxExecutor")
+    public ThreadPoolTaskExecutor outboxExecutor(
+            @Value("${app.outbox.pool-size:2}") int poolSize,
+            @Value("${app.outbox.queue-capacity:10}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        
+        // Drains coalesce, so a few threads are enough to take delivery off the committing request
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("outbox-");
+        
+        // A dropped trigger only delays delivery until the next scheduled poll
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        
+        executor.initialize();
+        
+        return executor;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,78 @@
+package org.balanceus.topping.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.balanceus.topping.domain.model.ImageVariant;
+import org.balanceus.topping.domain.storage.ImageStorage;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Falls back to {@link ImageStorage} when an image is not on this node's disk, serving the copy the
+ * storage pulls into its local cache. With local storage this only repeats the file lookup.
+ * Misses are remembered so a missing image costs one remote round trip per TTL rather than one per
+ * view. Most images have no WebP sibling, so those misses are kept longer; other misses expire
+ * quickly because an upload still being processed appears shortly after.
+ */
+@Slf4j
+public class ImageStorageResourceResolver extends AbstractResourceResolver {
+
+    private final ImageStorage imageStorage;
+    private final String keyPrefix;
+    private final Cache<String, Boolean> missingWebp = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+    private final Cache<String, Boolean> missing = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofSeconds(30))
+            .build();
+
+    /**
+     * @param keyPrefix storage key of the handler's URL root, e.g. {@code image/} for {@code /image/**}
+     */
+    public ImageStorageResourceResolver(ImageStorage imageStorage, String keyPrefix) {
+        this.imageStorage = imageStorage;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource != null) {
+            return resource;
+        }
+        String key = keyPrefix + requestPath;
+        Cache<String, Boolean> misses = requestPath.endsWith(ImageVariant.WEBP_SUFFIX) ? missingWebp : missing;
+        if (misses.getIfPresent(key) != null) {
+            return null;
+        }
+        try {
+            Resource copy = imageStorage.localCopy(key).map(FileSystemResource::new).orElse(null);
+            if (copy == null) {
+                misses.put(key, Boolean.TRUE);
+            }
+            return copy;
+        } catch (IOException | SecurityException e) {
+            log.warn("Failed to load image {} from storage", key, e);
+            return null;
+        }
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+}
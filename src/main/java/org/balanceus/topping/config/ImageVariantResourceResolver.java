@@ -0,0 +1,40 @@
+package org.balanceus.topping.config;
+
+import java.util.List;
+
+import org.balanceus.topping.domain.model.ImageVariant;
+import org.springframework.core.io.Resource;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves variant URLs such as {@code /image/stores/{id}/abc-card.jpg}. When that rendition was
+ * never generated (images uploaded before variants existed, or originals already smaller than the
+ * variant) the original {@code abc.jpg} is served instead, so templates can always ask for the
+ * smallest adequate size.
+ */
+public class ImageVariantResourceResolver extends AbstractResourceResolver {
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        if (resource != null) {
+            return resource;
+        }
+        String originalPath = originalPath(requestPath);
+        return originalPath != null ? chain.resolveResource(request, originalPath, locations) : null;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    static String originalPath(String requestPath) {
+        return ImageVariant.originalPathOf(requestPath);
+    }
+}
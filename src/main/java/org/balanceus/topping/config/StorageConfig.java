@@ -0,0 +1,93 @@
+package org.balanceus.topping.config;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+import org.balanceus.topping.domain.storage.ImageStorage;
+import org.balanceus.topping.infrastructure.storage.LocalImageStorage;
+import org.balanceus.topping.infrastructure.storage.S3ImageStorage;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+/**
+ * Selects where uploaded images live: {@code app.storage.type=local} (default) keeps them under
+ * {@code app.upload.path}; {@code s3} puts them in an S3-compatible bucket, with
+ * {@code app.storage.s3.endpoint} pointing at MinIO or LocalStack for local runs.
+ */
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "local", matchIfMissing = true)
+    public ImageStorage localImageStorage(@Value("${app.upload.path}") String uploadPath) {
+        return new LocalImageStorage(Paths.get(uploadPath));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(name = "app.storage.type", havingValue = "s3")
+    static class S3StorageConfig {
+
+        @Bean(destroyMethod = "close")
+        public S3Client imageS3Client(
+                @Value("${app.storage.s3.region:ap-northeast-2}") String region,
+                @Value("${app.storage.s3.endpoint:}") String endpoint,
+                @Value("${app.storage.s3.path-style-access:false}") boolean pathStyleAccess,
+                @Value("${app.storage.s3.access-key:}") String accessKey,
+                @Value("${app.storage.s3.secret-key:}") String secretKey) {
+            AwsCredentialsProvider credentials = accessKey.isBlank()
+                    ? DefaultCredentialsProvider.create()
+                    : StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+            S3ClientBuilder builder = S3Client.builder()
+                    .region(Region.of(region))
+                    .credentialsProvider(credentials)
+                    .forcePathStyle(pathStyleAccess);
+            if (!endpoint.isBlank()) {
+                builder.endpointOverride(URI.create(endpoint));
+            }
+            return builder.build();
+        }
+
+        @Bean(name = "imageStorageExecutor")
+        public ThreadPoolTaskExecutor imageStorageExecutor(
+                @Value("${app.storage.s3.upload-concurrency:4}") int uploadConcurrency) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+            // Multipart parts in flight; callers already bound buffered parts per upload
+            executor.setCorePoolSize(uploadConcurrency);
+            executor.setMaxPoolSize(uploadConcurrency);
+            executor.setQueueCapacity(Integer.MAX_VALUE);
+            executor.setThreadNamePrefix("image-storage-");
+            executor.setWaitForTasksToCompleteOnShutdown(true);
+            executor.setAwaitTerminationSeconds(30);
+            executor.initialize();
+
+            return executor;
+        }
+
+        @Bean
+        public ImageStorage s3ImageStorage(
+                S3Client imageS3Client,
+                @Qualifier("imageStorageExecutor") ThreadPoolTaskExecutor imageStorageExecutor,
+                @Value("${app.storage.s3.bucket}") String bucket,
+                @Value("${app.storage.s3.part-size:8MB}") DataSize partSize,
+                @Value("${app.storage.s3.upload-concurrency:4}") int uploadConcurrency,
+                @Value("${app.storage.s3.cache-path:${app.upload.path}/cache}") String cachePath,
+                @Value("${app.storage.s3.cache-max-size:0}") DataSize cacheMaxSize) {
+            return new S3ImageStorage(imageS3Client, bucket, imageStorageExecutor, (int) partSize.toBytes(),
+                    uploadConcurrency, Paths.get(cachePath), cacheMaxSize.toBytes());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.balanceus.topping.config;
+
+import java.util.regex.Pattern;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Picks Cache-Control for resource handlers that don't set their own. A URL carrying a content
+ * hash ({@code /css/app-5d41402abc4b2a76b9719d911017c592.css}) can never point at different bytes,
+ * so it is cached for a year as immutable; the plain URL (still used by scripts that build paths by
+ * hand) only gets a short max-age and is revalidated through its ETag.
+ */
+public class VersionedResourceCacheInterceptor implements HandlerInterceptor {
+
+    private static final Pattern CONTENT_VERSIONED = Pattern.compile(".+-[0-9a-f]{32}(\\.[A-Za-z0-9]+)?$");
+
+    private final String versionedHeader;
+    private final String unversionedHeader;
+
+    public VersionedResourceCacheInterceptor(CacheControl versioned, CacheControl unversioned) {
+        this.versionedHeader = versioned.getHeaderValue();
+        this.unversionedHeader = unversioned.getHeaderValue();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof ResourceHttpRequestHandler resourceHandler
+                && resourceHandler.getCacheControl() == null
+                && resourceHandler.getCacheSeconds() < 0) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL,
+                    isContentVersioned(request.getRequestURI()) ? versionedHeader : unversionedHeader);
+        }
+        return true;
+    }
+
+    static boolean isContentVersioned(String path) {
+        return CONTENT_VERSIONED.matcher(path).matches();
+    }
+}
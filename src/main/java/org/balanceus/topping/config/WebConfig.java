@@ -1,35 +1,141 @@
 package org.balanceus.topping.config;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.balanceus.topping.application.service.UserCache;
+import org.balanceus.topping.domain.repository.UserRepository;
+import org.balanceus.topping.domain.storage.ImageStorage;
+import org.balanceus.topping.infrastructure.security.CurrentUserArgumentResolver;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceChainRegistration;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+    private static final CacheControl REVALIDATE_HOURLY = CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+
+    private final ObjectProvider<ImageStorage> imageStorage;
+    private final ObjectProvider<UserCache> userCache;
+    private final ObjectProvider<UserRepository> userRepository;
+
     @Value("${app.upload.path}")
     private String uploadPath;
 
+    @Value("${app.image.encoder.webp.enabled:true}")
+    private boolean webpEnabled;
+
+    public WebConfig(ObjectProvider<ImageStorage> imageStorage, ObjectProvider<UserCache> userCache,
+                     ObjectProvider<UserRepository> userRepository) {
+        this.imageStorage = imageStorage;
+        this.userCache = userCache;
+        this.userRepository = userRepository;
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // Static resource mapping for root-level files (ads.txt, robots.txt, sitemap.xml, etc.)
+        // Static resource mapping for root-level files (ads.txt, robots.txt, sitemap.xml, etc.) and css/js.
+        // Links rendered through @{...} carry a content hash (app-3f2a...css); Cache-Control is chosen per
+        // request by VersionedResourceCacheInterceptor. Precompressed .br/.gz siblings from the build are
+        // served to clients that accept them.
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/")
-                .setCachePeriod(3600);
-        
-        // Static resource mapping for images - both classpath and external uploads
-        registry.addResourceHandler("/image/**")
+                .setEtagGenerator(WebConfig::strongEtag)
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+
+        // Content-addressed uploads (/image/blobs/ab/{sha256}.jpg) never change under the same URL.
+        // Images missing on this node are pulled from ImageStorage into its disk cache. Resolution is
+        // not memoized because cached copies can be evicted. Browsers accepting WebP get the .webp
+        // sibling when the encoder produced one.
+        ResourceChainRegistration blobChain = registry.addResourceHandler("/image/blobs/**")
+                .addResourceLocations("file:" + uploadPath + "/image/blobs/")
+                .setCacheControl(IMMUTABLE)
+                .setEtagGenerator(WebConfig::blobEtag)
+                .resourceChain(false);
+        if (webpEnabled) {
+            blobChain.addResolver(new WebpResourceResolver());
+        }
+        blobChain.addResolver(new ImageVariantResourceResolver());
+        imageStorage.ifAvailable(storage -> blobChain.addResolver(new ImageStorageResourceResolver(storage, "image/blobs/")));
+
+        // Static resource mapping for images - both classpath and external uploads.
+        // Variant URLs (abc-thumb.jpg, abc-card.jpg) fall back to the original when not generated.
+        ResourceChainRegistration imageChain = registry.addResourceHandler("/image/**")
                 .addResourceLocations("classpath:/static/image/", "file:" + uploadPath + "/image/")
-                .setCachePeriod(3600);
-        
+                .setCacheControl(REVALIDATE_HOURLY)
+                .setEtagGenerator(WebConfig::strongEtag)
+                .resourceChain(false);
+        if (webpEnabled) {
+            imageChain.addResolver(new WebpResourceResolver());
+        }
+        imageChain.addResolver(new ImageVariantResourceResolver());
+        imageStorage.ifAvailable(storage -> imageChain.addResolver(new ImageStorageResourceResolver(storage, "image/")));
+
         // Legacy mappings for backward compatibility
         registry.addResourceHandler("/store-images/**")
                 .addResourceLocations("file:" + uploadPath + "/stores/", "classpath:/static/store-images/")
-                .setCachePeriod(3600);
-        
+                .setCacheControl(REVALIDATE_HOURLY)
+                .setEtagGenerator(WebConfig::strongEtag);
+
         registry.addResourceHandler("/uploads/**")
                 .addResourceLocations("file:" + uploadPath + "/uploads/")
-                .setCachePeriod(3600);
+                .setCacheControl(REVALIDATE_HOURLY)
+                .setEtagGenerator(WebConfig::strongEtag);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new VersionedResourceCacheInterceptor(IMMUTABLE, REVALIDATE_HOURLY));
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserArgumentResolver(userCache::getObject, userRepository::getObject));
+    }
+
+    /**
+     * Rewrites {@code @{/css/...}} and {@code @{/js/...}} links in rendered pages to their
+     * content-hashed form.
+     */
+    @Bean
+    public ResourceUrlEncodingFilter resourceUrlEncodingFilter() {
+        return new ResourceUrlEncodingFilter();
+    }
+
+    /**
+     * Strong validator from size and modification time, so browsers can send If-Range on resumed
+     * downloads and receive 206 partial content rather than the whole file again.
+     */
+    static String strongEtag(Resource resource) {
+        try {
+            return Long.toHexString(resource.contentLength()) + "-" + Long.toHexString(resource.lastModified());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    static String blobEtag(Resource resource) {
+        String filename = resource.getFilename();
+        if (filename == null) {
+            return strongEtag(resource);
+        }
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,143 @@
+package org.balanceus.topping.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
+
+import org.balanceus.topping.domain.model.ImageVariant;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Serves the {@code .webp} sibling of an image ({@code abc-card.jpg.webp}) to browsers whose
+ * {@code Accept} header lists {@code image/webp}, and the original rendition to everyone else.
+ * Responses carry {@code Vary: Accept} so shared caches keep the two apart.
+ */
+public class WebpResourceResolver extends AbstractResourceResolver {
+
+    private static final String WEBP_MEDIA_TYPE = "image/webp";
+
+    @Override
+    protected Resource resolveResourceInternal(HttpServletRequest request, String requestPath,
+                                               List<? extends Resource> locations, ResourceResolverChain chain) {
+        if (requestPath.endsWith(ImageVariant.WEBP_SUFFIX)) {
+            return chain.resolveResource(request, requestPath, locations);
+        }
+        if (request != null && acceptsWebp(request)) {
+            Resource webp = chain.resolveResource(request, ImageVariant.webpPathFor(requestPath), locations);
+            if (webp != null) {
+                return new NegotiatedResource(webp);
+            }
+        }
+        Resource resource = chain.resolveResource(request, requestPath, locations);
+        return resource != null ? new NegotiatedResource(resource) : null;
+    }
+
+    @Override
+    protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                            ResourceResolverChain chain) {
+        return chain.resolveUrlPath(resourceUrlPath, locations);
+    }
+
+    static boolean acceptsWebp(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(WEBP_MEDIA_TYPE);
+    }
+
+    /**
+     * Delegates to the resolved file and adds {@code Vary: Accept} to the response.
+     */
+    static class NegotiatedResource extends AbstractResource implements HttpResource {
+
+        private final Resource resource;
+
+        NegotiatedResource(Resource resource) {
+            this.resource = resource;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            if (resource instanceof HttpResource httpResource) {
+                headers.putAll(httpResource.getResponseHeaders());
+            }
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            return headers;
+        }
+
+        @Override
+        public boolean exists() {
+            return resource.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return resource.isReadable();
+        }
+
+        @Override
+        public boolean isFile() {
+            return resource.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return resource.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return resource.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return resource.getFile();
+        }
+
+        @Override
+        public ReadableByteChannel readableChannel() throws IOException {
+            return resource.readableChannel();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return resource.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return resource.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return resource.createRelative(relativePath);
+        }
+
+        @Override
+        public String getFilename() {
+            return resource.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return resource.getDescription();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return resource.getInputStream();
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.balanceus.topping.domain.geo;
+
+import java.util.Optional;
+
+/**
+ * Resolves an administrative district ({@code SggCode.sggCd5}) to a representative coordinate.
+ * Implementations must work offline; stores are geocoded once and the result is persisted.
+ */
+public interface Gazetteer {
+
+    Optional<GeoPoint> locate(Integer sggCd5);
+}
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.Instant;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
@@ -15,16 +16,28 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "collaborations")
+@Table(name = "collaborations", indexes = {
+		@Index(name = "idx_collaborations_feed", columnList = "created_at DESC, uuid DESC"),
+		// MyPage tabs: per-status counts and newest-first pages, read one store column at a time
+		@Index(name = "idx_collaborations_initiator_status", columnList = "initiator_store_uuid, status, created_at DESC"),
+		@Index(name = "idx_collaborations_partner_status", columnList = "partner_store_uuid, status, created_at DESC"),
+		@Index(name = "idx_collaborations_initiator_created", columnList = "initiator_store_uuid, created_at DESC"),
+		@Index(name = "idx_collaborations_partner_created", columnList = "partner_store_uuid, created_at DESC"),
+		// Lifecycle scheduler: accepted collaborations starting or ending within the next window
+		@Index(name = "idx_collaborations_status_start", columnList = "status, start_date"),
+		@Index(name = "idx_collaborations_status_end", columnList = "status, end_date")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -73,7 +86,24 @@ public class Collaboration {
 	@UpdateTimestamp
 	private Instant updatedAt;
 
+	// Optimistic lock; status changes go through conditional updates that bump it as well
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private long version;
+
 	public enum CollaborationStatus {
-		PENDING, ACCEPTED, REJECTED, CANCELLED, ENDED
+		PENDING, ACCEPTED, REJECTED, CANCELLED, ENDED;
+
+		/**
+		 * PENDING is decided exactly once; ACCEPTED can still end or be cancelled; the rest are final.
+		 */
+		public boolean canTransitionTo(CollaborationStatus next) {
+			return switch (this) {
+				case PENDING -> next == ACCEPTED || next == REJECTED || next == CANCELLED;
+				case ACCEPTED -> next == ENDED || next == CANCELLED;
+				case REJECTED, CANCELLED, ENDED -> false;
+			};
+		}
 	}
 }
\ No newline at end of file
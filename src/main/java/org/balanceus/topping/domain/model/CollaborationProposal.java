@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.Instant;
 import java.util.UUID;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
@@ -15,17 +16,23 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "collaboration_proposals")
+@Table(name = "collaboration_proposals", indexes = {
+		@Index(name = "idx_proposals_proposer_store_status", columnList = "proposer_store_uuid, status, created_at DESC"),
+		@Index(name = "idx_proposals_target_store_status", columnList = "target_store_uuid, status, created_at DESC"),
+		@Index(name = "idx_proposals_target_store_created", columnList = "target_store_uuid, created_at DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -93,11 +100,28 @@ public class CollaborationProposal {
 	@UpdateTimestamp
 	private Instant updatedAt;
 
+	// Optimistic lock; status changes go through conditional updates that bump it as well
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private long version;
+
 	@OneToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "collaboration_uuid")
 	private Collaboration collaboration;
 
 	public enum CollaborationStatus {
-		PENDING, ACCEPTED, REJECTED, CANCELLED, ENDED
+		PENDING, ACCEPTED, REJECTED, CANCELLED, ENDED;
+
+		/**
+		 * PENDING is decided exactly once; ACCEPTED can still end or be cancelled; the rest are final.
+		 */
+		public boolean canTransitionTo(CollaborationStatus next) {
+			return switch (this) {
+				case PENDING -> next == ACCEPTED || next == REJECTED || next == CANCELLED;
+				case ACCEPTED -> next == ENDED || next == CANCELLED;
+				case REJECTED, CANCELLED, ENDED -> false;
+			};
+		}
 	}
 }
\ No newline at end of file
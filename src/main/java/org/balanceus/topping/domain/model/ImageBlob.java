@@ -0,0 +1,59 @@
+package org.balanceus.topping.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A processed image stored once under a path derived from the SHA-256 of its uploaded bytes.
+ * {@link StoreImage} and {@link ProductImage} rows reference it through {@code contentHash};
+ * {@link #refCount} tracks how many do, and the files are removed when it drops to zero.
+ */
+@Entity
+@Table(name = "image_blobs")
+@Getter
+@Setter
+@NoArgsConstructor
+public class ImageBlob {
+
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(nullable = false, unique = true)
+    private String imagePath;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImageProcessingStatus processingStatus = ImageProcessingStatus.PENDING;
+
+    @Convert(converter = ImageVariantSetConverter.class)
+    @Column(length = 64)
+    private Set<ImageVariant> variants = EnumSet.noneOf(ImageVariant.class);
+
+    @Column(nullable = false)
+    private Integer refCount = 1;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
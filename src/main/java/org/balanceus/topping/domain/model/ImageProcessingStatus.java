@@ -0,0 +1,17 @@
+package org.balanceus.topping.domain.model;
+
+public enum ImageProcessingStatus {
+    PENDING("처리 중"),
+    READY("완료"),
+    FAILED("실패");
+
+    private final String displayName;
+
+    ImageProcessingStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,79 @@
+package org.balanceus.topping.domain.model;
+
+/**
+ * Fixed renditions generated for every uploaded image. {@link #DETAIL} is stored under the
+ * original image path; the smaller ones add a suffix before the extension
+ * ({@code abc.jpg} → {@code abc-card.jpg}).
+ */
+public enum ImageVariant {
+    THUMB("thumb", 320, 320),
+    CARD("card", 640, 480),
+    DETAIL("detail", 1920, 1080);
+
+    public static final String WEBP_SUFFIX = ".webp";
+
+    private final String suffix;
+    private final int maxWidth;
+    private final int maxHeight;
+
+    ImageVariant(String suffix, int maxWidth, int maxHeight) {
+        this.suffix = suffix;
+        this.maxWidth = maxWidth;
+        this.maxHeight = maxHeight;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    public int getMaxHeight() {
+        return maxHeight;
+    }
+
+    public String pathFor(String imagePath) {
+        if (this == DETAIL || imagePath == null) {
+            return imagePath;
+        }
+        int dot = imagePath.lastIndexOf('.');
+        int slash = imagePath.lastIndexOf('/');
+        if (dot <= slash) {
+            return imagePath + "-" + suffix;
+        }
+        return imagePath.substring(0, dot) + "-" + suffix + imagePath.substring(dot);
+    }
+
+    /**
+     * Path of the optional WebP encoding of a rendition ({@code abc-card.jpg} → {@code abc-card.jpg.webp}).
+     */
+    public static String webpPathFor(String imagePath) {
+        return imagePath + WEBP_SUFFIX;
+    }
+
+    /**
+     * The original path a variant path was derived from ({@code abc-card.jpg} → {@code abc.jpg}),
+     * or {@code null} if the path carries no known variant suffix.
+     */
+    public static String originalPathOf(String variantPath) {
+        int dot = variantPath.lastIndexOf('.');
+        int slash = variantPath.lastIndexOf('/');
+        int end = dot > slash ? dot : variantPath.length();
+        int dash = variantPath.lastIndexOf('-', end);
+        if (dash <= slash + 1 || fromSuffix(variantPath.substring(dash + 1, end)) == null) {
+            return null;
+        }
+        return variantPath.substring(0, dash) + variantPath.substring(end);
+    }
+
+    public static ImageVariant fromSuffix(String suffix) {
+        for (ImageVariant variant : values()) {
+            if (variant.suffix.equals(suffix)) {
+                return variant;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+package org.balanceus.topping.domain.model;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores the generated {@link ImageVariant}s of an image as a comma-separated column.
+ */
+@Converter
+public class ImageVariantSetConverter implements AttributeConverter<Set<ImageVariant>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(Set<ImageVariant> attribute) {
+        if (attribute == null || attribute.isEmpty()) {
+            return null;
+        }
+        return attribute.stream()
+                .sorted()
+                .map(ImageVariant::getSuffix)
+                .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public Set<ImageVariant> convertToEntityAttribute(String dbData) {
+        Set<ImageVariant> variants = EnumSet.noneOf(ImageVariant.class);
+        if (dbData == null || dbData.isBlank()) {
+            return variants;
+        }
+        Arrays.stream(dbData.split(","))
+                .map(String::trim)
+                .map(ImageVariant::fromSuffix)
+                .filter(Objects::nonNull)
+                .forEach(variants::add);
+        return variants;
+    }
+}
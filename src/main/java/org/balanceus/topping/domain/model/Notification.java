@@ -9,8 +9,10 @@ import org.hibernate.annotations.UuidGenerator;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,7 +22,11 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+		// Inbox pages newest first and the unread count, both per recipient
+		@Index(name = "idx_notifications_recipient_created", columnList = "recipient_uuid, created_at DESC, uuid DESC"),
+		@Index(name = "idx_notifications_recipient_read", columnList = "recipient_uuid, is_read")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,7 +38,7 @@ public class Notification {
 	@UuidGenerator
 	private UUID uuid;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "recipient_uuid")
 	private User recipient;
 
@@ -45,7 +51,7 @@ public class Notification {
 
 	private String relatedEntityId;
 
-	private Boolean isRead;
+	private Boolean isRead = false;
 
 	@CreationTimestamp
 	private LocalDateTime createdAt;
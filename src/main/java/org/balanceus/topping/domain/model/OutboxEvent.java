@@ -0,0 +1,95 @@
+package org.balanceus.topping.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A side effect of a collaboration decision (chat room, chat message, WebSocket broadcast or
+ * notification) recorded in the same transaction as the decision and delivered afterwards by
+ * {@code OutboxDispatcher}. {@link #dedupKey} identifies the logical event so enqueueing it twice
+ * is a no-op.
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        // Dispatcher poll: due events in delivery order
+        @Index(name = "idx_outbox_events_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator
+    private UUID uuid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private Type type;
+
+    @Column(nullable = false)
+    private UUID aggregateId;
+
+    @Column(length = 2000)
+    private String payload;
+
+    @Column(unique = true, length = 200)
+    private String dedupKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt;
+
+    private Instant processedAt;
+
+    public enum Type {
+        /** Link or create the collaboration chat room, post the acceptance message and broadcast it */
+        PROPOSAL_ACCEPTED,
+        /** Post the rejection message, broadcast it and notify the proposer */
+        PROPOSAL_REJECTED,
+        /** Broadcast that a pending proposal was edited */
+        PROPOSAL_MODIFIED,
+        /** Notify business owners of a new proposal */
+        PROPOSAL_CREATED,
+        /** Create the chat room of a directly accepted collaboration */
+        COLLABORATION_ACCEPTED
+    }
+
+    public enum Status {
+        PENDING,
+        /** Claimed by a dispatcher until {@code nextAttemptAt}; reclaimed afterwards if it never finished */
+        PROCESSING,
+        DONE,
+        /** Gave up after the maximum number of attempts */
+        FAILED
+    }
+}
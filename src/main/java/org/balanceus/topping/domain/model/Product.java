@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 
@@ -14,6 +15,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
@@ -30,6 +32,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "products")
+@BatchSize(size = 50)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -75,20 +78,21 @@ public class Product {
 	@Column(nullable = false)
 	private Boolean isActive = true;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "store_uuid", nullable = false)
 	private Store store;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "creator_uuid")
 	private User creator;
 
-	@ManyToOne
+	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "collaboration_uuid")
 	private Collaboration collaboration;
 
 	@OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
 	@OrderBy("displayOrder ASC, createdAt ASC")
+	@BatchSize(size = 50)
 	private List<ProductImage> images = new ArrayList<>();
 
 	@CreationTimestamp
@@ -107,20 +111,21 @@ public class Product {
 
 	public List<String> getImagePaths() {
 		return images.stream()
+				.filter(ProductImage::isReady)
 				.map(ProductImage::getImagePath)
 				.toList();
 	}
 
 	public ProductImage getMainImage() {
 		return images.stream()
-				.filter(img -> img.getImageType() == ProductImage.ImageType.MAIN)
+				.filter(img -> img.getImageType() == ProductImage.ImageType.MAIN && img.isReady())
 				.findFirst()
 				.orElse(null);
 	}
 
 	public List<ProductImage> getGalleryImages() {
 		return images.stream()
-				.filter(img -> img.getImageType() == ProductImage.ImageType.GALLERY)
+				.filter(img -> img.getImageType() == ProductImage.ImageType.GALLERY && img.isReady())
 				.toList();
 	}
 
@@ -1,17 +1,22 @@
 package org.balanceus.topping.domain.model;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +28,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "product_images")
+@Table(name = "product_images", indexes = @Index(name = "idx_product_images_content_hash", columnList = "content_hash"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -57,13 +62,51 @@ public class ProductImage {
 
     private Integer displayOrder = 0;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_uuid", nullable = false)
     private Product product;
 
+    /**
+     * Uploads are spooled and processed in the background; rows written before the pipeline
+     * existed have no status and are treated as ready.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ImageProcessingStatus processingStatus = ImageProcessingStatus.READY;
+
+    /**
+     * Renditions written for this image; missing ones fall back to {@link #imagePath}.
+     */
+    @Convert(converter = ImageVariantSetConverter.class)
+    @Column(length = 64)
+    private Set<ImageVariant> variants = EnumSet.noneOf(ImageVariant.class);
+
+    /**
+     * SHA-256 of the uploaded bytes, referencing the shared {@link ImageBlob}; null for images
+     * stored before content addressing.
+     */
+    @Column(length = 64)
+    private String contentHash;
+
     @CreationTimestamp
     private LocalDateTime createdAt;
 
+    public boolean isReady() {
+        return processingStatus == null || processingStatus == ImageProcessingStatus.READY;
+    }
+
+    public String getVariantPath(ImageVariant variant) {
+        return variants != null && variants.contains(variant) ? variant.pathFor(imagePath) : imagePath;
+    }
+
+    public String getThumbPath() {
+        return getVariantPath(ImageVariant.THUMB);
+    }
+
+    public String getCardPath() {
+        return getVariantPath(ImageVariant.CARD);
+    }
+
     public enum ImageType {
         MAIN("대표 이미지"),
         GALLERY("갤러리 이미지"),
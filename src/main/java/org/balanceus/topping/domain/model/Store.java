@@ -6,6 +6,9 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.UuidGenerator;
 
 import jakarta.persistence.CascadeType;
@@ -14,9 +17,13 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.OrderBy;
@@ -30,12 +37,31 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "stores")
+@NamedEntityGraph(name = Store.GRAPH_LIST_CARD, attributeNodes = {
+        @NamedAttributeNode("images")
+})
+@NamedEntityGraph(name = Store.GRAPH_DETAIL, attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("products")
+})
+@NamedEntityGraph(name = Store.GRAPH_OWNER_DASHBOARD, attributeNodes = {
+        @NamedAttributeNode("user"),
+        @NamedAttributeNode("images"),
+        @NamedAttributeNode("tags")
+})
+@BatchSize(size = 50)
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class Store {
 
+    // Entity graphs per use case. At most one List (bag) association per graph;
+    // the remaining collections are batch- or subselect-fetched.
+    public static final String GRAPH_LIST_CARD = "Store.listCard";
+    public static final String GRAPH_DETAIL = "Store.detail";
+    public static final String GRAPH_OWNER_DASHBOARD = "Store.ownerDashboard";
+
     @Id
     @GeneratedValue
     @UuidGenerator
@@ -72,25 +98,38 @@ public class Store {
     @Column(name = "is_collaboration_open")
     private Boolean isCollaborationOpen = true;
 
-    @OneToOne
+    // District and coordinates, geocoded once from the address through the local gazetteer
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sgg_cd_5")
+    private SggCode sggCode;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_uuid", nullable = false, unique = true)
     private User user;
 
     @OneToMany(mappedBy = "store", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("displayOrder ASC, createdAt ASC")
+    @BatchSize(size = 50)
     private Set<StoreImage> images = new LinkedHashSet<>();
 
     @ElementCollection
+    @Fetch(FetchMode.SUBSELECT)
     @CollectionTable(name = "store_tags", joinColumns = @JoinColumn(name = "store_uuid"))
     @Column(name = "tag")
     private List<String> tags = new ArrayList<>();
 
     @OneToMany(mappedBy = "store", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("productType ASC, reviewCount DESC, name ASC")
+    @BatchSize(size = 50)
     private List<Product> products = new ArrayList<>();
 
     @OneToMany(mappedBy = "store", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("createdAt DESC")
+    @BatchSize(size = 50)
     private List<Review> reviews = new ArrayList<>();
 
     // Helper methods for image management
@@ -106,19 +145,26 @@ public class Store {
 
     public List<String> getImagePaths() {
         return images.stream()
+                .filter(StoreImage::isReady)
                 .map(StoreImage::getImagePath)
                 .toList();
     }
 
+    public List<StoreImage> getReadyImages() {
+        return images.stream()
+                .filter(StoreImage::isReady)
+                .toList();
+    }
+
     public List<StoreImage> getGalleryImages() {
         return images.stream()
-                .filter(img -> img.getImageType() == StoreImage.ImageType.GALLERY)
+                .filter(img -> img.getImageType() == StoreImage.ImageType.GALLERY && img.isReady())
                 .toList();
     }
 
     public StoreImage getMainImage() {
         return images.stream()
-                .filter(img -> img.getImageType() == StoreImage.ImageType.MAIN)
+                .filter(img -> img.getImageType() == StoreImage.ImageType.MAIN && img.isReady())
                 .findFirst()
                 .orElse(null);
     }
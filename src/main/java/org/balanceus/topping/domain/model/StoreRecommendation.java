@@ -0,0 +1,65 @@
+package org.balanceus.topping.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One entry of a store's precomputed partner list: the candidate at position {@link #ranking}
+ * (0 is best) with its match score. Stores are referenced by id only to keep the table compact;
+ * lists are rebuilt by {@code StoreRecommendationService}.
+ */
+@Entity
+@Table(name = "store_recommendations", uniqueConstraints = {
+        // Doubles as the index serving a store's list in ranking order
+        @UniqueConstraint(name = "uq_store_recommendations_ranking", columnNames = {"store_uuid", "ranking"})
+}, indexes = {
+        // Incremental refresh: which lists contain a changed store
+        @Index(name = "idx_store_recommendations_candidate", columnList = "candidate_store_uuid")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class StoreRecommendation {
+
+    @Id
+    @GeneratedValue
+    @UuidGenerator
+    private UUID uuid;
+
+    @Column(name = "store_uuid", nullable = false)
+    private UUID storeId;
+
+    @Column(name = "candidate_store_uuid", nullable = false)
+    private UUID candidateStoreId;
+
+    @Column(nullable = false)
+    private int ranking;
+
+    @Column(nullable = false)
+    private double score;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private Instant computedAt;
+
+    public StoreRecommendation(UUID storeId, UUID candidateStoreId, int ranking, double score) {
+        this.storeId = storeId;
+        this.candidateStoreId = candidateStoreId;
+        this.ranking = ranking;
+        this.score = score;
+    }
+}
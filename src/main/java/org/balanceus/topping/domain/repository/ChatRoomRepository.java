@@ -27,6 +27,9 @@ public interface ChatRoomRepository {
 	
 	List<ChatRoom> findByCollaborationParticipant(User user);
 	
+	// Active rooms of either kind the user takes part in, counted in the database
+	long countActiveByParticipant(User user);
+	
 	List<ChatRoom> findAll();
 
 	void deleteById(UUID uuid);
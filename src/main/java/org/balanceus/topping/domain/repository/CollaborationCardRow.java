@@ -0,0 +1,61 @@
+package org.balanceus.topping.domain.repository;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.model.Product.ProductCategory;
+import org.balanceus.topping.domain.model.Product.ProductType;
+import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.model.StoreCategory;
+
+/**
+ * Flat projection of everything a collaboration card shows, read in one joined query instead of
+ * walking the lazy store, product and user associations per card. Columns of a missing side
+ * (no partner product yet, deleted creator) are {@code null}.
+ */
+public record CollaborationCardRow(
+        UUID uuid,
+        CollaborationStatus status,
+        String description,
+        Instant createdAt,
+        UUID initiatorStoreId,
+        String initiatorStoreName,
+        String initiatorStoreDescription,
+        StoreCategory initiatorStoreCategory,
+        UUID initiatorOwnerId,
+        String initiatorOwnerName,
+        String initiatorOwnerEmail,
+        Role initiatorOwnerRole,
+        UUID partnerStoreId,
+        String partnerStoreName,
+        String partnerStoreDescription,
+        StoreCategory partnerStoreCategory,
+        UUID partnerOwnerId,
+        String partnerOwnerName,
+        String partnerOwnerEmail,
+        Role partnerOwnerRole,
+        UUID initiatorProductId,
+        String initiatorProductName,
+        ProductType initiatorProductType,
+        ProductCategory initiatorProductCategory,
+        BigDecimal initiatorProductPrice,
+        Boolean initiatorProductAvailable,
+        UUID initiatorProductStoreId,
+        UUID initiatorProductCreatorId,
+        String initiatorProductCreatorName,
+        String initiatorProductCreatorEmail,
+        Role initiatorProductCreatorRole,
+        UUID partnerProductId,
+        String partnerProductName,
+        ProductType partnerProductType,
+        ProductCategory partnerProductCategory,
+        BigDecimal partnerProductPrice,
+        Boolean partnerProductAvailable,
+        UUID partnerProductStoreId,
+        UUID partnerProductCreatorId,
+        String partnerProductCreatorName,
+        String partnerProductCreatorEmail,
+        Role partnerProductCreatorRole) {
+}
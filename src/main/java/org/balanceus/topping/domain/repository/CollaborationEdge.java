@@ -0,0 +1,9 @@
+package org.balanceus.topping.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * Store-to-store edge of one collaboration, read without loading the collaboration entity.
+ */
+public record CollaborationEdge(UUID collaborationId, UUID initiatorStoreId, UUID partnerStoreId) {
+}
@@ -1,6 +1,7 @@
 package org.balanceus.topping.domain.repository;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,11 +10,22 @@ import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.ProposalSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface CollaborationProposalRepository {
 	
 	CollaborationProposal save(CollaborationProposal proposal);
 	
+	/**
+	 * Move a proposal from {@code from} to {@code to} with one conditional UPDATE that also bumps its
+	 * version. Returns {@code false} when the row is missing or no longer in {@code from}, for instance
+	 * because a concurrent request decided it first. Clears the persistence context, so reload the
+	 * proposal afterwards.
+	 */
+	boolean transitionStatus(UUID uuid, CollaborationProposal.CollaborationStatus from,
+							 CollaborationProposal.CollaborationStatus to);
+	
 	Optional<CollaborationProposal> findById(UUID uuid);
 	
 	List<CollaborationProposal> findAll();
@@ -31,10 +43,25 @@ public interface CollaborationProposalRepository {
 	
 	List<CollaborationProposal> findByTargetStore(Store targetStore);
 	
+	long countByProposerUser(User proposerUser);
+	
+	long countByProposerUserOrProposerStore(User proposerUser, Store proposerStore);
+	
 	List<CollaborationProposal> findByTargetStoreIsNull();
 	
 	List<CollaborationProposal> findByTargetStoreAndStatus(Store targetStore, CollaborationProposal.CollaborationStatus status);
 	
+	/**
+	 * Number of proposals addressed to the store, per status. Statuses without any are absent.
+	 */
+	Map<CollaborationProposal.CollaborationStatus, Long> countByTargetStoreGroupedByStatus(Store targetStore);
+	
+	// Newest first; status-less variant covers every status
+	Slice<CollaborationProposal> findByTargetStore(Store targetStore, Pageable pageable);
+	
+	Slice<CollaborationProposal> findByTargetStoreAndStatus(Store targetStore, CollaborationProposal.CollaborationStatus status,
+															 Pageable pageable);
+	
 	List<CollaborationProposal> findBySource(ProposalSource source);
 	
 	List<CollaborationProposal> findBySourceAndStatus(ProposalSource source, CollaborationProposal.CollaborationStatus status);
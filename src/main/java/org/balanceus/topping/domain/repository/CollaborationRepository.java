@@ -1,25 +1,57 @@
 package org.balanceus.topping.domain.repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.balanceus.topping.domain.model.Collaboration;
 import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface CollaborationRepository {
 	
 	Collaboration save(Collaboration collaboration);
 	
+	// Surfaces constraint violations (the active pair index) at the call instead of at commit
+	Collaboration saveAndFlush(Collaboration collaboration);
+	
+	/**
+	 * Move a collaboration from {@code from} to {@code to} with one conditional UPDATE that also bumps
+	 * its version. Returns {@code false} when the row is missing or no longer in {@code from}, for
+	 * instance because a concurrent request decided it first. Clears the persistence context, so
+	 * reload the collaboration afterwards.
+	 */
+	boolean transitionStatus(UUID id, CollaborationStatus from, CollaborationStatus to);
+	
+	/**
+	 * Bulk form of {@link #transitionStatus(UUID, CollaborationStatus, CollaborationStatus)}: one UPDATE
+	 * for all {@code ids} still in {@code from}. Returns the number of collaborations moved.
+	 */
+	int transitionStatus(Collection<UUID> ids, CollaborationStatus from, CollaborationStatus to);
+	
 	Optional<Collaboration> findById(UUID id);
 	
 	List<Collaboration> findAll();
 	
 	List<Collaboration> findByStatus(CollaborationStatus status);
 	
+	/**
+	 * Keyset page of collaboration cards, newest first. Pass {@code null} for {@code afterCreatedAt}
+	 * and {@code afterId} to read the first page; otherwise they are the last card of the previous page.
+	 * {@code status} and {@code category} (of either store) are optional filters.
+	 */
+	List<CollaborationCardRow> findCardPage(CollaborationStatus status, StoreCategory category,
+											Instant afterCreatedAt, UUID afterId, int limit);
+	
 	// New methods for refactored entity structure
 	List<Collaboration> findByInitiatorStore(Store initiatorStore);
 	
@@ -40,6 +72,35 @@ public interface CollaborationRepository {
 	
 	List<Collaboration> findByStoreParticipation(Store store);
 	
+	/**
+	 * Store pairs of every collaboration in {@code status} that has both stores set.
+	 */
+	List<CollaborationEdge> findEdgesByStatus(CollaborationStatus status);
+	
+	// Either store id is null when that side is not set
+	List<CollaborationEdge> findEdgesByIdsAndStatus(Collection<UUID> ids, CollaborationStatus status);
+	
+	/**
+	 * Periods of collaborations in {@code status} ending before {@code endBefore}, overdue ones included.
+	 */
+	List<CollaborationScheduleRow> findSchedulesEndingBefore(CollaborationStatus status, LocalDate endBefore);
+	
+	/**
+	 * Periods of collaborations in {@code status} starting between {@code from} and {@code through}, inclusive.
+	 */
+	List<CollaborationScheduleRow> findSchedulesStartingBetween(CollaborationStatus status, LocalDate from,
+																LocalDate through);
+	
+	/**
+	 * Number of collaborations the store takes part in, per status. Statuses without any are absent.
+	 */
+	Map<CollaborationStatus, Long> countByStoreParticipationGroupedByStatus(Store store);
+	
+	// Newest first; status-less variant covers every status. Offset paging, so keep pages shallow
+	Slice<Collaboration> findByStoreParticipation(Store store, Pageable pageable);
+	
+	Slice<Collaboration> findByStoreAndStatus(Store store, CollaborationStatus status, Pageable pageable);
+	
 	// Check for existing active collaboration between stores and products
 	Optional<Collaboration> findActiveCollaborationBetweenStoresAndProducts(Store store1, Store store2, 
 																			Product product1, Product product2);
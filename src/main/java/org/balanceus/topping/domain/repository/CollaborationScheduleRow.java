@@ -0,0 +1,10 @@
+package org.balanceus.topping.domain.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Period of one collaboration, read to schedule its start and end without loading the entity.
+ */
+public record CollaborationScheduleRow(UUID collaborationId, LocalDate startDate, LocalDate endDate) {
+}
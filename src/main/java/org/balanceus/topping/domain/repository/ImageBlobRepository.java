@@ -0,0 +1,53 @@
+package org.balanceus.topping.domain.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.balanceus.topping.domain.model.ImageBlob;
+import org.balanceus.topping.domain.model.ImageProcessingStatus;
+
+public interface ImageBlobRepository {
+
+    Optional<ImageBlob> findById(String contentHash);
+
+    Optional<ImageBlob> findByIdForUpdate(String contentHash);
+
+    List<ImageBlob> findByProcessingStatus(ImageProcessingStatus status);
+
+    /**
+     * Keyset page of blobs ordered by hash, starting after {@code afterContentHash} (use "" for the first page).
+     */
+    List<ImageBlob> findPageAfter(String afterContentHash, int limit);
+
+    /**
+     * Raise the reference count to at least {@code minimum} in its own transaction.
+     */
+    void raiseRefCount(String contentHash, int minimum);
+
+    /**
+     * Delete the blob in its own transaction if its reference count still equals {@code expectedRefCount}.
+     */
+    Optional<ImageBlob> deleteIfRefCount(String contentHash, int expectedRefCount);
+
+    /**
+     * Insert a new blob in its own transaction; fails with a data integrity violation if another
+     * upload inserted the same hash first.
+     */
+    ImageBlob create(ImageBlob blob);
+
+    /**
+     * Add a reference to an existing blob in its own transaction.
+     */
+    Optional<ImageBlob> reference(String contentHash);
+
+    /**
+     * Move a FAILED blob back to PENDING in its own transaction; returns the blob only if this call
+     * made the change, so one caller re-queues it.
+     */
+    Optional<ImageBlob> retryIfFailed(String contentHash);
+
+    /**
+     * Drop a reference in its own transaction; returns the blob if it became unreferenced and was deleted.
+     */
+    Optional<ImageBlob> release(String contentHash);
+}
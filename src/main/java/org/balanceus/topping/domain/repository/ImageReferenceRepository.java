@@ -0,0 +1,22 @@
+package org.balanceus.topping.domain.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cross-table lookups used to reconcile image files and blobs with the rows pointing at them.
+ */
+public interface ImageReferenceRepository {
+
+    /**
+     * The subset of {@code imagePaths} still referenced by any image, product, store, update or
+     * support inquiry row.
+     */
+    Set<String> findReferencedPaths(Collection<String> imagePaths);
+
+    /**
+     * Number of store and product image rows per content hash; hashes without rows are absent.
+     */
+    Map<String, Long> countRowsByContentHash(Collection<String> contentHashes);
+}
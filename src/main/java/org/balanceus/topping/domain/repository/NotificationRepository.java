@@ -0,0 +1,34 @@
+package org.balanceus.topping.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Notification;
+
+public interface NotificationRepository {
+
+    /**
+     * Insert the notifications and flush, so a fan-out goes out as JDBC batches chunk by chunk. The
+     * inserted notifications are detached afterwards, so a long fan-out does not grow the persistence
+     * context page by page.
+     */
+    List<Notification> insertAll(List<Notification> notifications);
+
+    /**
+     * Keyset page of a recipient's notifications, newest first. Pass {@code null} for
+     * {@code beforeCreatedAt} and {@code beforeId} to read the first page; otherwise they are the
+     * last notification of the previous page.
+     */
+    List<Notification> findInboxPage(UUID recipientId, LocalDateTime beforeCreatedAt, UUID beforeId, int limit);
+
+    long countUnread(UUID recipientId);
+
+    /**
+     * Mark the recipient's notifications among {@code ids} read. Returns how many were unread.
+     */
+    int markRead(UUID recipientId, Collection<UUID> ids);
+
+    int markAllRead(UUID recipientId);
+}
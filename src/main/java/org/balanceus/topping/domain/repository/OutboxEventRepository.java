@@ -0,0 +1,37 @@
+package org.balanceus.topping.domain.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.OutboxEvent;
+
+public interface OutboxEventRepository {
+
+    OutboxEvent save(OutboxEvent event);
+
+    Optional<OutboxEvent> findById(UUID id);
+
+    boolean existsByDedupKey(String dedupKey);
+
+    /**
+     * Ids of pending events, and of claims whose lease expired, that are due at {@code now}, oldest first.
+     */
+    List<UUID> findDueIds(Instant now, int limit);
+
+    /**
+     * Conditionally move a due event to PROCESSING until {@code leaseUntil} and count the attempt.
+     * Returns false when another dispatcher claimed or finished it first.
+     */
+    boolean claim(UUID id, Instant now, Instant leaseUntil);
+
+    /**
+     * Ids of events delivered before {@code doneBefore} and of events given up on that were created
+     * before {@code failedBefore}, at most {@code limit}.
+     */
+    List<UUID> findFinishedIds(Instant doneBefore, Instant failedBefore, int limit);
+
+    int deleteByIds(Collection<UUID> ids);
+}
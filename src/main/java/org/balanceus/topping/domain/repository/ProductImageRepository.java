@@ -14,6 +14,8 @@ public interface ProductImageRepository {
     
     long countByProduct(Product product);
     
+    List<ProductImage> findByContentHash(String contentHash);
+    
     <S extends ProductImage> S save(S entity);
     
     <S extends ProductImage> List<S> saveAll(Iterable<S> entities);
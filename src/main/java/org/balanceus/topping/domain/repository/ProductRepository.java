@@ -1,5 +1,6 @@
 package org.balanceus.topping.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,6 +21,8 @@ public interface ProductRepository {
 	
 	List<Product> findByCreator(User creator);
 	
+	long countByCreator(User creator);
+	
 	List<Product> findByCategory(String category);
 	
 	List<Product> findByIsActiveTrue();
@@ -33,12 +36,19 @@ public interface ProductRepository {
 	List<Product> findByStoreAndProductType(Store store, Product.ProductType productType);
 	List<Product> findByStoreAndIsAvailable(Store store, Boolean isAvailable);
 	Page<Product> findByProductTypeOrderByReviewCountDesc(Product.ProductType productType, Pageable pageable);
+	Page<Product> findByProductTypeAndIsAvailableTrueOrderByReviewCountDesc(Product.ProductType productType, Pageable pageable);
 	Page<Product> findAllByOrderByReviewCountDesc(Pageable pageable);
 	
 	// Collaboration-related methods
 	long countByStoreAndCollaborationIsNotNull(Store store);
 	long countCollaborationProductsByStore(Store store);
 	
+	/**
+	 * Take the COLLABORATION products of the given collaborations off sale in one statement.
+	 * Returns the number of products changed.
+	 */
+	int markCollaborationProductsUnavailable(Collection<UUID> collaborationIds);
+	
 	// Search methods
 	List<Product> findByNameContainingIgnoreCaseAndIsActiveTrue(String name);
 	List<Product> findByDescriptionContainingIgnoreCaseAndIsActiveTrue(String description);
@@ -21,5 +21,7 @@ public interface ProductWishlistRepository {
     
     long countByProduct(Product product);
     
+    long countByUser(User user);
+    
     void deleteByUserUuidAndProductUuid(UUID userUuid, UUID productUuid);
 }
\ No newline at end of file
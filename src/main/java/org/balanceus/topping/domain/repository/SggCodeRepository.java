@@ -15,6 +15,7 @@ public interface SggCodeRepository extends Repository<SggCode, Integer> {
     
     // Read operations
     Optional<SggCode> findById(Integer sggCd5);
+    List<SggCode> findAll();
     List<SggCode> findAll(PageRequest pageRequest);
     List<SggCode> findAllById(Iterable<Integer> ids);
     
@@ -0,0 +1,24 @@
+package org.balanceus.topping.domain.repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Product.ProductCategory;
+import org.balanceus.topping.domain.model.Product.ProductType;
+import org.balanceus.topping.domain.model.StoreCategory;
+
+/**
+ * One store/product pair of the proposal form catalog. A store without available products yields a
+ * single row whose product columns are {@code null}.
+ */
+public record StoreCatalogRow(
+        UUID storeId,
+        String storeName,
+        StoreCategory storeCategory,
+        UUID productId,
+        String productName,
+        ProductCategory productCategory,
+        ProductType productType,
+        Boolean productAvailable,
+        BigDecimal productPrice) {
+}
@@ -11,6 +11,8 @@ public interface StoreImageRepository {
     
     StoreImage save(StoreImage storeImage);
     
+    List<StoreImage> saveAll(List<StoreImage> storeImages);
+    
     Optional<StoreImage> findByUuid(UUID uuid);
     
     List<StoreImage> findByStore(Store store);
@@ -24,4 +26,11 @@ public interface StoreImageRepository {
     void deleteByStore(Store store);
     
     long countByStore(Store store);
+    
+    /**
+     * Highest display order used by the store's images, or -1 when it has none.
+     */
+    int findMaxDisplayOrderByStore(Store store);
+    
+    List<StoreImage> findByContentHash(String contentHash);
 }
\ No newline at end of file
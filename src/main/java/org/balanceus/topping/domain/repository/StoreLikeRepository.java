@@ -13,6 +13,8 @@ public interface StoreLikeRepository {
     Optional<StoreLike> findByUserAndStore(User user, Store store);
     List<StoreLike> findByUser(User user);
     long countByStore(Store store);
+    long countByStoreUuid(UUID storeId);
     void delete(StoreLike storeLike);
     boolean existsByUserAndStore(User user, Store store);
+    boolean existsByUserUuidAndStoreUuid(UUID userId, UUID storeId);
 }
\ No newline at end of file
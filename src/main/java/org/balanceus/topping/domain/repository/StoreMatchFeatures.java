@@ -0,0 +1,77 @@
+package org.balanceus.topping.domain.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Product.ProductCategory;
+import org.balanceus.topping.domain.model.StoreCategory;
+
+/**
+ * Snapshot of everything store matching looks at, loaded in a handful of aggregate queries.
+ *
+ * @param partners   stores each store has had an accepted or completed collaboration with, both directions
+ * @param engagement likes plus wishlist entries per store
+ */
+public record StoreMatchFeatures(
+        List<StoreProfile> stores,
+        Map<UUID, Set<ProductCategory>> productCategories,
+        Map<UUID, Set<UUID>> partners,
+        Map<UUID, Long> engagement) {
+
+    /**
+     * This snapshot with the features of {@code storeIds} replaced by {@code changed}, which must hold
+     * exactly those stores and every partner edge touching them. Stores of {@code storeIds} missing
+     * from {@code changed} have been deleted and are dropped.
+     */
+    public StoreMatchFeatures merge(Collection<UUID> storeIds, StoreMatchFeatures changed) {
+        Set<UUID> replaced = new HashSet<>(storeIds);
+
+        List<StoreProfile> mergedStores = new ArrayList<>(stores.size() + changed.stores().size());
+        for (StoreProfile store : stores) {
+            if (!replaced.contains(store.storeId())) {
+                mergedStores.add(store);
+            }
+        }
+        mergedStores.addAll(changed.stores());
+
+        Map<UUID, Set<ProductCategory>> mergedCategories = new HashMap<>(productCategories);
+        mergedCategories.keySet().removeAll(replaced);
+        mergedCategories.putAll(changed.productCategories());
+
+        Map<UUID, Long> mergedEngagement = new HashMap<>(engagement);
+        mergedEngagement.keySet().removeAll(replaced);
+        mergedEngagement.putAll(changed.engagement());
+
+        // Edges are stored in both directions, so drop the replaced stores from their old partners' sets too
+        Map<UUID, Set<UUID>> mergedPartners = new HashMap<>(partners);
+        mergedPartners.keySet().removeAll(replaced);
+        for (UUID storeId : replaced) {
+            for (UUID partner : partners.getOrDefault(storeId, Set.of())) {
+                mergedPartners.computeIfPresent(partner, (id, current) -> {
+                    Set<UUID> remaining = new HashSet<>(current);
+                    remaining.remove(storeId);
+                    return remaining.isEmpty() ? null : remaining;
+                });
+            }
+        }
+        changed.partners().forEach((storeId, current) -> mergedPartners.merge(storeId, current, (old, added) -> {
+            Set<UUID> combined = new HashSet<>(old);
+            combined.addAll(added);
+            return combined;
+        }));
+
+        return new StoreMatchFeatures(mergedStores, mergedCategories, mergedPartners, mergedEngagement);
+    }
+
+    /**
+     * @param sggCode five-digit district code; its first two digits identify the province or city
+     */
+    public record StoreProfile(UUID storeId, StoreCategory category, Integer sggCode, boolean collaborationOpen) {
+    }
+}
@@ -0,0 +1,34 @@
+package org.balanceus.topping.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.StoreRecommendation;
+
+public interface StoreRecommendationRepository {
+
+    /**
+     * Best {@code limit} recommendations of a store joined with the candidates' picker fields, in one read.
+     */
+    List<StoreRecommendationRow> findTopByStore(UUID storeId, int limit);
+
+    /**
+     * Stores whose current list contains any of {@code candidateIds}.
+     */
+    List<UUID> findStoresRecommending(Collection<UUID> candidateIds);
+
+    /**
+     * Replace the lists of the stores in {@code recommendations}; an empty list clears a store's entries.
+     */
+    void replace(Map<UUID, List<StoreRecommendation>> recommendations);
+
+    StoreMatchFeatures loadFeatures();
+
+    /**
+     * Features of {@code storeIds} only, with every collaboration edge that touches them; meant to be
+     * merged into a full snapshot with {@link StoreMatchFeatures#merge}.
+     */
+    StoreMatchFeatures loadFeatures(Collection<UUID> storeIds);
+}
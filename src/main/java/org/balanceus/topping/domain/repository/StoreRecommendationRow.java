@@ -0,0 +1,16 @@
+package org.balanceus.topping.domain.repository;
+
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.StoreCategory;
+
+/**
+ * A recommended partner store with the fields the store pickers render, best match first.
+ */
+public record StoreRecommendationRow(
+        UUID storeId,
+        String storeName,
+        StoreCategory storeCategory,
+        String description,
+        double score) {
+}
@@ -1,5 +1,6 @@
 package org.balanceus.topping.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -40,6 +41,16 @@ public interface StoreRepository {
     List<Store> findByCategoryOrderByNameAsc(StoreCategory category);
     
     List<Store> findAllById(Iterable<UUID> ids);
+
+    /**
+     * The given stores with their available products, in one statement, ordered by store.
+     */
+    List<StoreCatalogRow> findCatalogRows(Collection<UUID> storeIds);
+    
+    // Geocoding
+    List<Store> findByLatitudeIsNull();
+    
+    List<Store> findByLatitudeIsNotNull();
     
     long count();
     
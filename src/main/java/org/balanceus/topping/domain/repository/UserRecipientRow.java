@@ -0,0 +1,9 @@
+package org.balanceus.topping.domain.repository;
+
+import java.util.UUID;
+
+/**
+ * Id and login email of a notification recipient; the email is the STOMP user name.
+ */
+public record UserRecipientRow(UUID userId, String email) {
+}
@@ -22,6 +22,15 @@ public interface UserRepository {
 
 	List<User> findByRole(Role role);
 
+	/**
+	 * Keyset page of users with the role, ordered by id. Pass {@code null} for {@code afterId} to read
+	 * the first page; otherwise it is the last id of the previous page.
+	 */
+	List<UserRecipientRow> findRecipientsByRole(Role role, UUID afterId, int limit);
+
+	// Proxy for association writes; does not hit the database
+	User getReferenceById(UUID id);
+
 	<S extends User> S save(S entity);
 
 	<S extends User> List<S> saveAll(Iterable<S> entities);
@@ -13,6 +13,9 @@ public interface WishlistRepository {
     Optional<Wishlist> findByUserAndStore(User user, Store store);
     List<Wishlist> findByUser(User user);
     long countByStore(Store store);
+    long countByStoreUuid(UUID storeId);
+    long countByUser(User user);
     void delete(Wishlist wishlist);
     boolean existsByUserAndStore(User user, Store store);
+    boolean existsByUserUuidAndStoreUuid(UUID userId, UUID storeId);
 }
\ No newline at end of file
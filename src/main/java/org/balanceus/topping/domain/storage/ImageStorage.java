@@ -0,0 +1,42 @@
+package org.balanceus.topping.domain.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Durable home of uploaded image files. Keys are web paths without the leading slash
+ * ({@code image/blobs/ab/{hash}.jpg}), so the same key addresses the object in every backend.
+ */
+public interface ImageStorage {
+
+    /**
+     * Stream an object of unknown length into storage.
+     */
+    void put(String key, InputStream content, String contentType) throws IOException;
+
+    /**
+     * Store a finished local file. The backend may take ownership of the file (move it), so the
+     * caller must not use {@code file} afterwards.
+     */
+    default void put(String key, Path file, String contentType) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            put(key, in, contentType);
+        }
+        Files.deleteIfExists(file);
+    }
+
+    /**
+     * Local file holding the object's bytes for serving, fetched into the disk cache on a miss.
+     * Empty when the object does not exist.
+     */
+    Optional<Path> localCopy(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+
+    static String keyOf(String webPath) {
+        return webPath.startsWith("/") ? webPath.substring(1) : webPath;
+    }
+}
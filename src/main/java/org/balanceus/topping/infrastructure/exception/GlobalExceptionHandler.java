@@ -155,6 +155,7 @@ public class GlobalExceptionHandler {
 		return switch (errorCode) {
 			case NOT_FOUND -> Code.NOT_FOUND;
 			case ALREADY_EXISTS -> Code.ALREADY_EXISTS;
+			case CONFLICT -> Code.CONFLICT;
 			case FORBIDDEN -> Code.FORBIDDEN;
 			case VALIDATION_ERROR -> Code.VALIDATION_ERROR;
 			case UNEXPECTED_ERROR -> Code.INTERNAL_SERVER_ERROR;
@@ -0,0 +1,61 @@
+package org.balanceus.topping.infrastructure.geo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.balanceus.topping.domain.geo.Gazetteer;
+import org.balanceus.topping.domain.geo.GeoPoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local gazetteer backed by a CSV of district centroids ({@code sgg_cd_5,latitude,longitude[,name]}).
+ * Point {@code app.geo.gazetteer-location} at a fuller dataset to extend coverage.
+ */
+@Component
+@Slf4j
+public class CsvGazetteer implements Gazetteer {
+
+    @Value("${app.geo.gazetteer-location:classpath:geo/sgg-centroids.csv}")
+    private Resource location;
+
+    private Map<Integer, GeoPoint> centroids = Map.of();
+
+    @PostConstruct
+    void load() throws IOException {
+        Map<Integer, GeoPoint> loaded = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(location.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split(",");
+                if (columns.length < 3) {
+                    log.warn("Skipping malformed gazetteer row: {}", line);
+                    continue;
+                }
+                loaded.put(Integer.valueOf(columns[0].trim()),
+                        new GeoPoint(Double.parseDouble(columns[1].trim()), Double.parseDouble(columns[2].trim())));
+            }
+        }
+        centroids = Map.copyOf(loaded);
+        log.info("Loaded {} district centroids from {}", centroids.size(), location);
+    }
+
+    @Override
+    public Optional<GeoPoint> locate(Integer sggCd5) {
+        return sggCd5 == null ? Optional.empty() : Optional.ofNullable(centroids.get(sggCd5));
+    }
+}
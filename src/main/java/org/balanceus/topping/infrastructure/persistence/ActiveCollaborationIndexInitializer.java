@@ -0,0 +1,52 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates the partial unique index that allows at most one PENDING or ACCEPTED collaboration per
+ * store/product pair, in either direction. JPA cannot declare partial or expression indexes, so it
+ * is created here after Hibernate has updated the schema. PostgreSQL only; elsewhere approval
+ * falls back to the duplicate check in {@code CollaborationService}.
+ * <p>
+ * On PostgreSQL the index is what keeps concurrent approvals of the same pair apart, so startup
+ * fails when it cannot be created rather than running without it.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActiveCollaborationIndexInitializer {
+
+    static final String INDEX_NAME = "uq_collaborations_active_pair";
+
+    static final String CREATE_INDEX = "CREATE UNIQUE INDEX IF NOT EXISTS " + INDEX_NAME + " ON collaborations ("
+            + "LEAST(initiator_store_uuid, partner_store_uuid), GREATEST(initiator_store_uuid, partner_store_uuid), "
+            + "LEAST(initiator_product_uuid, partner_product_uuid), GREATEST(initiator_product_uuid, partner_product_uuid)"
+            + ") WHERE status IN ('PENDING', 'ACCEPTED')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createIndex() {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if (!"PostgreSQL".equals(database)) {
+            log.debug("Skipping {} on {}", INDEX_NAME, database);
+            return;
+        }
+        try {
+            jdbcTemplate.execute(CREATE_INDEX);
+        } catch (DataAccessException e) {
+            // Typically existing duplicate active pairs; they need resolving before the index can exist
+            throw new IllegalStateException("Could not create " + INDEX_NAME
+                    + "; resolve duplicate PENDING/ACCEPTED collaborations of the same pair and restart", e);
+        }
+    }
+}
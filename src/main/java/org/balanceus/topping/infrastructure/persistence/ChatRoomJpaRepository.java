@@ -32,4 +32,11 @@ public interface ChatRoomJpaRepository extends JpaRepository<ChatRoom, UUID> {
 	       "cr.collaboration IS NOT NULL AND " +
 	       "(is.user = :user OR ps.user = :user)")
 	List<ChatRoom> findByCollaborationParticipant(@Param("user") User user);
+	
+	@Query("SELECT COUNT(DISTINCT cr) FROM ChatRoom cr " +
+	       "LEFT JOIN cr.collaborationProposal p LEFT JOIN p.proposerStore pps LEFT JOIN p.targetStore pts " +
+	       "LEFT JOIN cr.collaboration c LEFT JOIN c.initiatorStore ist LEFT JOIN c.partnerStore pst " +
+	       "WHERE cr.isActive = true AND " +
+	       "(p.proposerUser = :user OR pps.user = :user OR pts.user = :user OR ist.user = :user OR pst.user = :user)")
+	long countActiveByParticipant(@Param("user") User user);
 }
\ No newline at end of file
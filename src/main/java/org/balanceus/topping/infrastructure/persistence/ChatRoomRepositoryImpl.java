@@ -70,6 +70,11 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepository {
 		return jpaRepository.findByCollaborationParticipant(user);
 	}
 	
+	@Override
+	public long countActiveByParticipant(User user) {
+		return jpaRepository.countActiveByParticipant(user);
+	}
+	
 	@Override
 	public List<ChatRoom> findAll() {
 		return jpaRepository.findAll();
@@ -1,5 +1,8 @@
 package org.balanceus.topping.infrastructure.persistence;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,9 +10,15 @@ import java.util.UUID;
 import org.balanceus.topping.domain.model.Collaboration;
 import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.repository.CollaborationCardRow;
+import org.balanceus.topping.domain.repository.CollaborationEdge;
+import org.balanceus.topping.domain.repository.CollaborationScheduleRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,6 +26,38 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface CollaborationJpaRepository extends JpaRepository<Collaboration, UUID> {
 	
+	// Card feed: one statement selecting only the card columns, ordered to match idx_collaborations_feed
+	String CARD_SELECT = "SELECT new org.balanceus.topping.domain.repository.CollaborationCardRow("
+			+ "c.uuid, c.status, c.description, c.createdAt, "
+			+ "ist.uuid, ist.name, ist.description, ist.category, isu.uuid, isu.username, isu.email, isu.role, "
+			+ "pst.uuid, pst.name, pst.description, pst.category, psu.uuid, psu.username, psu.email, psu.role, "
+			+ "ip.uuid, ip.name, ip.productType, ip.category, ip.price, ip.isAvailable, ip.store.uuid, "
+			+ "ipc.uuid, ipc.username, ipc.email, ipc.role, "
+			+ "pp.uuid, pp.name, pp.productType, pp.category, pp.price, pp.isAvailable, pp.store.uuid, "
+			+ "ppc.uuid, ppc.username, ppc.email, ppc.role) "
+			+ "FROM Collaboration c "
+			+ "LEFT JOIN c.initiatorStore ist LEFT JOIN ist.user isu "
+			+ "LEFT JOIN c.partnerStore pst LEFT JOIN pst.user psu "
+			+ "LEFT JOIN c.initiatorProduct ip LEFT JOIN ip.creator ipc "
+			+ "LEFT JOIN c.partnerProduct pp LEFT JOIN pp.creator ppc "
+			+ "WHERE (:status IS NULL OR c.status = :status) "
+			+ "AND (:category IS NULL OR ist.category = :category OR pst.category = :category) ";
+	String CARD_ORDER = "ORDER BY c.createdAt DESC, c.uuid DESC";
+	
+	@Query(CARD_SELECT + CARD_ORDER)
+	List<CollaborationCardRow> findCards(@Param("status") CollaborationStatus status,
+										 @Param("category") StoreCategory category,
+										 Pageable pageable);
+	
+	@Query(CARD_SELECT
+			+ "AND (c.createdAt < :afterCreatedAt OR (c.createdAt = :afterCreatedAt AND c.uuid < :afterId)) "
+			+ CARD_ORDER)
+	List<CollaborationCardRow> findCardsAfter(@Param("status") CollaborationStatus status,
+											  @Param("category") StoreCategory category,
+											  @Param("afterCreatedAt") Instant afterCreatedAt,
+											  @Param("afterId") UUID afterId,
+											  Pageable pageable);
+	
 	List<Collaboration> findByStatus(CollaborationStatus status);
 	
 	List<Collaboration> findByInitiatorStore(Store initiatorStore);
@@ -45,6 +86,54 @@ public interface CollaborationJpaRepository extends JpaRepository<Collaboration,
 	@Query("SELECT c FROM Collaboration c WHERE c.initiatorStore = :store OR c.partnerStore = :store")
 	List<Collaboration> findByStoreParticipation(@Param("store") Store store);
 	
+	@Query("SELECT new org.balanceus.topping.domain.repository.CollaborationEdge(c.uuid, c.initiatorStore.uuid, c.partnerStore.uuid) " +
+	       "FROM Collaboration c WHERE c.status = :status AND c.initiatorStore IS NOT NULL AND c.partnerStore IS NOT NULL")
+	List<CollaborationEdge> findEdgesByStatus(@Param("status") CollaborationStatus status);
+	
+	@Query("SELECT new org.balanceus.topping.domain.repository.CollaborationEdge(c.uuid, ist.uuid, pst.uuid) " +
+	       "FROM Collaboration c LEFT JOIN c.initiatorStore ist LEFT JOIN c.partnerStore pst " +
+	       "WHERE c.uuid IN :ids AND c.status = :status")
+	List<CollaborationEdge> findEdgesByIdsAndStatus(@Param("ids") Collection<UUID> ids,
+													@Param("status") CollaborationStatus status);
+	
+	@Query("SELECT new org.balanceus.topping.domain.repository.CollaborationScheduleRow(c.uuid, c.startDate, c.endDate) " +
+	       "FROM Collaboration c WHERE c.status = :status AND c.endDate < :endBefore")
+	List<CollaborationScheduleRow> findSchedulesEndingBefore(@Param("status") CollaborationStatus status,
+															 @Param("endBefore") LocalDate endBefore);
+	
+	@Query("SELECT new org.balanceus.topping.domain.repository.CollaborationScheduleRow(c.uuid, c.startDate, c.endDate) " +
+	       "FROM Collaboration c WHERE c.status = :status AND c.startDate BETWEEN :from AND :through")
+	List<CollaborationScheduleRow> findSchedulesStartingBetween(@Param("status") CollaborationStatus status,
+																@Param("from") LocalDate from,
+																@Param("through") LocalDate through);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Collaboration c SET c.status = :to, c.version = c.version + 1, c.updatedAt = :now " +
+	       "WHERE c.uuid = :id AND c.status = :from")
+	int transitionStatus(@Param("id") UUID id, @Param("from") CollaborationStatus from,
+						 @Param("to") CollaborationStatus to, @Param("now") Instant now);
+	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Collaboration c SET c.status = :to, c.version = c.version + 1, c.updatedAt = :now " +
+	       "WHERE c.uuid IN :ids AND c.status = :from")
+	int transitionStatuses(@Param("ids") Collection<UUID> ids, @Param("from") CollaborationStatus from,
+						   @Param("to") CollaborationStatus to, @Param("now") Instant now);
+	
+	@Query("SELECT new org.balanceus.topping.infrastructure.persistence.StatusCountRow(c.status, COUNT(c)) " +
+	       "FROM Collaboration c WHERE c.initiatorStore = :store OR c.partnerStore = :store GROUP BY c.status")
+	List<StatusCountRow> countByStoreParticipationGroupedByStatus(@Param("store") Store store);
+	
+	// Newest-first reads of one store column each, so every read is an ordered scan of its own index
+	List<Collaboration> findByInitiatorStoreOrderByCreatedAtDescUuidDesc(Store store, Pageable pageable);
+	
+	List<Collaboration> findByPartnerStoreOrderByCreatedAtDescUuidDesc(Store store, Pageable pageable);
+	
+	List<Collaboration> findByInitiatorStoreAndStatusOrderByCreatedAtDescUuidDesc(Store store, CollaborationStatus status,
+																				  Pageable pageable);
+	
+	List<Collaboration> findByPartnerStoreAndStatusOrderByCreatedAtDescUuidDesc(Store store, CollaborationStatus status,
+																				Pageable pageable);
+	
 	@Query("SELECT c FROM Collaboration c WHERE ((c.initiatorStore = :store1 AND c.partnerStore = :store2) OR (c.initiatorStore = :store2 AND c.partnerStore = :store1)) AND ((c.initiatorProduct = :product1 AND c.partnerProduct = :product2) OR (c.initiatorProduct = :product2 AND c.partnerProduct = :product1)) AND c.status IN ('PENDING', 'ACCEPTED')")
 	Optional<Collaboration> findActiveCollaborationBetweenStoresAndProducts(@Param("store1") Store store1, 
 																			@Param("store2") Store store2,
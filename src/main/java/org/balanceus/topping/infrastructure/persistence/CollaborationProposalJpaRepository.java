@@ -1,5 +1,6 @@
 package org.balanceus.topping.infrastructure.persistence;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -8,7 +9,10 @@ import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.ProposalSource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -27,10 +31,30 @@ public interface CollaborationProposalJpaRepository extends JpaRepository<Collab
 	
 	List<CollaborationProposal> findByTargetStore(Store targetStore);
 	
+	long countByProposerUser(User proposerUser);
+	
+	@Query("SELECT COUNT(cp) FROM CollaborationProposal cp WHERE cp.proposerUser = :proposerUser OR cp.proposerStore = :proposerStore")
+	long countByProposerUserOrProposerStore(@Param("proposerUser") User proposerUser, @Param("proposerStore") Store proposerStore);
+	
 	List<CollaborationProposal> findByTargetStoreIsNull();
 	
 	List<CollaborationProposal> findByTargetStoreAndStatus(Store targetStore, CollaborationProposal.CollaborationStatus status);
 	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE CollaborationProposal cp SET cp.status = :to, cp.version = cp.version + 1, cp.updatedAt = :now " +
+	       "WHERE cp.uuid = :uuid AND cp.status = :from")
+	int transitionStatus(@Param("uuid") UUID uuid, @Param("from") CollaborationProposal.CollaborationStatus from,
+						 @Param("to") CollaborationProposal.CollaborationStatus to, @Param("now") Instant now);
+	
+	@Query("SELECT new org.balanceus.topping.infrastructure.persistence.StatusCountRow(cp.status, COUNT(cp)) " +
+	       "FROM CollaborationProposal cp WHERE cp.targetStore = :targetStore GROUP BY cp.status")
+	List<StatusCountRow> countByTargetStoreGroupedByStatus(@Param("targetStore") Store targetStore);
+	
+	Slice<CollaborationProposal> findByTargetStoreOrderByCreatedAtDescUuidDesc(Store targetStore, Pageable pageable);
+	
+	Slice<CollaborationProposal> findByTargetStoreAndStatusOrderByCreatedAtDescUuidDesc(Store targetStore,
+			CollaborationProposal.CollaborationStatus status, Pageable pageable);
+	
 	List<CollaborationProposal> findBySource(ProposalSource source);
 	
 	List<CollaborationProposal> findBySourceAndStatus(ProposalSource source, CollaborationProposal.CollaborationStatus status);
@@ -1,6 +1,9 @@
 package org.balanceus.topping.infrastructure.persistence;
 
+import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,6 +13,8 @@ import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.ProposalSource;
 import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
@@ -25,6 +30,15 @@ public class CollaborationProposalRepositoryImpl implements CollaborationProposa
 		return jpaRepository.save(proposal);
 	}
 
+	@Override
+	public boolean transitionStatus(UUID uuid, CollaborationProposal.CollaborationStatus from,
+									CollaborationProposal.CollaborationStatus to) {
+		if (!from.canTransitionTo(to)) {
+			throw new IllegalArgumentException("Illegal proposal transition: " + from + " -> " + to);
+		}
+		return jpaRepository.transitionStatus(uuid, from, to, Instant.now()) == 1;
+	}
+
 	@Override
 	public Optional<CollaborationProposal> findById(UUID uuid) {
 		return jpaRepository.findById(uuid);
@@ -65,6 +79,37 @@ public class CollaborationProposalRepositoryImpl implements CollaborationProposa
 		return jpaRepository.findByTargetStore(targetStore);
 	}
 
+	@Override
+	public long countByProposerUser(User proposerUser) {
+		return jpaRepository.countByProposerUser(proposerUser);
+	}
+
+	@Override
+	public long countByProposerUserOrProposerStore(User proposerUser, Store proposerStore) {
+		return jpaRepository.countByProposerUserOrProposerStore(proposerUser, proposerStore);
+	}
+
+	@Override
+	public Map<CollaborationProposal.CollaborationStatus, Long> countByTargetStoreGroupedByStatus(Store targetStore) {
+		Map<CollaborationProposal.CollaborationStatus, Long> counts =
+				new EnumMap<>(CollaborationProposal.CollaborationStatus.class);
+		for (StatusCountRow row : jpaRepository.countByTargetStoreGroupedByStatus(targetStore)) {
+			counts.put((CollaborationProposal.CollaborationStatus) row.status(), row.count());
+		}
+		return counts;
+	}
+
+	@Override
+	public Slice<CollaborationProposal> findByTargetStore(Store targetStore, Pageable pageable) {
+		return jpaRepository.findByTargetStoreOrderByCreatedAtDescUuidDesc(targetStore, pageable);
+	}
+
+	@Override
+	public Slice<CollaborationProposal> findByTargetStoreAndStatus(Store targetStore,
+			CollaborationProposal.CollaborationStatus status, Pageable pageable) {
+		return jpaRepository.findByTargetStoreAndStatusOrderByCreatedAtDescUuidDesc(targetStore, status, pageable);
+	}
+
 	@Override
 	public List<CollaborationProposal> findByTargetStoreIsNull() {
 		return jpaRepository.findByTargetStoreIsNull();
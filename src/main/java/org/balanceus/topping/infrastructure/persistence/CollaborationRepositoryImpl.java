@@ -1,15 +1,32 @@
 package org.balanceus.topping.infrastructure.persistence;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.balanceus.topping.domain.model.Collaboration;
 import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.repository.CollaborationCardRow;
+import org.balanceus.topping.domain.repository.CollaborationEdge;
+import org.balanceus.topping.domain.repository.CollaborationScheduleRow;
 import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -18,6 +35,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CollaborationRepositoryImpl implements CollaborationRepository {
 
+	private static final Comparator<Collaboration> NEWEST_FIRST = Comparator
+			.comparing(Collaboration::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+			.thenComparing(Collaboration::getUuid, Comparator.reverseOrder());
+
 	private final CollaborationJpaRepository collaborationJpaRepository;
 
 	@Override
@@ -25,6 +46,30 @@ public class CollaborationRepositoryImpl implements CollaborationRepository {
 		return collaborationJpaRepository.save(collaboration);
 	}
 
+	@Override
+	public Collaboration saveAndFlush(Collaboration collaboration) {
+		return collaborationJpaRepository.saveAndFlush(collaboration);
+	}
+
+	@Override
+	public boolean transitionStatus(UUID id, CollaborationStatus from, CollaborationStatus to) {
+		if (!from.canTransitionTo(to)) {
+			throw new IllegalArgumentException("Illegal collaboration transition: " + from + " -> " + to);
+		}
+		return collaborationJpaRepository.transitionStatus(id, from, to, Instant.now()) == 1;
+	}
+
+	@Override
+	public int transitionStatus(Collection<UUID> ids, CollaborationStatus from, CollaborationStatus to) {
+		if (!from.canTransitionTo(to)) {
+			throw new IllegalArgumentException("Illegal collaboration transition: " + from + " -> " + to);
+		}
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return collaborationJpaRepository.transitionStatuses(ids, from, to, Instant.now());
+	}
+
 	@Override
 	public Optional<Collaboration> findById(UUID id) {
 		return collaborationJpaRepository.findById(id);
@@ -40,6 +85,16 @@ public class CollaborationRepositoryImpl implements CollaborationRepository {
 		return collaborationJpaRepository.findByStatus(status);
 	}
 
+	@Override
+	public List<CollaborationCardRow> findCardPage(CollaborationStatus status, StoreCategory category,
+												   Instant afterCreatedAt, UUID afterId, int limit) {
+		PageRequest page = PageRequest.of(0, limit);
+		if (afterCreatedAt == null || afterId == null) {
+			return collaborationJpaRepository.findCards(status, category, page);
+		}
+		return collaborationJpaRepository.findCardsAfter(status, category, afterCreatedAt, afterId, page);
+	}
+
 	@Override
 	public List<Collaboration> findByInitiatorStore(Store initiatorStore) {
 		return collaborationJpaRepository.findByInitiatorStore(initiatorStore);
@@ -87,6 +142,74 @@ public class CollaborationRepositoryImpl implements CollaborationRepository {
 		return collaborationJpaRepository.findByStoreParticipation(store);
 	}
 
+	@Override
+	public List<CollaborationEdge> findEdgesByStatus(CollaborationStatus status) {
+		return collaborationJpaRepository.findEdgesByStatus(status);
+	}
+
+	@Override
+	public List<CollaborationEdge> findEdgesByIdsAndStatus(Collection<UUID> ids, CollaborationStatus status) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		return collaborationJpaRepository.findEdgesByIdsAndStatus(ids, status);
+	}
+
+	@Override
+	public List<CollaborationScheduleRow> findSchedulesEndingBefore(CollaborationStatus status, LocalDate endBefore) {
+		return collaborationJpaRepository.findSchedulesEndingBefore(status, endBefore);
+	}
+
+	@Override
+	public List<CollaborationScheduleRow> findSchedulesStartingBetween(CollaborationStatus status, LocalDate from,
+																	   LocalDate through) {
+		return collaborationJpaRepository.findSchedulesStartingBetween(status, from, through);
+	}
+
+	@Override
+	public Map<CollaborationStatus, Long> countByStoreParticipationGroupedByStatus(Store store) {
+		Map<CollaborationStatus, Long> counts = new EnumMap<>(CollaborationStatus.class);
+		for (StatusCountRow row : collaborationJpaRepository.countByStoreParticipationGroupedByStatus(store)) {
+			counts.put((CollaborationStatus) row.status(), row.count());
+		}
+		return counts;
+	}
+
+	@Override
+	public Slice<Collaboration> findByStoreParticipation(Store store, Pageable pageable) {
+		return mergeSides(pageable,
+				head -> collaborationJpaRepository.findByInitiatorStoreOrderByCreatedAtDescUuidDesc(store, head),
+				head -> collaborationJpaRepository.findByPartnerStoreOrderByCreatedAtDescUuidDesc(store, head));
+	}
+
+	@Override
+	public Slice<Collaboration> findByStoreAndStatus(Store store, CollaborationStatus status, Pageable pageable) {
+		return mergeSides(pageable,
+				head -> collaborationJpaRepository.findByInitiatorStoreAndStatusOrderByCreatedAtDescUuidDesc(store, status, head),
+				head -> collaborationJpaRepository.findByPartnerStoreAndStatusOrderByCreatedAtDescUuidDesc(store, status, head));
+	}
+
+	/**
+	 * A page of the newest-first union of the initiator-side and partner-side reads. An OR over both
+	 * store columns cannot use either index for ordering, so each side is read on its own, up to the
+	 * end of the requested page plus one row, and the two runs are merged here.
+	 */
+	private static Slice<Collaboration> mergeSides(Pageable pageable,
+			Function<Pageable, List<Collaboration>> initiatorSide,
+			Function<Pageable, List<Collaboration>> partnerSide) {
+		Pageable head = PageRequest.of(0, Math.toIntExact(pageable.getOffset() + pageable.getPageSize() + 1));
+		Map<UUID, Collaboration> merged = new LinkedHashMap<>();
+		Stream.concat(initiatorSide.apply(head).stream(), partnerSide.apply(head).stream())
+				.sorted(NEWEST_FIRST)
+				.forEach(collaboration -> merged.putIfAbsent(collaboration.getUuid(), collaboration));
+		List<Collaboration> rows = merged.values().stream()
+				.skip(pageable.getOffset())
+				.limit(pageable.getPageSize() + 1L)
+				.toList();
+		boolean hasNext = rows.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+	}
+
 	@Override
 	public Optional<Collaboration> findActiveCollaborationBetweenStoresAndProducts(Store store1, Store store2,
 			Product product1, Product product2) {
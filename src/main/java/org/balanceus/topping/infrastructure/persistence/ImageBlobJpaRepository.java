@@ -0,0 +1,37 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.balanceus.topping.domain.model.ImageBlob;
+import org.balanceus.topping.domain.model.ImageProcessingStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface ImageBlobJpaRepository extends JpaRepository<ImageBlob, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM ImageBlob b WHERE b.contentHash = :contentHash")
+    Optional<ImageBlob> findByIdForUpdate(@Param("contentHash") String contentHash);
+
+    List<ImageBlob> findByProcessingStatus(ImageProcessingStatus status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount + 1 WHERE b.contentHash = :contentHash")
+    int incrementRefCount(@Param("contentHash") String contentHash);
+
+    @Query("SELECT b.imagePath FROM ImageBlob b WHERE b.imagePath IN :paths")
+    List<String> findImagePathsIn(@Param("paths") Collection<String> paths);
+
+    @Query("SELECT b FROM ImageBlob b WHERE b.contentHash > :after ORDER BY b.contentHash")
+    List<ImageBlob> findPageAfter(@Param("after") String after, Pageable pageable);
+}
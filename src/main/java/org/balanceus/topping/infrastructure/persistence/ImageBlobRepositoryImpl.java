@@ -0,0 +1,98 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.balanceus.topping.domain.model.ImageBlob;
+import org.balanceus.topping.domain.model.ImageProcessingStatus;
+import org.balanceus.topping.domain.repository.ImageBlobRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ImageBlobRepositoryImpl implements ImageBlobRepository {
+
+    private final ImageBlobJpaRepository imageBlobJpaRepository;
+
+    @Override
+    public Optional<ImageBlob> findById(String contentHash) {
+        return imageBlobJpaRepository.findById(contentHash);
+    }
+
+    @Override
+    public Optional<ImageBlob> findByIdForUpdate(String contentHash) {
+        return imageBlobJpaRepository.findByIdForUpdate(contentHash);
+    }
+
+    @Override
+    public List<ImageBlob> findByProcessingStatus(ImageProcessingStatus status) {
+        return imageBlobJpaRepository.findByProcessingStatus(status);
+    }
+
+    @Override
+    public List<ImageBlob> findPageAfter(String afterContentHash, int limit) {
+        return imageBlobJpaRepository.findPageAfter(afterContentHash, PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void raiseRefCount(String contentHash, int minimum) {
+        imageBlobJpaRepository.findByIdForUpdate(contentHash)
+                .filter(blob -> blob.getRefCount() < minimum)
+                .ifPresent(blob -> blob.setRefCount(minimum));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<ImageBlob> deleteIfRefCount(String contentHash, int expectedRefCount) {
+        Optional<ImageBlob> locked = imageBlobJpaRepository.findByIdForUpdate(contentHash)
+                .filter(blob -> blob.getRefCount() == expectedRefCount);
+        locked.ifPresent(imageBlobJpaRepository::delete);
+        return locked;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public ImageBlob create(ImageBlob blob) {
+        return imageBlobJpaRepository.saveAndFlush(blob);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<ImageBlob> reference(String contentHash) {
+        if (imageBlobJpaRepository.incrementRefCount(contentHash) == 0) {
+            return Optional.empty();
+        }
+        return imageBlobJpaRepository.findById(contentHash);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<ImageBlob> retryIfFailed(String contentHash) {
+        Optional<ImageBlob> locked = imageBlobJpaRepository.findByIdForUpdate(contentHash)
+                .filter(blob -> blob.getProcessingStatus() == ImageProcessingStatus.FAILED);
+        locked.ifPresent(blob -> blob.setProcessingStatus(ImageProcessingStatus.PENDING));
+        return locked;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<ImageBlob> release(String contentHash) {
+        Optional<ImageBlob> locked = imageBlobJpaRepository.findByIdForUpdate(contentHash);
+        if (locked.isEmpty()) {
+            return Optional.empty();
+        }
+        ImageBlob blob = locked.get();
+        blob.setRefCount(blob.getRefCount() - 1);
+        if (blob.getRefCount() > 0) {
+            return Optional.empty();
+        }
+        imageBlobJpaRepository.delete(blob);
+        return Optional.of(blob);
+    }
+}
@@ -0,0 +1,60 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.balanceus.topping.domain.repository.ImageReferenceRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class ImageReferenceRepositoryImpl implements ImageReferenceRepository {
+
+    private final StoreImageJpaRepository storeImageJpaRepository;
+    private final ProductImageJpaRepository productImageJpaRepository;
+    private final ImageBlobJpaRepository imageBlobJpaRepository;
+    private final ProductJpaRepository productJpaRepository;
+    private final StoreJpaRepository storeJpaRepository;
+    private final UpdateJpaRepository updateJpaRepository;
+    private final SupportInquiryJpaRepository supportInquiryJpaRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<String> findReferencedPaths(Collection<String> imagePaths) {
+        Set<String> referenced = new HashSet<>();
+        if (imagePaths.isEmpty()) {
+            return referenced;
+        }
+        referenced.addAll(storeImageJpaRepository.findImagePathsIn(imagePaths));
+        referenced.addAll(productImageJpaRepository.findImagePathsIn(imagePaths));
+        referenced.addAll(imageBlobJpaRepository.findImagePathsIn(imagePaths));
+        referenced.addAll(productJpaRepository.findThumbnailPathsIn(imagePaths));
+        referenced.addAll(productJpaRepository.findImageUrlsIn(imagePaths));
+        referenced.addAll(storeJpaRepository.findMainImageUrlsIn(imagePaths));
+        referenced.addAll(updateJpaRepository.findImageUrlsIn(imagePaths));
+        referenced.addAll(supportInquiryJpaRepository.findAttachmentPathsIn(imagePaths));
+        return referenced;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> countRowsByContentHash(Collection<String> contentHashes) {
+        Map<String, Long> counts = new HashMap<>();
+        if (contentHashes.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : storeImageJpaRepository.countByContentHashIn(contentHashes)) {
+            counts.merge((String) row[0], (Long) row[1], Long::sum);
+        }
+        for (Object[] row : productImageJpaRepository.countByContentHashIn(contentHashes)) {
+            counts.merge((String) row[0], (Long) row[1], Long::sum);
+        }
+        return counts;
+    }
+}
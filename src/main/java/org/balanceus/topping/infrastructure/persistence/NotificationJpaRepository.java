@@ -0,0 +1,43 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationJpaRepository extends JpaRepository<Notification, UUID> {
+
+    // Ordered to match idx_notifications_recipient_created
+    @Query("SELECT n FROM Notification n WHERE n.recipient.uuid = :recipientId " +
+           "ORDER BY n.createdAt DESC, n.uuid DESC")
+    List<Notification> findInbox(@Param("recipientId") UUID recipientId, Pageable pageable);
+
+    @Query("SELECT n FROM Notification n WHERE n.recipient.uuid = :recipientId " +
+           "AND (n.createdAt < :beforeCreatedAt OR (n.createdAt = :beforeCreatedAt AND n.uuid < :beforeId)) " +
+           "ORDER BY n.createdAt DESC, n.uuid DESC")
+    List<Notification> findInboxBefore(@Param("recipientId") UUID recipientId,
+                                       @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                       @Param("beforeId") UUID beforeId,
+                                       Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.recipient.uuid = :recipientId AND n.isRead = false")
+    long countUnread(@Param("recipientId") UUID recipientId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true " +
+           "WHERE n.recipient.uuid = :recipientId AND n.uuid IN :ids AND n.isRead = false")
+    int markRead(@Param("recipientId") UUID recipientId, @Param("ids") Collection<UUID> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.recipient.uuid = :recipientId AND n.isRead = false")
+    int markAllRead(@Param("recipientId") UUID recipientId);
+}
@@ -0,0 +1,67 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Notification;
+import org.balanceus.topping.domain.repository.NotificationRepository;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepositoryImpl implements NotificationRepository {
+
+    private final NotificationJpaRepository notificationJpaRepository;
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Notification> insertAll(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        List<Notification> saved = notificationJpaRepository.saveAllAndFlush(notifications);
+        for (Notification notification : saved) {
+            entityManager.detach(notification);
+            // Bare recipient references only exist for this insert; loaded users may still be in use by the caller
+            if (notification.getRecipient() != null && !Hibernate.isInitialized(notification.getRecipient())) {
+                entityManager.detach(notification.getRecipient());
+            }
+        }
+        return saved;
+    }
+
+    @Override
+    public List<Notification> findInboxPage(UUID recipientId, LocalDateTime beforeCreatedAt, UUID beforeId,
+                                            int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        if (beforeCreatedAt == null || beforeId == null) {
+            return notificationJpaRepository.findInbox(recipientId, page);
+        }
+        return notificationJpaRepository.findInboxBefore(recipientId, beforeCreatedAt, beforeId, page);
+    }
+
+    @Override
+    public long countUnread(UUID recipientId) {
+        return notificationJpaRepository.countUnread(recipientId);
+    }
+
+    @Override
+    public int markRead(UUID recipientId, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return notificationJpaRepository.markRead(recipientId, ids);
+    }
+
+    @Override
+    public int markAllRead(UUID recipientId) {
+        return notificationJpaRepository.markAllRead(recipientId);
+    }
+}
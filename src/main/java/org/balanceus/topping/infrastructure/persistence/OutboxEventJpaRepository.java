@@ -0,0 +1,47 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEvent, UUID> {
+
+    boolean existsByDedupKey(String dedupKey);
+
+    @Query("SELECT e.uuid FROM OutboxEvent e WHERE e.status IN :statuses AND e.nextAttemptAt <= :now "
+            + "ORDER BY e.nextAttemptAt, e.createdAt")
+    List<UUID> findDueIds(@Param("statuses") Collection<OutboxEvent.Status> statuses,
+                          @Param("now") Instant now,
+                          Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OutboxEvent e SET e.status = :processing, e.attempts = e.attempts + 1, e.nextAttemptAt = :leaseUntil "
+            + "WHERE e.uuid = :id AND e.status IN :statuses AND e.nextAttemptAt <= :now")
+    int claim(@Param("id") UUID id,
+              @Param("statuses") Collection<OutboxEvent.Status> statuses,
+              @Param("processing") OutboxEvent.Status processing,
+              @Param("now") Instant now,
+              @Param("leaseUntil") Instant leaseUntil);
+
+    @Query("SELECT e.uuid FROM OutboxEvent e WHERE (e.status = :done AND e.processedAt < :doneBefore) "
+            + "OR (e.status = :failed AND e.createdAt < :failedBefore)")
+    List<UUID> findFinishedIds(@Param("done") OutboxEvent.Status done,
+                               @Param("doneBefore") Instant doneBefore,
+                               @Param("failed") OutboxEvent.Status failed,
+                               @Param("failedBefore") Instant failedBefore,
+                               Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.uuid IN :ids")
+    int deleteByIds(@Param("ids") Collection<UUID> ids);
+}
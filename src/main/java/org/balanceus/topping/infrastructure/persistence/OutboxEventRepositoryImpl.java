@@ -0,0 +1,63 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.OutboxEvent;
+import org.balanceus.topping.domain.repository.OutboxEventRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxEventRepositoryImpl implements OutboxEventRepository {
+
+    // PROCESSING rows are only due once their lease ran out, i.e. the claiming dispatcher died
+    private static final Set<OutboxEvent.Status> CLAIMABLE =
+            EnumSet.of(OutboxEvent.Status.PENDING, OutboxEvent.Status.PROCESSING);
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Override
+    public OutboxEvent save(OutboxEvent event) {
+        return outboxEventJpaRepository.save(event);
+    }
+
+    @Override
+    public Optional<OutboxEvent> findById(UUID id) {
+        return outboxEventJpaRepository.findById(id);
+    }
+
+    @Override
+    public boolean existsByDedupKey(String dedupKey) {
+        return outboxEventJpaRepository.existsByDedupKey(dedupKey);
+    }
+
+    @Override
+    public List<UUID> findDueIds(Instant now, int limit) {
+        return outboxEventJpaRepository.findDueIds(CLAIMABLE, now, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public boolean claim(UUID id, Instant now, Instant leaseUntil) {
+        return outboxEventJpaRepository.claim(id, CLAIMABLE, OutboxEvent.Status.PROCESSING, now, leaseUntil) > 0;
+    }
+
+    @Override
+    public List<UUID> findFinishedIds(Instant doneBefore, Instant failedBefore, int limit) {
+        return outboxEventJpaRepository.findFinishedIds(OutboxEvent.Status.DONE, doneBefore,
+                OutboxEvent.Status.FAILED, failedBefore, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int deleteByIds(Collection<UUID> ids) {
+        return ids.isEmpty() ? 0 : outboxEventJpaRepository.deleteByIds(ids);
+    }
+}
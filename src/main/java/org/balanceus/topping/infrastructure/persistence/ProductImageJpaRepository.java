@@ -1,5 +1,6 @@
 package org.balanceus.topping.infrastructure.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,6 +8,8 @@ import java.util.UUID;
 import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.ProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -15,4 +18,11 @@ public interface ProductImageJpaRepository extends JpaRepository<ProductImage, U
     List<ProductImage> findByProduct(Product product);
     long countByProduct(Product product);
     void deleteByUuid(UUID uuid);
+    List<ProductImage> findByContentHash(String contentHash);
+    
+    @Query("SELECT pi.imagePath FROM ProductImage pi WHERE pi.imagePath IN :paths")
+    List<String> findImagePathsIn(@Param("paths") Collection<String> paths);
+    
+    @Query("SELECT pi.contentHash, COUNT(pi) FROM ProductImage pi WHERE pi.contentHash IN :hashes GROUP BY pi.contentHash")
+    List<Object[]> countByContentHashIn(@Param("hashes") Collection<String> hashes);
 }
\ No newline at end of file
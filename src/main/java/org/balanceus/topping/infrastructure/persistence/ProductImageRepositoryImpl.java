@@ -32,6 +32,11 @@ public class ProductImageRepositoryImpl implements ProductImageRepository {
         return productImageJpaRepository.countByProduct(product);
     }
 
+    @Override
+    public List<ProductImage> findByContentHash(String contentHash) {
+        return productImageJpaRepository.findByContentHash(contentHash);
+    }
+
     @Override
     public <S extends ProductImage> S save(S entity) {
         return productImageJpaRepository.save(entity);
@@ -1,5 +1,6 @@
 package org.balanceus.topping.infrastructure.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -9,6 +10,9 @@ import org.balanceus.topping.domain.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,6 +20,8 @@ public interface ProductJpaRepository extends JpaRepository<Product, UUID> {
 	
 	List<Product> findByCreator(User creator);
 	
+	long countByCreator(User creator);
+	
 	List<Product> findByCategory(String category);
 	
 	List<Product> findByIsActiveTrue();
@@ -27,11 +33,18 @@ public interface ProductJpaRepository extends JpaRepository<Product, UUID> {
 	List<Product> findByStoreAndProductType(Store store, Product.ProductType productType);
 	List<Product> findByStoreAndIsAvailable(Store store, Boolean isAvailable);
 	Page<Product> findByProductTypeOrderByReviewCountDesc(Product.ProductType productType, Pageable pageable);
+	Page<Product> findByProductTypeAndIsAvailableTrueOrderByReviewCountDesc(Product.ProductType productType, Pageable pageable);
 	Page<Product> findAllByOrderByReviewCountDesc(Pageable pageable);
 	
 	// Collaboration-related methods
 	long countByStoreAndCollaborationIsNotNull(Store store);
 	
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("UPDATE Product p SET p.isAvailable = false WHERE p.collaboration.uuid IN :collaborationIds " +
+	       "AND p.productType = :type AND p.isAvailable = true")
+	int markUnavailableByCollaborations(@Param("collaborationIds") Collection<UUID> collaborationIds,
+										@Param("type") Product.ProductType type);
+	
 	// Search methods
 	List<Product> findByNameContainingIgnoreCaseAndIsActiveTrue(String name);
 	List<Product> findByDescriptionContainingIgnoreCaseAndIsActiveTrue(String description);
@@ -40,4 +53,10 @@ public interface ProductJpaRepository extends JpaRepository<Product, UUID> {
 		String name, String description, String ingredients);
 	Page<Product> findByNameContainingIgnoreCaseOrDescriptionContainingIgnoreCaseOrIngredientsContainingIgnoreCaseAndIsActiveTrue(
 		String name, String description, String ingredients, Pageable pageable);
+
+    @Query("SELECT p.thumbnailPath FROM Product p WHERE p.thumbnailPath IN :paths")
+    List<String> findThumbnailPathsIn(@Param("paths") Collection<String> paths);
+
+    @Query("SELECT p.imageUrl FROM Product p WHERE p.imageUrl IN :paths")
+    List<String> findImageUrlsIn(@Param("paths") Collection<String> paths);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.balanceus.topping.infrastructure.persistence;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -45,6 +46,11 @@ public class ProductRepositoryImpl implements ProductRepository {
 		return productJpaRepository.findByCreator(creator);
 	}
 
+	@Override
+	public long countByCreator(User creator) {
+		return productJpaRepository.countByCreator(creator);
+	}
+
 	@Override
 	public List<Product> findByCategory(String category) {
 		return productJpaRepository.findByCategory(category);
@@ -86,6 +92,12 @@ public class ProductRepositoryImpl implements ProductRepository {
 		return productJpaRepository.findByProductTypeOrderByReviewCountDesc(productType, pageable);
 	}
 
+	@Override
+	public Page<Product> findByProductTypeAndIsAvailableTrueOrderByReviewCountDesc(Product.ProductType productType,
+			Pageable pageable) {
+		return productJpaRepository.findByProductTypeAndIsAvailableTrueOrderByReviewCountDesc(productType, pageable);
+	}
+
 	@Override
 	public Page<Product> findAllByOrderByReviewCountDesc(Pageable pageable) {
 		return productJpaRepository.findAllByOrderByReviewCountDesc(pageable);
@@ -122,6 +134,14 @@ public class ProductRepositoryImpl implements ProductRepository {
 		return collaborationProductIds.size();
 	}
 
+	@Override
+	public int markCollaborationProductsUnavailable(Collection<UUID> collaborationIds) {
+		if (collaborationIds.isEmpty()) {
+			return 0;
+		}
+		return productJpaRepository.markUnavailableByCollaborations(collaborationIds, Product.ProductType.COLLABORATION);
+	}
+
 	// Search methods
 	@Override
 	public List<Product> findByNameContainingIgnoreCaseAndIsActiveTrue(String name) {
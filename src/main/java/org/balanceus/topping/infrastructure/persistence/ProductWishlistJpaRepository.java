@@ -20,5 +20,7 @@ public interface ProductWishlistJpaRepository extends JpaRepository<ProductWishl
     
     long countByProduct(Product product);
     
+    long countByUser(User user);
+    
     void deleteByUserUuidAndProductUuid(UUID userUuid, UUID productUuid);
 }
\ No newline at end of file
@@ -47,6 +47,11 @@ public class ProductWishlistRepositoryImpl implements ProductWishlistRepository
         return productWishlistJpaRepository.countByProduct(product);
     }
 
+    @Override
+    public long countByUser(User user) {
+        return productWishlistJpaRepository.countByUser(user);
+    }
+
     @Override
     public void deleteByUserUuidAndProductUuid(UUID userUuid, UUID productUuid) {
         productWishlistJpaRepository.deleteByUserUuidAndProductUuid(userUuid, productUuid);
@@ -33,10 +33,15 @@ public class SggCodeRepositoryImpl implements SggCodeRepository {
     }
     
     @Override
-    public List<SggCode> findAll(PageRequest pageRequest) {
+    public List<SggCode> findAll() {
         return sggCodeJpaRepository.findAll();
     }
     
+    @Override
+    public List<SggCode> findAll(PageRequest pageRequest) {
+        return sggCodeJpaRepository.findAll(pageRequest).getContent();
+    }
+    
     @Override
     public List<SggCode> findAllById(Iterable<Integer> ids) {
         return sggCodeJpaRepository.findAllById(ids);
@@ -0,0 +1,7 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+/**
+ * One {@code GROUP BY status} bucket, read with a JPQL constructor expression.
+ */
+public record StatusCountRow(Enum<?> status, long count) {
+}
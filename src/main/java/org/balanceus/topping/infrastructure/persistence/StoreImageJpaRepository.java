@@ -1,11 +1,14 @@
 package org.balanceus.topping.infrastructure.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.StoreImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,4 +21,15 @@ public interface StoreImageJpaRepository extends JpaRepository<StoreImage, UUID>
     void deleteByStore(Store store);
     
     long countByStore(Store store);
+    
+    @Query("SELECT COALESCE(MAX(si.displayOrder), -1) FROM StoreImage si WHERE si.store = :store")
+    int findMaxDisplayOrderByStore(@Param("store") Store store);
+    
+    List<StoreImage> findByContentHash(String contentHash);
+    
+    @Query("SELECT si.imagePath FROM StoreImage si WHERE si.imagePath IN :paths")
+    List<String> findImagePathsIn(@Param("paths") Collection<String> paths);
+    
+    @Query("SELECT si.contentHash, COUNT(si) FROM StoreImage si WHERE si.contentHash IN :hashes GROUP BY si.contentHash")
+    List<Object[]> countByContentHashIn(@Param("hashes") Collection<String> hashes);
 }
\ No newline at end of file
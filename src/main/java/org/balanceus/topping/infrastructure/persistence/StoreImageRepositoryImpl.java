@@ -22,6 +22,11 @@ public class StoreImageRepositoryImpl implements StoreImageRepository {
         return storeImageJpaRepository.save(storeImage);
     }
 
+    @Override
+    public List<StoreImage> saveAll(List<StoreImage> storeImages) {
+        return storeImageJpaRepository.saveAll(storeImages);
+    }
+
     @Override
     public Optional<StoreImage> findByUuid(UUID uuid) {
         return storeImageJpaRepository.findById(uuid);
@@ -56,4 +61,14 @@ public class StoreImageRepositoryImpl implements StoreImageRepository {
     public long countByStore(Store store) {
         return storeImageJpaRepository.countByStore(store);
     }
+
+    @Override
+    public int findMaxDisplayOrderByStore(Store store) {
+        return storeImageJpaRepository.findMaxDisplayOrderByStore(store);
+    }
+
+    @Override
+    public List<StoreImage> findByContentHash(String contentHash) {
+        return storeImageJpaRepository.findByContentHash(contentHash);
+    }
 }
\ No newline at end of file
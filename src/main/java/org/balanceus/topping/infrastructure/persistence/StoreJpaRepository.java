@@ -1,5 +1,6 @@
 package org.balanceus.topping.infrastructure.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,8 +8,10 @@ import java.util.UUID;
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.StoreCategory;
 import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.StoreCatalogRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,18 +20,26 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface StoreJpaRepository extends JpaRepository<Store, UUID> {
     Optional<Store> findByUser(User user);
+    @EntityGraph(Store.GRAPH_OWNER_DASHBOARD)
     Optional<Store> findByUserUuid(UUID userUuid);
     Optional<Store> findByName(String name);
     boolean existsByName(String name);
     boolean existsByUser(User user);
     
+    // List cards: images are fetched with the page, everything else stays lazy
+    @EntityGraph(Store.GRAPH_LIST_CARD)
     List<Store> findByCategory(StoreCategory category);
+    @EntityGraph(Store.GRAPH_LIST_CARD)
     List<Store> findAllByOrderByNameAsc();
+    @EntityGraph(Store.GRAPH_LIST_CARD)
     List<Store> findByCategoryOrderByNameAsc(StoreCategory category);
+
+    // Paged cards cannot join-fetch a collection without paginating in memory;
+    // images are batch-fetched instead and no count query is issued
+    List<Store> findAllBy(Pageable pageable);
     
-    @Query("SELECT s FROM Store s " +
-           "LEFT JOIN FETCH s.products p " +
-           "WHERE s.uuid = :id")
+    @EntityGraph(Store.GRAPH_DETAIL)
+    @Query("SELECT s FROM Store s WHERE s.uuid = :id")
     Optional<Store> findByIdWithProducts(@Param("id") UUID id);
     
     @Query("SELECT s FROM Store s " +
@@ -36,6 +47,10 @@ public interface StoreJpaRepository extends JpaRepository<Store, UUID> {
            "WHERE s.uuid = :id")
     Optional<Store> findByIdWithImages(@Param("id") UUID id);
     
+    // Geocoding
+    List<Store> findByLatitudeIsNull();
+    List<Store> findByLatitudeIsNotNull();
+    
     // Search methods
     List<Store> findByNameContainingIgnoreCase(String name);
     List<Store> findByAddressContainingIgnoreCase(String address);
@@ -44,4 +59,13 @@ public interface StoreJpaRepository extends JpaRepository<Store, UUID> {
         String name, String address, String description);
     Page<Store> findByNameContainingIgnoreCaseOrAddressContainingIgnoreCaseOrDescriptionContainingIgnoreCase(
         String name, String address, String description, Pageable pageable);
+
+    @Query("SELECT new org.balanceus.topping.domain.repository.StoreCatalogRow("
+            + "s.uuid, s.name, s.category, p.uuid, p.name, p.category, p.productType, p.isAvailable, p.price) "
+            + "FROM Store s LEFT JOIN s.products p ON p.isAvailable = true "
+            + "WHERE s.uuid IN :storeIds ORDER BY s.uuid, p.createdAt")
+    List<StoreCatalogRow> findCatalogRows(@Param("storeIds") Collection<UUID> storeIds);
+
+    @Query("SELECT s.mainImageUrl FROM Store s WHERE s.mainImageUrl IN :paths")
+    List<String> findMainImageUrlsIn(@Param("paths") Collection<String> paths);
 }
\ No newline at end of file
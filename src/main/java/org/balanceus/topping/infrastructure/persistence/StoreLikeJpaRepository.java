@@ -13,5 +13,7 @@ public interface StoreLikeJpaRepository extends JpaRepository<StoreLike, UUID> {
     Optional<StoreLike> findByUserAndStore(User user, Store store);
     List<StoreLike> findByUser(User user);
     long countByStore(Store store);
+    long countByStoreUuid(UUID storeId);
     boolean existsByUserAndStore(User user, Store store);
+    boolean existsByUserUuidAndStoreUuid(UUID userId, UUID storeId);
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package org.balanceus.topping.infrastructure.persistence;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.StoreLike;
@@ -37,6 +38,11 @@ public class StoreLikeRepositoryImpl implements StoreLikeRepository {
         return storeLikeJpaRepository.countByStore(store);
     }
 
+    @Override
+    public long countByStoreUuid(UUID storeId) {
+        return storeLikeJpaRepository.countByStoreUuid(storeId);
+    }
+
     @Override
     public void delete(StoreLike storeLike) {
         storeLikeJpaRepository.delete(storeLike);
@@ -46,4 +52,9 @@ public class StoreLikeRepositoryImpl implements StoreLikeRepository {
     public boolean existsByUserAndStore(User user, Store store) {
         return storeLikeJpaRepository.existsByUserAndStore(user, store);
     }
+
+    @Override
+    public boolean existsByUserUuidAndStoreUuid(UUID userId, UUID storeId) {
+        return storeLikeJpaRepository.existsByUserUuidAndStoreUuid(userId, storeId);
+    }
 }
\ No newline at end of file
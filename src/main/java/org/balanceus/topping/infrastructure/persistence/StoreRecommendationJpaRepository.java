@@ -0,0 +1,69 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.model.StoreRecommendation;
+import org.balanceus.topping.domain.repository.StoreRecommendationRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StoreRecommendationJpaRepository extends JpaRepository<StoreRecommendation, UUID> {
+
+    @Query("SELECT new org.balanceus.topping.domain.repository.StoreRecommendationRow("
+            + "s.uuid, s.name, s.category, s.description, r.score) "
+            + "FROM StoreRecommendation r JOIN Store s ON s.uuid = r.candidateStoreId "
+            + "WHERE r.storeId = :storeId ORDER BY r.ranking")
+    List<StoreRecommendationRow> findTopByStore(@Param("storeId") UUID storeId, Pageable pageable);
+
+    @Query("SELECT DISTINCT r.storeId FROM StoreRecommendation r WHERE r.candidateStoreId IN :candidateIds")
+    List<UUID> findStoresRecommending(@Param("candidateIds") Collection<UUID> candidateIds);
+
+    // Bulk delete runs immediately, before the replacement rows are inserted on flush
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM StoreRecommendation r WHERE r.storeId IN :storeIds")
+    int deleteByStoreIds(@Param("storeIds") Collection<UUID> storeIds);
+
+    @Query("SELECT s.uuid, s.category, sg.sggCd5, s.isCollaborationOpen FROM Store s LEFT JOIN s.sggCode sg")
+    List<Object[]> findStoreProfiles();
+
+    @Query("SELECT DISTINCT p.store.uuid, p.category FROM Product p WHERE p.category IS NOT NULL")
+    List<Object[]> findProductCategories();
+
+    @Query("SELECT c.initiatorStore.uuid, c.partnerStore.uuid FROM Collaboration c "
+            + "WHERE c.status IN :statuses AND c.initiatorStore IS NOT NULL AND c.partnerStore IS NOT NULL")
+    List<Object[]> findCollaborationEdges(@Param("statuses") Collection<CollaborationStatus> statuses);
+
+    @Query("SELECT l.store.uuid, COUNT(l) FROM StoreLike l GROUP BY l.store.uuid")
+    List<Object[]> countLikesByStore();
+
+    @Query("SELECT w.store.uuid, COUNT(w) FROM Wishlist w GROUP BY w.store.uuid")
+    List<Object[]> countWishlistsByStore();
+
+    @Query("SELECT s.uuid, s.category, sg.sggCd5, s.isCollaborationOpen FROM Store s LEFT JOIN s.sggCode sg "
+            + "WHERE s.uuid IN :storeIds")
+    List<Object[]> findStoreProfiles(@Param("storeIds") Collection<UUID> storeIds);
+
+    @Query("SELECT DISTINCT p.store.uuid, p.category FROM Product p "
+            + "WHERE p.category IS NOT NULL AND p.store.uuid IN :storeIds")
+    List<Object[]> findProductCategories(@Param("storeIds") Collection<UUID> storeIds);
+
+    @Query("SELECT c.initiatorStore.uuid, c.partnerStore.uuid FROM Collaboration c "
+            + "WHERE c.status IN :statuses AND c.initiatorStore IS NOT NULL AND c.partnerStore IS NOT NULL "
+            + "AND (c.initiatorStore.uuid IN :storeIds OR c.partnerStore.uuid IN :storeIds)")
+    List<Object[]> findCollaborationEdges(@Param("statuses") Collection<CollaborationStatus> statuses,
+                                          @Param("storeIds") Collection<UUID> storeIds);
+
+    @Query("SELECT l.store.uuid, COUNT(l) FROM StoreLike l WHERE l.store.uuid IN :storeIds GROUP BY l.store.uuid")
+    List<Object[]> countLikesByStore(@Param("storeIds") Collection<UUID> storeIds);
+
+    @Query("SELECT w.store.uuid, COUNT(w) FROM Wishlist w WHERE w.store.uuid IN :storeIds GROUP BY w.store.uuid")
+    List<Object[]> countWishlistsByStore(@Param("storeIds") Collection<UUID> storeIds);
+}
@@ -0,0 +1,112 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.model.Product.ProductCategory;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.balanceus.topping.domain.model.StoreRecommendation;
+import org.balanceus.topping.domain.repository.StoreMatchFeatures;
+import org.balanceus.topping.domain.repository.StoreMatchFeatures.StoreProfile;
+import org.balanceus.topping.domain.repository.StoreRecommendationRepository;
+import org.balanceus.topping.domain.repository.StoreRecommendationRow;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class StoreRecommendationRepositoryImpl implements StoreRecommendationRepository {
+
+    // Collaborations that actually happened; pending, rejected and cancelled ones say nothing about fit
+    private static final Set<CollaborationStatus> PARTNER_STATUSES =
+            EnumSet.of(CollaborationStatus.ACCEPTED, CollaborationStatus.ENDED);
+
+    private final StoreRecommendationJpaRepository storeRecommendationJpaRepository;
+
+    @Override
+    public List<StoreRecommendationRow> findTopByStore(UUID storeId, int limit) {
+        return storeRecommendationJpaRepository.findTopByStore(storeId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<UUID> findStoresRecommending(Collection<UUID> candidateIds) {
+        if (candidateIds.isEmpty()) {
+            return List.of();
+        }
+        return storeRecommendationJpaRepository.findStoresRecommending(candidateIds);
+    }
+
+    @Override
+    public void replace(Map<UUID, List<StoreRecommendation>> recommendations) {
+        if (recommendations.isEmpty()) {
+            return;
+        }
+        storeRecommendationJpaRepository.deleteByStoreIds(recommendations.keySet());
+        storeRecommendationJpaRepository.saveAll(
+                recommendations.values().stream().flatMap(List::stream).toList());
+    }
+
+    @Override
+    public StoreMatchFeatures loadFeatures() {
+        return toFeatures(storeRecommendationJpaRepository.findStoreProfiles(),
+                storeRecommendationJpaRepository.findProductCategories(),
+                storeRecommendationJpaRepository.findCollaborationEdges(PARTNER_STATUSES),
+                storeRecommendationJpaRepository.countLikesByStore(),
+                storeRecommendationJpaRepository.countWishlistsByStore());
+    }
+
+    @Override
+    public StoreMatchFeatures loadFeatures(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return new StoreMatchFeatures(List.of(), Map.of(), Map.of(), Map.of());
+        }
+        return toFeatures(storeRecommendationJpaRepository.findStoreProfiles(storeIds),
+                storeRecommendationJpaRepository.findProductCategories(storeIds),
+                storeRecommendationJpaRepository.findCollaborationEdges(PARTNER_STATUSES, storeIds),
+                storeRecommendationJpaRepository.countLikesByStore(storeIds),
+                storeRecommendationJpaRepository.countWishlistsByStore(storeIds));
+    }
+
+    private static StoreMatchFeatures toFeatures(List<Object[]> profileRows, List<Object[]> categoryRows,
+                                                 List<Object[]> edgeRows, List<Object[]> likeRows,
+                                                 List<Object[]> wishlistRows) {
+        List<StoreProfile> stores = profileRows.stream()
+                .map(row -> new StoreProfile((UUID) row[0], (StoreCategory) row[1], (Integer) row[2],
+                        !Boolean.FALSE.equals(row[3])))
+                .toList();
+
+        Map<UUID, Set<ProductCategory>> productCategories = new HashMap<>();
+        for (Object[] row : categoryRows) {
+            productCategories.computeIfAbsent((UUID) row[0], id -> EnumSet.noneOf(ProductCategory.class))
+                    .add((ProductCategory) row[1]);
+        }
+
+        Map<UUID, Set<UUID>> partners = new HashMap<>();
+        for (Object[] row : edgeRows) {
+            UUID initiator = (UUID) row[0];
+            UUID partner = (UUID) row[1];
+            if (!initiator.equals(partner)) {
+                partners.computeIfAbsent(initiator, id -> new HashSet<>()).add(partner);
+                partners.computeIfAbsent(partner, id -> new HashSet<>()).add(initiator);
+            }
+        }
+
+        Map<UUID, Long> engagement = new HashMap<>();
+        for (Object[] row : likeRows) {
+            engagement.merge((UUID) row[0], (Long) row[1], Long::sum);
+        }
+        for (Object[] row : wishlistRows) {
+            engagement.merge((UUID) row[0], (Long) row[1], Long::sum);
+        }
+        return new StoreMatchFeatures(stores, productCategories, partners, engagement);
+    }
+}
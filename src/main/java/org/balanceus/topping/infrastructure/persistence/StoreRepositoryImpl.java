@@ -1,5 +1,6 @@
 package org.balanceus.topping.infrastructure.persistence;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -7,6 +8,7 @@ import java.util.UUID;
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.StoreCategory;
 import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.StoreCatalogRow;
 import org.balanceus.topping.domain.repository.StoreRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -89,7 +91,7 @@ public class StoreRepositoryImpl implements StoreRepository {
 
     @Override
     public List<Store> findAll(Pageable pageable) {
-        return storeJpaRepository.findAll(pageable).getContent();
+        return storeJpaRepository.findAllBy(pageable);
     }
 
     @Override
@@ -112,6 +114,24 @@ public class StoreRepositoryImpl implements StoreRepository {
         return storeJpaRepository.findAllById(ids);
     }
 
+    @Override
+    public List<StoreCatalogRow> findCatalogRows(Collection<UUID> storeIds) {
+        if (storeIds.isEmpty()) {
+            return List.of();
+        }
+        return storeJpaRepository.findCatalogRows(storeIds);
+    }
+
+    @Override
+    public List<Store> findByLatitudeIsNull() {
+        return storeJpaRepository.findByLatitudeIsNull();
+    }
+
+    @Override
+    public List<Store> findByLatitudeIsNotNull() {
+        return storeJpaRepository.findByLatitudeIsNotNull();
+    }
+
     @Override
     public long count() {
         return storeJpaRepository.count();
@@ -5,7 +5,10 @@ import org.balanceus.topping.domain.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,4 +34,7 @@ public interface SupportInquiryJpaRepository extends JpaRepository<SupportInquir
     
     long countByStatus(SupportInquiry.InquiryStatus status);
     long countByCategory(SupportInquiry.InquiryCategory category);
+
+    @Query("SELECT si.attachmentPath FROM SupportInquiry si WHERE si.attachmentPath IN :paths")
+    List<String> findAttachmentPathsIn(@Param("paths") Collection<String> paths);
 }
\ No newline at end of file
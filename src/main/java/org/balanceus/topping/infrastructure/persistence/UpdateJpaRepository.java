@@ -4,8 +4,11 @@ import org.balanceus.topping.domain.model.Update;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -56,4 +59,7 @@ public interface UpdateJpaRepository extends JpaRepository<Update, UUID> {
     // Author-based queries
     List<Update> findByAuthor_Uuid(UUID authorUuid);
     Page<Update> findByAuthor_Uuid(UUID authorUuid, Pageable pageable);
+
+    @Query("SELECT u.imageUrl FROM Update u WHERE u.imageUrl IN :paths")
+    List<String> findImageUrlsIn(@Param("paths") Collection<String> paths);
 }
\ No newline at end of file
@@ -6,7 +6,11 @@ import java.util.UUID;
 
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.repository.UserRecipientRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,4 +22,13 @@ public interface UserJpaRepository extends JpaRepository<User, UUID> {
 	boolean existsByPhoneNumber(String phoneNumber);
 	boolean existsByKakaoId(Long kakaoId);
 	List<User> findByRole(Role role);
+
+	@Query("SELECT new org.balanceus.topping.domain.repository.UserRecipientRow(u.uuid, u.email) " +
+	       "FROM User u WHERE u.role = :role ORDER BY u.uuid")
+	List<UserRecipientRow> findRecipientsByRole(@Param("role") Role role, Pageable pageable);
+
+	@Query("SELECT new org.balanceus.topping.domain.repository.UserRecipientRow(u.uuid, u.email) " +
+	       "FROM User u WHERE u.role = :role AND u.uuid > :afterId ORDER BY u.uuid")
+	List<UserRecipientRow> findRecipientsByRoleAfter(@Param("role") Role role, @Param("afterId") UUID afterId,
+													 Pageable pageable);
 }
@@ -7,6 +7,8 @@ import java.util.UUID;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.repository.UserRepository;
 import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.repository.UserRecipientRow;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
@@ -52,6 +54,20 @@ public class UserRepositoryImpl implements UserRepository {
 		return userJpaRepository.findByRole(role);
 	}
 
+	@Override
+	public List<UserRecipientRow> findRecipientsByRole(Role role, UUID afterId, int limit) {
+		PageRequest page = PageRequest.of(0, limit);
+		if (afterId == null) {
+			return userJpaRepository.findRecipientsByRole(role, page);
+		}
+		return userJpaRepository.findRecipientsByRoleAfter(role, afterId, page);
+	}
+
+	@Override
+	public User getReferenceById(UUID id) {
+		return userJpaRepository.getReferenceById(id);
+	}
+
 	@Override
 	public <S extends User> S save(S entity) {
 		return userJpaRepository.save(entity);
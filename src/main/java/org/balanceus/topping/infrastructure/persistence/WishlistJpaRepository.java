@@ -13,5 +13,8 @@ public interface WishlistJpaRepository extends JpaRepository<Wishlist, UUID> {
     Optional<Wishlist> findByUserAndStore(User user, Store store);
     List<Wishlist> findByUser(User user);
     long countByStore(Store store);
+    long countByStoreUuid(UUID storeId);
+    long countByUser(User user);
     boolean existsByUserAndStore(User user, Store store);
+    boolean existsByUserUuidAndStoreUuid(UUID userId, UUID storeId);
 }
\ No newline at end of file
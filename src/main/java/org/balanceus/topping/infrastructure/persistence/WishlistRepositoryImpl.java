@@ -2,6 +2,7 @@ package org.balanceus.topping.infrastructure.persistence;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.User;
@@ -37,6 +38,16 @@ public class WishlistRepositoryImpl implements WishlistRepository {
         return wishlistJpaRepository.countByStore(store);
     }
 
+    @Override
+    public long countByStoreUuid(UUID storeId) {
+        return wishlistJpaRepository.countByStoreUuid(storeId);
+    }
+
+    @Override
+    public long countByUser(User user) {
+        return wishlistJpaRepository.countByUser(user);
+    }
+
     @Override
     public void delete(Wishlist wishlist) {
         wishlistJpaRepository.delete(wishlist);
@@ -46,4 +57,9 @@ public class WishlistRepositoryImpl implements WishlistRepository {
     public boolean existsByUserAndStore(User user, Store store) {
         return wishlistJpaRepository.existsByUserAndStore(user, store);
     }
+
+    @Override
+    public boolean existsByUserUuidAndStoreUuid(UUID userId, UUID storeId) {
+        return wishlistJpaRepository.existsByUserUuidAndStoreUuid(userId, storeId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package org.balanceus.topping.infrastructure.security;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a controller parameter to the logged-in user, or to {@code null} for anonymous requests.
+ * A {@link org.balanceus.topping.application.dto.UserPrincipal} parameter is served from
+ * {@link org.balanceus.topping.application.service.UserCache} without a query; prefer it when the
+ * handler only needs the id, email or role. A {@link org.balanceus.topping.domain.model.User}
+ * parameter is the managed entity, loaded once per request.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+}
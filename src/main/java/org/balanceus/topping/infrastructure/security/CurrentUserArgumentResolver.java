@@ -0,0 +1,91 @@
+package org.balanceus.topping.infrastructure.security;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.balanceus.topping.application.dto.UserPrincipal;
+import org.balanceus.topping.application.exception.ApplicationErrorCode;
+import org.balanceus.topping.application.exception.ApplicationException;
+import org.balanceus.topping.application.service.UserCache;
+import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.UserRepository;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUser} parameters. A {@link UserPrincipal} comes from the short-lived
+ * {@link UserCache}; a {@link User} is loaded through the request's persistence context (open in
+ * view), so it is managed, current and can load its associations. The first lookup of each kind in
+ * a request is memoized in a request attribute, so forwards, error dispatches and several annotated
+ * parameters share it.
+ */
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String CURRENT_USER_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".CURRENT_USER";
+    static final String CURRENT_PRINCIPAL_ATTRIBUTE =
+        CurrentUserArgumentResolver.class.getName() + ".CURRENT_PRINCIPAL";
+
+    private final Supplier<UserCache> userCache;
+    private final Supplier<UserRepository> userRepository;
+
+    public CurrentUserArgumentResolver(Supplier<UserCache> userCache, Supplier<UserRepository> userRepository) {
+        this.userCache = userCache;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+            && (User.class.isAssignableFrom(parameter.getParameterType())
+                || UserPrincipal.class.isAssignableFrom(parameter.getParameterType()));
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        String email = authenticatedEmail();
+        if (email == null) {
+            return null;
+        }
+        if (UserPrincipal.class.isAssignableFrom(parameter.getParameterType())) {
+            return resolve(webRequest, CURRENT_PRINCIPAL_ATTRIBUTE, email, UserPrincipal.class,
+                UserPrincipal::email, userCache.get()::findByEmail);
+        }
+        return resolve(webRequest, CURRENT_USER_ATTRIBUTE, email, User.class,
+            User::getEmail, userRepository.get()::findByEmail);
+    }
+
+    private static <T> T resolve(NativeWebRequest webRequest, String attribute, String email, Class<T> type,
+                                 Function<T, String> emailOf, Function<String, Optional<T>> lookup) {
+        Object memo = webRequest.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST);
+        if (type.isInstance(memo) && email.equals(emailOf.apply(type.cast(memo)))) {
+            return type.cast(memo);
+        }
+
+        Optional<T> found = lookup.apply(email);
+        if (found.isEmpty()) {
+            // Signed in, but the account has been deleted since
+            throw new ApplicationException(ApplicationErrorCode.NOT_FOUND, "User not found: " + email);
+        }
+        webRequest.setAttribute(attribute, found.get(), RequestAttributes.SCOPE_REQUEST);
+        return found.get();
+    }
+
+    private static String authenticatedEmail() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        // UserDetailsImpl and the Kakao login both use the email as the principal name
+        return authentication.getName();
+    }
+}
@@ -2,6 +2,7 @@ package org.balanceus.topping.infrastructure.security;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
@@ -47,6 +48,8 @@ public class SecurityConfig {
 				.requestMatchers("/api/session/login", "/api/session/logout", "/api/session/status").permitAll()
 				.requestMatchers("/api/auth/check-email").permitAll()
 				.requestMatchers("/api/auth/check-phone").permitAll()
+				// Region tree reload is an admin operation; the lookups below it stay public
+				.requestMatchers(HttpMethod.POST, "/api/sggcode/reload").hasRole("ADMIN")
 				.requestMatchers("/api/sggcode/**").permitAll()
 				.requestMatchers("/api/user/kakao/**").permitAll()
 				// Protected endpoints - must be authenticated
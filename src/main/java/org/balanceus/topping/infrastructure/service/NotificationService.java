@@ -1,33 +1,89 @@
 package org.balanceus.topping.infrastructure.service;
 
-import org.balanceus.topping.domain.model.CollaborationProposal;
-import org.balanceus.topping.domain.model.Notification;
-import org.balanceus.topping.domain.model.User;
-import org.balanceus.topping.domain.repository.UserRepository;
-import org.balanceus.topping.domain.model.Role;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.application.dto.NotificationInboxPage;
+import org.balanceus.topping.application.dto.NotificationView;
+import org.balanceus.topping.application.event.NotificationsCreatedEvent;
+import org.balanceus.topping.application.event.NotificationsReadEvent;
+import org.balanceus.topping.application.exception.ApplicationErrorCode;
+import org.balanceus.topping.application.exception.ApplicationException;
+import org.balanceus.topping.application.service.NotificationUnreadCounter;
+import org.balanceus.topping.domain.model.CollaborationProposal;
+import org.balanceus.topping.domain.model.Notification;
+import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.NotificationRepository;
+import org.balanceus.topping.domain.repository.UserRecipientRow;
+import org.balanceus.topping.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Stores notifications and pushes them to recipients that are connected over STOMP, on the
+ * {@code /user/queue/notifications} destination of their login email. Fan-out to many recipients
+ * reads them in keyset pages and inserts each page as one JDBC batch. Delivery happens after
+ * commit; offline users find the notifications in their inbox.
+ */
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationService {
 
+	public static final String USER_DESTINATION = "/queue/notifications";
+
+	private static final String CURSOR_SEPARATOR = "|";
+
 	private final UserRepository userRepository;
+	private final NotificationRepository notificationRepository;
+	private final NotificationUnreadCounter unreadCounter;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final SimpUserRegistry simpUserRegistry;
+	private final ApplicationEventPublisher eventPublisher;
+	private final int fanoutBatchSize;
+
+	public NotificationService(UserRepository userRepository,
+							   NotificationRepository notificationRepository,
+							   NotificationUnreadCounter unreadCounter,
+							   SimpMessagingTemplate messagingTemplate,
+							   SimpUserRegistry simpUserRegistry,
+							   ApplicationEventPublisher eventPublisher,
+							   @Value("${app.notification.fanout-batch-size:500}") int fanoutBatchSize) {
+		this.userRepository = userRepository;
+		this.notificationRepository = notificationRepository;
+		this.unreadCounter = unreadCounter;
+		this.messagingTemplate = messagingTemplate;
+		this.simpUserRegistry = simpUserRegistry;
+		this.eventPublisher = eventPublisher;
+		this.fanoutBatchSize = Math.max(1, fanoutBatchSize);
+	}
 
+	@Transactional
 	public void notifyBusinessOwnersOfNewProposal(CollaborationProposal proposal) {
-		userRepository.findByRole(Role.ROLE_BUSINESS_OWNER)
-				.forEach(businessOwner -> {
-					sendNotification(businessOwner, 
-							"새로운 협업 제안", 
-							(proposal.getProposerUser() != null ? proposal.getProposerUser().getUsername() : 
-								(proposal.getProposerStore() != null ? proposal.getProposerStore().getName() : "Unknown")) + 
-							"님이 '" + proposal.getTitle() + "' 협업을 제안했습니다.",
-							Notification.NotificationType.COLLABORATION_PROPOSAL,
-							proposal.getUuid().toString());
-				});
+		String proposerName = proposal.getProposerUser() != null ? proposal.getProposerUser().getUsername() :
+			(proposal.getProposerStore() != null ? proposal.getProposerStore().getName() : "Unknown");
+		fanOutToRole(Role.ROLE_BUSINESS_OWNER,
+				"새로운 협업 제안",
+				proposerName + "님이 '" + proposal.getTitle() + "' 협업을 제안했습니다.",
+				Notification.NotificationType.COLLABORATION_PROPOSAL,
+				proposal.getUuid().toString());
 	}
 
+	@Transactional
 	public void notifyProposalAccepted(CollaborationProposal proposal) {
 		User proposerUser = proposal.getProposerUser() != null ? proposal.getProposerUser() : 
 			(proposal.getProposerStore() != null ? proposal.getProposerStore().getUser() : null);
@@ -42,6 +98,7 @@ public class NotificationService {
 		}
 	}
 
+	@Transactional
 	public void notifyProposalRejected(CollaborationProposal proposal) {
 		User proposerUser = proposal.getProposerUser() != null ? proposal.getProposerUser() : 
 			(proposal.getProposerStore() != null ? proposal.getProposerStore().getUser() : null);
@@ -56,9 +113,147 @@ public class NotificationService {
 		}
 	}
 
+	@Transactional(readOnly = true)
+	public NotificationInboxPage getInbox(UUID userId, String cursor, int pageSize) {
+		InboxCursor before = cursor != null && !cursor.isBlank() ? decodeCursor(cursor) : null;
+
+		// One extra row tells whether another page exists without a count query
+		List<Notification> rows = notificationRepository.findInboxPage(userId,
+				before != null ? before.createdAt() : null, before != null ? before.id() : null, pageSize + 1);
+		boolean hasNext = rows.size() > pageSize;
+		List<Notification> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+		String nextCursor = null;
+		if (hasNext) {
+			Notification last = page.get(page.size() - 1);
+			nextCursor = encodeCursor(last.getCreatedAt(), last.getUuid());
+		}
+		return new NotificationInboxPage(page.stream().map(NotificationView::of).toList(), nextCursor, hasNext,
+				countUnread(userId));
+	}
+
+	@Transactional(readOnly = true)
+	public long countUnread(UUID userId) {
+		return unreadCounter.get(userId, notificationRepository::countUnread);
+	}
+
+	@Transactional
+	public int markRead(UUID userId, Collection<UUID> notificationIds) {
+		int updated = notificationRepository.markRead(userId, notificationIds);
+		eventPublisher.publishEvent(new NotificationsReadEvent(userId, updated, false));
+		return updated;
+	}
+
+	@Transactional
+	public int markAllRead(UUID userId) {
+		int updated = notificationRepository.markAllRead(userId);
+		eventPublisher.publishEvent(new NotificationsReadEvent(userId, updated, true));
+		return updated;
+	}
+
+	/**
+	 * Runs after commit, so a rolled-back update never lowers the cached unread count.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNotificationsRead(NotificationsReadEvent event) {
+		if (event.all()) {
+			unreadCounter.reset(event.userId());
+		} else {
+			unreadCounter.add(event.userId(), -event.count());
+		}
+	}
+
+	/**
+	 * Runs after commit, so recipients never see notifications that were rolled back.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onNotificationsCreated(NotificationsCreatedEvent event) {
+		for (NotificationsCreatedEvent.Delivery delivery : event.deliveries()) {
+			unreadCounter.add(delivery.recipientId(), 1);
+			if (delivery.recipientEmail() == null || simpUserRegistry.getUser(delivery.recipientEmail()) == null) {
+				continue;
+			}
+			try {
+				messagingTemplate.convertAndSendToUser(delivery.recipientEmail(), USER_DESTINATION,
+						delivery.notification());
+			} catch (MessagingException e) {
+				// Stored already; the inbox still shows it
+				log.warn("Failed to push notification {} to user {}", delivery.notification().uuid(),
+						delivery.recipientId(), e);
+			}
+		}
+	}
+
 	private void sendNotification(User recipient, String title, String message, 
 								 Notification.NotificationType type, String relatedEntityId) {
-		// 실제 구현에서는 알림을 데이터베이스에 저장하거나 실시간으로 전송
-		System.out.println("📢 알림 전송 - " + recipient.getUsername() + ": " + title + " - " + message);
+		insert(List.of(new UserRecipientRow(recipient.getUuid(), recipient.getEmail())),
+				title, message, type, relatedEntityId);
+	}
+
+	/**
+	 * Each page is inserted, detached from the persistence context and announced with its own event,
+	 * so neither the session nor a single event grows with the number of recipients.
+	 */
+	private void fanOutToRole(Role role, String title, String message,
+							  Notification.NotificationType type, String relatedEntityId) {
+		UUID afterId = null;
+		int total = 0;
+		List<UserRecipientRow> recipients;
+		do {
+			recipients = userRepository.findRecipientsByRole(role, afterId, fanoutBatchSize);
+			if (recipients.isEmpty()) {
+				break;
+			}
+			insert(recipients, title, message, type, relatedEntityId);
+			total += recipients.size();
+			afterId = recipients.get(recipients.size() - 1).userId();
+		} while (recipients.size() == fanoutBatchSize);
+		log.info("Stored {} notifications for {} users with role {}", type, total, role);
+	}
+
+	private void insert(List<UserRecipientRow> recipients, String title, String message,
+						Notification.NotificationType type, String relatedEntityId) {
+		List<Notification> notifications = new ArrayList<>(recipients.size());
+		for (UserRecipientRow recipient : recipients) {
+			Notification notification = new Notification();
+			notification.setRecipient(userRepository.getReferenceById(recipient.userId()));
+			notification.setTitle(title);
+			notification.setMessage(message);
+			notification.setType(type);
+			notification.setRelatedEntityId(relatedEntityId);
+			notification.setIsRead(false);
+			notifications.add(notification);
+		}
+
+		List<Notification> saved = notificationRepository.insertAll(notifications);
+		List<NotificationsCreatedEvent.Delivery> deliveries = new ArrayList<>(saved.size());
+		for (int i = 0; i < saved.size(); i++) {
+			UserRecipientRow recipient = recipients.get(i);
+			deliveries.add(new NotificationsCreatedEvent.Delivery(recipient.userId(), recipient.email(),
+					NotificationView.of(saved.get(i))));
+		}
+		eventPublisher.publishEvent(new NotificationsCreatedEvent(deliveries));
+	}
+
+	private record InboxCursor(LocalDateTime createdAt, UUID id) {
+	}
+
+	private static String encodeCursor(LocalDateTime createdAt, UUID uuid) {
+		String raw = createdAt + CURSOR_SEPARATOR + uuid;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static InboxCursor decodeCursor(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.indexOf(CURSOR_SEPARATOR);
+			if (separator > 0) {
+				return new InboxCursor(LocalDateTime.parse(raw.substring(0, separator)),
+						UUID.fromString(raw.substring(separator + 1)));
+			}
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			// fall through to the common error below
+		}
+		throw new ApplicationException(ApplicationErrorCode.VALIDATION_ERROR, "Malformed inbox cursor: " + cursor);
 	}
-}
+}
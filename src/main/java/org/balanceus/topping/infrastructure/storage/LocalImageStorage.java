@@ -0,0 +1,75 @@
+package org.balanceus.topping.infrastructure.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.storage.ImageStorage;
+
+/**
+ * Keeps images under {@code app.upload.path}, the layout the resource handlers serve directly.
+ * Single-node only: every instance needs the same disk.
+ */
+public class LocalImageStorage implements ImageStorage {
+
+    private final Path root;
+
+    public LocalImageStorage(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public void put(String key, InputStream content, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path partial = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+        try {
+            Files.copy(content, partial);
+            move(partial, target);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+    }
+
+    @Override
+    public void put(String key, Path file, String contentType) throws IOException {
+        Path target = resolve(key);
+        if (file.toAbsolutePath().normalize().equals(target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        move(file, target);
+    }
+
+    @Override
+    public Optional<Path> localCopy(String key) {
+        Path file = resolve(key);
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    Path resolve(String key) {
+        Path file = root.resolve(key).normalize();
+        if (!file.startsWith(root) || file.equals(root)) {
+            throw new SecurityException("Path traversal attempt detected: " + key);
+        }
+        return file;
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package org.balanceus.topping.infrastructure.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.balanceus.topping.domain.storage.ImageStorage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * Stores images in an S3-compatible bucket (AWS S3, MinIO, LocalStack) so any node can serve any
+ * upload. Objects larger than one part go up as a multipart upload whose parts are read from the
+ * stream one at a time and sent in parallel, with at most {@code uploadConcurrency} parts buffered.
+ * Reads are served from a local disk cache that is filled on a miss.
+ */
+@Slf4j
+public class S3ImageStorage implements ImageStorage {
+
+    /** S3 rejects non-final parts smaller than 5 MiB. */
+    static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3;
+    private final String bucket;
+    private final Executor partExecutor;
+    private final int partSize;
+    private final int uploadConcurrency;
+    private final Path cacheRoot;
+    private final long cacheMaxBytes;
+    private final AtomicLong cachedBytes = new AtomicLong(-1);
+
+    public S3ImageStorage(S3Client s3, String bucket, Executor partExecutor, int partSize, int uploadConcurrency,
+                          Path cacheRoot, long cacheMaxBytes) {
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.partExecutor = partExecutor;
+        this.partSize = Math.max(MIN_PART_SIZE, partSize);
+        this.uploadConcurrency = Math.max(1, uploadConcurrency);
+        this.cacheRoot = cacheRoot.toAbsolutePath().normalize();
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
+
+    @Override
+    public void put(String key, InputStream content, String contentType) throws IOException {
+        byte[] first = content.readNBytes(partSize);
+        byte[] second = first.length == partSize ? content.readNBytes(partSize) : new byte[0];
+        try {
+            if (second.length == 0) {
+                s3.putObject(b -> b.bucket(bucket).key(key).contentType(contentType), RequestBody.fromBytes(first));
+            } else {
+                multipartUpload(key, contentType, first, second, content);
+            }
+        } catch (SdkException e) {
+            throw new IOException("Failed to upload " + key + " to bucket " + bucket, e);
+        }
+    }
+
+    /**
+     * Upload, then keep the file as the cached copy so the uploading node never re-downloads it.
+     */
+    @Override
+    public void put(String key, Path file, String contentType) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            put(key, in, contentType);
+        }
+        Path cached = cachePath(key);
+        long size = Files.size(file);
+        Files.createDirectories(cached.getParent());
+        move(file, cached);
+        recordCached(size);
+    }
+
+    @Override
+    public Optional<Path> localCopy(String key) throws IOException {
+        Path cached = cachePath(key);
+        if (Files.isRegularFile(cached)) {
+            return Optional.of(cached);
+        }
+        Files.createDirectories(cached.getParent());
+        Path partial = cached.resolveSibling(cached.getFileName() + "." + UUID.randomUUID() + ".part");
+        try {
+            s3.getObject(b -> b.bucket(bucket).key(key), ResponseTransformer.toFile(partial));
+            move(partial, cached);
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (SdkException e) {
+            throw new IOException("Failed to fetch " + key + " from bucket " + bucket, e);
+        } finally {
+            Files.deleteIfExists(partial);
+        }
+        recordCached(Files.size(cached));
+        return Optional.of(cached);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3.deleteObject(b -> b.bucket(bucket).key(key));
+        } catch (SdkException e) {
+            throw new IOException("Failed to delete " + key + " from bucket " + bucket, e);
+        }
+        Files.deleteIfExists(cachePath(key));
+    }
+
+    private void multipartUpload(String key, String contentType, byte[] first, byte[] second, InputStream rest)
+            throws IOException {
+        String uploadId = s3.createMultipartUpload(b -> b.bucket(bucket).key(key).contentType(contentType)).uploadId();
+        Semaphore buffered = new Semaphore(uploadConcurrency);
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        try {
+            byte[] part = first;
+            byte[] next = second;
+            int partNumber = 1;
+            while (part.length > 0) {
+                buffered.acquireUninterruptibly();
+                parts.add(uploadPart(key, uploadId, partNumber++, part).whenComplete((done, error) -> buffered.release()));
+                if (parts.stream().anyMatch(CompletableFuture::isCompletedExceptionally)) {
+                    break;
+                }
+                part = next;
+                next = part.length == partSize ? rest.readNBytes(partSize) : new byte[0];
+            }
+            List<CompletedPart> completed = parts.stream().map(CompletableFuture::join).toList();
+            s3.completeMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId)
+                    .multipartUpload(m -> m.parts(completed)));
+        } catch (IOException | RuntimeException e) {
+            CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new)).exceptionally(error -> null).join();
+            abortQuietly(key, uploadId);
+            if (e instanceof CompletionException completion && completion.getCause() instanceof SdkException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private CompletableFuture<CompletedPart> uploadPart(String key, String uploadId, int partNumber, byte[] bytes) {
+        return CompletableFuture.supplyAsync(() -> {
+            UploadPartResponse response = s3.uploadPart(
+                    b -> b.bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber),
+                    RequestBody.fromBytes(bytes));
+            return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+        }, partExecutor);
+    }
+
+    private void abortQuietly(String key, String uploadId) {
+        try {
+            s3.abortMultipartUpload(b -> b.bucket(bucket).key(key).uploadId(uploadId));
+        } catch (SdkException e) {
+            log.warn("Failed to abort multipart upload {} for {}", uploadId, key, e);
+        }
+    }
+
+    private Path cachePath(String key) {
+        Path file = cacheRoot.resolve(key).normalize();
+        if (!file.startsWith(cacheRoot) || file.equals(cacheRoot)) {
+            throw new SecurityException("Path traversal attempt detected: " + key);
+        }
+        return file;
+    }
+
+    private void recordCached(long size) {
+        if (cacheMaxBytes <= 0) {
+            return;
+        }
+        long total = cachedBytes.updateAndGet(current -> current < 0 ? current : current + size);
+        if (total < 0 || total > cacheMaxBytes) {
+            trimCache();
+        }
+    }
+
+    /**
+     * Evict the oldest cached files until the cache is back under 90% of its budget. Every cached
+     * file also exists in the bucket, so eviction only costs a later re-download.
+     */
+    private synchronized void trimCache() {
+        List<Path> files = new ArrayList<>();
+        List<BasicFileAttributes> attributes = new ArrayList<>();
+        try {
+            Files.walkFileTree(cacheRoot, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                    if (attrs.isRegularFile() && !file.getFileName().toString().endsWith(".part")) {
+                        files.add(file);
+                        attributes.add(attrs);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            log.warn("Failed to scan image cache {}", cacheRoot, e);
+            return;
+        }
+
+        long total = attributes.stream().mapToLong(BasicFileAttributes::size).sum();
+        if (total > cacheMaxBytes) {
+            long target = cacheMaxBytes / 10 * 9;
+            List<Integer> oldestFirst = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                oldestFirst.add(i);
+            }
+            oldestFirst.sort(Comparator.comparing(i -> attributes.get(i).lastModifiedTime()));
+            for (int i : oldestFirst) {
+                if (total <= target) {
+                    break;
+                }
+                try {
+                    Files.deleteIfExists(files.get(i));
+                    total -= attributes.get(i).size();
+                } catch (IOException e) {
+                    log.warn("Failed to evict cached image {}", files.get(i), e);
+                }
+            }
+        }
+        cachedBytes.set(total);
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
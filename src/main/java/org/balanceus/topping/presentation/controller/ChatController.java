@@ -27,6 +27,7 @@ import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
 import org.balanceus.topping.domain.repository.UserRepository;
 import org.balanceus.topping.infrastructure.response.ApiResponseData;
 import org.balanceus.topping.infrastructure.response.Code;
+import org.balanceus.topping.infrastructure.security.CurrentUser;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -281,14 +282,11 @@ public class ChatController {
 	@ResponseBody
 	public ApiResponseData<MessageInfo> sendMessage(
 			@org.springframework.web.bind.annotation.RequestBody SendMessageRequest request,
-			Principal principal) {
+			@CurrentUser User sender) {
 
 		ChatRoom chatRoom = chatRoomRepository.findById(request.getRoomId())
 				.orElseThrow(() -> new RuntimeException("Chat room not found"));
 
-		User sender = userRepository.findByEmail(principal.getName())
-				.orElseThrow(() -> new RuntimeException("User not found"));
-
 		ChatMessage chatMessage = new ChatMessage();
 		chatMessage.setChatRoom(chatRoom);
 		chatMessage.setSender(sender);
@@ -336,10 +334,7 @@ public class ChatController {
 	}
 
 	@GetMapping("/rooms")
-	public String listChatRooms(Model model, Principal principal) {
-		User user = userRepository.findByEmail(principal.getName())
-				.orElseThrow(() -> new RuntimeException("User not found"));
-
+	public String listChatRooms(Model model, @CurrentUser User user) {
 		// Get chat rooms where user participates (from both proposals and collaborations)
 		List<ChatRoom> proposalRooms = chatRoomRepository.findByCollaborationProposalParticipant(user);
 		List<ChatRoom> collaborationRooms = chatRoomRepository.findByCollaborationParticipant(user);
@@ -7,8 +7,11 @@ import java.util.UUID;
 
 import org.balanceus.topping.application.service.CollaborationApplicationException;
 import org.balanceus.topping.application.service.CollaborationApplicationService;
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.model.StoreCategory;
 import org.balanceus.topping.infrastructure.response.ApiResponseData;
 import org.balanceus.topping.presentation.dto.collaboration.CollaborationApplyViewModel;
+import org.balanceus.topping.presentation.dto.collaboration.CollaborationCardPage;
 import org.balanceus.topping.presentation.dto.collaboration.CollaborationCardView;
 import org.balanceus.topping.presentation.dto.collaboration.CollaborationProposalForm;
 import org.springframework.stereotype.Controller;
@@ -123,8 +126,18 @@ public class CollaborationController {
 
     @GetMapping("/api")
     @ResponseBody
-    public ApiResponseData<List<CollaborationCardView>> getCollaborationsApi() {
-        return ApiResponseData.success(collaborationApplicationService.getCollaborationCards());
+    public ApiResponseData<CollaborationCardPage> getCollaborationsApi(
+            @RequestParam(required = false) CollaborationStatus status,
+            @RequestParam(required = false) StoreCategory category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ApiResponseData.success(
+                    collaborationApplicationService.getCollaborationCards(status, category, cursor, size));
+        } catch (CollaborationApplicationException e) {
+            log.debug("Failed to fetch collaboration feed: {}", e.getMessage());
+            return ApiResponseData.failure(400, "Invalid cursor");
+        }
     }
 
     @GetMapping("/api/user/{userId}")
@@ -148,8 +161,8 @@ public class CollaborationController {
         model.addAttribute("isBusinessOwner", viewModel.isBusinessOwner());
         model.addAttribute("userStore", viewModel.getUserStore());
         model.addAttribute("userProducts", viewModel.getUserProducts());
+        model.addAttribute("recommendedStores", viewModel.getRecommendedStores());
         model.addAttribute("allStores", viewModel.getAllStores());
-        model.addAttribute("allProducts", viewModel.getAllProducts());
         model.addAttribute("targetStore", viewModel.getTargetStore());
         model.addAttribute("targetProduct", viewModel.getTargetProduct());
         model.addAttribute("storeDataJson", viewModel.getStoreDataJson());
@@ -4,7 +4,9 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.balanceus.topping.application.service.ImageUploadService;
 import org.balanceus.topping.domain.model.CollaborationProposal;
@@ -14,6 +16,7 @@ import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.ProposalSource;
 import org.balanceus.topping.domain.repository.StoreRepository;
 import org.balanceus.topping.domain.repository.ProductRepository;
+import org.balanceus.topping.domain.repository.StoreRecommendationRow;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
@@ -21,9 +24,11 @@ import org.balanceus.topping.domain.repository.UserRepository;
 import org.balanceus.topping.infrastructure.response.ApiResponseData;
 import org.balanceus.topping.infrastructure.response.Code;
 import org.balanceus.topping.domain.model.Role;
-import org.balanceus.topping.infrastructure.service.NotificationService;
 import org.balanceus.topping.application.service.ChatService;
 import org.balanceus.topping.application.service.CollaborationService;
+import org.balanceus.topping.application.service.StoreRecommendationService;
+import org.balanceus.topping.application.exception.ApplicationErrorCode;
+import org.balanceus.topping.application.exception.ApplicationException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -44,20 +49,23 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CollaborationProposalController {
 
+	private static final int RECOMMENDED_STORE_COUNT = 10;
+
 	private final CollaborationProposalRepository proposalRepository;
 	private final UserRepository userRepository;
 	private final StoreRepository storeRepository;
 	private final ProductRepository productRepository;
-	private final NotificationService notificationService;
 	private final ChatService chatService;
 	private final CollaborationService collaborationService;
 	private final ImageUploadService imageUploadService;
+	private final StoreRecommendationService storeRecommendationService;
 
 	@GetMapping("/suggest")
 	public String suggestForm(Model model, Principal principal) {
 		// Get all stores for selection, excluding user's own store if they have one
 		List<Store> allStores = storeRepository.findAll(Pageable.unpaged());
 		List<Product> userProducts = List.of();
+		List<StoreRecommendationRow> recommendedStores = List.of();
 		
 		// If user is logged in, exclude their own store from the list and get their products
 		if (principal != null) {
@@ -65,15 +73,22 @@ public class CollaborationProposalController {
 			if (user != null) {
 				Store userStore = storeRepository.findByUser(user).orElse(null);
 				if (userStore != null) {
+					userProducts = productRepository.findByStore(userStore);
+					recommendedStores = storeRecommendationService.recommend(userStore.getUuid(), RECOMMENDED_STORE_COUNT);
+					// Recommended stores are listed in their own group, so leave them out of the full list
+					Set<UUID> recommendedIds = recommendedStores.stream()
+							.map(StoreRecommendationRow::storeId)
+							.collect(Collectors.toSet());
 					allStores = allStores.stream()
-							.filter(store -> !store.getUuid().equals(userStore.getUuid()))
+							.filter(store -> !store.getUuid().equals(userStore.getUuid())
+									&& !recommendedIds.contains(store.getUuid()))
 							.toList();
-					userProducts = productRepository.findByStore(userStore);
 				}
 			}
 		}
 		
 		model.addAttribute("stores", allStores);
+		model.addAttribute("recommendedStores", recommendedStores);
 		model.addAttribute("userProducts", userProducts);
 		return "proposals/suggest";
 	}
@@ -171,7 +186,8 @@ public class CollaborationProposalController {
 			System.out.println("⚠️ No target product provided in /proposals/suggest");
 		}
 
-		CollaborationProposal saved = proposalRepository.save(proposal);
+		// Saves the proposal and records the owner notification in one transaction
+		CollaborationProposal saved = collaborationService.submitSuggestion(proposal);
 		
 		// 🎯 NEW: Create chat room immediately for the proposal
 		try {
@@ -183,9 +199,6 @@ public class CollaborationProposalController {
 			System.err.println("❌ Failed to create chat room for proposal " + saved.getUuid() + ": " + e.getMessage());
 		}
 		
-		// 사업자들에게 새 제안 알림 전송
-		notificationService.notifyBusinessOwnersOfNewProposal(saved);
-		
 		return ApiResponseData.success(saved);
 	}
 	
@@ -226,6 +239,11 @@ public class CollaborationProposalController {
 			collaborationService.approve(proposalId);
 			
 			return ApiResponseData.success("협업 제안이 수락되었습니다.");
+		} catch (ApplicationException e) {
+			if (e.getErrorCode() == ApplicationErrorCode.CONFLICT) {
+				return ApiResponseData.failure(Code.CONFLICT.getCode(), "이미 처리된 제안이거나 진행 중인 동일한 협업이 있습니다.");
+			}
+			return ApiResponseData.failure(Code.INTERNAL_SERVER_ERROR.getCode(), "제안 수락 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
 		} catch (Exception e) {
 			return ApiResponseData.failure(Code.INTERNAL_SERVER_ERROR.getCode(), "제안 수락 중 오류가 발생했습니다. 잠시 후 다시 시도해주세요.");
 		}
@@ -241,15 +259,15 @@ public class CollaborationProposalController {
 		User businessOwner = userRepository.findByEmail(principal.getName())
 				.orElseThrow(() -> new RuntimeException("User not found"));
 
-		CollaborationProposal proposal = proposalRepository.findById(proposalId)
-				.orElseThrow(() -> new RuntimeException("Proposal not found"));
-
-		proposal.setStatus(CollaborationProposal.CollaborationStatus.REJECTED);
-		// Target business owner handled through store relationship
-		proposalRepository.save(proposal);
-
-		// 제안자에게 거절 알림 전송
-		notificationService.notifyProposalRejected(proposal);
+		try {
+			// Conditional PENDING -> REJECTED transition; a concurrent accept or reject wins cleanly
+			collaborationService.reject(proposalId);
+		} catch (ApplicationException e) {
+			if (e.getErrorCode() != ApplicationErrorCode.CONFLICT) {
+				throw e;
+			}
+			return ApiResponseData.failure(Code.CONFLICT.getCode(), "이미 처리된 제안입니다.");
+		}
 
 		return ApiResponseData.success("협업 제안이 거절되었습니다.");
 	}
@@ -276,6 +294,10 @@ public class CollaborationProposalController {
 			
 			return "redirect:/mypage/received?success=proposal_accepted";
 		} catch (Exception e) {
+			if (e instanceof ApplicationException applicationException
+					&& applicationException.getErrorCode() == ApplicationErrorCode.CONFLICT) {
+				return "redirect:/mypage/received?error=already_processed";
+			}
 			// Create a safe error message for URL parameter
 			String safeMessage;
 			try {
@@ -333,12 +355,15 @@ public class CollaborationProposalController {
 			return "redirect:/mypage/received?error=already_processed";
 		}
 
-		proposal.setStatus(CollaborationProposal.CollaborationStatus.REJECTED);
-		// Target business owner handled through store relationship
-		proposalRepository.save(proposal);
-
-		// 제안자에게 거절 알림 전송
-		notificationService.notifyProposalRejected(proposal);
+		try {
+			collaborationService.reject(proposalId);
+		} catch (ApplicationException e) {
+			if (e.getErrorCode() != ApplicationErrorCode.CONFLICT) {
+				throw e;
+			}
+			// Decided by a concurrent request since the check above
+			return "redirect:/mypage/received?error=already_processed";
+		}
 
 		return "redirect:/mypage/received?success=proposal_rejected";
 	}
@@ -46,7 +46,9 @@ public class ExploreController {
 				CollaborationProposal.CollaborationStatus.PENDING);
 		// CollaborationProduct entity removed - using Product.COLLABORATION type instead
 		Pageable pageable2 = PageRequest.of(0, 10);
-		List<Product> liveProducts = productRepository.findByProductTypeOrderByReviewCountDesc(Product.ProductType.COLLABORATION, pageable2).getContent();
+		// Products of ended collaborations are taken off sale by the lifecycle scheduler
+		List<Product> liveProducts = productRepository.findByProductTypeAndIsAvailableTrueOrderByReviewCountDesc(
+				Product.ProductType.COLLABORATION, pageable2).getContent();
 
 		// Add new data for store and product sections
 		model.addAttribute("stores", stores);
@@ -0,0 +1,31 @@
+package org.balanceus.topping.presentation.controller;
+
+import java.util.UUID;
+
+import org.balanceus.topping.application.dto.ImageStatusView;
+import org.balanceus.topping.application.service.ImageProcessingPipeline;
+import org.balanceus.topping.infrastructure.response.ApiResponseData;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+public class ImageController {
+
+    private final ImageProcessingPipeline imageProcessingPipeline;
+
+    /**
+     * 업로드 이미지 처리 상태 조회 (PENDING → READY/FAILED)
+     */
+    @GetMapping("/{imageId}/status")
+    public ApiResponseData<ImageStatusView> getStatus(@PathVariable("imageId") UUID imageId) {
+        return imageProcessingPipeline.getStatus(imageId)
+                .map(ApiResponseData::success)
+                .orElseGet(() -> ApiResponseData.failure(404, "이미지를 찾을 수 없습니다."));
+    }
+}
@@ -1,9 +1,11 @@
 package org.balanceus.topping.presentation.controller;
 
 import java.security.Principal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
-import org.balanceus.topping.domain.model.ChatRoom;
 import org.balanceus.topping.domain.model.Collaboration;
 import org.balanceus.topping.domain.model.CollaborationProposal;
 import org.balanceus.topping.domain.model.Product;
@@ -11,18 +13,23 @@ import org.balanceus.topping.domain.model.ProductWishlist;
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.model.Wishlist;
-import org.balanceus.topping.domain.repository.ChatRoomRepository;
 import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
 import org.balanceus.topping.domain.repository.CollaborationRepository;
 import org.balanceus.topping.domain.repository.ProductWishlistRepository;
 import org.balanceus.topping.domain.repository.StoreRepository;
-import org.balanceus.topping.domain.repository.UserRepository;
 import org.balanceus.topping.domain.repository.WishlistRepository;
+import org.balanceus.topping.application.dto.MyPageDashboard;
+import org.balanceus.topping.application.service.MyPageDashboardService;
 import org.balanceus.topping.application.service.ProductService;
+import org.balanceus.topping.infrastructure.security.CurrentUser;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,143 +40,60 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MyPageController {
 
-	private final UserRepository userRepository;
+	private static final int TAB_PAGE_SIZE = 20;
+	// Tab pages are merged from two newest-first reads that start at the top, so deep pages get expensive
+	private static final int MAX_TAB_PAGE = 50;
+
 	private final CollaborationProposalRepository proposalRepository;
 	private final CollaborationRepository collaborationRepository;
 	private final ProductService productService;
-	private final ChatRoomRepository chatRoomRepository;
+	private final MyPageDashboardService myPageDashboardService;
 	private final StoreRepository storeRepository;
 	private final ProductWishlistRepository productWishlistRepository;
 	private final WishlistRepository wishlistRepository;
 
 	@GetMapping
-	public String myPage(Model model, Principal principal) {
-		log.debug("MyPage accessed - Principal: {}", principal);
+	public String myPage(Model model, @CurrentUser User user) {
+		log.debug("MyPage accessed - User: {}", user != null ? user.getEmail() : "anonymous");
 		
-		if (principal == null) {
-			log.warn("Principal is null - redirecting to login");
+		if (user == null) {
+			log.warn("No authenticated user - redirecting to login");
 			return "redirect:/login";
 		}
 
-		log.debug("User authenticated - Principal name: {}", principal.getName());
-		User user = userRepository.findByEmail(principal.getName())
-				.orElseThrow(() -> new RuntimeException("User not found"));
-		
-		log.debug("User found: {} with UUID: {}", user.getEmail(), user.getUuid());
-
-		// Get user's store if exists
-		Store userStore = storeRepository.findByUser(user).orElse(null);
-		log.debug("User store: {}", userStore != null ? userStore.getUuid() : "null");
-
-		// Get user's proposals (both as user and store owner) - use OR query to prevent duplicates
-		List<CollaborationProposal> proposals = userStore != null ? 
-			proposalRepository.findByProposerUserOrProposerStore(user, userStore) : 
-			proposalRepository.findByProposerUser(user);
-		log.debug("Total proposals for user: {}", proposals.size());
-		
-		// Get user's collaboration applications (submitted via apply form)
-		List<Collaboration> myApplications = userStore != null ? 
-			collaborationRepository.findByStoreParticipation(userStore) : List.of();
-		
-		// Get ongoing collaborations (accepted applications by user)
-		List<Collaboration> ongoingCollaborations = myApplications.stream()
-				.filter(collab -> collab.getStatus() == Collaboration.CollaborationStatus.ACCEPTED)
-				.toList();
-		
-		// Get completed collaborations (for future use)
-		List<Collaboration> completedCollaborations = List.of(); // TODO: Implement when status is added
-		
-		// Get pending applications (waiting for response)
-		List<Collaboration> pendingApplications = myApplications.stream()
-				.filter(collab -> collab.getStatus() == Collaboration.CollaborationStatus.PENDING)
-				.toList();
-		
-		// Get collaborations where user's store is involved (received applications)
-		List<Collaboration> receivedApplications = userStore != null ? 
-			collaborationRepository.findByStoreAndStatus(userStore, Collaboration.CollaborationStatus.PENDING) : List.of();
-		
-		// Get collaboration proposals where user's store is the target
-		List<CollaborationProposal> receivedProposals = userStore != null ? 
-			proposalRepository.findByTargetStore(userStore) : List.of();
-		
-		log.debug("Total received proposals: {}", receivedProposals.size());
-		
-		// Get user's registered products
-		List<Product> myProducts = productService.getProductsByCreator(user.getUuid());
-		
-		// Get user's collaboration products (COLLABORATION type products)
-		List<Product> myCollaborationProducts = myProducts.stream()
-			.filter(p -> p.getProductType() == Product.ProductType.COLLABORATION)
-			.toList();
-		
-		// Get user's product wishlist
-		List<ProductWishlist> userWishlist = productWishlistRepository.findByUser(user);
-		
-		// Get user's store wishlist
-		List<Wishlist> userStoreWishlist = wishlistRepository.findByUser(user);
-		
-		// Get active chat rooms
-		List<ChatRoom> activeChatRooms = chatRoomRepository.findByIsActiveTrue();
-
-		// Calculate statistics
-		int proposalCount = proposals.size();
-		int applicationCount = myApplications.size();
-		int ongoingCollaborationCount = ongoingCollaborations.size();
-		int pendingApplicationCount = pendingApplications.size();
-		int receivedApplicationCount = receivedApplications.size() + receivedProposals.size(); // Include both types
-		int productCount = myProducts.size();
-		int wishlistCount = userWishlist.size();
-		int storeWishlistCount = userStoreWishlist.size();
-		int chatRoomCount = activeChatRooms.size();
-
-		// Calculate pending actions for alerts
-		int pendingActionsCount = receivedApplications.stream()
-				.mapToInt(collab -> collab.getStatus() == Collaboration.CollaborationStatus.PENDING ? 1 : 0)
-				.sum() + 
-				receivedProposals.stream()
-				.mapToInt(prop -> prop.getStatus() == CollaborationProposal.CollaborationStatus.PENDING ? 1 : 0)
-				.sum();
+		MyPageDashboard dashboard = myPageDashboardService.assemble(user);
+		log.debug("MyPage dashboard sections for {}: {}", user.getUuid(), dashboard.getSectionMillis());
 
 		model.addAttribute("user", user);
-		model.addAttribute("proposals", proposals);
-		model.addAttribute("myApplications", myApplications);
-		model.addAttribute("ongoingCollaborations", ongoingCollaborations);
-		model.addAttribute("pendingApplications", pendingApplications);
-		model.addAttribute("receivedApplications", receivedApplications);
-		model.addAttribute("completedCollaborations", completedCollaborations);
-		model.addAttribute("myProducts", myProducts);
-		model.addAttribute("myCollaborationProducts", myCollaborationProducts);
-		model.addAttribute("userWishlist", userWishlist);
-		model.addAttribute("userStore", userStore);
-		model.addAttribute("activeChatRooms", activeChatRooms);
+		model.addAttribute("userStore", dashboard.getUserStore());
+		model.addAttribute("pendingApplications", dashboard.getPendingApplications());
+		model.addAttribute("ongoingCollaborations", dashboard.getOngoingCollaborations());
+		model.addAttribute("receivedApplications", dashboard.getReceivedApplications());
 		
 		// Statistics
-		model.addAttribute("proposalCount", proposalCount);
-		model.addAttribute("applicationCount", applicationCount);
-		model.addAttribute("ongoingCollaborationCount", ongoingCollaborationCount);
-		model.addAttribute("pendingApplicationCount", pendingApplicationCount);
-		model.addAttribute("receivedApplicationCount", receivedApplicationCount);
-		model.addAttribute("productCount", productCount);
-		model.addAttribute("wishlistCount", wishlistCount);
-		model.addAttribute("storeWishlistCount", storeWishlistCount);
-		model.addAttribute("chatRoomCount", chatRoomCount);
-		model.addAttribute("pendingActionsCount", pendingActionsCount);
+		model.addAttribute("proposalCount", dashboard.getProposalCount());
+		model.addAttribute("applicationCount", dashboard.getApplicationCount());
+		model.addAttribute("ongoingCollaborationCount", dashboard.getOngoingCollaborationCount());
+		model.addAttribute("pendingApplicationCount", dashboard.getPendingApplicationCount());
+		model.addAttribute("receivedApplicationCount", dashboard.getReceivedApplicationCount());
+		model.addAttribute("productCount", dashboard.getProductCount());
+		model.addAttribute("wishlistCount", dashboard.getWishlistCount());
+		model.addAttribute("storeWishlistCount", dashboard.getStoreWishlistCount());
+		model.addAttribute("chatRoomCount", dashboard.getChatRoomCount());
+		model.addAttribute("pendingActionsCount", dashboard.getPendingActionsCount());
 
 		return "mypage";
 	}
 
 	@GetMapping("/store")
-	public String myPageStore(Model model, Principal principal) {
-		log.debug("MyPage Store accessed - Principal: {}", principal);
+	public String myPageStore(Model model, @CurrentUser User user) {
+		log.debug("MyPage Store accessed - User: {}", user != null ? user.getEmail() : "anonymous");
 		
-		if (principal == null) {
-			log.warn("Principal is null - redirecting to login");
+		if (user == null) {
+			log.warn("No authenticated user - redirecting to login");
 			return "redirect:/login";
 		}
 
-		User user = userRepository.findByEmail(principal.getName())
-				.orElseThrow(() -> new RuntimeException("User not found"));
-		
 		// Check if user has business owner role
 		if (!user.getRole().name().equals("ROLE_BUSINESS_OWNER") && !user.getRole().name().equals("ROLE_ADMIN")) {
 			log.warn("User {} does not have business owner role - redirecting to mypage", user.getEmail());
@@ -190,17 +114,14 @@ public class MyPageController {
 	}
 
 	@GetMapping("/product")
-	public String myPageProduct(Model model, Principal principal) {
-		log.debug("MyPage Product accessed - Principal: {}", principal);
+	public String myPageProduct(Model model, @CurrentUser User user) {
+		log.debug("MyPage Product accessed - User: {}", user != null ? user.getEmail() : "anonymous");
 		
-		if (principal == null) {
-			log.warn("Principal is null - redirecting to login");
+		if (user == null) {
+			log.warn("No authenticated user - redirecting to login");
 			return "redirect:/login";
 		}
 
-		User user = userRepository.findByEmail(principal.getName())
-				.orElseThrow(() -> new RuntimeException("User not found"));
-		
 		// Get user's registered products
 		List<Product> myProducts = productService.getProductsByCreator(user.getUuid());
 		
@@ -214,66 +135,35 @@ public class MyPageController {
 	}
 
 	@GetMapping("/applications")
-	public String myPageApplications(Model model, Principal principal) {
-		log.debug("MyPage Applications accessed - Principal: {}", principal);
+	public String myPageApplications(Model model, @CurrentUser User user,
+									 @RequestParam(defaultValue = "all") String tab,
+									 @RequestParam(defaultValue = "0") int page) {
+		log.debug("MyPage Applications accessed - User: {}", user != null ? user.getEmail() : "anonymous");
 		
-		if (principal == null) {
-			log.warn("Principal is null - redirecting to login");
+		if (user == null) {
+			log.warn("No authenticated user - redirecting to login");
 			return "redirect:/login";
 		}
 
-		User user = userRepository.findByEmail(principal.getName())
-				.orElseThrow(() -> new RuntimeException("User not found"));
-		
 		// Get user's store if exists
 		Store userStore = storeRepository.findByUser(user).orElse(null);
 		
-		// Get user's collaboration applications (submitted via apply form)
-		List<Collaboration> myApplications = userStore != null ? 
-			collaborationRepository.findByStoreParticipation(userStore) : List.of();
-		
-		// Get user's collaboration proposals (submitted via new enhanced form)
-		List<CollaborationProposal> myProposals = proposalRepository.findByProposerUser(user);
-		if (userStore != null) {
-			myProposals.addAll(proposalRepository.findByProposerStore(userStore));
-		}
-		
-		// Separate by status
-		List<Collaboration> pendingApplications = myApplications.stream()
-				.filter(collab -> collab.getStatus() == Collaboration.CollaborationStatus.PENDING)
-				.toList();
-		
-		List<Collaboration> acceptedApplications = myApplications.stream()
-				.filter(collab -> collab.getStatus() == Collaboration.CollaborationStatus.ACCEPTED)
-				.toList();
-		
-		List<Collaboration> rejectedApplications = myApplications.stream()
-				.filter(collab -> collab.getStatus() == Collaboration.CollaborationStatus.REJECTED)
-				.toList();
-		
-		// Separate proposals by status
-		List<CollaborationProposal> pendingProposals = myProposals.stream()
-				.filter(prop -> prop.getStatus() == CollaborationProposal.CollaborationStatus.PENDING)
-				.toList();
-		
-		List<CollaborationProposal> acceptedProposals = myProposals.stream()
-				.filter(prop -> prop.getStatus() == CollaborationProposal.CollaborationStatus.ACCEPTED)
-				.toList();
-		
-		List<CollaborationProposal> rejectedProposals = myProposals.stream()
-				.filter(prop -> prop.getStatus() == CollaborationProposal.CollaborationStatus.REJECTED)
-				.toList();
-
-		model.addAttribute("myApplications", myApplications);
-		model.addAttribute("pendingApplications", pendingApplications);
-		model.addAttribute("acceptedApplications", acceptedApplications);
-		model.addAttribute("rejectedApplications", rejectedApplications);
-		
-		// Add proposal data
-		model.addAttribute("myProposals", myProposals);
-		model.addAttribute("pendingProposals", pendingProposals);
-		model.addAttribute("acceptedProposals", acceptedProposals);
-		model.addAttribute("rejectedProposals", rejectedProposals);
+		// Tab headers come from one grouped count; only the active tab's body is queried
+		Map<Collaboration.CollaborationStatus, Long> statusCounts = userStore != null ?
+			collaborationRepository.countByStoreParticipationGroupedByStatus(userStore) : Map.of();
+		Map<String, Boolean> hasMore = new HashMap<>();
+
+		model.addAttribute("myApplications", applicationsTab(userStore, null, "all", tab, page, hasMore));
+		model.addAttribute("pendingApplications",
+				applicationsTab(userStore, Collaboration.CollaborationStatus.PENDING, "pending", tab, page, hasMore));
+		model.addAttribute("acceptedApplications",
+				applicationsTab(userStore, Collaboration.CollaborationStatus.ACCEPTED, "accepted", tab, page, hasMore));
+		model.addAttribute("rejectedApplications",
+				applicationsTab(userStore, Collaboration.CollaborationStatus.REJECTED, "rejected", tab, page, hasMore));
+		model.addAttribute("applicationCounts", tabCounts(statusCounts));
+		model.addAttribute("hasMore", hasMore);
+		model.addAttribute("activeTab", tab);
+		model.addAttribute("page", clampPage(page));
 		
 		return "mypage/applications";
 	}
@@ -284,84 +174,106 @@ public class MyPageController {
 	}
 
 	@GetMapping("/received")
-	public String myPageReceived(Model model, Principal principal) {
-		log.debug("MyPage Received Applications accessed - Principal: {}", principal);
+	public String myPageReceived(Model model, @CurrentUser User user,
+								 @RequestParam(defaultValue = "pending") String tab,
+								 @RequestParam(defaultValue = "0") int page) {
+		log.debug("MyPage Received Applications accessed - User: {}", user != null ? user.getEmail() : "anonymous");
 		
-		if (principal == null) {
-			log.warn("Principal is null - redirecting to login");
+		if (user == null) {
+			log.warn("No authenticated user - redirecting to login");
 			return "redirect:/login";
 		}
 
-		User user = userRepository.findByEmail(principal.getName())
-				.orElseThrow(() -> new RuntimeException("User not found"));
-		
-		// Get collaborations where user is the product owner (received applications)
-		// Get user's store and find collaborations involving their store
-		Store userStore2 = storeRepository.findByUser(user).orElse(null);
-		List<Collaboration> receivedApplications = userStore2 != null ? 
-			collaborationRepository.findByStoreParticipation(userStore2) : List.of();
-		
-		// Get collaboration proposals where user is the target business owner
-		List<CollaborationProposal> receivedProposals = userStore2 != null ? 
-			proposalRepository.findByTargetStore(userStore2) : List.of();
-		
-		log.debug("Total received proposals for received page: {}", receivedProposals.size());
-		
-		// Sort by creation date (newest first)
-		receivedApplications.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-		receivedProposals.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
-		
-		// Separate collaborations by status
-		List<Collaboration> pendingReceived = receivedApplications.stream()
-				.filter(collab -> collab.getStatus() == Collaboration.CollaborationStatus.PENDING)
-				.toList();
-		
-		List<Collaboration> acceptedReceived = receivedApplications.stream()
-				.filter(collab -> collab.getStatus() == Collaboration.CollaborationStatus.ACCEPTED)
-				.toList();
-		
-		List<Collaboration> rejectedReceived = receivedApplications.stream()
-				.filter(collab -> collab.getStatus() == Collaboration.CollaborationStatus.REJECTED)
-				.toList();
-		
-		// Separate proposals by status
-		List<CollaborationProposal> pendingProposals = receivedProposals.stream()
-				.filter(prop -> prop.getStatus() == CollaborationProposal.CollaborationStatus.PENDING)
-				.toList();
-		
-		List<CollaborationProposal> acceptedProposals = receivedProposals.stream()
-				.filter(prop -> prop.getStatus() == CollaborationProposal.CollaborationStatus.ACCEPTED)
-				.toList();
-		
-		List<CollaborationProposal> rejectedProposals = receivedProposals.stream()
-				.filter(prop -> prop.getStatus() == CollaborationProposal.CollaborationStatus.REJECTED)
-				.toList();
-
-		// Add all received items for display
-		model.addAttribute("receivedApplications", receivedApplications);
-		model.addAttribute("receivedProposals", receivedProposals);
-		model.addAttribute("pendingReceived", pendingReceived);
-		model.addAttribute("acceptedReceived", acceptedReceived);
-		model.addAttribute("rejectedReceived", rejectedReceived);
-		model.addAttribute("pendingProposals", pendingProposals);
-		model.addAttribute("acceptedProposals", acceptedProposals);
-		model.addAttribute("rejectedProposals", rejectedProposals);
+		// Collaborations involving the user's store and proposals addressed to it
+		Store userStore = storeRepository.findByUser(user).orElse(null);
+		Map<String, Long> receivedCounts = tabCounts(userStore != null ?
+			collaborationRepository.countByStoreParticipationGroupedByStatus(userStore) : Map.of());
+		tabCounts(userStore != null ? proposalRepository.countByTargetStoreGroupedByStatus(userStore) : Map.of())
+				.forEach((key, count) -> receivedCounts.merge(key, count, Long::sum));
+		Map<String, Boolean> hasMore = new HashMap<>();
+
+		model.addAttribute("receivedApplications", applicationsTab(userStore, null, "all", tab, page, hasMore));
+		model.addAttribute("receivedProposals", proposalsTab(userStore, null, "all", tab, page, hasMore));
+		model.addAttribute("pendingReceived",
+				applicationsTab(userStore, Collaboration.CollaborationStatus.PENDING, "pending", tab, page, hasMore));
+		model.addAttribute("pendingProposals",
+				proposalsTab(userStore, CollaborationProposal.CollaborationStatus.PENDING, "pending", tab, page, hasMore));
+		model.addAttribute("acceptedReceived",
+				applicationsTab(userStore, Collaboration.CollaborationStatus.ACCEPTED, "accepted", tab, page, hasMore));
+		model.addAttribute("acceptedProposals",
+				proposalsTab(userStore, CollaborationProposal.CollaborationStatus.ACCEPTED, "accepted", tab, page, hasMore));
+		model.addAttribute("rejectedReceived",
+				applicationsTab(userStore, Collaboration.CollaborationStatus.REJECTED, "rejected", tab, page, hasMore));
+		model.addAttribute("rejectedProposals",
+				proposalsTab(userStore, CollaborationProposal.CollaborationStatus.REJECTED, "rejected", tab, page, hasMore));
+		model.addAttribute("receivedCounts", receivedCounts);
+		model.addAttribute("hasMore", hasMore);
+		model.addAttribute("activeTab", tab);
+		model.addAttribute("page", clampPage(page));
 		
 		return "mypage/received";
 	}
 
+	/**
+	 * One page of a collaboration tab, newest first. Tabs other than the active one are not rendered
+	 * and come back empty without a query. Records in {@code hasMore} whether the tab continues.
+	 */
+	private List<Collaboration> applicationsTab(Store store, Collaboration.CollaborationStatus status,
+												String section, String activeTab, int page, Map<String, Boolean> hasMore) {
+		if (store == null || !section.equals(activeTab)) {
+			hasMore.merge(section, false, Boolean::logicalOr);
+			return List.of();
+		}
+		Pageable pageable = tabPage(page);
+		Slice<Collaboration> slice = status == null ?
+			collaborationRepository.findByStoreParticipation(store, pageable) :
+			collaborationRepository.findByStoreAndStatus(store, status, pageable);
+		hasMore.merge(section, slice.hasNext() && pageable.getPageNumber() < MAX_TAB_PAGE, Boolean::logicalOr);
+		return slice.getContent();
+	}
+
+	private List<CollaborationProposal> proposalsTab(Store store, CollaborationProposal.CollaborationStatus status,
+													 String section, String activeTab, int page, Map<String, Boolean> hasMore) {
+		if (store == null || !section.equals(activeTab)) {
+			hasMore.merge(section, false, Boolean::logicalOr);
+			return List.of();
+		}
+		Pageable pageable = tabPage(page);
+		Slice<CollaborationProposal> slice = status == null ?
+			proposalRepository.findByTargetStore(store, pageable) :
+			proposalRepository.findByTargetStoreAndStatus(store, status, pageable);
+		hasMore.merge(section, slice.hasNext() && pageable.getPageNumber() < MAX_TAB_PAGE, Boolean::logicalOr);
+		return slice.getContent();
+	}
+
+	private static Pageable tabPage(int page) {
+		return PageRequest.of(clampPage(page), TAB_PAGE_SIZE);
+	}
+
+	private static int clampPage(int page) {
+		return Math.min(Math.max(page, 0), MAX_TAB_PAGE);
+	}
+
+	// Keys match the tab names: all, pending, accepted, rejected (plus any other status present)
+	private static Map<String, Long> tabCounts(Map<? extends Enum<?>, Long> statusCounts) {
+		Map<String, Long> counts = new HashMap<>();
+		counts.put("all", statusCounts.values().stream().mapToLong(Long::longValue).sum());
+		counts.put("pending", 0L);
+		counts.put("accepted", 0L);
+		counts.put("rejected", 0L);
+		statusCounts.forEach((status, count) -> counts.put(status.name().toLowerCase(Locale.ROOT), count));
+		return counts;
+	}
+
 	@GetMapping("/wishlist")
-	public String myPageWishlist(Model model, Principal principal) {
-		log.debug("MyPage Wishlist accessed - Principal: {}", principal);
+	public String myPageWishlist(Model model, @CurrentUser User user) {
+		log.debug("MyPage Wishlist accessed - User: {}", user != null ? user.getEmail() : "anonymous");
 		
-		if (principal == null) {
-			log.warn("Principal is null - redirecting to login");
+		if (user == null) {
+			log.warn("No authenticated user - redirecting to login");
 			return "redirect:/login";
 		}
 
-		User user = userRepository.findByEmail(principal.getName())
-				.orElseThrow(() -> new RuntimeException("User not found"));
-		
 		// Get user's product wishlist
 		List<ProductWishlist> userWishlist = productWishlistRepository.findByUser(user);
 		
@@ -376,17 +288,14 @@ public class MyPageController {
 	}
 
 	@GetMapping("/liked-stores")
-	public String myPageLikedStores(Model model, Principal principal) {
-		log.debug("MyPage Liked Stores accessed - Principal: {}", principal);
+	public String myPageLikedStores(Model model, @CurrentUser User user) {
+		log.debug("MyPage Liked Stores accessed - User: {}", user != null ? user.getEmail() : "anonymous");
 		
-		if (principal == null) {
-			log.warn("Principal is null - redirecting to login");
+		if (user == null) {
+			log.warn("No authenticated user - redirecting to login");
 			return "redirect:/login";
 		}
 
-		User user = userRepository.findByEmail(principal.getName())
-				.orElseThrow(() -> new RuntimeException("User not found"));
-		
 		// Get user's store wishlist
 		List<Wishlist> userStoreWishlist = wishlistRepository.findByUser(user);
 		
@@ -401,17 +310,14 @@ public class MyPageController {
 	}
 
 	@GetMapping("/profile")
-	public String myPageProfile(Model model, Principal principal) {
-		log.debug("MyPage Profile accessed - Principal: {}", principal);
+	public String myPageProfile(Model model, @CurrentUser User user) {
+		log.debug("MyPage Profile accessed - User: {}", user != null ? user.getEmail() : "anonymous");
 		
-		if (principal == null) {
-			log.warn("Principal is null - redirecting to login");
+		if (user == null) {
+			log.warn("No authenticated user - redirecting to login");
 			return "redirect:/login";
 		}
 
-		User user = userRepository.findByEmail(principal.getName())
-				.orElseThrow(() -> new RuntimeException("User not found"));
-		
 		// Get user's store if exists
 		Store userStore = storeRepository.findByUser(user).orElse(null);
 		
@@ -0,0 +1,92 @@
+package org.balanceus.topping.presentation.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.balanceus.topping.application.dto.NotificationInboxPage;
+import org.balanceus.topping.application.exception.ApplicationErrorCode;
+import org.balanceus.topping.application.exception.ApplicationException;
+import org.balanceus.topping.infrastructure.response.ApiResponseData;
+import org.balanceus.topping.infrastructure.security.UserDetailsImpl;
+import org.balanceus.topping.infrastructure.service.NotificationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Notification inbox of the logged-in user. New notifications are also pushed to
+ * {@code /user/queue/notifications} while the user is connected over STOMP.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/notifications")
+public class NotificationController {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final NotificationService notificationService;
+    private final int defaultPageSize;
+
+    public NotificationController(NotificationService notificationService,
+                                  @Value("${app.notification.inbox-page-size:20}") int defaultPageSize) {
+        this.notificationService = notificationService;
+        this.defaultPageSize = defaultPageSize;
+    }
+
+    @GetMapping
+    public ApiResponseData<NotificationInboxPage> getInbox(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        if (userDetails == null) {
+            return ApiResponseData.failure(401, "로그인이 필요합니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size != null ? size : defaultPageSize, MAX_PAGE_SIZE));
+        try {
+            return ApiResponseData.success(
+                    notificationService.getInbox(userDetails.getUser().getUuid(), cursor, pageSize));
+        } catch (ApplicationException e) {
+            if (e.getErrorCode() == ApplicationErrorCode.VALIDATION_ERROR) {
+                return ApiResponseData.failure(400, "잘못된 요청입니다.");
+            }
+            log.error("Failed to load notifications for user {}", userDetails.getUser().getUuid(), e);
+            return ApiResponseData.failure(500, "알림을 불러오는데 실패했습니다.");
+        }
+    }
+
+    @GetMapping("/unread-count")
+    public ApiResponseData<Map<String, Long>> getUnreadCount(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        if (userDetails == null) {
+            return ApiResponseData.failure(401, "로그인이 필요합니다.");
+        }
+        return ApiResponseData.success(
+                Map.of("unreadCount", notificationService.countUnread(userDetails.getUser().getUuid())));
+    }
+
+    @PostMapping("/read")
+    public ApiResponseData<Map<String, Integer>> markRead(@AuthenticationPrincipal UserDetailsImpl userDetails,
+                                                          @RequestBody List<UUID> notificationIds) {
+        if (userDetails == null) {
+            return ApiResponseData.failure(401, "로그인이 필요합니다.");
+        }
+        int updated = notificationService.markRead(userDetails.getUser().getUuid(), notificationIds);
+        return ApiResponseData.success(Map.of("updated", updated));
+    }
+
+    @PostMapping("/read-all")
+    public ApiResponseData<Map<String, Integer>> markAllRead(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        if (userDetails == null) {
+            return ApiResponseData.failure(401, "로그인이 필요합니다.");
+        }
+        int updated = notificationService.markAllRead(userDetails.getUser().getUuid());
+        return ApiResponseData.success(Map.of("updated", updated));
+    }
+}
@@ -2,10 +2,10 @@ package org.balanceus.topping.presentation.controller;
 
 import java.util.List;
 import java.util.UUID;
-import java.security.Principal;
 
 import org.balanceus.topping.application.dto.ProductRequestDto;
 import org.balanceus.topping.application.dto.ProductAdjustmentDto;
+import org.balanceus.topping.application.dto.UserPrincipal;
 import org.balanceus.topping.application.service.ImageUploadService;
 import org.balanceus.topping.application.service.ProductService;
 import org.balanceus.topping.application.service.StoreService;
@@ -14,8 +14,8 @@ import org.balanceus.topping.domain.model.ProductWishlist;
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.User;
 import org.balanceus.topping.domain.repository.ProductWishlistRepository;
-import org.balanceus.topping.domain.repository.UserRepository;
 import org.balanceus.topping.infrastructure.response.ApiResponseData;
+import org.balanceus.topping.infrastructure.security.CurrentUser;
 import org.balanceus.topping.infrastructure.security.UserDetailsImpl;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
@@ -46,7 +46,6 @@ public class ProductController {
 	private final ProductService productService;
 	private final StoreService storeService;
 	private final ImageUploadService imageUploadService;
-	private final UserRepository userRepository;
 	private final ProductWishlistRepository productWishlistRepository;
 
 	@GetMapping
@@ -151,21 +150,17 @@ public class ProductController {
 	}
 
 	@GetMapping("/{id}/edit")
-	public String editProductForm(@PathVariable UUID id, Model model, Principal principal) {
-		log.debug("Product edit form accessed for product: {} by user: {}", id, principal != null ? principal.getName() : "anonymous");
+	public String editProductForm(@PathVariable UUID id, Model model, @CurrentUser UserPrincipal user) {
+		log.debug("Product edit form accessed for product: {} by user: {}", id, user != null ? user.email() : "anonymous");
 		
-		if (principal == null) {
+		if (user == null) {
 			log.warn("Unauthenticated user attempted to access product edit form");
 			return "redirect:/login";
 		}
 		
 		try {
-			// Get user for form display
-			User user = userRepository.findByEmail(principal.getName())
-					.orElseThrow(() -> new RuntimeException("User not found: " + principal.getName()));
-					
 			// Validate ownership first
-			productService.validateProductOwnership(id, user.getUuid());
+			productService.validateProductOwnership(id, user.uuid());
 			
 			// Get the product to edit
 			Product product = productService.getProductById(id)
@@ -201,12 +196,12 @@ public class ProductController {
 			@Valid @ModelAttribute("productRequest") ProductRequestDto productRequest,
 			BindingResult bindingResult,
 			Model model,
-			Principal principal) {
+			@CurrentUser UserPrincipal user) {
 		
-		log.debug("Product update attempt for product: {} by user: {}", id, principal != null ? principal.getName() : "anonymous");
+		log.debug("Product update attempt for product: {} by user: {}", id, user != null ? user.email() : "anonymous");
 		
 		// Validate authentication
-		if (principal == null) {
+		if (user == null) {
 			log.warn("Unauthenticated user attempted product update");
 			return "redirect:/login";
 		}
@@ -218,22 +213,16 @@ public class ProductController {
 			
 			// Handle validation errors
 			if (bindingResult.hasErrors()) {
-				log.warn("Product update validation failed for product: {} by user: {}", id, principal.getName());
+				log.warn("Product update validation failed for product: {} by user: {}", id, user.email());
 				// Re-populate user and product for form display
-				User user = userRepository.findByEmail(principal.getName())
-						.orElseThrow(() -> new RuntimeException("User not found: " + principal.getName()));
 				model.addAttribute("product", product);
 				model.addAttribute("user", user);
 				return "products/edit";
 			}
 			
-			// Get the user UUID
-			User user = userRepository.findByEmail(principal.getName())
-					.orElseThrow(() -> new RuntimeException("User not found: " + principal.getName()));
-					
 			// Update product using service
-			Product updatedProduct = productService.updateProduct(id, productRequest, user.getUuid());
-			log.info("Product updated successfully: {} by user: {}", updatedProduct.getUuid(), principal.getName());
+			Product updatedProduct = productService.updateProduct(id, productRequest, user.uuid());
+			log.info("Product updated successfully: {} by user: {}", updatedProduct.getUuid(), user.email());
 			return "redirect:/products/" + id + "?success=updated";
 			
 		} catch (IllegalArgumentException e) {
@@ -241,7 +230,7 @@ public class ProductController {
 			return "redirect:/products?error=access_denied";
 			
 		} catch (Exception e) {
-			log.error("Product update failed for product: {} by user: {} - {}", id, principal.getName(), e.getMessage());
+			log.error("Product update failed for product: {} by user: {} - {}", id, user.email(), e.getMessage());
 			return "redirect:/products/" + id + "/edit?error=update_failed";
 		}
 	}
@@ -269,30 +258,26 @@ public class ProductController {
 			@PathVariable UUID id,
 			@Valid @ModelAttribute ProductAdjustmentDto adjustmentDto,
 			BindingResult bindingResult,
-			Principal principal) {
+			@CurrentUser UserPrincipal user) {
 		
-		log.debug("Product adjustment attempt for product: {} by user: {}", id, principal != null ? principal.getName() : "anonymous");
+		log.debug("Product adjustment attempt for product: {} by user: {}", id, user != null ? user.email() : "anonymous");
 		
 		// Validate authentication
-		if (principal == null) {
+		if (user == null) {
 			log.warn("Unauthenticated user attempted product adjustment");
 			return ApiResponseData.failure(401, "Authentication required");
 		}
 		
 		// Handle validation errors
 		if (bindingResult.hasErrors()) {
-			log.warn("Product adjustment validation failed for product: {} by user: {}", id, principal.getName());
+			log.warn("Product adjustment validation failed for product: {} by user: {}", id, user.email());
 			return ApiResponseData.failure(400, "Validation errors: " + bindingResult.getAllErrors());
 		}
 		
 		try {
-			// Get the user UUID
-			User user = userRepository.findByEmail(principal.getName())
-					.orElseThrow(() -> new RuntimeException("User not found: " + principal.getName()));
-			
 			// Adjust product using service
-			Product adjustedProduct = productService.adjustProduct(id, adjustmentDto, user.getUuid());
-			log.info("Product adjusted successfully: {} by user: {}", adjustedProduct.getUuid(), principal.getName());
+			Product adjustedProduct = productService.adjustProduct(id, adjustmentDto, user.uuid());
+			log.info("Product adjusted successfully: {} by user: {}", adjustedProduct.getUuid(), user.email());
 			
 			return ApiResponseData.success(adjustedProduct);
 			
@@ -301,7 +286,7 @@ public class ProductController {
 			return ApiResponseData.failure(400, e.getMessage());
 			
 		} catch (Exception e) {
-			log.error("Product adjustment failed for product: {} by user: {} - {}", id, principal.getName(), e.getMessage());
+			log.error("Product adjustment failed for product: {} by user: {} - {}", id, user.email(), e.getMessage());
 			return ApiResponseData.failure(500, "Product adjustment failed");
 		}
 	}
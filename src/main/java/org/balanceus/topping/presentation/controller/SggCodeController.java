@@ -1,117 +1,84 @@
 package org.balanceus.topping.presentation.controller;
 
 import lombok.RequiredArgsConstructor;
-import org.balanceus.topping.domain.model.SggCode;
-import org.balanceus.topping.domain.repository.SggCodeRepository;
-import org.springframework.data.domain.PageRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.balanceus.topping.application.service.RegionDirectory;
+import org.balanceus.topping.application.service.RegionTree;
+import org.balanceus.topping.infrastructure.response.ApiResponseData;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
+/**
+ * Region lookup endpoints served from the in-memory {@link RegionTree}; bodies are pre-serialized
+ * and carry strong ETags so repeat requests are answered with 304.
+ */
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/sggcode")
 public class SggCodeController {
     
-    private final SggCodeRepository sggCodeRepository;
+    private final RegionDirectory regionDirectory;
     
     @GetMapping("/regions")
-    @Transactional(readOnly = true)
-    public ResponseEntity<Map<String, Object>> getRegions() {
-        try {
-            List<SggCode> allCodes = sggCodeRepository.findAll(PageRequest.of(0, 1));
-            
-            // Group by region to get unique regions
-            List<String> regions = allCodes.stream()
-                .map(SggCode::getSggCdNmRegion)
-                .distinct()
-                .sorted()
-                .collect(Collectors.toList());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("regions", regions);
-            
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "지역 정보를 불러오는데 실패했습니다.");
-            
-            return ResponseEntity.internalServerError().body(response);
-        }
+    public ResponseEntity<?> getRegions(WebRequest webRequest) {
+        return serve(webRequest, RegionTree::regionsPayload, "지역 정보를 불러오는데 실패했습니다.");
     }
     
     @GetMapping("/cities")
-    @Transactional(readOnly = true)
-    public ResponseEntity<Map<String, Object>> getCitiesByRegion(@RequestParam String region) {
-        try {
-            List<SggCode> codes = sggCodeRepository.findBySggCdNmRegion(region);
-            
-            // Convert to map with code and name for dropdown
-            List<Map<String, Object>> cities = codes.stream()
-                .map(code -> {
-                    Map<String, Object> city = new HashMap<>();
-                    city.put("code", code.getSggCd5());
-                    city.put("name", code.getSggCdNmCity());
-                    city.put("fullName", code.getSggCdNm());
-                    return city;
-                })
-                .sorted((a, b) -> ((String) a.get("name")).compareTo((String) b.get("name")))
-                .collect(Collectors.toList());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("cities", cities);
-            
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("message", "시/군/구 정보를 불러오는데 실패했습니다.");
-            
-            return ResponseEntity.internalServerError().body(response);
-        }
+    public ResponseEntity<?> getCitiesByRegion(@RequestParam String region, WebRequest webRequest) {
+        return serve(webRequest, tree -> tree.citiesPayload(region), "시/군/구 정보를 불러오는데 실패했습니다.");
     }
     
     @GetMapping("/all")
-    @Transactional(readOnly = true)
-    public ResponseEntity<Map<String, Object>> getAllSggCodes() {
+    public ResponseEntity<?> getAllSggCodes(WebRequest webRequest) {
+        return serve(webRequest, RegionTree::allPayload, "지역 코드 정보를 불러오는데 실패했습니다.");
+    }
+    
+    /**
+     * 지역 코드 테이블 변경 후 메모리 트리 재적재 (관리자 전용)
+     */
+    @PostMapping("/reload")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponseData<Map<String, Object>>> reload() {
+        RegionTree tree = regionDirectory.reload();
+        Map<String, Object> data = new HashMap<>();
+        data.put("regions", tree.regions().size());
+        data.put("districts", tree.size());
+        return ResponseEntity.ok(ApiResponseData.success(data, "지역 코드를 다시 불러왔습니다."));
+    }
+    
+    private ResponseEntity<?> serve(WebRequest webRequest, Function<RegionTree, RegionTree.Payload> selector,
+                                    String failureMessage) {
         try {
-            List<SggCode> allCodes = sggCodeRepository.findAll(PageRequest.of(0, 1));
-            
-            // Convert to map for dropdown usage
-            List<Map<String, Object>> codes = allCodes.stream()
-                .map(code -> {
-                    Map<String, Object> codeMap = new HashMap<>();
-                    codeMap.put("code", code.getSggCd5());
-                    codeMap.put("name", code.getSggCdNm());
-                    codeMap.put("region", code.getSggCdNmRegion());
-                    codeMap.put("city", code.getSggCdNmCity());
-                    return codeMap;
-                })
-                .sorted((a, b) -> ((String) a.get("name")).compareTo((String) b.get("name")))
-                .collect(Collectors.toList());
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("codes", codes);
-            
-            return ResponseEntity.ok(response);
+            RegionTree.Payload payload = selector.apply(regionDirectory.current());
+            if (webRequest.checkNotModified(payload.etag())) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(payload.etag())
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(payload.body());
         } catch (Exception e) {
+            log.error("Failed to serve region data", e);
             Map<String, Object> response = new HashMap<>();
             response.put("success", false);
-            response.put("message", "지역 코드 정보를 불러오는데 실패했습니다.");
+            response.put("message", failureMessage);
             
             return ResponseEntity.internalServerError().body(response);
         }
     }
-}
\ No newline at end of file
+}
@@ -6,20 +6,26 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.balanceus.topping.application.dto.ImageStatusView;
+import org.balanceus.topping.application.dto.NearbyStoreResult;
 import org.balanceus.topping.application.dto.StoreDetailView;
 import org.balanceus.topping.application.dto.StoreEngagementResult;
 import org.balanceus.topping.application.dto.StoreForm;
 import org.balanceus.topping.application.dto.StoreRegistrationRequest;
 import org.balanceus.topping.application.exception.ApplicationErrorCode;
 import org.balanceus.topping.application.exception.ApplicationException;
+import org.balanceus.topping.application.service.CollaborationGraphService;
 import org.balanceus.topping.application.service.CollaborationService;
 import org.balanceus.topping.application.service.ImageUploadService;
 import org.balanceus.topping.application.service.StoreEngagementService;
+import org.balanceus.topping.application.service.StoreLocationService;
 import org.balanceus.topping.application.service.StoreService;
 import org.balanceus.topping.application.service.StoreViewService;
+import org.balanceus.topping.domain.geo.GeoPoint;
 import org.balanceus.topping.domain.model.Collaboration;
 import org.balanceus.topping.domain.model.Product;
 import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
 import org.balanceus.topping.domain.model.StoreImage;
 import org.balanceus.topping.infrastructure.response.ApiResponseData;
 import org.balanceus.topping.infrastructure.security.UserDetailsImpl;
@@ -52,6 +58,10 @@ public class StoreController {
     private final StoreEngagementService storeEngagementService;
     private final ImageUploadService imageUploadService;
     private final CollaborationService collaborationService;
+    private final StoreLocationService storeLocationService;
+    private final CollaborationGraphService collaborationGraphService;
+
+    private static final int MAX_NEARBY_RESULTS = 50;
 
     @GetMapping("/register")
     public String showRegistrationForm(Model model, @AuthenticationPrincipal UserDetailsImpl userDetails) {
@@ -294,8 +304,7 @@ public class StoreController {
     @ResponseBody
     public ApiResponseData<List<Map<String, Object>>> getCollaboratingStores(@PathVariable UUID storeUuid) {
         try {
-            StoreDetailView detail = storeViewService.getStoreDetail(storeUuid, null);
-            List<Map<String, Object>> storeData = detail.getCollaboratingStores()
+            List<Map<String, Object>> storeData = collaborationGraphService.getCollaboratingStores(storeUuid)
                 .stream()
                 .map(this::toCollaboratingStoreMap)
                 .toList();
@@ -313,6 +322,65 @@ public class StoreController {
         }
     }
 
+    @GetMapping("/api/{storeUuid}/collaboration-count")
+    @ResponseBody
+    public ApiResponseData<Map<String, Object>> getCollaborationCount(@PathVariable UUID storeUuid) {
+        try {
+            collaborationGraphService.requireStore(storeUuid);
+            Map<String, Object> counts = new HashMap<>();
+            counts.put("collaborationCount", collaborationGraphService.countCollaborations(storeUuid));
+            counts.put("partnerCount", collaborationGraphService.countCollaboratingStores(storeUuid));
+            return ApiResponseData.success(counts);
+        } catch (ApplicationException e) {
+            if (e.getErrorCode() == ApplicationErrorCode.NOT_FOUND) {
+                return ApiResponseData.failure(404, "가게를 찾을 수 없습니다.");
+            }
+            log.error("Failed to count collaborations for store {}", storeUuid, e);
+            return ApiResponseData.failure(500, "콜라보 정보를 불러오는데 실패했습니다.");
+        }
+    }
+
+    @GetMapping("/api/nearby")
+    @ResponseBody
+    public ApiResponseData<List<Map<String, Object>>> getNearbyStores(
+            @RequestParam("lat") double latitude,
+            @RequestParam("lng") double longitude,
+            @RequestParam(value = "radiusKm", required = false) Double radiusKm,
+            @RequestParam(value = "limit", defaultValue = "20") int limit,
+            @RequestParam(value = "category", required = false) String category,
+            @RequestParam(value = "collaborationOpen", defaultValue = "false") boolean collaborationOpenOnly) {
+        try {
+            GeoPoint center = new GeoPoint(latitude, longitude);
+            if (radiusKm != null && radiusKm <= 0) {
+                return ApiResponseData.failure(400, "반경은 0보다 커야 합니다.");
+            }
+            StoreCategory storeCategory = category != null && !category.isBlank()
+                ? StoreCategory.fromStringStrict(category)
+                : null;
+            int cappedLimit = Math.max(1, Math.min(limit, MAX_NEARBY_RESULTS));
+
+            List<NearbyStoreResult> results = storeLocationService.findNearby(
+                center, radiusKm, cappedLimit, storeCategory, collaborationOpenOnly);
+            List<Map<String, Object>> storeData = results.stream()
+                .map(result -> {
+                    Map<String, Object> storeMap = toCollaboratingStoreMap(result.store());
+                    storeMap.put("latitude", result.store().getLatitude());
+                    storeMap.put("longitude", result.store().getLongitude());
+                    storeMap.put("isCollaborationOpen", result.store().getIsCollaborationOpen());
+                    storeMap.put("distanceKm", result.distanceKm());
+                    return storeMap;
+                })
+                .toList();
+
+            return ApiResponseData.success(storeData);
+        } catch (IllegalArgumentException e) {
+            return ApiResponseData.failure(400, e.getMessage());
+        } catch (Exception e) {
+            log.error("Failed to search nearby stores around ({}, {})", latitude, longitude, e);
+            return ApiResponseData.failure(500, "주변 가게 정보를 불러오는데 실패했습니다.");
+        }
+    }
+
     @GetMapping("/api/{storeUuid}/collaboration-products")
     @ResponseBody
     public ApiResponseData<List<Map<String, Object>>> getCollaborationProducts(@PathVariable UUID storeUuid) {
@@ -366,7 +434,7 @@ public class StoreController {
 
     @PostMapping("/upload-images")
     @ResponseBody
-    public ApiResponseData<List<String>> uploadStoreImages(
+    public ApiResponseData<List<ImageStatusView>> uploadStoreImages(
             @RequestParam("files") MultipartFile[] files,
             @RequestParam(value = "imageType", defaultValue = "GALLERY") String imageType,
             @AuthenticationPrincipal UserDetailsImpl userDetails) {
@@ -388,10 +456,13 @@ public class StoreController {
 
         try {
             StoreImage.ImageType type = StoreImage.ImageType.valueOf(imageType.toUpperCase());
-            List<String> uploadedPaths = imageUploadService.uploadStoreImages(
-                    storeOptional.get(), files, type);
+            List<ImageStatusView> uploaded = imageUploadService.uploadStoreImages(storeOptional.get(), files, type)
+                    .stream()
+                    .map(image -> new ImageStatusView(image.getUuid(), image.getImagePath(), image.getProcessingStatus()))
+                    .toList();
             
-            return ApiResponseData.success(uploadedPaths);
+            // Images are processed in the background; progress via /api/images/{id}/status or /topic/images/{id}
+            return ApiResponseData.success(uploaded);
         } catch (Exception e) {
             log.error("Store image upload failed", e);
             return ApiResponseData.failure(500, "이미지 업로드 중 오류가 발생했습니다. 파일 크기와 형식을 확인한 후 다시 시도해주세요.");
@@ -1,10 +1,8 @@
 package org.balanceus.topping.presentation.controller;
 
-import java.security.Principal;
-
 import org.balanceus.topping.application.service.UserService;
 import org.balanceus.topping.domain.model.User;
-import org.balanceus.topping.domain.repository.UserRepository;
+import org.balanceus.topping.infrastructure.security.CurrentUser;
 import org.balanceus.topping.presentation.dto.PasswordChangeForm;
 import org.balanceus.topping.presentation.dto.UserEditForm;
 import org.springframework.stereotype.Controller;
@@ -27,20 +25,16 @@ import lombok.extern.slf4j.Slf4j;
 public class UserEditController {
 
     private final UserService userService;
-    private final UserRepository userRepository;
 
     @GetMapping("/edit")
-    public String editForm(Model model, Principal principal) {
-        log.debug("User edit form accessed - Principal: {}", principal);
+    public String editForm(Model model, @CurrentUser User user) {
+        log.debug("User edit form accessed - User: {}", user != null ? user.getEmail() : "anonymous");
         
-        if (principal == null) {
-            log.warn("Principal is null - redirecting to login");
+        if (user == null) {
+            log.warn("No authenticated user - redirecting to login");
             return "redirect:/auth/login";
         }
 
-        User user = userRepository.findByEmail(principal.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
         // Create form with current user data
         UserEditForm userEditForm = new UserEditForm();
         userEditForm.setUsername(user.getUsername());
@@ -59,17 +53,14 @@ public class UserEditController {
     public String updateProfile(@Valid @ModelAttribute UserEditForm userEditForm,
                                BindingResult bindingResult,
                                Model model,
-                               Principal principal,
+                               @CurrentUser User user,
                                RedirectAttributes redirectAttributes) {
-        log.debug("User profile update requested - Principal: {}", principal);
+        log.debug("User profile update requested - User: {}", user != null ? user.getEmail() : "anonymous");
         
-        if (principal == null) {
+        if (user == null) {
             return "redirect:/auth/login";
         }
 
-        User user = userRepository.findByEmail(principal.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
         // Check for phone number uniqueness if it's being changed
         if (userEditForm.getPhoneNumber() != null && !userEditForm.getPhoneNumber().trim().isEmpty()) {
             String newPhoneNumber = userEditForm.getPhoneNumber().trim();
@@ -106,17 +97,14 @@ public class UserEditController {
     public String changePassword(@Valid @ModelAttribute PasswordChangeForm passwordChangeForm,
                                 BindingResult bindingResult,
                                 Model model,
-                                Principal principal,
+                                @CurrentUser User user,
                                 RedirectAttributes redirectAttributes) {
-        log.debug("Password change requested - Principal: {}", principal);
+        log.debug("Password change requested - User: {}", user != null ? user.getEmail() : "anonymous");
         
-        if (principal == null) {
+        if (user == null) {
             return "redirect:/auth/login";
         }
 
-        User user = userRepository.findByEmail(principal.getName())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
         // Additional validation for password confirmation
         if (!passwordChangeForm.isPasswordMatching()) {
             bindingResult.rejectValue("confirmPassword", "mismatch", "새 비밀번호와 비밀번호 확인이 일치하지 않습니다.");
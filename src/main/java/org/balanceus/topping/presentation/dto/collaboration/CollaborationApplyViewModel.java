@@ -18,8 +18,8 @@ public class CollaborationApplyViewModel {
     private boolean businessOwner;
     private StoreOptionView userStore;
     private List<ProductOptionView> userProducts;
+    private List<StoreOptionView> recommendedStores;
     private List<StoreOptionView> allStores;
-    private List<ProductOptionView> allProducts;
     private StoreOptionView targetStore;
     private ProductOptionView targetProduct;
     private String storeDataJson;
@@ -0,0 +1,24 @@
+package org.balanceus.topping.presentation.dto.collaboration;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * One page of the collaboration card feed. {@code nextCursor} is opaque; pass it back as
+ * {@code cursor} to read the following page. It is {@code null} on the last page.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CollaborationCardPage {
+    private List<CollaborationCardView> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,150 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.application.exception.ApplicationErrorCode;
+import org.balanceus.topping.application.exception.ApplicationException;
+import org.balanceus.topping.domain.model.Collaboration;
+import org.balanceus.topping.domain.model.CollaborationProposal;
+import org.balanceus.topping.domain.model.Product;
+import org.balanceus.topping.domain.model.ProposalSource;
+import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
+import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.balanceus.topping.domain.repository.StoreRepository;
+import org.balanceus.topping.domain.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs outside a test transaction so the rollback of a rejected approval is the real one.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Collaboration approval conflicts")
+class CollaborationApprovalConflictTest {
+
+    @Autowired
+    private CollaborationService collaborationService;
+
+    @Autowired
+    private CollaborationRepository collaborationRepository;
+
+    @Autowired
+    private CollaborationProposalRepository proposalRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private final List<UUID> collaborationIds = new ArrayList<>();
+    private final List<UUID> proposalIds = new ArrayList<>();
+    private final List<UUID> userIds = new ArrayList<>();
+    private UUID proposalId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        proposalId = transaction.execute(status -> {
+            Store cafe = createStore("cafe");
+            Store bakery = createStore("bakery");
+            Product cafeProduct = cafe.getProducts().get(0);
+            Product bakeryProduct = bakery.getProducts().get(0);
+
+            Collaboration active = new Collaboration();
+            active.setInitiatorStore(bakery);
+            active.setPartnerStore(cafe);
+            active.setInitiatorProduct(bakeryProduct);
+            active.setPartnerProduct(cafeProduct);
+            active.setStatus(Collaboration.CollaborationStatus.ACCEPTED);
+            active.setDescription("Already running");
+            collaborationIds.add(collaborationRepository.save(active).getUuid());
+
+            CollaborationProposal proposal = new CollaborationProposal();
+            proposal.setSource(ProposalSource.BUSINESS_OWNER);
+            proposal.setProposerUser(cafe.getUser());
+            proposal.setProposerStore(cafe);
+            proposal.setTargetStore(bakery);
+            proposal.setProposerProduct(cafeProduct);
+            proposal.setTargetProduct(bakeryProduct);
+            proposal.setTitle("Same pair again");
+            proposal.setDescription("Same pair again");
+            proposal.setStatus(CollaborationProposal.CollaborationStatus.PENDING);
+            UUID id = proposalRepository.save(proposal).getUuid();
+            proposalIds.add(id);
+            return id;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            collaborationIds.forEach(collaborationRepository::deleteById);
+            proposalIds.forEach(proposalRepository::deleteById);
+            userIds.forEach(userRepository::deleteById);
+        });
+    }
+
+    @Test
+    @DisplayName("Approving a proposal for a pair that is already active is a CONFLICT and leaves it pending")
+    void rejectsDuplicateActivePair() {
+        ApplicationException exception = assertThrows(ApplicationException.class,
+                () -> collaborationService.approve(proposalId));
+
+        assertEquals(ApplicationErrorCode.CONFLICT, exception.getErrorCode());
+        CollaborationProposal reloaded = proposalRepository.findById(proposalId).orElseThrow();
+        assertEquals(CollaborationProposal.CollaborationStatus.PENDING, reloaded.getStatus());
+        assertEquals(0, reloaded.getVersion());
+    }
+
+    private Store createStore(String name) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User owner = new User();
+        owner.setEmail(name + "-" + suffix + "@approval.test");
+        owner.setUsername(name + suffix);
+        owner.setPassword("password123");
+        owner.setRole(Role.ROLE_BUSINESS_OWNER);
+        owner.setTermsAgreement(true);
+        owner = userRepository.save(owner);
+        userIds.add(owner.getUuid());
+
+        Store store = new Store();
+        store.setUser(owner);
+        store.setName("Store " + name);
+        store.setAddress("서울시 마포구");
+        store.setContactNumber("010-0000-0000");
+        store.setBusinessHours("09:00-18:00");
+        store.setCategory(StoreCategory.CAFE);
+
+        Product product = new Product();
+        product.setName(name + " signature");
+        product.setPrice(BigDecimal.valueOf(6000));
+        product.setProductType(Product.ProductType.SIGNATURE);
+        product.setCreator(owner);
+        store.addProduct(product);
+
+        return storeRepository.save(store);
+    }
+}
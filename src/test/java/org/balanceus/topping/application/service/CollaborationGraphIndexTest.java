@@ -0,0 +1,89 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.repository.CollaborationEdge;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CollaborationGraphIndex Tests")
+class CollaborationGraphIndexTest {
+
+    private final UUID cafe = UUID.randomUUID();
+    private final UUID bakery = UUID.randomUUID();
+    private final UUID bookstore = UUID.randomUUID();
+    private final UUID first = UUID.randomUUID();
+    private final UUID second = UUID.randomUUID();
+    private final UUID third = UUID.randomUUID();
+
+    private CollaborationGraphIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new CollaborationGraphIndex();
+        index.rebuild(List.of(
+                new CollaborationEdge(first, cafe, bakery),
+                new CollaborationEdge(second, bakery, cafe),
+                new CollaborationEdge(third, bookstore, cafe)));
+    }
+
+    @Test
+    @DisplayName("Should list each partner once and count every collaboration")
+    void shouldAnswerNeighborsAndCounts() {
+        assertEquals(Set.of(bakery, bookstore), index.neighbors(cafe));
+        assertEquals(Set.of(cafe), index.neighbors(bakery));
+        assertEquals(3, index.collaborationCount(cafe));
+        assertEquals(2, index.collaborationCount(bakery));
+        assertTrue(index.neighbors(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep a partner until its last collaboration ends and ignore repeated updates")
+    void shouldMaintainEdges() {
+        index.upsert(first, cafe, bakery);
+        assertEquals(3, index.collaborationCount(cafe));
+
+        index.remove(first);
+        assertEquals(Set.of(bakery, bookstore), index.neighbors(cafe));
+
+        index.remove(second);
+        index.remove(second);
+        assertEquals(Set.of(bookstore), index.neighbors(cafe));
+        assertTrue(index.neighbors(bakery).isEmpty());
+        assertEquals(0, index.collaborationCount(bakery));
+
+        index.upsert(UUID.randomUUID(), cafe, null);
+        index.upsert(UUID.randomUUID(), cafe, cafe);
+        assertEquals(1, index.collaborationCount(cafe));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("Should replay changes made while a rebuild loaded its snapshot")
+    void shouldReplayChangesDuringRebuild() {
+        UUID fourth = UUID.randomUUID();
+        index.beginRebuild();
+        // Snapshot read before these commits: it still has the third collaboration and not the fourth
+        List<CollaborationEdge> snapshot = List.of(
+                new CollaborationEdge(first, cafe, bakery),
+                new CollaborationEdge(third, bookstore, cafe));
+        index.upsert(fourth, bookstore, bakery);
+        index.remove(third);
+
+        index.rebuild(snapshot);
+
+        assertEquals(Set.of(bakery), index.neighbors(cafe));
+        assertEquals(Set.of(cafe, bookstore), index.neighbors(bakery));
+        assertEquals(2, index.size());
+
+        index.upsert(third, bookstore, cafe);
+        index.rebuild(List.of());
+        assertEquals(0, index.size());
+    }
+}
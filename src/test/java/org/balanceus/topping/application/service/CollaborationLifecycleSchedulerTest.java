@@ -0,0 +1,148 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.application.event.CollaborationStatusChangedEvent;
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.repository.CollaborationEdge;
+import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.balanceus.topping.domain.repository.CollaborationScheduleRow;
+import org.balanceus.topping.domain.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CollaborationLifecycleScheduler Tests")
+class CollaborationLifecycleSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private CollaborationRepository collaborationRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UUID cafe = UUID.randomUUID();
+    private final UUID bakery = UUID.randomUUID();
+    private CollaborationLifecycleScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new CollaborationLifecycleScheduler(collaborationRepository, productRepository, eventPublisher,
+                transactionManager, meterRegistry, Duration.ofDays(1), 100, ZONE);
+    }
+
+    @Test
+    @DisplayName("Should end overdue collaborations at once and queue the rest until they are due")
+    void shouldEndWhenDue() {
+        UUID overdue = UUID.randomUUID();
+        UUID endingToday = UUID.randomUUID();
+        when(collaborationRepository.findSchedulesEndingBefore(CollaborationStatus.ACCEPTED, TODAY.plusDays(1)))
+                .thenReturn(List.of(
+                        new CollaborationScheduleRow(overdue, TODAY.minusDays(10), TODAY.minusDays(2)),
+                        new CollaborationScheduleRow(endingToday, TODAY.minusDays(5), TODAY)));
+        when(collaborationRepository.findEdgesByIdsAndStatus(List.of(overdue), CollaborationStatus.ACCEPTED))
+                .thenReturn(List.of(new CollaborationEdge(overdue, cafe, bakery)));
+        when(collaborationRepository.transitionStatus(List.of(overdue), CollaborationStatus.ACCEPTED,
+                CollaborationStatus.ENDED)).thenReturn(1);
+
+        scheduler.advance(at(TODAY, 10));
+
+        verify(productRepository).markCollaborationProductsUnavailable(List.of(overdue));
+        verify(eventPublisher).publishEvent(
+                new CollaborationStatusChangedEvent(overdue, cafe, bakery, CollaborationStatus.ENDED));
+        verify(eventPublisher).publishEvent(new StoreContentChangedEvent(cafe));
+        verify(eventPublisher).publishEvent(new StoreContentChangedEvent(bakery));
+        verify(collaborationRepository, never()).transitionStatus(eq(List.of(endingToday)), any(), any());
+        assertEquals(1, scheduler.pending());
+        assertEquals(1, meterRegistry.get("collaboration.lifecycle.transitions").tag("kind", "end").counter().count());
+
+        when(collaborationRepository.findEdgesByIdsAndStatus(List.of(endingToday), CollaborationStatus.ACCEPTED))
+                .thenReturn(List.of(new CollaborationEdge(endingToday, bakery, cafe)));
+        scheduler.advance(at(TODAY.plusDays(1), 1));
+
+        verify(collaborationRepository).transitionStatus(List.of(endingToday), CollaborationStatus.ACCEPTED,
+                CollaborationStatus.ENDED);
+        assertEquals(0, scheduler.pending());
+    }
+
+    @Test
+    @DisplayName("Should announce starts once they are due but not those that passed before startup")
+    void shouldAnnounceStarts() {
+        UUID startedEarlier = UUID.randomUUID();
+        UUID startingTomorrow = UUID.randomUUID();
+        when(collaborationRepository.findSchedulesStartingBetween(CollaborationStatus.ACCEPTED, TODAY, TODAY.plusDays(1)))
+                .thenReturn(List.of(
+                        new CollaborationScheduleRow(startedEarlier, TODAY, TODAY.plusDays(30)),
+                        new CollaborationScheduleRow(startingTomorrow, TODAY.plusDays(1), TODAY.plusDays(30))));
+        when(collaborationRepository.findEdgesByIdsAndStatus(List.of(startingTomorrow), CollaborationStatus.ACCEPTED))
+                .thenReturn(List.of(new CollaborationEdge(startingTomorrow, cafe, null)));
+
+        scheduler.advance(at(TODAY, 10));
+        assertEquals(1, scheduler.pending());
+
+        scheduler.advance(at(TODAY.plusDays(1), 1));
+
+        verify(eventPublisher).publishEvent(new StoreContentChangedEvent(cafe));
+        verify(collaborationRepository, never()).findEdgesByIdsAndStatus(eq(List.of(startedEarlier)), any());
+        verify(collaborationRepository, never()).transitionStatus(any(List.class), any(), any());
+        assertEquals(1, meterRegistry.get("collaboration.lifecycle.transitions").tag("kind", "start").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should announce a start again when its batch failed")
+    void shouldRetryFailedStarts() {
+        UUID starting = UUID.randomUUID();
+        List<CollaborationScheduleRow> rows =
+                List.of(new CollaborationScheduleRow(starting, TODAY.plusDays(1), TODAY.plusDays(30)));
+        when(collaborationRepository.findSchedulesStartingBetween(CollaborationStatus.ACCEPTED, TODAY, TODAY.plusDays(1)))
+                .thenReturn(rows);
+        when(collaborationRepository.findSchedulesStartingBetween(CollaborationStatus.ACCEPTED, TODAY, TODAY.plusDays(2)))
+                .thenReturn(rows);
+        when(collaborationRepository.findEdgesByIdsAndStatus(List.of(starting), CollaborationStatus.ACCEPTED))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(List.of(new CollaborationEdge(starting, cafe, null)));
+
+        scheduler.advance(at(TODAY, 10));
+        assertThrows(IllegalStateException.class, () -> scheduler.advance(at(TODAY.plusDays(1), 1)));
+        scheduler.advance(at(TODAY.plusDays(1), 2));
+
+        verify(eventPublisher).publishEvent(new StoreContentChangedEvent(cafe));
+        assertEquals(1, meterRegistry.get("collaboration.lifecycle.transitions").tag("kind", "start").counter().count());
+    }
+
+    private static Instant at(LocalDate date, int hour) {
+        return date.atTime(hour, 0).atZone(ZONE).toInstant();
+    }
+}
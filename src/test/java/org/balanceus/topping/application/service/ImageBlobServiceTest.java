@@ -0,0 +1,147 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.balanceus.topping.application.event.ImageReferencesReleasedEvent;
+import org.balanceus.topping.application.event.ImageSpooledEvent;
+import org.balanceus.topping.domain.model.ImageBlob;
+import org.balanceus.topping.domain.model.ImageProcessingStatus;
+import org.balanceus.topping.domain.repository.ImageBlobRepository;
+import org.balanceus.topping.domain.storage.ImageStorage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageBlobService Tests")
+class ImageBlobServiceTest {
+
+    @Mock
+    private ImageBlobRepository imageBlobRepository;
+
+    @Mock
+    private ImageProcessingPipeline imageProcessingPipeline;
+
+    @Mock
+    private ImageStorage imageStorage;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path spoolDir;
+
+    private ImageBlobService imageBlobService;
+    private final MockMultipartFile upload =
+            new MockMultipartFile("files", "photo.jpg", "image/jpeg", "same bytes".getBytes(StandardCharsets.UTF_8));
+
+    @BeforeEach
+    void setUp() throws IOException {
+        imageBlobService = new ImageBlobService(imageBlobRepository, imageProcessingPipeline, imageStorage, eventPublisher,
+                new SimpleMeterRegistry());
+        lenient().when(imageProcessingPipeline.spoolFileFor(anyString()))
+                .thenAnswer(invocation -> spoolDir.resolve(invocation.getArgument(0, String.class)));
+    }
+
+    @Test
+    @DisplayName("Should reference an existing blob and skip processing for duplicate bytes")
+    void shouldDeduplicateKnownContent() throws IOException {
+        ImageBlob existing = new ImageBlob();
+        existing.setContentHash("hash");
+        existing.setProcessingStatus(ImageProcessingStatus.READY);
+        when(imageBlobRepository.reference(anyString())).thenReturn(Optional.of(existing));
+
+        ImageBlob result = imageBlobService.store(upload, "jpg");
+
+        assertSame(existing, result);
+        verify(imageBlobRepository, never()).create(any());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+        try (var files = Files.list(spoolDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should queue a failed blob again when its bytes are uploaded again")
+    void shouldRetryFailedBlobOnReupload() throws IOException {
+        ImageBlob failed = new ImageBlob();
+        failed.setContentHash("hash");
+        failed.setImagePath("/image/blobs/ha/hash.png");
+        failed.setProcessingStatus(ImageProcessingStatus.FAILED);
+        ImageBlob retried = new ImageBlob();
+        retried.setContentHash("hash");
+        retried.setImagePath("/image/blobs/ha/hash.png");
+        retried.setProcessingStatus(ImageProcessingStatus.PENDING);
+        when(imageBlobRepository.reference(anyString())).thenReturn(Optional.of(failed));
+        when(imageBlobRepository.retryIfFailed("hash")).thenReturn(Optional.of(retried));
+        when(imageProcessingPipeline.resolveOutput(anyString())).thenAnswer(invocation -> Path.of("out"));
+
+        ImageBlob result = imageBlobService.store(upload, "jpg");
+
+        assertSame(retried, result);
+        verify(imageBlobRepository, never()).create(any());
+        ArgumentCaptor<ImageSpooledEvent> event = ArgumentCaptor.forClass(ImageSpooledEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals("png", event.getValue().format());
+        assertEquals(spoolDir.resolve("hash.png"), event.getValue().spoolFile());
+        assertTrue(Files.exists(event.getValue().spoolFile()));
+    }
+
+    @Test
+    @DisplayName("Should keep the files of a released blob that was uploaded again")
+    void shouldKeepFilesOfRecreatedBlob() throws IOException {
+        ImageBlob released = new ImageBlob();
+        released.setContentHash("hash");
+        released.setImagePath("/image/blobs/ha/hash.jpg");
+        when(imageBlobRepository.release("hash")).thenReturn(Optional.of(released));
+        when(imageBlobRepository.findById("hash")).thenReturn(Optional.of(new ImageBlob()));
+
+        imageBlobService.onImageReferencesReleased(new ImageReferencesReleasedEvent(List.of("hash")));
+
+        verify(imageStorage, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("Should create a content-addressed blob and queue it for processing")
+    void shouldCreateBlobForNewContent() throws IOException {
+        when(imageBlobRepository.reference(anyString())).thenReturn(Optional.empty());
+        when(imageBlobRepository.create(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(imageProcessingPipeline.resolveOutput(anyString())).thenAnswer(invocation -> Path.of("out"));
+
+        ImageBlob result = imageBlobService.store(upload, "jpg");
+
+        String hash = result.getContentHash();
+        assertEquals(64, hash.length());
+        assertEquals("/image/blobs/" + hash.substring(0, 2) + "/" + hash + ".jpg", result.getImagePath());
+        assertEquals(ImageProcessingStatus.PENDING, result.getProcessingStatus());
+
+        ArgumentCaptor<ImageSpooledEvent> event = ArgumentCaptor.forClass(ImageSpooledEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(spoolDir.resolve(hash + ".jpg"), event.getValue().spoolFile());
+        assertTrue(Files.exists(event.getValue().spoolFile()));
+    }
+}
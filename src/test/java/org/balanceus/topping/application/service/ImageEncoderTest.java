@@ -0,0 +1,97 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ImageEncoder Tests")
+class ImageEncoderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should write smaller JPEGs at lower quality settings")
+    void shouldHonourJpegQuality() throws IOException {
+        BufferedImage image = gradient(800, 600);
+        Path high = tempDir.resolve("high.jpg");
+        Path low = tempDir.resolve("low.jpg");
+
+        new ImageEncoder(0.95f, false, false, 0.8f).write(image, "jpg", high);
+        new ImageEncoder(0.5f, false, false, 0.8f).write(image, "jpg", low);
+
+        assertTrue(Files.size(low) < Files.size(high));
+        assertEquals(800, ImageIO.read(low.toFile()).getWidth());
+    }
+
+    @Test
+    @DisplayName("Should flatten transparency and write progressive JPEGs without metadata segments")
+    void shouldWriteProgressiveJpegWithoutMetadata() throws IOException {
+        BufferedImage image = new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB);
+        Path target = tempDir.resolve("card.jpg");
+
+        new ImageEncoder(0.82f, true, false, 0.8f).write(image, "jpg", target);
+
+        byte[] bytes = Files.readAllBytes(target);
+        assertTrue(hasMarker(bytes, 0xC2), "progressive SOF2 marker");
+        assertFalse(hasMarker(bytes, 0xE1), "EXIF APP1 segment");
+        assertFalse(hasMarker(bytes, 0xE2), "ICC profile APP2 segment");
+        assertEquals(200, ImageIO.read(target.toFile()).getWidth());
+    }
+
+    @Test
+    @DisplayName("Should not write WebP siblings when disabled")
+    void shouldSkipWebpWhenDisabled() throws IOException {
+        Path target = tempDir.resolve("photo.png");
+
+        ImageEncoder encoder = new ImageEncoder(0.82f, true, false, 0.8f);
+        encoder.write(gradient(120, 80), "png", target);
+
+        assertFalse(encoder.isWebpEnabled());
+        assertTrue(Files.exists(target));
+        assertFalse(Files.exists(tempDir.resolve("photo.png.webp")));
+        assertFalse(Files.exists(tempDir.resolve("photo.png.part")));
+    }
+
+    /**
+     * Walks the JPEG segments up to the start of scan and reports whether {@code marker} occurs.
+     */
+    private static boolean hasMarker(byte[] jpeg, int marker) {
+        int offset = 2;
+        while (offset + 4 <= jpeg.length && (jpeg[offset] & 0xFF) == 0xFF) {
+            int type = jpeg[offset + 1] & 0xFF;
+            if (type == marker) {
+                return true;
+            }
+            if (type == 0xDA) {
+                return false;
+            }
+            offset += 2 + (((jpeg[offset + 2] & 0xFF) << 8) | (jpeg[offset + 3] & 0xFF));
+        }
+        return false;
+    }
+
+    private static BufferedImage gradient(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = image.createGraphics();
+        for (int x = 0; x < width; x++) {
+            g2d.setColor(new Color(x * 255 / width, (x * 7) % 256, 255 - x * 255 / width));
+            g2d.drawLine(x, 0, x, height);
+        }
+        g2d.dispose();
+        return image;
+    }
+}
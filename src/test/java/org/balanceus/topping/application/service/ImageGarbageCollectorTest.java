@@ -0,0 +1,112 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.balanceus.topping.domain.repository.ImageBlobRepository;
+import org.balanceus.topping.domain.repository.ImageReferenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageGarbageCollector Tests")
+class ImageGarbageCollectorTest {
+
+    @Mock
+    private ImageReferenceRepository imageReferenceRepository;
+
+    @Mock
+    private ImageBlobRepository imageBlobRepository;
+
+    @TempDir
+    Path uploadRoot;
+
+    private final Set<String> referenced = new HashSet<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ImageGarbageCollector collector;
+
+    @BeforeEach
+    void setUp() {
+        collector = new ImageGarbageCollector(imageReferenceRepository, imageBlobRepository, meterRegistry,
+                uploadRoot.toString(), "local", List.of("image/stores"), uploadRoot.resolve("quarantine").toString(),
+                2, Duration.ofHours(1), Duration.ofDays(7), 10_000);
+        when(imageReferenceRepository.findReferencedPaths(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> paths = invocation.getArgument(0);
+            Set<String> hits = new HashSet<>(paths);
+            hits.retainAll(referenced);
+            return hits;
+        });
+    }
+
+    @Test
+    @DisplayName("Should quarantine unreferenced files but keep referenced originals and their variants")
+    void shouldQuarantineOnlyOrphans() throws IOException {
+        referenced.add("/image/stores/s1/kept.jpg");
+        Path kept = oldFile("image/stores/s1/kept.jpg");
+        Path keptVariant = oldFile("image/stores/s1/kept-card.jpg");
+        Path orphan = oldFile("image/stores/s1/orphan.jpg");
+        Path orphanVariant = oldFile("image/stores/s2/orphan-thumb.jpg");
+        Path fresh = uploadRoot.resolve("image/stores/s1/fresh.jpg");
+        Files.write(fresh, new byte[] {1});
+
+        collector.quarantineOrphans();
+
+        assertTrue(Files.exists(kept));
+        assertTrue(Files.exists(keptVariant));
+        assertTrue(Files.exists(fresh));
+        assertFalse(Files.exists(orphan));
+        assertFalse(Files.exists(orphanVariant));
+        assertTrue(Files.exists(uploadRoot.resolve("quarantine/image/stores/s1/orphan.jpg")));
+        assertEquals(2.0, meterRegistry.get("image.gc.quarantined").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should delete expired quarantined files and restore ones referenced again")
+    void shouldPurgeExpiredQuarantine() throws IOException {
+        referenced.add("/image/stores/s1/revived.jpg");
+        Path expired = oldFile("quarantine/image/stores/s1/gone.jpg", Duration.ofDays(8));
+        Path revived = oldFile("quarantine/image/stores/s1/revived.jpg", Duration.ofDays(8));
+        Path recent = oldFile("quarantine/image/stores/s1/recent.jpg", Duration.ofDays(1));
+
+        collector.purgeQuarantine();
+
+        assertFalse(Files.exists(expired));
+        assertTrue(Files.exists(uploadRoot.resolve("image/stores/s1/revived.jpg")));
+        assertFalse(Files.exists(revived));
+        assertTrue(Files.exists(recent));
+        assertEquals(3.0, meterRegistry.get("image.gc.reclaimed").counter().count());
+    }
+
+    private Path oldFile(String relativePath) throws IOException {
+        return oldFile(relativePath, Duration.ofDays(1));
+    }
+
+    private Path oldFile(String relativePath, Duration age) throws IOException {
+        Path file = uploadRoot.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[] {1, 2, 3});
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().minus(age)));
+        return file;
+    }
+}
@@ -0,0 +1,98 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Set;
+
+import javax.imageio.ImageIO;
+
+import org.balanceus.topping.domain.model.ImageVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ImageProcessor Tests")
+class ImageProcessorTest {
+
+    private final ImageProcessor imageProcessor = new ImageProcessor(new ImageEncoder(0.82f, true, false, 0.8f));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Should write detail, card and thumb renditions of oversized images")
+    void shouldWriteAllVariants() throws IOException {
+        Path source = tempDir.resolve("upload.jpg");
+        ImageIO.write(new BufferedImage(3840, 2160, BufferedImage.TYPE_INT_RGB), "jpg", source.toFile());
+        Path target = tempDir.resolve("image/stores/store-id/result.jpg");
+
+        Set<ImageVariant> variants = imageProcessor.process(source, target, "jpg");
+
+        assertEquals(EnumSet.allOf(ImageVariant.class), variants);
+        assertDimensions(target, 1920, 1080);
+        assertDimensions(target.resolveSibling("result-card.jpg"), 640, 360);
+        assertDimensions(target.resolveSibling("result-thumb.jpg"), 320, 180);
+        assertFalse(Files.exists(target.resolveSibling("result.jpg.part")));
+    }
+
+    @Test
+    @DisplayName("Should skip variants that would not be smaller than the original")
+    void shouldSkipVariantsForSmallImages() throws IOException {
+        Path source = tempDir.resolve("small.png");
+        ImageIO.write(new BufferedImage(500, 400, BufferedImage.TYPE_INT_RGB), "png", source.toFile());
+        Path target = tempDir.resolve("image/products/product-id/small.png");
+
+        Set<ImageVariant> variants = imageProcessor.process(source, target, "png");
+
+        assertEquals(EnumSet.of(ImageVariant.DETAIL, ImageVariant.THUMB), variants);
+        assertDimensions(target, 500, 400);
+        assertTrue(Files.notExists(target.resolveSibling("small-card.png")));
+        assertDimensions(target.resolveSibling("small-thumb.png"), 320, 256);
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not images without leaving output behind")
+    void shouldRejectUnreadableFile() throws IOException {
+        Path source = Files.writeString(tempDir.resolve("broken.png"), "not an image");
+        Path target = tempDir.resolve("out/broken.png");
+
+        assertThrows(IOException.class, () -> imageProcessor.process(source, target, "png"));
+        assertTrue(Files.notExists(target));
+    }
+
+    @Test
+    @DisplayName("Should subsample large sources without dropping below the target box")
+    void shouldSubsampleLargeSources() throws IOException {
+        assertEquals(3, ImageProcessor.subsamplingFactor(6000, 4000, 1920, 1080));
+        assertEquals(1, ImageProcessor.subsamplingFactor(2000, 1000, 1920, 1080));
+
+        Path source = tempDir.resolve("large.jpg");
+        ImageIO.write(new BufferedImage(6000, 4000, BufferedImage.TYPE_INT_RGB), "jpg", source.toFile());
+
+        BufferedImage decoded = imageProcessor.decode(source, 1920, 1080);
+
+        assertEquals(2000, decoded.getWidth());
+        assertEquals(1334, decoded.getHeight());
+    }
+
+    @Test
+    @DisplayName("Should derive variant paths from the original image path")
+    void shouldDeriveVariantPaths() {
+        assertEquals("/image/stores/id/abc-card.jpg", ImageVariant.CARD.pathFor("/image/stores/id/abc.jpg"));
+        assertEquals("/image/stores/id/abc.jpg", ImageVariant.DETAIL.pathFor("/image/stores/id/abc.jpg"));
+    }
+
+    private void assertDimensions(Path file, int width, int height) throws IOException {
+        BufferedImage image = ImageIO.read(file.toFile());
+        assertEquals(width, image.getWidth());
+        assertEquals(height, image.getHeight());
+    }
+}
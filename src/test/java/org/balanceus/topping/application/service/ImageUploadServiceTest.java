@@ -0,0 +1,129 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.balanceus.topping.application.event.ImageReferencesReleasedEvent;
+import org.balanceus.topping.domain.model.ImageBlob;
+import org.balanceus.topping.domain.model.ImageProcessingStatus;
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreImage;
+import org.balanceus.topping.domain.repository.ProductImageRepository;
+import org.balanceus.topping.domain.repository.StoreImageRepository;
+import org.balanceus.topping.domain.storage.ImageStorage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImageUploadService Tests")
+class ImageUploadServiceTest {
+
+    @Mock
+    private StoreImageRepository storeImageRepository;
+
+    @Mock
+    private ProductImageRepository productImageRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ImageBlobService imageBlobService;
+
+    @Mock
+    private ImageStorage imageStorage;
+
+    private ExecutorService executor;
+    private ImageUploadService imageUploadService;
+    private Store store;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(2);
+        imageUploadService = new ImageUploadService(storeImageRepository, productImageRepository, eventPublisher,
+                imageBlobService, imageStorage, executor, 2);
+        store = new Store();
+        store.setUuid(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should keep file order, number display orders after the current maximum and insert once")
+    @SuppressWarnings("unchecked")
+    void shouldInsertAllRowsInOneBatch() throws IOException {
+        when(imageBlobService.store(any(), anyString()))
+                .thenAnswer(invocation -> blob(invocation.getArgument(0, MultipartFile.class).getOriginalFilename()));
+        when(storeImageRepository.findMaxDisplayOrderByStore(store)).thenReturn(4);
+        when(storeImageRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<StoreImage> saved = imageUploadService.uploadStoreImages(store,
+                new MultipartFile[] {file("a.jpg"), file("b.jpg"), file("c.jpg")}, StoreImage.ImageType.GALLERY);
+
+        ArgumentCaptor<List<StoreImage>> rows = ArgumentCaptor.forClass(List.class);
+        verify(storeImageRepository, times(1)).saveAll(rows.capture());
+        assertEquals(List.of("a.jpg", "b.jpg", "c.jpg"),
+                rows.getValue().stream().map(StoreImage::getOriginalFilename).toList());
+        assertEquals(List.of(5, 6, 7), saved.stream().map(StoreImage::getDisplayOrder).toList());
+        assertEquals(List.of("/image/blobs/a.jpg", "/image/blobs/b.jpg", "/image/blobs/c.jpg"),
+                saved.stream().map(StoreImage::getImagePath).toList());
+    }
+
+    @Test
+    @DisplayName("Should release blobs already stored when another file of the request fails")
+    void shouldReleaseStoredBlobsOnFailure() throws IOException {
+        when(imageBlobService.store(any(), anyString())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0, MultipartFile.class).getOriginalFilename();
+            if (name.equals("broken.jpg")) {
+                throw new IOException("disk full");
+            }
+            return blob(name);
+        });
+
+        assertThrows(RuntimeException.class, () -> imageUploadService.uploadStoreImages(store,
+                new MultipartFile[] {file("a.jpg"), file("broken.jpg")}, StoreImage.ImageType.GALLERY));
+
+        verify(storeImageRepository, never()).saveAll(anyList());
+        ArgumentCaptor<ImageReferencesReleasedEvent> released = ArgumentCaptor.forClass(ImageReferencesReleasedEvent.class);
+        verify(eventPublisher).publishEvent(released.capture());
+        assertEquals(List.of("hash-a.jpg"), released.getValue().contentHashes());
+    }
+
+    private static MockMultipartFile file(String name) {
+        return new MockMultipartFile("files", name, "image/jpeg", name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ImageBlob blob(String name) {
+        ImageBlob blob = new ImageBlob();
+        blob.setContentHash("hash-" + name);
+        blob.setImagePath("/image/blobs/" + name);
+        blob.setProcessingStatus(ImageProcessingStatus.READY);
+        return blob;
+    }
+}
@@ -0,0 +1,194 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.balanceus.topping.application.dto.MyPageDashboard;
+import org.balanceus.topping.domain.model.Collaboration;
+import org.balanceus.topping.domain.model.CollaborationProposal;
+import org.balanceus.topping.domain.model.Product;
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.ChatRoomRepository;
+import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
+import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.balanceus.topping.domain.repository.ProductRepository;
+import org.balanceus.topping.domain.repository.ProductWishlistRepository;
+import org.balanceus.topping.domain.repository.StoreRepository;
+import org.balanceus.topping.domain.repository.WishlistRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MyPageDashboardService Tests")
+class MyPageDashboardServiceTest {
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    @Mock
+    private CollaborationProposalRepository proposalRepository;
+
+    @Mock
+    private CollaborationRepository collaborationRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductWishlistRepository productWishlistRepository;
+
+    @Mock
+    private WishlistRepository wishlistRepository;
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExecutorService executor;
+    private MyPageDashboardService service;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        service = new MyPageDashboardService(storeRepository, proposalRepository, collaborationRepository,
+                productRepository, productWishlistRepository, wishlistRepository, chatRoomRepository,
+                transactionManager, executor, meterRegistry, Duration.ofSeconds(5));
+        user = new User();
+        user.setUuid(UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should compose counts and activity items from all sections")
+    void shouldComposeSections() {
+        Store store = new Store();
+        store.setUuid(UUID.randomUUID());
+        store.setName("Topping Cafe");
+        store.setUser(user);
+        when(storeRepository.findByUser(user)).thenReturn(Optional.of(store));
+        when(proposalRepository.countByProposerUserOrProposerStore(user, store)).thenReturn(1L);
+        Collaboration older = collaboration(Collaboration.CollaborationStatus.PENDING, "older", 2);
+        Collaboration newer = collaboration(Collaboration.CollaborationStatus.PENDING, "newer", 1);
+        Collaboration accepted = collaboration(Collaboration.CollaborationStatus.ACCEPTED, "accepted", 3);
+        when(collaborationRepository.countByStoreParticipationGroupedByStatus(store)).thenReturn(Map.of(
+                Collaboration.CollaborationStatus.PENDING, 2L, Collaboration.CollaborationStatus.ACCEPTED, 1L));
+        when(collaborationRepository.findByStoreAndStatus(store, Collaboration.CollaborationStatus.PENDING,
+                PageRequest.of(0, 3))).thenReturn(new SliceImpl<>(List.of(newer, older)));
+        when(collaborationRepository.findByStoreAndStatus(store, Collaboration.CollaborationStatus.PENDING,
+                PageRequest.of(0, 2))).thenReturn(new SliceImpl<>(List.of(newer, older)));
+        when(collaborationRepository.findByStoreAndStatus(store, Collaboration.CollaborationStatus.ACCEPTED,
+                PageRequest.of(0, 2))).thenReturn(new SliceImpl<>(List.of(accepted)));
+        when(proposalRepository.countByTargetStoreGroupedByStatus(store)).thenReturn(Map.of(
+                CollaborationProposal.CollaborationStatus.PENDING, 1L,
+                CollaborationProposal.CollaborationStatus.ACCEPTED, 1L));
+        when(productRepository.countByCreator(user)).thenReturn(2L);
+        when(productWishlistRepository.countByUser(user)).thenReturn(4L);
+        when(wishlistRepository.countByUser(user)).thenReturn(5L);
+        when(chatRoomRepository.countActiveByParticipant(user)).thenReturn(6L);
+
+        MyPageDashboard dashboard = service.assemble(user);
+
+        assertEquals(store.getUuid(), dashboard.getUserStore().uuid());
+        assertEquals("Topping Cafe", dashboard.getUserStore().name());
+        assertEquals(1, dashboard.getProposalCount());
+        assertEquals(3, dashboard.getApplicationCount());
+        assertEquals(2, dashboard.getPendingApplicationCount());
+        assertEquals(1, dashboard.getOngoingCollaborationCount());
+        assertEquals(4, dashboard.getReceivedApplicationCount());
+        assertEquals(3, dashboard.getPendingActionsCount());
+        assertEquals(2, dashboard.getProductCount());
+        assertEquals(4, dashboard.getWishlistCount());
+        assertEquals(5, dashboard.getStoreWishlistCount());
+        assertEquals(6, dashboard.getChatRoomCount());
+        assertEquals(List.of("newer", "older"), dashboard.getPendingApplications().stream()
+                .map(MyPageDashboard.ActivityItem::productName).toList());
+        assertEquals("accepted", dashboard.getOngoingCollaborations().get(0).productName());
+        assertEquals(7, dashboard.getSectionMillis().size());
+        assertEquals(7, meterRegistry.get("mypage.dashboard.section").timers().size());
+    }
+
+    @Test
+    @DisplayName("Should render a failed section with empty values and skip store sections without a store")
+    void shouldFallBackForFailedSection() {
+        when(storeRepository.findByUser(user)).thenReturn(Optional.empty());
+        when(proposalRepository.countByProposerUser(user)).thenReturn(0L);
+        when(productRepository.countByCreator(user)).thenReturn(0L);
+        when(productWishlistRepository.countByUser(user)).thenThrow(new IllegalStateException("boom"));
+        when(wishlistRepository.countByUser(user)).thenReturn(1L);
+        when(chatRoomRepository.countActiveByParticipant(user)).thenReturn(0L);
+
+        MyPageDashboard dashboard = service.assemble(user);
+
+        assertNull(dashboard.getUserStore());
+        assertEquals(0, dashboard.getWishlistCount());
+        assertEquals(1, dashboard.getStoreWishlistCount());
+        assertTrue(dashboard.getPendingApplications().isEmpty());
+        assertFalse(dashboard.getSectionMillis().containsKey("productWishlist"));
+        verify(collaborationRepository, never()).countByStoreParticipationGroupedByStatus(any());
+    }
+
+    @Test
+    @DisplayName("Should render rejected sections with their fallback instead of running them on the caller")
+    void shouldFallBackWhenPoolRejects() {
+        service = new MyPageDashboardService(storeRepository, proposalRepository, collaborationRepository,
+                productRepository, productWishlistRepository, wishlistRepository, chatRoomRepository,
+                transactionManager, command -> {
+                    throw new RejectedExecutionException("dashboard pool is full");
+                }, meterRegistry, Duration.ofSeconds(5));
+        when(storeRepository.findByUser(user)).thenReturn(Optional.empty());
+
+        MyPageDashboard dashboard = service.assemble(user);
+
+        assertEquals(0, dashboard.getProductCount());
+        assertEquals(0, dashboard.getChatRoomCount());
+        assertTrue(dashboard.getSectionMillis().isEmpty());
+        verify(productRepository, never()).countByCreator(any());
+    }
+
+    private static Collaboration collaboration(Collaboration.CollaborationStatus status, String productName,
+                                               long ageHours) {
+        Product product = new Product();
+        product.setName(productName);
+        Collaboration collaboration = new Collaboration();
+        collaboration.setUuid(UUID.randomUUID());
+        collaboration.setStatus(status);
+        collaboration.setPartnerProduct(product);
+        collaboration.setCreatedAt(Instant.now().minus(Duration.ofHours(ageHours)));
+        return collaboration;
+    }
+}
@@ -0,0 +1,135 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.balanceus.topping.domain.model.OutboxEvent;
+import org.balanceus.topping.domain.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxDispatcher Tests")
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private CollaborationOutboxHandler handler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new OutboxDispatcher(outboxEventRepository, handler, transactionManager, Runnable::run,
+                meterRegistry, 10, 3, Duration.ofSeconds(2), Duration.ofSeconds(5), Duration.ofMinutes(1),
+                Duration.ofDays(7), Duration.ofDays(30));
+    }
+
+    @Test
+    @DisplayName("Should deliver claimed events and skip events another dispatcher claimed first")
+    void shouldDeliverClaimedEvents() {
+        OutboxEvent delivered = event(OutboxEvent.Type.PROPOSAL_REJECTED, 1);
+        OutboxEvent taken = event(OutboxEvent.Type.PROPOSAL_ACCEPTED, 1);
+        when(outboxEventRepository.findDueIds(any(), anyInt()))
+                .thenReturn(List.of(delivered.getUuid(), taken.getUuid()));
+        when(outboxEventRepository.claim(eq(delivered.getUuid()), any(), any())).thenReturn(true);
+        when(outboxEventRepository.claim(eq(taken.getUuid()), any(), any())).thenReturn(false);
+        when(outboxEventRepository.findById(delivered.getUuid())).thenReturn(Optional.of(delivered));
+
+        dispatcher.poll();
+
+        verify(handler).deliver(delivered);
+        verify(handler, never()).deliver(taken);
+        assertEquals(OutboxEvent.Status.DONE, delivered.getStatus());
+        assertNotNull(delivered.getProcessedAt());
+        assertEquals(1, meterRegistry.get("outbox.dispatch").tag("outcome", "delivered").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should reschedule a failed delivery and give up after the maximum attempts")
+    void shouldRetryThenFail() {
+        OutboxEvent retried = event(OutboxEvent.Type.PROPOSAL_CREATED, 1);
+        OutboxEvent exhausted = event(OutboxEvent.Type.PROPOSAL_CREATED, 3);
+        when(outboxEventRepository.findDueIds(any(), anyInt()))
+                .thenReturn(List.of(retried.getUuid(), exhausted.getUuid()));
+        when(outboxEventRepository.claim(any(), any(), any())).thenReturn(true);
+        when(outboxEventRepository.findById(retried.getUuid())).thenReturn(Optional.of(retried));
+        when(outboxEventRepository.findById(exhausted.getUuid())).thenReturn(Optional.of(exhausted));
+        doThrow(new IllegalStateException("broker down")).when(handler).deliver(any());
+        Instant before = Instant.now();
+
+        dispatcher.poll();
+
+        assertEquals(OutboxEvent.Status.PENDING, retried.getStatus());
+        assertTrue(retried.getNextAttemptAt().isAfter(before.plusSeconds(1)));
+        assertTrue(retried.getLastError().contains("broker down"));
+        assertEquals(OutboxEvent.Status.FAILED, exhausted.getStatus());
+        assertNull(exhausted.getProcessedAt());
+        assertEquals(1, meterRegistry.get("outbox.dispatch").tag("outcome", "retried").counter().count());
+        assertEquals(1, meterRegistry.get("outbox.dispatch").tag("outcome", "failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should double the backoff per attempt up to the maximum")
+    void shouldCapBackoff() {
+        assertEquals(Duration.ofSeconds(2), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(4), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(5), dispatcher.backoff(3));
+        assertEquals(Duration.ofSeconds(5), dispatcher.backoff(40));
+    }
+
+    @Test
+    @DisplayName("Should purge finished events in batches until a batch comes back short")
+    void shouldPurgeInBatches() {
+        List<UUID> full = Stream.generate(UUID::randomUUID).limit(10).toList();
+        List<UUID> rest = List.of(UUID.randomUUID());
+        when(outboxEventRepository.findFinishedIds(any(), any(), eq(10))).thenReturn(full, rest);
+        when(outboxEventRepository.deleteByIds(full)).thenReturn(10);
+        when(outboxEventRepository.deleteByIds(rest)).thenReturn(1);
+
+        dispatcher.purge();
+
+        verify(outboxEventRepository).deleteByIds(full);
+        verify(outboxEventRepository).deleteByIds(rest);
+    }
+
+    private static OutboxEvent event(OutboxEvent.Type type, int attempts) {
+        OutboxEvent event = new OutboxEvent();
+        event.setUuid(UUID.randomUUID());
+        event.setType(type);
+        event.setAggregateId(UUID.randomUUID());
+        event.setStatus(OutboxEvent.Status.PROCESSING);
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(Instant.now());
+        return event;
+    }
+}
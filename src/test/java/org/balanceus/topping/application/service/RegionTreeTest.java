@@ -0,0 +1,75 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.balanceus.topping.domain.model.SggCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@DisplayName("RegionTree Tests")
+class RegionTreeTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RegionTree tree;
+
+    @BeforeEach
+    void setUp() {
+        tree = RegionTree.build(List.of(
+                new SggCode(11680, "서울특별시 강남구", "서울특별시", "강남구"),
+                new SggCode(11110, "서울특별시 종로구", "서울특별시", "종로구"),
+                new SggCode(41111, "경기도 수원시 장안구", "경기도", "수원시 장안구"),
+                new SggCode(41115, "경기도 수원시 팔달구", "경기도", "수원시 팔달구")
+        ), objectMapper);
+    }
+
+    @Test
+    @DisplayName("Should group districts under region and city")
+    void shouldBuildRegionCityDistrictTree() {
+        assertEquals(List.of("경기도", "서울특별시"), tree.regions().stream().map(RegionTree.Region::name).toList());
+
+        RegionTree.Region gyeonggi = tree.regions().get(0);
+        assertEquals(1, gyeonggi.cities().size());
+        assertEquals("수원시", gyeonggi.cities().get(0).name());
+        assertEquals(2, gyeonggi.cities().get(0).districts().size());
+    }
+
+    @Test
+    @DisplayName("Should look up districts by code and city name")
+    void shouldLookUpDistricts() {
+        assertEquals("서울특별시 강남구", tree.find(11680).orElseThrow().name());
+        assertTrue(tree.find(99999).isEmpty());
+        assertEquals(41115, tree.findByCityName("수원시 팔달구").get(0).code());
+    }
+
+    @Test
+    @DisplayName("Should pre-serialize endpoint bodies with stable strong ETags")
+    void shouldPreSerializePayloads() throws Exception {
+        JsonNode cities = objectMapper.readTree(tree.citiesPayload("서울특별시").body());
+        assertTrue(cities.get("success").asBoolean());
+        assertEquals("강남구", cities.get("cities").get(0).get("name").asText());
+        assertEquals(11680, cities.get("cities").get(0).get("code").asInt());
+
+        JsonNode unknown = objectMapper.readTree(tree.citiesPayload("없는지역").body());
+        assertEquals(0, unknown.get("cities").size());
+
+        RegionTree rebuilt = RegionTree.build(List.of(
+                new SggCode(11110, "서울특별시 종로구", "서울특별시", "종로구"),
+                new SggCode(11680, "서울특별시 강남구", "서울특별시", "강남구"),
+                new SggCode(41115, "경기도 수원시 팔달구", "경기도", "수원시 팔달구"),
+                new SggCode(41111, "경기도 수원시 장안구", "경기도", "수원시 장안구")
+        ), objectMapper);
+        assertArrayEquals(tree.allPayload().body(), rebuilt.allPayload().body());
+        assertEquals(tree.allPayload().etag(), rebuilt.allPayload().etag());
+        assertTrue(tree.allPayload().etag().startsWith("\""));
+        assertNotEquals(tree.allPayload().etag(), tree.regionsPayload().etag());
+    }
+}
@@ -0,0 +1,101 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.domain.model.Product.ProductCategory;
+import org.balanceus.topping.domain.model.Product.ProductType;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.balanceus.topping.domain.repository.StoreCatalogRow;
+import org.balanceus.topping.domain.repository.StoreRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StoreCatalogCache Tests")
+class StoreCatalogCacheTest {
+
+    private static final UUID CAFE_ID = UUID.randomUUID();
+    private static final UUID BOOKSTORE_ID = UUID.randomUUID();
+    private static final UUID LATTE_ID = UUID.randomUUID();
+
+    @Mock
+    private StoreRepository storeRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private StoreCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StoreCatalogCache(storeRepository, objectMapper, 100, Duration.ofHours(1),
+                new SimpleMeterRegistry());
+        when(storeRepository.findCatalogRows(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return List.of(
+                    new StoreCatalogRow(CAFE_ID, "Cafe", StoreCategory.CAFE, LATTE_ID, "Latte",
+                            ProductCategory.CAFE, ProductType.SIGNATURE, true, BigDecimal.valueOf(5000)),
+                    new StoreCatalogRow(BOOKSTORE_ID, "Books", StoreCategory.BOOKSTORE, null, null,
+                            null, null, null, null))
+                    .stream()
+                    .filter(row -> ids.contains(row.storeId()))
+                    .toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Should load all missing stores in one query and keep the picker JSON shape")
+    void shouldBuildCatalogInOneQuery() throws Exception {
+        JsonNode json = objectMapper.readTree(cache.catalogJson(List.of(CAFE_ID, BOOKSTORE_ID)));
+
+        verify(storeRepository, times(1)).findCatalogRows(anyCollection());
+        JsonNode cafe = json.get(CAFE_ID.toString());
+        assertEquals("Cafe", cafe.get("name").asText());
+        assertEquals("CAFE", cafe.get("category").asText());
+        assertEquals(LATTE_ID.toString(), cafe.get("products").get(0).get("uuid").asText());
+        assertEquals("SIGNATURE", cafe.get("products").get(0).get("productType").asText());
+        assertTrue(json.get(BOOKSTORE_ID.toString()).get("products").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated renders from cache and reload only changed stores")
+    void shouldReloadOnlyEvictedStores() throws Exception {
+        cache.catalogJson(List.of(CAFE_ID, BOOKSTORE_ID));
+        cache.catalogJson(List.of(CAFE_ID, BOOKSTORE_ID));
+        verify(storeRepository, times(1)).findCatalogRows(anyCollection());
+
+        cache.onStoreContentChanged(new StoreContentChangedEvent(CAFE_ID));
+        cache.catalogJson(List.of(CAFE_ID, BOOKSTORE_ID));
+
+        verify(storeRepository).findCatalogRows(List.of(CAFE_ID));
+    }
+
+    @Test
+    @DisplayName("Should leave out stores that no longer exist")
+    void shouldSkipMissingStores() throws Exception {
+        JsonNode json = objectMapper.readTree(cache.catalogJson(List.of(UUID.randomUUID(), BOOKSTORE_ID)));
+
+        assertEquals(1, json.size());
+        assertFalse(json.has(CAFE_ID.toString()));
+    }
+}
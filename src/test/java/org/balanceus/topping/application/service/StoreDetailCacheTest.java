@@ -0,0 +1,117 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.balanceus.topping.application.dto.StoreDetailSnapshot;
+import org.balanceus.topping.application.dto.StoreEngagementCounts;
+import org.balanceus.topping.application.event.StoreContentChangedEvent;
+import org.balanceus.topping.application.event.StoreEngagementChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("StoreDetailCache Tests")
+class StoreDetailCacheTest {
+
+    private StoreDetailCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new StoreDetailCache(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should assemble a snapshot once and serve it from cache")
+    void shouldServeRepeatedReadsFromCache() {
+        UUID storeId = UUID.randomUUID();
+
+        StoreDetailSnapshot first = cache.get(storeId, id -> snapshot(id));
+        StoreDetailSnapshot second = cache.get(storeId, id -> snapshot(id));
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict the changed store and stores that render it as a partner")
+    void shouldEvictChangedStoreAndDependents() {
+        UUID partnerId = UUID.randomUUID();
+        UUID storeId = UUID.randomUUID();
+        UUID unrelatedId = UUID.randomUUID();
+
+        cache.get(partnerId, id -> snapshot(id));
+        cache.get(storeId, id -> snapshot(id, partnerId));
+        cache.get(unrelatedId, id -> snapshot(id));
+        assertEquals(3, loads.get());
+
+        cache.onStoreContentChanged(new StoreContentChangedEvent(partnerId));
+
+        cache.get(partnerId, id -> snapshot(id));
+        cache.get(storeId, id -> snapshot(id, partnerId));
+        cache.get(unrelatedId, id -> snapshot(id));
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should not cache a snapshot whose load overlapped an eviction")
+    void shouldNotCacheLoadRacingEviction() {
+        UUID storeId = UUID.randomUUID();
+
+        cache.get(storeId, id -> {
+            // The write commits and evicts while this load is still reading
+            cache.onStoreContentChanged(new StoreContentChangedEvent(id));
+            return snapshot(id);
+        });
+        cache.get(storeId, id -> snapshot(id));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict engagement counts without dropping the snapshot")
+    void shouldEvictEngagementSeparately() {
+        UUID storeId = UUID.randomUUID();
+        AtomicInteger countLoads = new AtomicInteger();
+
+        cache.get(storeId, id -> snapshot(id));
+        cache.getEngagement(storeId, id -> counts(countLoads));
+        cache.onStoreEngagementChanged(new StoreEngagementChangedEvent(storeId));
+
+        cache.get(storeId, id -> snapshot(id));
+        StoreEngagementCounts counts = cache.getEngagement(storeId, id -> counts(countLoads));
+
+        assertEquals(1, loads.get());
+        assertEquals(2, countLoads.get());
+        assertEquals(2, counts.likeCount());
+    }
+
+    private StoreDetailSnapshot snapshot(UUID storeId, UUID... partnerIds) {
+        loads.incrementAndGet();
+        List<StoreDetailSnapshot.Partner> partners = Arrays.stream(partnerIds)
+            .map(partnerId -> new StoreDetailSnapshot.Partner(partnerId, "partner"))
+            .toList();
+        return StoreDetailSnapshot.builder()
+            .uuid(storeId)
+            .ownerUuid(UUID.randomUUID())
+            .popularMenus(List.of())
+            .signatureMenus(List.of())
+            .collaboratingStores(partners)
+            .build();
+    }
+
+    private StoreEngagementCounts counts(AtomicInteger countLoads) {
+        int load = countLoads.incrementAndGet();
+        return new StoreEngagementCounts(load, 0);
+    }
+}
@@ -0,0 +1,92 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.balanceus.topping.application.service.StoreMatchScorer.ScoredCandidate;
+import org.balanceus.topping.domain.model.Product.ProductCategory;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.balanceus.topping.domain.repository.StoreMatchFeatures;
+import org.balanceus.topping.domain.repository.StoreMatchFeatures.StoreProfile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StoreMatchScorer Tests")
+class StoreMatchScorerTest {
+
+    private final UUID cafe = UUID.randomUUID();
+    private final UUID bookstore = UUID.randomUUID();
+    private final UUID otherCafe = UUID.randomUUID();
+    private final UUID farGym = UUID.randomUUID();
+    private final UUID partner = UUID.randomUUID();
+    private final UUID closed = UUID.randomUUID();
+
+    @Test
+    @DisplayName("Should rank complementary nearby stores first and skip self, partners and closed stores")
+    void shouldRankCandidates() {
+        StoreMatchScorer scorer = new StoreMatchScorer(new StoreMatchFeatures(
+                List.of(
+                        new StoreProfile(cafe, StoreCategory.CAFE, 11440, true),
+                        new StoreProfile(bookstore, StoreCategory.BOOKSTORE, 11440, true),
+                        new StoreProfile(otherCafe, StoreCategory.CAFE, 11410, true),
+                        new StoreProfile(farGym, StoreCategory.GYM, 26110, true),
+                        new StoreProfile(partner, StoreCategory.RESTAURANT, 11440, true),
+                        new StoreProfile(closed, StoreCategory.BOOKSTORE, 11440, false)),
+                Map.of(cafe, Set.of(ProductCategory.CAFE), otherCafe, Set.of(ProductCategory.CAFE)),
+                Map.of(cafe, Set.of(partner), partner, Set.of(cafe)),
+                Map.of(farGym, 100L)));
+
+        List<ScoredCandidate> ranked = scorer.topK(cafe, 10);
+
+        assertEquals(List.of(bookstore, otherCafe, farGym), ranked.stream().map(ScoredCandidate::storeId).toList());
+        assertTrue(ranked.get(0).score() > ranked.get(1).score());
+        assertEquals(List.of(bookstore, otherCafe), scorer.topK(cafe, 2).stream().map(ScoredCandidate::storeId).toList());
+        assertTrue(scorer.topK(UUID.randomUUID(), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should weigh district before province and treat categories symmetrically")
+    void shouldScoreSignals() {
+        assertEquals(1.0, StoreMatchScorer.regionProximity(11440, 11440));
+        assertEquals(0.5, StoreMatchScorer.regionProximity(11440, 11410));
+        assertEquals(0.0, StoreMatchScorer.regionProximity(11440, 26110));
+        assertEquals(0.0, StoreMatchScorer.regionProximity(null, 11440));
+        assertEquals(StoreMatchScorer.complementarity(StoreCategory.CAFE, StoreCategory.BOOKSTORE),
+                StoreMatchScorer.complementarity(StoreCategory.BOOKSTORE, StoreCategory.CAFE));
+        assertTrue(StoreMatchScorer.complementarity(StoreCategory.CAFE, StoreCategory.CAFE)
+                < StoreMatchScorer.complementarity(StoreCategory.CAFE, StoreCategory.OTHER));
+    }
+
+    @Test
+    @DisplayName("Should merge reloaded stores into a snapshot, replacing their edges in both directions")
+    void shouldMergeChangedStores() {
+        StoreMatchFeatures snapshot = new StoreMatchFeatures(
+                List.of(
+                        new StoreProfile(cafe, StoreCategory.CAFE, 11440, true),
+                        new StoreProfile(partner, StoreCategory.RESTAURANT, 11440, true),
+                        new StoreProfile(closed, StoreCategory.BOOKSTORE, 11440, false)),
+                Map.of(cafe, Set.of(ProductCategory.CAFE)),
+                Map.of(cafe, Set.of(partner), partner, Set.of(cafe)),
+                Map.of(cafe, 3L, partner, 5L));
+        // The cafe moved and now partners with the bookstore only; the closed store was deleted
+        StoreMatchFeatures changed = new StoreMatchFeatures(
+                List.of(new StoreProfile(cafe, StoreCategory.CAFE, 11410, true)),
+                Map.of(),
+                Map.of(cafe, Set.of(bookstore), bookstore, Set.of(cafe)),
+                Map.of(cafe, 4L));
+
+        StoreMatchFeatures merged = snapshot.merge(Set.of(cafe, closed), changed);
+
+        assertEquals(Set.of(cafe, partner), merged.stores().stream().map(StoreProfile::storeId)
+                .collect(Collectors.toSet()));
+        assertEquals(Map.of(), merged.productCategories());
+        assertEquals(Map.of(cafe, Set.of(bookstore), bookstore, Set.of(cafe)), merged.partners());
+        assertEquals(Map.of(cafe, 4L, partner, 5L), merged.engagement());
+    }
+}
@@ -0,0 +1,86 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.geo.GeoPoint;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StoreSpatialIndex Tests")
+class StoreSpatialIndexTest {
+
+    // 강남역 부근
+    private static final GeoPoint GANGNAM = new GeoPoint(37.4979, 127.0276);
+
+    private StoreSpatialIndex index;
+    private UUID nearCafe;
+    private UUID nearGym;
+    private UUID midCafeClosed;
+    private UUID farCafe;
+
+    @BeforeEach
+    void setUp() {
+        index = new StoreSpatialIndex(0.02);
+        nearCafe = add(37.4985, 127.0280, StoreCategory.CAFE, true);        // ~0.1km
+        nearGym = add(37.5010, 127.0300, StoreCategory.GYM, true);          // ~0.4km
+        midCafeClosed = add(37.5172, 127.0473, StoreCategory.CAFE, false);  // ~2.8km
+        farCafe = add(37.5663, 126.9019, StoreCategory.CAFE, true);         // ~13km
+    }
+
+    @Test
+    @DisplayName("Should return stores inside the radius ordered by distance")
+    void shouldReturnStoresWithinRadius() {
+        List<StoreSpatialIndex.Hit> hits = index.withinRadius(GANGNAM, 3.0, StoreSpatialIndex.Filter.NONE, 10);
+
+        assertEquals(List.of(nearCafe, nearGym, midCafeClosed), ids(hits));
+        assertTrue(hits.get(0).distanceKm() < hits.get(1).distanceKm());
+    }
+
+    @Test
+    @DisplayName("Should apply category and collaboration filters")
+    void shouldApplyFilters() {
+        StoreSpatialIndex.Filter openCafes = new StoreSpatialIndex.Filter(StoreCategory.CAFE, true);
+
+        List<StoreSpatialIndex.Hit> hits = index.withinRadius(GANGNAM, 20.0, openCafes, 10);
+
+        assertEquals(List.of(nearCafe, farCafe), ids(hits));
+    }
+
+    @Test
+    @DisplayName("Should find k nearest stores across distant grid cells")
+    void shouldFindNearestAcrossCells() {
+        StoreSpatialIndex.Filter openCafes = new StoreSpatialIndex.Filter(StoreCategory.CAFE, true);
+
+        List<StoreSpatialIndex.Hit> hits = index.nearest(GANGNAM, 2, openCafes, 20.0);
+
+        assertEquals(List.of(nearCafe, farCafe), ids(hits));
+    }
+
+    @Test
+    @DisplayName("Should move and remove entries")
+    void shouldMoveAndRemoveEntries() {
+        index.upsert(new StoreSpatialIndex.Entry(farCafe, 37.4980, 127.0277, StoreCategory.CAFE, true));
+        index.remove(nearCafe);
+
+        List<StoreSpatialIndex.Hit> hits = index.nearest(GANGNAM, 1, StoreSpatialIndex.Filter.NONE, 20.0);
+
+        assertEquals(List.of(farCafe), ids(hits));
+        assertEquals(3, index.size());
+    }
+
+    private UUID add(double latitude, double longitude, StoreCategory category, boolean collaborationOpen) {
+        UUID id = UUID.randomUUID();
+        index.upsert(new StoreSpatialIndex.Entry(id, latitude, longitude, category, collaborationOpen));
+        return id;
+    }
+
+    private List<UUID> ids(List<StoreSpatialIndex.Hit> hits) {
+        return hits.stream().map(StoreSpatialIndex.Hit::storeId).toList();
+    }
+}
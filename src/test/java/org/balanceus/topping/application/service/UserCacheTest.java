@@ -0,0 +1,90 @@
+package org.balanceus.topping.application.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.balanceus.topping.application.dto.UserPrincipal;
+import org.balanceus.topping.application.event.UserChangedEvent;
+import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCache Tests")
+class UserCacheTest {
+
+    private static final String EMAIL = "owner@example.com";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private UserCache userCache;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(userRepository, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        user = new User();
+        user.setUuid(UUID.randomUUID());
+        user.setEmail(EMAIL);
+        user.setRole(Role.ROLE_BUSINESS_OWNER);
+    }
+
+    @Test
+    @DisplayName("Should load a user once and serve both email and id lookups from the cache")
+    void shouldLoadOnce() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        UserPrincipal principal = userCache.findByEmail(EMAIL).orElseThrow();
+        assertEquals(new UserPrincipal(user.getUuid(), EMAIL, Role.ROLE_BUSINESS_OWNER), principal);
+        assertSame(principal, userCache.findByEmail(EMAIL).orElseThrow());
+        assertSame(principal, userCache.findById(user.getUuid()).orElseThrow());
+
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+        verify(userRepository, never()).findById(user.getUuid());
+    }
+
+    @Test
+    @DisplayName("Should reload a user after a change event for either key")
+    void shouldEvictOnChange() {
+        User updated = new User();
+        updated.setUuid(user.getUuid());
+        updated.setEmail(EMAIL);
+        updated.setRole(Role.ROLE_ADMIN);
+        when(userRepository.findById(user.getUuid())).thenReturn(Optional.of(user));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(updated));
+
+        userCache.findById(user.getUuid());
+        userCache.onUserChanged(new UserChangedEvent(user.getUuid()));
+
+        assertEquals(Role.ROLE_ADMIN, userCache.findByEmail(EMAIL).orElseThrow().role());
+        assertEquals(Role.ROLE_ADMIN, userCache.findById(user.getUuid()).orElseThrow().role());
+        verify(userRepository, times(1)).findById(user.getUuid());
+    }
+
+    @Test
+    @DisplayName("Should not remember emails without an account")
+    void shouldNotCacheMisses() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty(), Optional.of(user));
+
+        assertTrue(userCache.findByEmail(EMAIL).isEmpty());
+        assertEquals(UserPrincipal.of(user), userCache.findByEmail(EMAIL).orElseThrow());
+    }
+}
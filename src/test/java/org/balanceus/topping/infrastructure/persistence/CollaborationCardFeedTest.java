@@ -0,0 +1,173 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Collaboration;
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.model.Product;
+import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.CollaborationCardRow;
+import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.balanceus.topping.domain.repository.StoreRepository;
+import org.balanceus.topping.domain.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Collaboration card feed queries")
+class CollaborationCardFeedTest {
+
+    private static final int COLLABORATION_COUNT = 5;
+
+    @Autowired
+    private CollaborationRepository collaborationRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Store cafe;
+    private Store restaurant;
+
+    @BeforeEach
+    void setUp() {
+        cafe = createStore("cafe", StoreCategory.CAFE);
+        restaurant = createStore("restaurant", StoreCategory.RESTAURANT);
+        for (int i = 0; i < COLLABORATION_COUNT; i++) {
+            Collaboration collaboration = new Collaboration();
+            collaboration.setInitiatorStore(cafe);
+            collaboration.setPartnerStore(restaurant);
+            collaboration.setInitiatorProduct(cafe.getProducts().get(0));
+            collaboration.setPartnerProduct(i == 0 ? null : restaurant.getProducts().get(0));
+            collaboration.setStatus(i % 2 == 0 ? CollaborationStatus.PENDING : CollaborationStatus.ACCEPTED);
+            collaboration.setDescription("Feed collaboration " + i);
+            collaborationRepository.save(collaboration);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Keyset pages cover every card once, newest first, one statement per page")
+    void pagesThroughFeedWithoutGapsOrDuplicates() {
+        List<CollaborationCardRow> seen = new ArrayList<>();
+        Instant afterCreatedAt = null;
+        UUID afterId = null;
+        int pages = 0;
+        while (true) {
+            List<CollaborationCardRow> page = collaborationRepository.findCardPage(
+                    null, StoreCategory.CAFE, afterCreatedAt, afterId, 2);
+            pages++;
+            if (page.isEmpty()) {
+                break;
+            }
+            seen.addAll(page);
+            CollaborationCardRow last = page.get(page.size() - 1);
+            afterCreatedAt = last.createdAt();
+            afterId = last.uuid();
+        }
+
+        assertEquals(COLLABORATION_COUNT, seen.size());
+        Set<UUID> ids = new HashSet<>();
+        seen.forEach(row -> ids.add(row.uuid()));
+        assertEquals(COLLABORATION_COUNT, ids.size());
+        for (int i = 1; i < seen.size(); i++) {
+            assertFalse(seen.get(i).createdAt().isAfter(seen.get(i - 1).createdAt()));
+        }
+        assertEquals(pages, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Card rows carry store, owner and product columns, with nulls for a missing side")
+    void projectsCardColumns() {
+        List<CollaborationCardRow> rows = collaborationRepository.findCardPage(
+                null, StoreCategory.RESTAURANT, null, null, COLLABORATION_COUNT);
+
+        assertEquals(COLLABORATION_COUNT, rows.size());
+        CollaborationCardRow row = rows.get(0);
+        assertEquals("Store cafe", row.initiatorStoreName());
+        assertEquals(StoreCategory.CAFE, row.initiatorStoreCategory());
+        assertEquals("cafe", row.initiatorOwnerName());
+        assertEquals(cafe.getUuid(), row.initiatorProductStoreId());
+        assertNotNull(row.initiatorProductCreatorId());
+        assertTrue(rows.stream().anyMatch(card -> card.partnerProductId() == null));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Status and category filters narrow the feed")
+    void filtersByStatusAndCategory() {
+        assertEquals(3, collaborationRepository.findCardPage(
+                CollaborationStatus.PENDING, StoreCategory.CAFE, null, null, 10).size());
+        assertEquals(2, collaborationRepository.findCardPage(
+                CollaborationStatus.ACCEPTED, StoreCategory.RESTAURANT, null, null, 10).size());
+        assertTrue(collaborationRepository.findCardPage(null, StoreCategory.GYM, null, null, 10).isEmpty());
+    }
+
+    private Store createStore(String name, StoreCategory category) {
+        User owner = new User();
+        owner.setEmail(name + "@feed.test");
+        owner.setUsername(name);
+        owner.setPassword("password123");
+        owner.setRole(Role.ROLE_BUSINESS_OWNER);
+        owner.setTermsAgreement(true);
+        owner = userRepository.save(owner);
+
+        Store store = new Store();
+        store.setUser(owner);
+        store.setName("Store " + name);
+        store.setAddress("서울시 마포구");
+        store.setContactNumber("010-0000-0000");
+        store.setBusinessHours("09:00-18:00");
+        store.setCategory(category);
+
+        Product product = new Product();
+        product.setName(name + " signature");
+        product.setPrice(BigDecimal.valueOf(6000));
+        product.setProductType(Product.ProductType.SIGNATURE);
+        product.setCreator(owner);
+        store.addProduct(product);
+
+        return storeRepository.save(store);
+    }
+}
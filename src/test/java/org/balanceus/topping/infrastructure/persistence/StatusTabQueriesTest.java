@@ -0,0 +1,182 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.balanceus.topping.domain.model.Collaboration;
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.model.CollaborationProposal;
+import org.balanceus.topping.domain.model.Product;
+import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
+import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.balanceus.topping.domain.repository.StoreRepository;
+import org.balanceus.topping.domain.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("MyPage status tab queries")
+class StatusTabQueriesTest {
+
+    @Autowired
+    private CollaborationRepository collaborationRepository;
+
+    @Autowired
+    private CollaborationProposalRepository proposalRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Store cafe;
+    private Store bakery;
+
+    @BeforeEach
+    void setUp() {
+        cafe = createStore("cafe");
+        bakery = createStore("bakery");
+        Store other = createStore("other");
+        // cafe initiates three, is partner in two; the last one does not involve cafe at all
+        createCollaboration(cafe, bakery, CollaborationStatus.PENDING);
+        createCollaboration(cafe, bakery, CollaborationStatus.PENDING);
+        createCollaboration(cafe, bakery, CollaborationStatus.ACCEPTED);
+        createCollaboration(bakery, cafe, CollaborationStatus.PENDING);
+        createCollaboration(bakery, cafe, CollaborationStatus.REJECTED);
+        createCollaboration(bakery, other, CollaborationStatus.PENDING);
+        createProposal(bakery, cafe, CollaborationProposal.CollaborationStatus.PENDING);
+        createProposal(bakery, cafe, CollaborationProposal.CollaborationStatus.ACCEPTED);
+        createProposal(cafe, bakery, CollaborationProposal.CollaborationStatus.PENDING);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Grouped counts cover both sides of a collaboration in one statement")
+    void countsCollaborationsByStatus() {
+        Map<CollaborationStatus, Long> counts = collaborationRepository.countByStoreParticipationGroupedByStatus(cafe);
+
+        assertEquals(Map.of(CollaborationStatus.PENDING, 3L, CollaborationStatus.ACCEPTED, 1L,
+                CollaborationStatus.REJECTED, 1L), counts);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Grouped proposal counts only include proposals addressed to the store")
+    void countsReceivedProposalsByStatus() {
+        Map<CollaborationProposal.CollaborationStatus, Long> counts =
+                proposalRepository.countByTargetStoreGroupedByStatus(cafe);
+
+        assertEquals(Map.of(CollaborationProposal.CollaborationStatus.PENDING, 1L,
+                CollaborationProposal.CollaborationStatus.ACCEPTED, 1L), counts);
+    }
+
+    @Test
+    @DisplayName("Status pages are filtered in the database and report whether more follow")
+    void pagesByStatus() {
+        Slice<Collaboration> first = collaborationRepository.findByStoreAndStatus(
+                cafe, CollaborationStatus.PENDING, PageRequest.of(0, 2));
+        Slice<Collaboration> second = collaborationRepository.findByStoreAndStatus(
+                cafe, CollaborationStatus.PENDING, PageRequest.of(1, 2));
+
+        assertEquals(2, first.getContent().size());
+        assertTrue(first.hasNext());
+        assertEquals(1, second.getContent().size());
+        assertFalse(second.hasNext());
+        assertTrue(first.getContent().stream().allMatch(c -> c.getStatus() == CollaborationStatus.PENDING));
+        assertFalse(first.getContent().get(0).getCreatedAt().isBefore(first.getContent().get(1).getCreatedAt()));
+        assertTrue(second.getContent().stream().noneMatch(first.getContent()::contains));
+        // One read per store column and page, each one row past the page instead of a count query
+        assertEquals(4, statistics.getPrepareStatementCount());
+
+        List<Collaboration> all = collaborationRepository.findByStoreParticipation(cafe, PageRequest.of(0, 10)).getContent();
+        assertEquals(5, all.size());
+        assertEquals(1, proposalRepository.findByTargetStoreAndStatus(
+                cafe, CollaborationProposal.CollaborationStatus.PENDING, PageRequest.of(0, 10)).getContent().size());
+    }
+
+    private void createCollaboration(Store initiator, Store partner, CollaborationStatus status) {
+        Collaboration collaboration = new Collaboration();
+        collaboration.setInitiatorStore(initiator);
+        collaboration.setPartnerStore(partner);
+        collaboration.setInitiatorProduct(initiator.getProducts().get(0));
+        collaboration.setPartnerProduct(partner.getProducts().get(0));
+        collaboration.setStatus(status);
+        collaboration.setDescription("Tab collaboration");
+        collaborationRepository.save(collaboration);
+    }
+
+    private void createProposal(Store proposer, Store target, CollaborationProposal.CollaborationStatus status) {
+        CollaborationProposal proposal = new CollaborationProposal();
+        proposal.setProposerUser(proposer.getUser());
+        proposal.setProposerStore(proposer);
+        proposal.setTargetStore(target);
+        proposal.setTitle("Tab proposal");
+        proposal.setDescription("Tab proposal");
+        proposal.setStatus(status);
+        proposalRepository.save(proposal);
+    }
+
+    private Store createStore(String name) {
+        User owner = new User();
+        owner.setEmail(name + "@tabs.test");
+        owner.setUsername(name);
+        owner.setPassword("password123");
+        owner.setRole(Role.ROLE_BUSINESS_OWNER);
+        owner.setTermsAgreement(true);
+        owner = userRepository.save(owner);
+
+        Store store = new Store();
+        store.setUser(owner);
+        store.setName("Store " + name);
+        store.setAddress("서울시 마포구");
+        store.setContactNumber("010-0000-0000");
+        store.setBusinessHours("09:00-18:00");
+        store.setCategory(StoreCategory.CAFE);
+
+        Product product = new Product();
+        product.setName(name + " signature");
+        product.setPrice(BigDecimal.valueOf(6000));
+        product.setProductType(Product.ProductType.SIGNATURE);
+        product.setCreator(owner);
+        store.addProduct(product);
+
+        return storeRepository.save(store);
+    }
+}
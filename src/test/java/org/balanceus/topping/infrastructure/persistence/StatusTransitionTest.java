@@ -0,0 +1,68 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+
+import org.balanceus.topping.domain.model.Collaboration;
+import org.balanceus.topping.domain.model.Collaboration.CollaborationStatus;
+import org.balanceus.topping.domain.model.CollaborationProposal;
+import org.balanceus.topping.domain.repository.CollaborationProposalRepository;
+import org.balanceus.topping.domain.repository.CollaborationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Conditional status transitions")
+class StatusTransitionTest {
+
+    @Autowired
+    private CollaborationRepository collaborationRepository;
+
+    @Autowired
+    private CollaborationProposalRepository proposalRepository;
+
+    @Test
+    @DisplayName("Only the first decision on a pending proposal applies, and it bumps the version")
+    void decidesProposalOnce() {
+        CollaborationProposal proposal = new CollaborationProposal();
+        proposal.setTitle("Transition proposal");
+        proposal.setStatus(CollaborationProposal.CollaborationStatus.PENDING);
+        UUID id = proposalRepository.save(proposal).getUuid();
+
+        assertTrue(proposalRepository.transitionStatus(id, CollaborationProposal.CollaborationStatus.PENDING,
+                CollaborationProposal.CollaborationStatus.ACCEPTED));
+        assertFalse(proposalRepository.transitionStatus(id, CollaborationProposal.CollaborationStatus.PENDING,
+                CollaborationProposal.CollaborationStatus.REJECTED));
+
+        CollaborationProposal reloaded = proposalRepository.findById(id).orElseThrow();
+        assertEquals(CollaborationProposal.CollaborationStatus.ACCEPTED, reloaded.getStatus());
+        assertEquals(1, reloaded.getVersion());
+    }
+
+    @Test
+    @DisplayName("Collaborations follow the same rules and reject illegal transitions up front")
+    void decidesCollaborationOnce() {
+        Collaboration collaboration = new Collaboration();
+        collaboration.setTitle("Transition collaboration");
+        collaboration.setStatus(CollaborationStatus.PENDING);
+        UUID id = collaborationRepository.save(collaboration).getUuid();
+
+        assertTrue(collaborationRepository.transitionStatus(id, CollaborationStatus.PENDING, CollaborationStatus.REJECTED));
+        assertFalse(collaborationRepository.transitionStatus(id, CollaborationStatus.PENDING, CollaborationStatus.ACCEPTED));
+        assertFalse(collaborationRepository.transitionStatus(UUID.randomUUID(),
+                CollaborationStatus.PENDING, CollaborationStatus.ACCEPTED));
+        assertThrows(IllegalArgumentException.class, () -> collaborationRepository.transitionStatus(
+                id, CollaborationStatus.REJECTED, CollaborationStatus.ACCEPTED));
+        assertEquals(CollaborationStatus.REJECTED, collaborationRepository.findById(id).orElseThrow().getStatus());
+    }
+}
@@ -0,0 +1,169 @@
+package org.balanceus.topping.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.balanceus.topping.domain.model.Product;
+import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.model.Store;
+import org.balanceus.topping.domain.model.StoreCategory;
+import org.balanceus.topping.domain.model.StoreImage;
+import org.balanceus.topping.domain.model.User;
+import org.balanceus.topping.domain.repository.StoreRepository;
+import org.balanceus.topping.domain.repository.UserRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Store fetch plan statement counts")
+class StoreFetchPlanTest {
+
+    private static final int STORE_COUNT = 6;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+    private Store firstStore;
+
+    @BeforeEach
+    void setUp() {
+        storeRepository.deleteAll();
+        userRepository.deleteAll();
+
+        for (int i = 0; i < STORE_COUNT; i++) {
+            Store store = createStore(i);
+            if (firstStore == null) {
+                firstStore = store;
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Paged list cards load stores and their images in two statements")
+    void listCardPageUsesConstantStatements() {
+        List<Store> page = storeRepository.findAll(PageRequest.of(0, 10));
+        page.forEach(this::renderCard);
+
+        assertEquals(STORE_COUNT, page.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Category list cards fetch images with the stores")
+    void categoryListUsesSingleStatement() {
+        List<Store> stores = storeRepository.findByCategoryOrderByNameAsc(StoreCategory.CAFE);
+        stores.forEach(this::renderCard);
+
+        assertEquals(STORE_COUNT, stores.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Store detail loads without per-product selects")
+    void detailUsesConstantStatements() {
+        Store store = storeRepository.findByIdWithProductsAndTags(firstStore.getUuid()).orElseThrow();
+        store.getHashtags();
+        store.getSignatureProducts().forEach(product -> product.getMainImage());
+        store.getPopularProducts().forEach(product -> product.getMainImage());
+        renderCard(store);
+        assertNotNull(store.getUser().getEmail());
+
+        assertTrue(statistics.getPrepareStatementCount() <= 4,
+            "detail page issued " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    @DisplayName("Owner dashboard loads owner, images and tags together")
+    void ownerDashboardUsesConstantStatements() {
+        Store store = storeRepository.findByUserUuid(firstStore.getUser().getUuid()).orElseThrow();
+        assertNotNull(store.getUser().getEmail());
+        store.getHashtags();
+        renderCard(store);
+        store.getProducts().forEach(product -> product.getMainImage());
+
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+            "owner dashboard issued " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    private void renderCard(Store store) {
+        store.getName();
+        store.getCategory();
+        StoreImage mainImage = store.getMainImage();
+        assertNotNull(mainImage);
+    }
+
+    private Store createStore(int index) {
+        User owner = new User();
+        owner.setEmail("owner" + index + "@fetch.test");
+        owner.setUsername("owner" + index);
+        owner.setPassword("password123");
+        owner.setRole(Role.ROLE_BUSINESS_OWNER);
+        owner.setTermsAgreement(true);
+        owner = userRepository.save(owner);
+
+        Store store = new Store();
+        store.setUser(owner);
+        store.setName("Fetch Store " + index);
+        store.setAddress("서울시 강남구 " + index);
+        store.setContactNumber("010-0000-000" + index);
+        store.setBusinessHours("09:00-18:00");
+        store.setCategory(StoreCategory.CAFE);
+        store.addTag("tag" + index);
+
+        for (int i = 0; i < 2; i++) {
+            StoreImage image = new StoreImage();
+            image.setImagePath("/image/stores/" + index + "/" + i + ".jpg");
+            image.setOriginalFilename(i + ".jpg");
+            image.setImageType(i == 0 ? StoreImage.ImageType.MAIN : StoreImage.ImageType.GALLERY);
+            image.setFileSize(1024L);
+            image.setContentType("image/jpeg");
+            image.setDisplayOrder(i);
+            store.addImage(image);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            Product product = new Product();
+            product.setName("Product " + index + "-" + i);
+            product.setPrice(BigDecimal.valueOf(5000));
+            product.setProductType(Product.ProductType.SIGNATURE);
+            product.setCreator(owner);
+            store.addProduct(product);
+        }
+
+        return storeRepository.save(store);
+    }
+}
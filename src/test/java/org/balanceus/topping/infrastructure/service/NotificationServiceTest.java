@@ -0,0 +1,131 @@
+package org.balanceus.topping.infrastructure.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.balanceus.topping.application.dto.NotificationView;
+import org.balanceus.topping.application.event.NotificationsCreatedEvent;
+import org.balanceus.topping.application.event.NotificationsReadEvent;
+import org.balanceus.topping.application.service.NotificationUnreadCounter;
+import org.balanceus.topping.domain.model.CollaborationProposal;
+import org.balanceus.topping.domain.model.Notification;
+import org.balanceus.topping.domain.model.Role;
+import org.balanceus.topping.domain.repository.NotificationRepository;
+import org.balanceus.topping.domain.repository.UserRecipientRow;
+import org.balanceus.topping.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NotificationService Tests")
+class NotificationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private SimpUserRegistry simpUserRegistry;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final NotificationUnreadCounter unreadCounter =
+            new NotificationUnreadCounter(100, Duration.ofMinutes(10), new SimpleMeterRegistry());
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(userRepository, notificationRepository, unreadCounter,
+                messagingTemplate, simpUserRegistry, eventPublisher, 2);
+    }
+
+    @Test
+    @DisplayName("Should fan out to business owners page by page with one batch insert per page")
+    void shouldFanOutInPages() {
+        UserRecipientRow first = new UserRecipientRow(UUID.randomUUID(), "first@owners.test");
+        UserRecipientRow second = new UserRecipientRow(UUID.randomUUID(), "second@owners.test");
+        UserRecipientRow third = new UserRecipientRow(UUID.randomUUID(), "third@owners.test");
+        when(userRepository.findRecipientsByRole(Role.ROLE_BUSINESS_OWNER, null, 2)).thenReturn(List.of(first, second));
+        when(userRepository.findRecipientsByRole(Role.ROLE_BUSINESS_OWNER, second.userId(), 2)).thenReturn(List.of(third));
+        when(notificationRepository.insertAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        CollaborationProposal proposal = new CollaborationProposal();
+        proposal.setUuid(UUID.randomUUID());
+        proposal.setTitle("Summer menu");
+        notificationService.notifyBusinessOwnersOfNewProposal(proposal);
+
+        verify(notificationRepository, times(2)).insertAll(anyList());
+        verify(userRepository, times(3)).getReferenceById(any());
+        verify(eventPublisher, times(2)).publishEvent(any(NotificationsCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should push only to connected recipients and count every recipient's new notification")
+    void shouldDeliverToOnlineUsers() {
+        UUID online = UUID.randomUUID();
+        UUID offline = UUID.randomUUID();
+        assertEquals(3, unreadCounter.get(online, id -> 3));
+        when(simpUserRegistry.getUser("online@users.test")).thenReturn(mock(SimpUser.class));
+        NotificationView view = new NotificationView(UUID.randomUUID(), Notification.NotificationType.PROPOSAL_ACCEPTED,
+                "title", "message", null, false, LocalDateTime.now());
+
+        notificationService.onNotificationsCreated(new NotificationsCreatedEvent(List.of(
+                new NotificationsCreatedEvent.Delivery(online, "online@users.test", view),
+                new NotificationsCreatedEvent.Delivery(offline, "offline@users.test", view))));
+
+        verify(messagingTemplate).convertAndSendToUser("online@users.test", NotificationService.USER_DESTINATION, view);
+        verify(messagingTemplate, never()).convertAndSendToUser(eq("offline@users.test"), any(), any());
+        assertEquals(4, notificationService.countUnread(online));
+    }
+
+    @Test
+    @DisplayName("Should lower the cached unread count by the notifications actually marked read")
+    void shouldMarkRead() {
+        UUID userId = UUID.randomUUID();
+        Set<UUID> ids = Set.of(UUID.randomUUID(), UUID.randomUUID());
+        when(notificationRepository.countUnread(userId)).thenReturn(5L);
+        when(notificationRepository.markRead(userId, ids)).thenReturn(1);
+
+        assertEquals(5, notificationService.countUnread(userId));
+        notificationService.markRead(userId, ids);
+
+        // The cached count only moves once the update has committed
+        assertEquals(5, notificationService.countUnread(userId));
+        ArgumentCaptor<NotificationsReadEvent> event = ArgumentCaptor.forClass(NotificationsReadEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        notificationService.onNotificationsRead(event.getValue());
+
+        assertEquals(4, notificationService.countUnread(userId));
+        verify(notificationRepository, times(1)).countUnread(userId);
+    }
+}
@@ -0,0 +1,230 @@
+package org.balanceus.topping.infrastructure.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+@DisplayName("S3ImageStorage Tests")
+class S3ImageStorageTest {
+
+    private static final int PART_SIZE = S3ImageStorage.MIN_PART_SIZE;
+
+    @TempDir
+    Path cacheDir;
+
+    private InMemoryS3 s3;
+    private ExecutorService executor;
+    private S3ImageStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        s3 = new InMemoryS3();
+        executor = Executors.newFixedThreadPool(3);
+        storage = new S3ImageStorage(s3, "images", executor, PART_SIZE, 2, cacheDir, 0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should use a single PUT for objects smaller than one part")
+    void shouldPutSmallObjectsDirectly() throws IOException {
+        byte[] bytes = randomBytes(1024);
+
+        storage.put("image/blobs/ab/small.jpg", new ByteArrayInputStream(bytes), "image/jpeg");
+
+        assertArrayEquals(bytes, s3.objects.get("image/blobs/ab/small.jpg"));
+        assertEquals(0, s3.multipartUploads.get());
+    }
+
+    @Test
+    @DisplayName("Should stream large objects as ordered multipart parts")
+    void shouldUploadLargeObjectsInParts() throws IOException {
+        byte[] bytes = randomBytes(PART_SIZE * 2 + 123);
+
+        storage.put("image/blobs/ab/large.jpg", new ByteArrayInputStream(bytes), "image/jpeg");
+
+        assertArrayEquals(bytes, s3.objects.get("image/blobs/ab/large.jpg"));
+        assertEquals(1, s3.multipartUploads.get());
+        assertEquals(3, s3.partsUploaded.get());
+    }
+
+    @Test
+    @DisplayName("Should abort the multipart upload when a part fails")
+    void shouldAbortWhenAPartFails() {
+        s3.failingPart = 2;
+
+        assertThrows(IOException.class, () -> storage.put("image/blobs/ab/broken.jpg",
+                new ByteArrayInputStream(randomBytes(PART_SIZE * 3)), "image/jpeg"));
+
+        assertFalse(s3.objects.containsKey("image/blobs/ab/broken.jpg"));
+        assertTrue(s3.pendingParts.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should fetch a missing object into the disk cache once and serve later reads locally")
+    void shouldReadThroughDiskCache() throws IOException {
+        byte[] bytes = randomBytes(2048);
+        s3.objects.put("image/blobs/cd/remote.jpg", bytes);
+
+        Optional<Path> first = storage.localCopy("image/blobs/cd/remote.jpg");
+        Optional<Path> second = storage.localCopy("image/blobs/cd/remote.jpg");
+
+        assertTrue(first.isPresent());
+        assertEquals(first, second);
+        assertArrayEquals(bytes, Files.readAllBytes(first.get()));
+        assertEquals(1, s3.gets.get());
+        assertTrue(storage.localCopy("image/blobs/cd/missing.jpg").isEmpty());
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(length).nextBytes(bytes);
+        return bytes;
+    }
+
+    /**
+     * Local stand-in for the subset of the S3 API the storage uses.
+     */
+    static class InMemoryS3 implements S3Client {
+
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final Map<String, Map<Integer, byte[]>> pendingParts = new ConcurrentHashMap<>();
+        final AtomicInteger multipartUploads = new AtomicInteger();
+        final AtomicInteger partsUploaded = new AtomicInteger();
+        final AtomicInteger gets = new AtomicInteger();
+        volatile int failingPart = -1;
+
+        @Override
+        public PutObjectResponse putObject(PutObjectRequest request, RequestBody body) {
+            objects.put(request.key(), read(body));
+            return PutObjectResponse.builder().eTag("\"etag\"").build();
+        }
+
+        @Override
+        public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+            String uploadId = "upload-" + multipartUploads.incrementAndGet();
+            pendingParts.put(uploadId, new ConcurrentHashMap<>());
+            return CreateMultipartUploadResponse.builder().uploadId(uploadId).build();
+        }
+
+        @Override
+        public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+            if (request.partNumber() == failingPart) {
+                throw S3Exception.builder().message("part rejected").statusCode(500).build();
+            }
+            pendingParts.get(request.uploadId()).put(request.partNumber(), read(body));
+            partsUploaded.incrementAndGet();
+            return UploadPartResponse.builder().eTag("\"part-" + request.partNumber() + "\"").build();
+        }
+
+        @Override
+        public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+            Map<Integer, byte[]> parts = pendingParts.remove(request.uploadId());
+            List<CompletedPart> completed = request.multipartUpload().parts();
+            byte[] object = completed.stream()
+                    .map(part -> parts.get(part.partNumber()))
+                    .reduce(new byte[0], InMemoryS3::concat);
+            objects.put(request.key(), object);
+            return CompleteMultipartUploadResponse.builder().key(request.key()).build();
+        }
+
+        @Override
+        public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+            pendingParts.remove(request.uploadId());
+            return AbortMultipartUploadResponse.builder().build();
+        }
+
+        @Override
+        public <ReturnT> ReturnT getObject(GetObjectRequest request,
+                                           ResponseTransformer<GetObjectResponse, ReturnT> transformer) {
+            gets.incrementAndGet();
+            byte[] object = objects.get(request.key());
+            if (object == null) {
+                throw NoSuchKeyException.builder().message("missing").statusCode(404).build();
+            }
+            GetObjectResponse response = GetObjectResponse.builder().contentLength((long) object.length).build();
+            try {
+                return transformer.transform(response,
+                        AbortableInputStream.create(new ByteArrayInputStream(object)));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+            objects.remove(request.key());
+            return DeleteObjectResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static byte[] read(RequestBody body) {
+            try (var in = body.contentStreamProvider().newStream()) {
+                return in.readAllBytes();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static byte[] concat(byte[] left, byte[] right) {
+            byte[] joined = new byte[left.length + right.length];
+            System.arraycopy(left, 0, joined, 0, left.length);
+            System.arraycopy(right, 0, joined, left.length, right.length);
+            return joined;
+        }
+    }
+}
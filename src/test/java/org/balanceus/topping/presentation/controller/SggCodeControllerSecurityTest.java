@@ -0,0 +1,54 @@
+package org.balanceus.topping.presentation.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@DisplayName("SggCode Controller Security Tests")
+class SggCodeControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should keep region lookups public")
+    void regionsArePublic() throws Exception {
+        mockMvc.perform(get("/api/sggcode/regions"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should send anonymous reload requests to login instead of reloading")
+    void anonymousReloadIsRejected() throws Exception {
+        mockMvc.perform(post("/api/sggcode/reload"))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @Test
+    @WithMockUser(username = "owner@example.com", roles = "BUSINESS_OWNER")
+    @DisplayName("Should forbid reloads by non-admin users")
+    void nonAdminReloadIsForbidden() throws Exception {
+        mockMvc.perform(post("/api/sggcode/reload"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "ADMIN")
+    @DisplayName("Should let admins reload the region tree")
+    void adminCanReload() throws Exception {
+        mockMvc.perform(post("/api/sggcode/reload"))
+                .andExpect(status().isOk());
+    }
+}
@@ -15,8 +15,10 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import java.util.Optional;
 import java.util.UUID;
 
+import org.balanceus.topping.application.service.CollaborationGraphService;
 import org.balanceus.topping.application.service.ImageUploadService;
 import org.balanceus.topping.application.service.ProductService;
+import org.balanceus.topping.application.service.StoreLocationService;
 import org.balanceus.topping.application.service.StoreService;
 import org.balanceus.topping.domain.model.Store;
 import org.balanceus.topping.domain.model.User;
@@ -54,6 +56,12 @@ class StoreRegistrationTest {
     @MockBean
     private ImageUploadService imageUploadService;
 
+    @MockBean
+    private StoreLocationService storeLocationService;
+
+    @MockBean
+    private CollaborationGraphService collaborationGraphService;
+
     @MockBean
     private ProductRepository productRepository;
 